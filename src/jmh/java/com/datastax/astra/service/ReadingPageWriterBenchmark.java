@@ -0,0 +1,201 @@
+package com.datastax.astra.service;
+
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_JOURNEY_ID;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_READING_TIME;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_SPACECRAFT_NAME;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.PagedResultWrapper;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.cql.DefaultRow;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * A page of speed readings to JSON: rows written straight to the generator ({@link ReadingPageWriter})
+ * against rows mapped to entities then serialized by Jackson (former path of the paged endpoints).
+ *
+ * Rows are decoded from serialized values as the driver does, without a session. Entities are read
+ * column by column like the mapper generated helper does.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingPageWriterBenchmark {
+
+    /** Rows of the page. */
+    @Param({ "10", "100", "1000" })
+    private int pageSize;
+
+    /** Json mapper configured as Spring does (java.time, Optional, ISO dates). */
+    private ObjectMapper objectMapper;
+
+    /** Page of rows with all columns. */
+    private RowsPage page;
+
+    /** Writer under test, without read path nor cursors. */
+    private ReadingPageWriter pageWriter;
+
+    /**
+     * Build the page and check both paths write the same document.
+     *
+     * @throws IOException
+     *      cannot write
+     */
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        page = new RowsPage(pageSize);
+        pageWriter = new ReadingPageWriter(null, objectMapper, null);
+        if (!objectMapper.readTree(rowWriter()).equals(objectMapper.readTree(entityJackson()))) {
+            throw new IllegalStateException("Pages written differ");
+        }
+    }
+
+    /**
+     * Rows to JSON without entities.
+     *
+     * @return
+     *      page as JSON
+     */
+    @Benchmark
+    public byte[] rowWriter() {
+        return pageWriter.writePage(Instrument.SPEED, page, pageSize);
+    }
+
+    /**
+     * Rows to entities, entities to JSON.
+     *
+     * @return
+     *      page as JSON
+     * @throws IOException
+     *      cannot write
+     */
+    @Benchmark
+    public byte[] entityJackson() throws IOException {
+        List<SpacecraftSpeedOverTime> data = new ArrayList<>();
+        for (Row row : page.currentPage()) {
+            SpacecraftSpeedOverTime entity = new SpacecraftSpeedOverTime();
+            entity.setSpacecraft_name(row.get(COLUMN_SPACECRAFT_NAME, String.class));
+            entity.setJourney_id(row.get(COLUMN_JOURNEY_ID, UUID.class));
+            entity.setReading_time(row.get(COLUMN_READING_TIME, Instant.class));
+            entity.setSpeed(row.get(SpacecraftSpeedOverTime.COLUMN_SPEED, Double.class));
+            entity.setSpeed_unit(row.get(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, String.class));
+            data.add(entity);
+        }
+        return objectMapper.writeValueAsBytes(new PagedResultWrapper<>(data));
+    }
+
+    /**
+     * Last page of a result set (no paging state), rows of the speed table.
+     */
+    private static final class RowsPage implements AsyncResultSet {
+
+        private final ColumnDefinitions columns;
+
+        private final List<Row> rows = new ArrayList<>();
+
+        private RowsPage(int size) {
+            columns = DefaultColumnDefinitions.valueOf(Arrays.asList(
+                    column(COLUMN_SPACECRAFT_NAME, 0, ProtocolConstants.DataType.VARCHAR),
+                    column(COLUMN_JOURNEY_ID, 1, ProtocolConstants.DataType.TIMEUUID),
+                    column(COLUMN_READING_TIME, 2, ProtocolConstants.DataType.TIMESTAMP),
+                    column(SpacecraftSpeedOverTime.COLUMN_SPEED, 3, ProtocolConstants.DataType.DOUBLE),
+                    column(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, 4, ProtocolConstants.DataType.VARCHAR)));
+            ProtocolVersion version = ProtocolVersion.DEFAULT;
+            UUID journeyId = Uuids.timeBased();
+            long start = System.currentTimeMillis();
+            for (int i = 0; i < size; i++) {
+                rows.add(new DefaultRow(columns, Arrays.asList(
+                        TypeCodecs.TEXT.encode("gemini3", version),
+                        TypeCodecs.TIMEUUID.encode(journeyId, version),
+                        TypeCodecs.TIMESTAMP.encode(Instant.ofEpochMilli(start - i * 100L), version),
+                        TypeCodecs.DOUBLE.encode(27_000 + i / 7d, version),
+                        TypeCodecs.TEXT.encode("km/h", version)), AttachmentPoint.NONE));
+            }
+        }
+
+        private static ColumnDefinition column(String name, int index, int type) {
+            return new DefaultColumnDefinition(new ColumnSpec("astra", SpacecraftSpeedOverTime.TABLE_NAME, name,
+                    index, RawType.PRIMITIVES.get(type)), AttachmentPoint.NONE);
+        }
+
+        @Override
+        public ColumnDefinitions getColumnDefinitions() {
+            return columns;
+        }
+
+        @Override
+        public ExecutionInfo getExecutionInfo() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int remaining() {
+            return rows.size();
+        }
+
+        @Override
+        public Iterable<Row> currentPage() {
+            return rows;
+        }
+
+        @Override
+        public boolean hasMorePages() {
+            return false;
+        }
+
+        @Override
+        public CompletionStage<AsyncResultSet> fetchNextPage() {
+            throw new IllegalStateException("Last page");
+        }
+
+        @Override
+        public boolean wasApplied() {
+            return true;
+        }
+    }
+
+}
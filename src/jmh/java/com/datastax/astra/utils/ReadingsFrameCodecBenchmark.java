@@ -0,0 +1,209 @@
+package com.datastax.astra.utils;
+
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_JOURNEY_ID;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_READING_TIME;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_SPACECRAFT_NAME;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinition;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.registry.CodecRegistry;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.cql.DefaultPreparedStatement;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+/**
+ * A request of speed readings to bound insert statements: binary frame decoded by {@link ReadingsFrameCodec}
+ * and bound from its arrays against a json array read by Jackson into entities, then bound entity by entity.
+ *
+ * Statements are bound on a prepared statement built without a session. Frames are bound as the query provider
+ * does, entities column by column like the mapper generated helper does (null values not set).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ReadingsFrameCodecBenchmark {
+
+    /** Readings of the request. */
+    @Param({ "10", "100", "1000" })
+    private int readings;
+
+    /** Json mapper configured as Spring does (java.time, ISO dates). */
+    private ObjectMapper objectMapper;
+
+    /** Insert into the speed table. */
+    private PreparedStatement psInsertSpeedReading;
+
+    /** Same readings in both formats. */
+    private byte[] frameBody;
+    private byte[] jsonBody;
+
+    /**
+     * Build both bodies and check they bind the same statements.
+     *
+     * @throws IOException
+     *      cannot write
+     */
+    @Setup
+    public void setup() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json()
+                .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+        psInsertSpeedReading = prepareInsert();
+        UUID journeyId = Uuids.timeBased();
+        long start     = System.currentTimeMillis();
+        long[] times    = new long[readings];
+        double[] values = new double[readings];
+        SpacecraftSpeedOverTime[] entities = new SpacecraftSpeedOverTime[readings];
+        for (int i = 0; i < readings; i++) {
+            times[i]  = start + i * 100L;
+            values[i] = 27_000 + i / 7d;
+            entities[i] = new SpacecraftSpeedOverTime();
+            entities[i].setSpacecraft_name("gemini3");
+            entities[i].setJourney_id(journeyId);
+            entities[i].setReading_time(Instant.ofEpochMilli(times[i]));
+            entities[i].setSpeed(values[i]);
+            entities[i].setSpeed_unit("km/h");
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReadingsFrameCodec.encode(new ReadingsFrame(Instrument.SPEED, "gemini3", journeyId, "km/h", times, values), out);
+        frameBody = out.toByteArray();
+        jsonBody  = objectMapper.writeValueAsBytes(entities);
+        List<BoundStatement> frameStatements = frameCodec();
+        List<BoundStatement> jsonStatements  = jsonEntities();
+        for (int i = 0; i < readings; i++) {
+            for (int c = 0; c < psInsertSpeedReading.getVariableDefinitions().size(); c++) {
+                if (!Objects.equals(frameStatements.get(i).getBytesUnsafe(c), jsonStatements.get(i).getBytesUnsafe(c))) {
+                    throw new IllegalStateException("Statements bound differ");
+                }
+            }
+        }
+    }
+
+    /**
+     * Binary frame to statements.
+     *
+     * @return
+     *      bound statements
+     * @throws IOException
+     *      cannot read
+     */
+    @Benchmark
+    public List<BoundStatement> frameCodec() throws IOException {
+        ReadingsFrame frame = ReadingsFrameCodec.decode(new ByteArrayInputStream(frameBody));
+        List<BoundStatement> statements = new ArrayList<>(frame.size());
+        long[] times    = frame.getReadingTimes();
+        double[] values = frame.getValues();
+        for (int i = 0; i < times.length; i++) {
+            BoundStatement bs = psInsertSpeedReading.bind()
+                    .setDouble(SpacecraftSpeedOverTime.COLUMN_SPEED, values[i]);
+            if (null != frame.getUnit()) {
+                bs = bs.setString(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, frame.getUnit());
+            }
+            statements.add(bs
+                    .setString(COLUMN_SPACECRAFT_NAME, frame.getSpacecraftName())
+                    .setUuid(COLUMN_JOURNEY_ID, frame.getJourneyId())
+                    .setInstant(COLUMN_READING_TIME, Instant.ofEpochMilli(times[i])));
+        }
+        return statements;
+    }
+
+    /**
+     * Json array to entities, entities to statements.
+     *
+     * @return
+     *      bound statements
+     * @throws IOException
+     *      cannot read
+     */
+    @Benchmark
+    public List<BoundStatement> jsonEntities() throws IOException {
+        SpacecraftSpeedOverTime[] entities = objectMapper.readValue(jsonBody, SpacecraftSpeedOverTime[].class);
+        List<BoundStatement> statements = new ArrayList<>(entities.length);
+        for (SpacecraftSpeedOverTime entity : entities) {
+            BoundStatement bs = psInsertSpeedReading.bind();
+            if (null != entity.getSpacecraft_name()) {
+                bs = bs.set(COLUMN_SPACECRAFT_NAME, entity.getSpacecraft_name(), String.class);
+            }
+            if (null != entity.getJourney_id()) {
+                bs = bs.set(COLUMN_JOURNEY_ID, entity.getJourney_id(), UUID.class);
+            }
+            if (null != entity.getReading_time()) {
+                bs = bs.set(COLUMN_READING_TIME, entity.getReading_time(), Instant.class);
+            }
+            if (null != entity.getSpeed()) {
+                bs = bs.set(SpacecraftSpeedOverTime.COLUMN_SPEED, entity.getSpeed(), Double.class);
+            }
+            if (null != entity.getSpeed_unit()) {
+                bs = bs.set(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, entity.getSpeed_unit(), String.class);
+            }
+            statements.add(bs);
+        }
+        return statements;
+    }
+
+    /**
+     * Insert of the speed table as prepared by the driver, variables in table order.
+     */
+    private static PreparedStatement prepareInsert() {
+        return new DefaultPreparedStatement(ByteBuffer.wrap(new byte[] { 1 }),
+                "INSERT INTO spacecraft_speed_over_time (spacecraft_name,journey_id,reading_time,speed,speed_unit) "
+                        + "VALUES (?,?,?,?,?)",
+                DefaultColumnDefinitions.valueOf(Arrays.asList(
+                        column(COLUMN_SPACECRAFT_NAME, 0, ProtocolConstants.DataType.VARCHAR),
+                        column(COLUMN_JOURNEY_ID, 1, ProtocolConstants.DataType.TIMEUUID),
+                        column(COLUMN_READING_TIME, 2, ProtocolConstants.DataType.TIMESTAMP),
+                        column(SpacecraftSpeedOverTime.COLUMN_SPEED, 3, ProtocolConstants.DataType.DOUBLE),
+                        column(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, 4, ProtocolConstants.DataType.VARCHAR))),
+                Arrays.asList(0, 1), null, DefaultColumnDefinitions.valueOf(Collections.emptyList()),
+                null, Collections.emptyMap(), null, null, null, null, null, Collections.emptyMap(),
+                null, null, null, Integer.MIN_VALUE, null, null, false,
+                CodecRegistry.DEFAULT, ProtocolVersion.DEFAULT);
+    }
+
+    private static ColumnDefinition column(String name, int index, int type) {
+        return new DefaultColumnDefinition(new ColumnSpec("astra", SpacecraftSpeedOverTime.TABLE_NAME, name,
+                index, RawType.PRIMITIVES.get(type)), AttachmentPoint.NONE);
+    }
+
+}
@@ -0,0 +1,978 @@
+package com.datastax.astra.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.dao.BatchStrategy;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Settings for the ingestion of instrument readings (prefix 'astra.ingest' in application.yml).
+ */
+@Component
+@ConfigurationProperties(prefix = "astra.ingest")
+public class IngestProperties {
+
+    /** Batching used when no specific settings is defined for an instrument. */
+    private BatchSettings defaultBatching = new BatchSettings();
+
+    /** Batching per instrument, key is the instrument name (temperature, pressure, speed, location). */
+    private Map<String, BatchSettings> batching = new HashMap<>();
+
+    /** Buffering of readings across requests. */
+    private CoalescingSettings coalescing = new CoalescingSettings();
+
+    /** Single-threaded writer lanes per partition. */
+    private LanesSettings lanes = new LanesSettings();
+
+    /** Maximum number of readings being written at the same time, above requests are rejected. */
+    private int maxInFlightReadings = 20000;
+
+    /** Time a request waits for room in the write pipeline before being rejected, 0 to reject immediately. */
+    private long acquireTimeoutMillis = 0;
+
+    /** Readings read from a streamed upload before being sent to the write path. */
+    private int streamChunkSize = 500;
+
+    /** Chunks of a streamed upload being written at the same time, reading the body pauses above. */
+    private int streamChunksInFlight = 4;
+
+    /** Local write-ahead log, readings are acknowledged once logged. */
+    private WalSettings wal = new WalSettings();
+
+    /** Readings per second accepted for a spacecraft. */
+    private RateLimitSettings rateLimit = new RateLimitSettings();
+
+    /** Minute and hour rollups maintained from ingestion. */
+    private RollupSettings rollups = new RollupSettings();
+
+    /**
+     * Batching settings to use for an instrument.
+     *
+     * @param instrument
+     *      current instrument
+     * @return
+     *      dedicated settings or the default ones
+     */
+    public BatchSettings getBatching(Instrument instrument) {
+        return batching.getOrDefault(instrument.key(), defaultBatching);
+    }
+
+    /**
+     * Getter accessor for attribute 'defaultBatching'.
+     *
+     * @return
+     *       current value of 'defaultBatching'
+     */
+    public BatchSettings getDefaultBatching() {
+        return defaultBatching;
+    }
+
+    /**
+     * Setter accessor for attribute 'defaultBatching'.
+     * @param defaultBatching
+     *      new value for 'defaultBatching '
+     */
+    public void setDefaultBatching(BatchSettings defaultBatching) {
+        this.defaultBatching = defaultBatching;
+    }
+
+    /**
+     * Getter accessor for attribute 'batching'.
+     *
+     * @return
+     *       current value of 'batching'
+     */
+    public Map<String, BatchSettings> getBatching() {
+        return batching;
+    }
+
+    /**
+     * Setter accessor for attribute 'batching'.
+     * @param batching
+     *      new value for 'batching '
+     */
+    public void setBatching(Map<String, BatchSettings> batching) {
+        this.batching = batching;
+    }
+
+    /**
+     * Getter accessor for attribute 'coalescing'.
+     *
+     * @return
+     *       current value of 'coalescing'
+     */
+    public CoalescingSettings getCoalescing() {
+        return coalescing;
+    }
+
+    /**
+     * Setter accessor for attribute 'coalescing'.
+     * @param coalescing
+     *      new value for 'coalescing '
+     */
+    public void setCoalescing(CoalescingSettings coalescing) {
+        this.coalescing = coalescing;
+    }
+
+    /**
+     * Getter accessor for attribute 'lanes'.
+     *
+     * @return
+     *       current value of 'lanes'
+     */
+    public LanesSettings getLanes() {
+        return lanes;
+    }
+
+    /**
+     * Setter accessor for attribute 'lanes'.
+     * @param lanes
+     *      new value for 'lanes '
+     */
+    public void setLanes(LanesSettings lanes) {
+        this.lanes = lanes;
+    }
+
+    /**
+     * Getter accessor for attribute 'maxInFlightReadings'.
+     *
+     * @return
+     *       current value of 'maxInFlightReadings'
+     */
+    public int getMaxInFlightReadings() {
+        return maxInFlightReadings;
+    }
+
+    /**
+     * Setter accessor for attribute 'maxInFlightReadings'.
+     * @param maxInFlightReadings
+     *      new value for 'maxInFlightReadings '
+     */
+    public void setMaxInFlightReadings(int maxInFlightReadings) {
+        this.maxInFlightReadings = maxInFlightReadings;
+    }
+
+    /**
+     * Getter accessor for attribute 'acquireTimeoutMillis'.
+     *
+     * @return
+     *       current value of 'acquireTimeoutMillis'
+     */
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    /**
+     * Setter accessor for attribute 'acquireTimeoutMillis'.
+     * @param acquireTimeoutMillis
+     *      new value for 'acquireTimeoutMillis '
+     */
+    public void setAcquireTimeoutMillis(long acquireTimeoutMillis) {
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    /**
+     * Getter accessor for attribute 'streamChunkSize'.
+     *
+     * @return
+     *       current value of 'streamChunkSize'
+     */
+    public int getStreamChunkSize() {
+        return streamChunkSize;
+    }
+
+    /**
+     * Setter accessor for attribute 'streamChunkSize'.
+     * @param streamChunkSize
+     *      new value for 'streamChunkSize '
+     */
+    public void setStreamChunkSize(int streamChunkSize) {
+        this.streamChunkSize = streamChunkSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'streamChunksInFlight'.
+     *
+     * @return
+     *       current value of 'streamChunksInFlight'
+     */
+    public int getStreamChunksInFlight() {
+        return streamChunksInFlight;
+    }
+
+    /**
+     * Setter accessor for attribute 'streamChunksInFlight'.
+     * @param streamChunksInFlight
+     *      new value for 'streamChunksInFlight '
+     */
+    public void setStreamChunksInFlight(int streamChunksInFlight) {
+        this.streamChunksInFlight = streamChunksInFlight;
+    }
+
+    /**
+     * Getter accessor for attribute 'wal'.
+     *
+     * @return
+     *       current value of 'wal'
+     */
+    public WalSettings getWal() {
+        return wal;
+    }
+
+    /**
+     * Setter accessor for attribute 'wal'.
+     * @param wal
+     *      new value for 'wal '
+     */
+    public void setWal(WalSettings wal) {
+        this.wal = wal;
+    }
+
+    /**
+     * Getter accessor for attribute 'rateLimit'.
+     *
+     * @return
+     *       current value of 'rateLimit'
+     */
+    public RateLimitSettings getRateLimit() {
+        return rateLimit;
+    }
+
+    /**
+     * Setter accessor for attribute 'rateLimit'.
+     * @param rateLimit
+     *      new value for 'rateLimit '
+     */
+    public void setRateLimit(RateLimitSettings rateLimit) {
+        this.rateLimit = rateLimit;
+    }
+
+    /**
+     * Getter accessor for attribute 'rollups'.
+     *
+     * @return
+     *       current value of 'rollups'
+     */
+    public RollupSettings getRollups() {
+        return rollups;
+    }
+
+    /**
+     * Setter accessor for attribute 'rollups'.
+     * @param rollups
+     *      new value for 'rollups '
+     */
+    public void setRollups(RollupSettings rollups) {
+        this.rollups = rollups;
+    }
+
+    /**
+     * Batching settings for one instrument.
+     */
+    public static class BatchSettings {
+
+        /** Strategy to build batches. */
+        private BatchStrategy strategy = BatchStrategy.UNLOGGED_PARTITION;
+
+        /** Maximum number of statements in a single-partition batch. */
+        private int maxBatchSize = 100;
+
+        /** Initial and highest estimated size of a batch, keep under the server batch_size_warn_threshold (5kb). */
+        private int maxBatchBytes = 5120;
+
+        /** Lowest size of a batch after failures. */
+        private int minBatchBytes = 512;
+
+        /** Batches slower than this shrink the byte budget, 0 to only adapt on failures. */
+        private long targetLatencyMillis = 50;
+
+        /**
+         * Getter accessor for attribute 'strategy'.
+         *
+         * @return
+         *       current value of 'strategy'
+         */
+        public BatchStrategy getStrategy() {
+            return strategy;
+        }
+
+        /**
+         * Setter accessor for attribute 'strategy'.
+         * @param strategy
+         *      new value for 'strategy '
+         */
+        public void setStrategy(BatchStrategy strategy) {
+            this.strategy = strategy;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxBatchSize'.
+         *
+         * @return
+         *       current value of 'maxBatchSize'
+         */
+        public int getMaxBatchSize() {
+            return maxBatchSize;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxBatchSize'.
+         * @param maxBatchSize
+         *      new value for 'maxBatchSize '
+         */
+        public void setMaxBatchSize(int maxBatchSize) {
+            this.maxBatchSize = maxBatchSize;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxBatchBytes'.
+         *
+         * @return
+         *       current value of 'maxBatchBytes'
+         */
+        public int getMaxBatchBytes() {
+            return maxBatchBytes;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxBatchBytes'.
+         * @param maxBatchBytes
+         *      new value for 'maxBatchBytes '
+         */
+        public void setMaxBatchBytes(int maxBatchBytes) {
+            this.maxBatchBytes = maxBatchBytes;
+        }
+
+        /**
+         * Getter accessor for attribute 'minBatchBytes'.
+         *
+         * @return
+         *       current value of 'minBatchBytes'
+         */
+        public int getMinBatchBytes() {
+            return minBatchBytes;
+        }
+
+        /**
+         * Setter accessor for attribute 'minBatchBytes'.
+         * @param minBatchBytes
+         *      new value for 'minBatchBytes '
+         */
+        public void setMinBatchBytes(int minBatchBytes) {
+            this.minBatchBytes = minBatchBytes;
+        }
+
+        /**
+         * Getter accessor for attribute 'targetLatencyMillis'.
+         *
+         * @return
+         *       current value of 'targetLatencyMillis'
+         */
+        public long getTargetLatencyMillis() {
+            return targetLatencyMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'targetLatencyMillis'.
+         * @param targetLatencyMillis
+         *      new value for 'targetLatencyMillis '
+         */
+        public void setTargetLatencyMillis(long targetLatencyMillis) {
+            this.targetLatencyMillis = targetLatencyMillis;
+        }
+    }
+
+    /**
+     * Buffering of readings per partition and instrument before writing.
+     */
+    public static class CoalescingSettings {
+
+        /** Readings are written as soon as received when disabled. */
+        private boolean enabled = false;
+
+        /** Flush when a buffer reaches this number of readings. */
+        private int maxRows = 200;
+
+        /** Flush when the oldest reading of a buffer has waited this long. */
+        private long maxDelayMillis = 5;
+
+        /** On shutdown, wait this long for buffered readings to be written. */
+        private long shutdownTimeoutMillis = 10000;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxRows'.
+         *
+         * @return
+         *       current value of 'maxRows'
+         */
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxRows'.
+         * @param maxRows
+         *      new value for 'maxRows '
+         */
+        public void setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxDelayMillis'.
+         *
+         * @return
+         *       current value of 'maxDelayMillis'
+         */
+        public long getMaxDelayMillis() {
+            return maxDelayMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxDelayMillis'.
+         * @param maxDelayMillis
+         *      new value for 'maxDelayMillis '
+         */
+        public void setMaxDelayMillis(long maxDelayMillis) {
+            this.maxDelayMillis = maxDelayMillis;
+        }
+
+
+        /**
+         * Getter accessor for attribute 'shutdownTimeoutMillis'.
+         *
+         * @return
+         *       current value of 'shutdownTimeoutMillis'
+         */
+        public long getShutdownTimeoutMillis() {
+            return shutdownTimeoutMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'shutdownTimeoutMillis'.
+         * @param shutdownTimeoutMillis
+         *      new value for 'shutdownTimeoutMillis '
+         */
+        public void setShutdownTimeoutMillis(long shutdownTimeoutMillis) {
+            this.shutdownTimeoutMillis = shutdownTimeoutMillis;
+        }
+    }
+
+    /**
+     * Local write-ahead log in front of the write path.
+     */
+    public static class WalSettings {
+
+        /** Readings are written directly against Astra when disabled. */
+        private boolean enabled = false;
+
+        /** Directory of segment files and checkpoint. */
+        private String directory = System.getProperty("java.io.tmpdir") + "/astra-wal";
+
+        /** Size of a segment file. */
+        private int segmentSizeBytes = 64 * 1024 * 1024;
+
+        /** Segments not yet replayed, appends are rejected above (disk budget is max-segments x segment-size-bytes). */
+        private int maxSegments = 64;
+
+        /** Replayed segments kept for reuse instead of being deleted. */
+        private int maxRecycledSegments = 4;
+
+        /** Flush to disk on each append to survive power loss, otherwise only process crashes. */
+        private boolean forceOnAppend = false;
+
+        /** Records replayed concurrently against Astra. */
+        private int drainBatchSize = 32;
+
+        /** Pause of the drainer when the log is empty. */
+        private long drainIdleMillis = 20;
+
+        /** Pause of the drainer when writes against Astra fail. */
+        private long retryDelayMillis = 1000;
+
+        /** Replays of a group of records before records still failing are moved to the dead-letter file. */
+        private int maxReplayAttempts = 10;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'directory'.
+         *
+         * @return
+         *       current value of 'directory'
+         */
+        public String getDirectory() {
+            return directory;
+        }
+
+        /**
+         * Setter accessor for attribute 'directory'.
+         * @param directory
+         *      new value for 'directory '
+         */
+        public void setDirectory(String directory) {
+            this.directory = directory;
+        }
+
+        /**
+         * Getter accessor for attribute 'segmentSizeBytes'.
+         *
+         * @return
+         *       current value of 'segmentSizeBytes'
+         */
+        public int getSegmentSizeBytes() {
+            return segmentSizeBytes;
+        }
+
+        /**
+         * Setter accessor for attribute 'segmentSizeBytes'.
+         * @param segmentSizeBytes
+         *      new value for 'segmentSizeBytes '
+         */
+        public void setSegmentSizeBytes(int segmentSizeBytes) {
+            this.segmentSizeBytes = segmentSizeBytes;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxSegments'.
+         *
+         * @return
+         *       current value of 'maxSegments'
+         */
+        public int getMaxSegments() {
+            return maxSegments;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxSegments'.
+         * @param maxSegments
+         *      new value for 'maxSegments '
+         */
+        public void setMaxSegments(int maxSegments) {
+            this.maxSegments = maxSegments;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxRecycledSegments'.
+         *
+         * @return
+         *       current value of 'maxRecycledSegments'
+         */
+        public int getMaxRecycledSegments() {
+            return maxRecycledSegments;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxRecycledSegments'.
+         * @param maxRecycledSegments
+         *      new value for 'maxRecycledSegments '
+         */
+        public void setMaxRecycledSegments(int maxRecycledSegments) {
+            this.maxRecycledSegments = maxRecycledSegments;
+        }
+
+        /**
+         * Getter accessor for attribute 'forceOnAppend'.
+         *
+         * @return
+         *       current value of 'forceOnAppend'
+         */
+        public boolean isForceOnAppend() {
+            return forceOnAppend;
+        }
+
+        /**
+         * Setter accessor for attribute 'forceOnAppend'.
+         * @param forceOnAppend
+         *      new value for 'forceOnAppend '
+         */
+        public void setForceOnAppend(boolean forceOnAppend) {
+            this.forceOnAppend = forceOnAppend;
+        }
+
+        /**
+         * Getter accessor for attribute 'drainBatchSize'.
+         *
+         * @return
+         *       current value of 'drainBatchSize'
+         */
+        public int getDrainBatchSize() {
+            return drainBatchSize;
+        }
+
+        /**
+         * Setter accessor for attribute 'drainBatchSize'.
+         * @param drainBatchSize
+         *      new value for 'drainBatchSize '
+         */
+        public void setDrainBatchSize(int drainBatchSize) {
+            this.drainBatchSize = drainBatchSize;
+        }
+
+        /**
+         * Getter accessor for attribute 'drainIdleMillis'.
+         *
+         * @return
+         *       current value of 'drainIdleMillis'
+         */
+        public long getDrainIdleMillis() {
+            return drainIdleMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'drainIdleMillis'.
+         * @param drainIdleMillis
+         *      new value for 'drainIdleMillis '
+         */
+        public void setDrainIdleMillis(long drainIdleMillis) {
+            this.drainIdleMillis = drainIdleMillis;
+        }
+
+        /**
+         * Getter accessor for attribute 'retryDelayMillis'.
+         *
+         * @return
+         *       current value of 'retryDelayMillis'
+         */
+        public long getRetryDelayMillis() {
+            return retryDelayMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'retryDelayMillis'.
+         * @param retryDelayMillis
+         *      new value for 'retryDelayMillis '
+         */
+        public void setRetryDelayMillis(long retryDelayMillis) {
+            this.retryDelayMillis = retryDelayMillis;
+        }
+
+
+        /**
+         * Getter accessor for attribute 'maxReplayAttempts'.
+         *
+         * @return
+         *       current value of 'maxReplayAttempts'
+         */
+        public int getMaxReplayAttempts() {
+            return maxReplayAttempts;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxReplayAttempts'.
+         * @param maxReplayAttempts
+         *      new value for 'maxReplayAttempts '
+         */
+        public void setMaxReplayAttempts(int maxReplayAttempts) {
+            this.maxReplayAttempts = maxReplayAttempts;
+        }
+    }
+
+    /**
+     * Rate and burst of a token bucket, one token per reading.
+     */
+    public static class LimitSettings {
+
+        /** Sustained rate. */
+        private long readingsPerSecond = 10000;
+
+        /** Readings accepted at once above the rate. */
+        private long burst = 20000;
+
+        /**
+         * Getter accessor for attribute 'readingsPerSecond'.
+         *
+         * @return
+         *       current value of 'readingsPerSecond'
+         */
+        public long getReadingsPerSecond() {
+            return readingsPerSecond;
+        }
+
+        /**
+         * Setter accessor for attribute 'readingsPerSecond'.
+         * @param readingsPerSecond
+         *      new value for 'readingsPerSecond '
+         */
+        public void setReadingsPerSecond(long readingsPerSecond) {
+            this.readingsPerSecond = readingsPerSecond;
+        }
+
+        /**
+         * Getter accessor for attribute 'burst'.
+         *
+         * @return
+         *       current value of 'burst'
+         */
+        public long getBurst() {
+            return burst;
+        }
+
+        /**
+         * Setter accessor for attribute 'burst'.
+         * @param burst
+         *      new value for 'burst '
+         */
+        public void setBurst(long burst) {
+            this.burst = burst;
+        }
+    }
+
+    /**
+     * Rate limits of the ingestion per spacecraft.
+     */
+    public static class RateLimitSettings extends LimitSettings {
+
+        /** Requests are not limited when disabled. */
+        private boolean enabled = false;
+
+        /** Buckets shared by spacecrafts without dedicated limits (hashed on the name). */
+        private int stripes = 256;
+
+        /** Dedicated limits, key is the spacecraft name. */
+        private Map<String, LimitSettings> spacecrafts = new HashMap<>();
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'stripes'.
+         *
+         * @return
+         *       current value of 'stripes'
+         */
+        public int getStripes() {
+            return stripes;
+        }
+
+        /**
+         * Setter accessor for attribute 'stripes'.
+         * @param stripes
+         *      new value for 'stripes '
+         */
+        public void setStripes(int stripes) {
+            this.stripes = stripes;
+        }
+
+        /**
+         * Getter accessor for attribute 'spacecrafts'.
+         *
+         * @return
+         *       current value of 'spacecrafts'
+         */
+        public Map<String, LimitSettings> getSpacecrafts() {
+            return spacecrafts;
+        }
+
+        /**
+         * Setter accessor for attribute 'spacecrafts'.
+         * @param spacecrafts
+         *      new value for 'spacecrafts '
+         */
+        public void setSpacecrafts(Map<String, LimitSettings> spacecrafts) {
+            this.spacecrafts = spacecrafts;
+        }
+    }
+
+    /**
+     * Writer lanes: partitions are hashed to single-threaded lanes writing queued readings in arrival order.
+     */
+    public static class LanesSettings {
+
+        /** Readings are written on request threads when disabled. */
+        private boolean enabled = false;
+
+        /** Lanes (threads) per instrument. */
+        private int lanes = 4;
+
+        /** Readings written at once by a lane. */
+        private int maxRows = 500;
+
+        /** Requests waiting in a lane, above requests are rejected. */
+        private int queueCapacity = 1000;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'lanes'.
+         *
+         * @return
+         *       current value of 'lanes'
+         */
+        public int getLanes() {
+            return lanes;
+        }
+
+        /**
+         * Setter accessor for attribute 'lanes'.
+         * @param lanes
+         *      new value for 'lanes '
+         */
+        public void setLanes(int lanes) {
+            this.lanes = lanes;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxRows'.
+         *
+         * @return
+         *       current value of 'maxRows'
+         */
+        public int getMaxRows() {
+            return maxRows;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxRows'.
+         * @param maxRows
+         *      new value for 'maxRows '
+         */
+        public void setMaxRows(int maxRows) {
+            this.maxRows = maxRows;
+        }
+
+        /**
+         * Getter accessor for attribute 'queueCapacity'.
+         *
+         * @return
+         *       current value of 'queueCapacity'
+         */
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Setter accessor for attribute 'queueCapacity'.
+         * @param queueCapacity
+         *      new value for 'queueCapacity '
+         */
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+
+    /**
+     * Rollup tables (minute, hour) fed by the ingestion and read by the aggregations.
+     */
+    public static class RollupSettings {
+
+        /** Rollups are neither written nor read when disabled. */
+        private boolean enabled = false;
+
+        /** Accumulated buckets are written at this interval. */
+        private long flushIntervalMillis = 10000;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'flushIntervalMillis'.
+         *
+         * @return
+         *       current value of 'flushIntervalMillis'
+         */
+        public long getFlushIntervalMillis() {
+            return flushIntervalMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'flushIntervalMillis'.
+         * @param flushIntervalMillis
+         *      new value for 'flushIntervalMillis '
+         */
+        public void setFlushIntervalMillis(long flushIntervalMillis) {
+            this.flushIntervalMillis = flushIntervalMillis;
+        }
+    }
+
+}
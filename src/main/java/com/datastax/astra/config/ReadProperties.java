@@ -0,0 +1,710 @@
+package com.datastax.astra.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * Settings for the read path (prefix 'astra.read' in application.yml).
+ */
+@Component
+@ConfigurationProperties(prefix = "astra.read")
+public class ReadProperties {
+
+    /** Cache of the journey catalog. */
+    private CacheSettings catalogCache = new CacheSettings();
+
+    /** Cache of the reading pages of sealed journeys. */
+    private PageCacheSettings pageCache = new PageCacheSettings();
+
+    /** Latest readings kept in memory per partition and instrument. */
+    private HotTailSettings hotTail = new HotTailSettings();
+
+    /** Live subscriptions to written readings. */
+    private LiveSettings live = new LiveSettings();
+
+    /** Parallel scan of the journey catalog. */
+    private CatalogScanSettings catalogScan = new CatalogScanSettings();
+
+    /** Aggregations over the reading tables by token ranges (batch jobs). */
+    private AnalyticsScanSettings analyticsScan = new AnalyticsScanSettings();
+
+    /** Rows per driver page when exporting readings, memory of an export is about two pages. */
+    private int exportPageSize = 5000;
+
+    /** Key signing seek cursors, shared by all instances. A random key is used when empty. */
+    private String cursorSecret;
+
+    /**
+     * Getter accessor for attribute 'catalogCache'.
+     *
+     * @return
+     *       current value of 'catalogCache'
+     */
+    public CacheSettings getCatalogCache() {
+        return catalogCache;
+    }
+
+    /**
+     * Setter accessor for attribute 'catalogCache'.
+     * @param catalogCache
+     *      new value for 'catalogCache '
+     */
+    public void setCatalogCache(CacheSettings catalogCache) {
+        this.catalogCache = catalogCache;
+    }
+
+    /**
+     * Getter accessor for attribute 'pageCache'.
+     *
+     * @return
+     *       current value of 'pageCache'
+     */
+    public PageCacheSettings getPageCache() {
+        return pageCache;
+    }
+
+    /**
+     * Setter accessor for attribute 'pageCache'.
+     * @param pageCache
+     *      new value for 'pageCache '
+     */
+    public void setPageCache(PageCacheSettings pageCache) {
+        this.pageCache = pageCache;
+    }
+
+    /**
+     * Getter accessor for attribute 'hotTail'.
+     *
+     * @return
+     *       current value of 'hotTail'
+     */
+    public HotTailSettings getHotTail() {
+        return hotTail;
+    }
+
+    /**
+     * Setter accessor for attribute 'hotTail'.
+     * @param hotTail
+     *      new value for 'hotTail '
+     */
+    public void setHotTail(HotTailSettings hotTail) {
+        this.hotTail = hotTail;
+    }
+
+    /**
+     * Getter accessor for attribute 'live'.
+     *
+     * @return
+     *       current value of 'live'
+     */
+    public LiveSettings getLive() {
+        return live;
+    }
+
+    /**
+     * Setter accessor for attribute 'live'.
+     * @param live
+     *      new value for 'live '
+     */
+    public void setLive(LiveSettings live) {
+        this.live = live;
+    }
+
+    /**
+     * Getter accessor for attribute 'catalogScan'.
+     *
+     * @return
+     *       current value of 'catalogScan'
+     */
+    public CatalogScanSettings getCatalogScan() {
+        return catalogScan;
+    }
+
+    /**
+     * Setter accessor for attribute 'catalogScan'.
+     * @param catalogScan
+     *      new value for 'catalogScan '
+     */
+    public void setCatalogScan(CatalogScanSettings catalogScan) {
+        this.catalogScan = catalogScan;
+    }
+
+    /**
+     * Getter accessor for attribute 'analyticsScan'.
+     *
+     * @return
+     *       current value of 'analyticsScan'
+     */
+    public AnalyticsScanSettings getAnalyticsScan() {
+        return analyticsScan;
+    }
+
+    /**
+     * Setter accessor for attribute 'analyticsScan'.
+     * @param analyticsScan
+     *      new value for 'analyticsScan '
+     */
+    public void setAnalyticsScan(AnalyticsScanSettings analyticsScan) {
+        this.analyticsScan = analyticsScan;
+    }
+
+    /**
+     * Getter accessor for attribute 'exportPageSize'.
+     *
+     * @return
+     *       current value of 'exportPageSize'
+     */
+    public int getExportPageSize() {
+        return exportPageSize;
+    }
+
+    /**
+     * Setter accessor for attribute 'exportPageSize'.
+     * @param exportPageSize
+     *      new value for 'exportPageSize '
+     */
+    public void setExportPageSize(int exportPageSize) {
+        this.exportPageSize = exportPageSize;
+    }
+
+    /**
+     * Getter accessor for attribute 'cursorSecret'.
+     *
+     * @return
+     *       current value of 'cursorSecret'
+     */
+    public String getCursorSecret() {
+        return cursorSecret;
+    }
+
+    /**
+     * Setter accessor for attribute 'cursorSecret'.
+     * @param cursorSecret
+     *      new value for 'cursorSecret '
+     */
+    public void setCursorSecret(String cursorSecret) {
+        this.cursorSecret = cursorSecret;
+    }
+
+    /**
+     * Read-through cache bounded by entries and time to live.
+     */
+    public static class CacheSettings {
+
+        /** Every read goes to Astra when disabled. */
+        private boolean enabled = true;
+
+        /** Maximum number of entries, least recently read are evicted above. */
+        private int maxEntries = 1000;
+
+        /** Entries older than this are loaded again. */
+        private long ttlMillis = 30000;
+
+        /** Entries older than this are refreshed in background when read. */
+        private long refreshAheadMillis = 20000;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxEntries'.
+         *
+         * @return
+         *       current value of 'maxEntries'
+         */
+        public int getMaxEntries() {
+            return maxEntries;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxEntries'.
+         * @param maxEntries
+         *      new value for 'maxEntries '
+         */
+        public void setMaxEntries(int maxEntries) {
+            this.maxEntries = maxEntries;
+        }
+
+        /**
+         * Getter accessor for attribute 'ttlMillis'.
+         *
+         * @return
+         *       current value of 'ttlMillis'
+         */
+        public long getTtlMillis() {
+            return ttlMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'ttlMillis'.
+         * @param ttlMillis
+         *      new value for 'ttlMillis '
+         */
+        public void setTtlMillis(long ttlMillis) {
+            this.ttlMillis = ttlMillis;
+        }
+
+        /**
+         * Getter accessor for attribute 'refreshAheadMillis'.
+         *
+         * @return
+         *       current value of 'refreshAheadMillis'
+         */
+        public long getRefreshAheadMillis() {
+            return refreshAheadMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'refreshAheadMillis'.
+         * @param refreshAheadMillis
+         *      new value for 'refreshAheadMillis '
+         */
+        public void setRefreshAheadMillis(long refreshAheadMillis) {
+            this.refreshAheadMillis = refreshAheadMillis;
+        }
+    }
+
+
+    /**
+     * Serialized pages bounded by bytes.
+     */
+    public static class PageCacheSettings {
+
+        /** Pages are always read from Astra when disabled. */
+        private boolean enabled = true;
+
+        /** Budget of the cached pages, least recently read are evicted above. */
+        private long maxBytes = 64 * 1024 * 1024;
+
+        /** Pages larger than this are not cached. */
+        private long maxPageBytes = 4 * 1024 * 1024;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxBytes'.
+         *
+         * @return
+         *       current value of 'maxBytes'
+         */
+        public long getMaxBytes() {
+            return maxBytes;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxBytes'.
+         * @param maxBytes
+         *      new value for 'maxBytes '
+         */
+        public void setMaxBytes(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxPageBytes'.
+         *
+         * @return
+         *       current value of 'maxPageBytes'
+         */
+        public long getMaxPageBytes() {
+            return maxPageBytes;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxPageBytes'.
+         * @param maxPageBytes
+         *      new value for 'maxPageBytes '
+         */
+        public void setMaxPageBytes(long maxPageBytes) {
+            this.maxPageBytes = maxPageBytes;
+        }
+    }
+
+    /**
+     * Rings of the latest written readings.
+     */
+    public static class HotTailSettings {
+
+        /** Latest readings are always read from Astra when disabled. */
+        private boolean enabled = true;
+
+        /** Readings kept per partition and instrument. */
+        private int capacity = 1024;
+
+        /** Partitions without readings for this long are evicted. */
+        private long idleMillis = 600000;
+
+        /** Delay between two evictions, inactive journeys are evicted too. */
+        private long evictIntervalMillis = 60000;
+
+        /**
+         * Getter accessor for attribute 'enabled'.
+         *
+         * @return
+         *       current value of 'enabled'
+         */
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        /**
+         * Setter accessor for attribute 'enabled'.
+         * @param enabled
+         *      new value for 'enabled '
+         */
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        /**
+         * Getter accessor for attribute 'capacity'.
+         *
+         * @return
+         *       current value of 'capacity'
+         */
+        public int getCapacity() {
+            return capacity;
+        }
+
+        /**
+         * Setter accessor for attribute 'capacity'.
+         * @param capacity
+         *      new value for 'capacity '
+         */
+        public void setCapacity(int capacity) {
+            this.capacity = capacity;
+        }
+
+        /**
+         * Getter accessor for attribute 'idleMillis'.
+         *
+         * @return
+         *       current value of 'idleMillis'
+         */
+        public long getIdleMillis() {
+            return idleMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'idleMillis'.
+         * @param idleMillis
+         *      new value for 'idleMillis '
+         */
+        public void setIdleMillis(long idleMillis) {
+            this.idleMillis = idleMillis;
+        }
+
+        /**
+         * Getter accessor for attribute 'evictIntervalMillis'.
+         *
+         * @return
+         *       current value of 'evictIntervalMillis'
+         */
+        public long getEvictIntervalMillis() {
+            return evictIntervalMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'evictIntervalMillis'.
+         * @param evictIntervalMillis
+         *      new value for 'evictIntervalMillis '
+         */
+        public void setEvictIntervalMillis(long evictIntervalMillis) {
+            this.evictIntervalMillis = evictIntervalMillis;
+        }
+    }
+
+    /**
+     * Fan-out of written readings to live subscribers.
+     */
+    public static class LiveSettings {
+
+        /** Frames of readings queued per subscriber, oldest are dropped above. */
+        private int queueCapacity = 64;
+
+        /** Threads sending readings to subscribers. */
+        private int dispatchThreads = 2;
+
+        /** Subscriptions are closed after this delay, clients subscribe again. */
+        private long timeoutMillis = 1800000;
+
+        /**
+         * Getter accessor for attribute 'queueCapacity'.
+         *
+         * @return
+         *       current value of 'queueCapacity'
+         */
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        /**
+         * Setter accessor for attribute 'queueCapacity'.
+         * @param queueCapacity
+         *      new value for 'queueCapacity '
+         */
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+
+        /**
+         * Getter accessor for attribute 'dispatchThreads'.
+         *
+         * @return
+         *       current value of 'dispatchThreads'
+         */
+        public int getDispatchThreads() {
+            return dispatchThreads;
+        }
+
+        /**
+         * Setter accessor for attribute 'dispatchThreads'.
+         * @param dispatchThreads
+         *      new value for 'dispatchThreads '
+         */
+        public void setDispatchThreads(int dispatchThreads) {
+            this.dispatchThreads = dispatchThreads;
+        }
+
+        /**
+         * Getter accessor for attribute 'timeoutMillis'.
+         *
+         * @return
+         *       current value of 'timeoutMillis'
+         */
+        public long getTimeoutMillis() {
+            return timeoutMillis;
+        }
+
+        /**
+         * Setter accessor for attribute 'timeoutMillis'.
+         * @param timeoutMillis
+         *      new value for 'timeoutMillis '
+         */
+        public void setTimeoutMillis(long timeoutMillis) {
+            this.timeoutMillis = timeoutMillis;
+        }
+    }
+
+    /**
+     * Scan of a table split by token ranges.
+     */
+    public static class CatalogScanSettings {
+
+        /** Token ranges the ring is split into. */
+        private int splits = 64;
+
+        /** Token ranges read at the same time. */
+        private int concurrency = 4;
+
+        /** Journeys per driver page. */
+        private int pageSize = 500;
+
+        /**
+         * Getter accessor for attribute 'splits'.
+         *
+         * @return
+         *       current value of 'splits'
+         */
+        public int getSplits() {
+            return splits;
+        }
+
+        /**
+         * Setter accessor for attribute 'splits'.
+         * @param splits
+         *      new value for 'splits '
+         */
+        public void setSplits(int splits) {
+            this.splits = splits;
+        }
+
+        /**
+         * Getter accessor for attribute 'concurrency'.
+         *
+         * @return
+         *       current value of 'concurrency'
+         */
+        public int getConcurrency() {
+            return concurrency;
+        }
+
+        /**
+         * Setter accessor for attribute 'concurrency'.
+         * @param concurrency
+         *      new value for 'concurrency '
+         */
+        public void setConcurrency(int concurrency) {
+            this.concurrency = concurrency;
+        }
+
+        /**
+         * Getter accessor for attribute 'pageSize'.
+         *
+         * @return
+         *       current value of 'pageSize'
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * Setter accessor for attribute 'pageSize'.
+         * @param pageSize
+         *      new value for 'pageSize '
+         */
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+    }
+
+    /**
+     * Aggregation jobs over the reading tables, token ranges are read on a dedicated fork-join pool.
+     */
+    public static class AnalyticsScanSettings {
+
+        /** Token ranges the ring is split into. */
+        private int splits = 256;
+
+        /** Threads of the pool, token ranges read at the same time by all jobs. */
+        private int parallelism = 4;
+
+        /** Readings per driver page. */
+        private int pageSize = 1000;
+
+        /** Finished jobs kept for their results, oldest first out. */
+        private int retainedJobs = 20;
+
+        /** Jobs running at the same time, above new jobs are rejected. */
+        private int maxRunningJobs = 2;
+
+        /**
+         * Getter accessor for attribute 'splits'.
+         *
+         * @return
+         *       current value of 'splits'
+         */
+        public int getSplits() {
+            return splits;
+        }
+
+        /**
+         * Setter accessor for attribute 'splits'.
+         * @param splits
+         *      new value for 'splits '
+         */
+        public void setSplits(int splits) {
+            this.splits = splits;
+        }
+
+        /**
+         * Getter accessor for attribute 'parallelism'.
+         *
+         * @return
+         *       current value of 'parallelism'
+         */
+        public int getParallelism() {
+            return parallelism;
+        }
+
+        /**
+         * Setter accessor for attribute 'parallelism'.
+         * @param parallelism
+         *      new value for 'parallelism '
+         */
+        public void setParallelism(int parallelism) {
+            this.parallelism = parallelism;
+        }
+
+        /**
+         * Getter accessor for attribute 'pageSize'.
+         *
+         * @return
+         *       current value of 'pageSize'
+         */
+        public int getPageSize() {
+            return pageSize;
+        }
+
+        /**
+         * Setter accessor for attribute 'pageSize'.
+         * @param pageSize
+         *      new value for 'pageSize '
+         */
+        public void setPageSize(int pageSize) {
+            this.pageSize = pageSize;
+        }
+
+        /**
+         * Getter accessor for attribute 'retainedJobs'.
+         *
+         * @return
+         *       current value of 'retainedJobs'
+         */
+        public int getRetainedJobs() {
+            return retainedJobs;
+        }
+
+        /**
+         * Setter accessor for attribute 'retainedJobs'.
+         * @param retainedJobs
+         *      new value for 'retainedJobs '
+         */
+        public void setRetainedJobs(int retainedJobs) {
+            this.retainedJobs = retainedJobs;
+        }
+
+        /**
+         * Getter accessor for attribute 'maxRunningJobs'.
+         *
+         * @return
+         *       current value of 'maxRunningJobs'
+         */
+        public int getMaxRunningJobs() {
+            return maxRunningJobs;
+        }
+
+        /**
+         * Setter accessor for attribute 'maxRunningJobs'.
+         * @param maxRunningJobs
+         *      new value for 'maxRunningJobs '
+         */
+        public void setMaxRunningJobs(int maxRunningJobs) {
+            this.maxRunningJobs = maxRunningJobs;
+        }
+    }
+
+}
@@ -2,11 +2,18 @@ package com.datastax.astra.controller;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 
+import com.datastax.astra.service.IngestOverloadedException;
+import com.datastax.astra.service.IngestRateLimitedException;
+import com.datastax.astra.service.IngestTooLargeException;
+import com.datastax.astra.service.ScanRejectedException;
+
 @ControllerAdvice
 public class ControllerExceptionHandler {
 
@@ -27,6 +34,36 @@ public class ControllerExceptionHandler {
         return ex.getMessage();
     }
     
+    @ExceptionHandler(value = IngestOverloadedException.class)
+    public ResponseEntity<String> handleOverloaded(IngestOverloadedException ex) {
+        LOGGER.warn("Overloaded : {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+    
+    @ExceptionHandler(value = IngestRateLimitedException.class)
+    public ResponseEntity<String> handleRateLimited(IngestRateLimitedException ex) {
+        LOGGER.warn("Rate limited : {}", ex.getMessage());
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(ex.getMessage());
+    }
+    
+    @ExceptionHandler(value = IngestTooLargeException.class)
+    @ResponseStatus(value = HttpStatus.PAYLOAD_TOO_LARGE)
+    public String handleTooLarge(IngestTooLargeException ex) {
+        LOGGER.warn("Too large : {}", ex.getMessage());
+        return ex.getMessage();
+    }
+    
+    @ExceptionHandler(value = ScanRejectedException.class)
+    @ResponseStatus(value = HttpStatus.TOO_MANY_REQUESTS)
+    public String handleScanRejected(ScanRejectedException ex) {
+        LOGGER.warn("Scan rejected : {}", ex.getMessage());
+        return ex.getMessage();
+    }
+    
     @ExceptionHandler(value = RuntimeException.class)
     @ResponseStatus(value = HttpStatus.INTERNAL_SERVER_ERROR)
     public String handleDefaultError(RuntimeException ex) {
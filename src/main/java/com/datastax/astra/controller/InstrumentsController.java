@@ -2,12 +2,24 @@ package com.datastax.astra.controller;
 
 import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
 
+import java.io.IOException;
+import java.time.Instant;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Supplier;
+
+import javax.servlet.http.HttpServletRequest;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.CrossOrigin;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -17,18 +29,36 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import com.datastax.astra.entity.AbstractInstrumentReading;
 import com.datastax.astra.entity.SpacecraftLocationOverTime;
 import com.datastax.astra.entity.SpacecraftPressureOverTime;
 import com.datastax.astra.entity.SpacecraftSpeedOverTime;
 import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
-import com.datastax.astra.model.PagedResultWrapper;
+import com.datastax.astra.model.ExportFormat;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.InstrumentsFrame;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.JourneyReadings;
+import com.datastax.astra.model.ReadingAggregation;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.model.ReadingsFrame;
 import com.datastax.astra.service.AstraService;
+import com.datastax.astra.service.ReadingExporter;
+import com.datastax.astra.service.ReadingHub;
+import com.datastax.astra.service.ReadingPageCache;
+import com.datastax.astra.service.ReadingPageWriter;
+import com.datastax.astra.service.ReadingStreamIngester;
+import com.datastax.astra.service.SpacecraftRateLimiter;
+import com.datastax.astra.utils.ReadingsFrameCodec;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiOperation;
 import io.swagger.annotations.ApiParam;
 import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
 
 @CrossOrigin
 @RestController
@@ -41,17 +71,64 @@ public class InstrumentsController {
     /** Logger for the class. */
     private static final Logger LOGGER = LoggerFactory.getLogger(InstrumentsController.class);
     
+    /** Content type for streamed readings, one json document per line. */
+    public static final String APPLICATION_NDJSON_VALUE = "application/x-ndjson";
+    
+    /** Event telling a live subscriber it lost frames. */
+    private static final String DROPPED_EVENT = "dropped";
+    
+    /** Seek pages and paging state pages are cached apart. */
+    private static final String SEEK_PAGE = "seek";
+    
     /** Service implementation Injection. */
     private AstraService astraService;
+    
+    /** Streaming ingestion. */
+    private ReadingStreamIngester readingStreamIngester;
+    
+    /** Readings per second accepted for a spacecraft. */
+    private SpacecraftRateLimiter rateLimiter;
+    
+    /** Serialized pages of sealed journeys. */
+    private ReadingPageCache pageCache;
+    
+    /** Streamed exports. */
+    private ReadingExporter readingExporter;
+    
+    /** Pages written from the driver rows. */
+    private ReadingPageWriter pageWriter;
+    
+    /** Live subscriptions. */
+    private ReadingHub readingHub;
 
     /**
      * Constructor.
      *
      * @param spacecraftService
      *      service implementation
+     * @param readingStreamIngester
+     *      streaming ingestion
+     * @param rateLimiter
+     *      rate limits per spacecraft
+     * @param pageCache
+     *      serialized pages of sealed journeys
+     * @param readingExporter
+     *      streamed exports
+     * @param pageWriter
+     *      pages written from the driver rows
+     * @param readingHub
+     *      live subscriptions
      */
-    public InstrumentsController(AstraService astraService) {
-        this.astraService = astraService;
+    public InstrumentsController(AstraService astraService, ReadingStreamIngester readingStreamIngester, 
+            SpacecraftRateLimiter rateLimiter, ReadingPageCache pageCache, ReadingExporter readingExporter,
+            ReadingPageWriter pageWriter, ReadingHub readingHub) {
+        this.astraService          = astraService;
+        this.readingStreamIngester = readingStreamIngester;
+        this.rateLimiter           = rateLimiter;
+        this.pageCache             = pageCache;
+        this.readingExporter       = readingExporter;
+        this.pageWriter            = pageWriter;
+        this.readingHub            = readingHub;
     }
     
     /**
@@ -60,7 +137,7 @@ public class InstrumentsController {
     @GetMapping(value="/temperature", produces = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Retrieve temperature reading for a journey", response = List.class)
     @ApiResponse(code = 200, message = "Retrieve temperature reading for a journey")
-    public ResponseEntity<PagedResultWrapper<SpacecraftTemperatureOverTime>> getTemperatureReading(
+    public ResponseEntity<?> getTemperatureReading(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
@@ -68,10 +145,21 @@ public class InstrumentsController {
             @ApiParam(name="pagesize", value="Requested page size, default is 10", required=false )
             @RequestParam("pagesize") Optional<Integer> pageSize,
             @ApiParam(name="pagestate", value="Use to retrieve next pages", required=false )
-            @RequestParam("pagestate") Optional<String> pageState) {
+            @RequestParam("pagestate") Optional<String> pageState,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to,
+            @ApiParam(name="limit", value="Maximum number of readings, latest first", required=false )
+            @RequestParam("limit") Optional<Integer> limit,
+            @ApiParam(name="downsample", value="Return at most this number of readings keeping the shape of the series (LTTB), no paging", required=false )
+            @RequestParam("downsample") Optional<Integer> downsample) {
         LOGGER.debug("Retrieving temperature readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        PagedResultWrapper<SpacecraftTemperatureOverTime> res = astraService.getTemperatureReading(spacecraftName, journeyId, pageSize, pageState);
-        return ResponseEntity.ok(res);
+        ReadingRange range = ReadingRange.of(from, to, limit);
+        if (downsample.isPresent()) {
+            return ResponseEntity.ok(astraService.getTemperatureReading(spacecraftName, journeyId, range, downsample.get()));
+        }
+        return page(Instrument.TEMPERATURE, spacecraftName, journeyId, range, pageSize, pageState);
     }
     
     /**
@@ -80,7 +168,7 @@ public class InstrumentsController {
     @GetMapping(value="/pressure", produces = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Retrieve pressure reading for a journey", response = List.class)
     @ApiResponse(code = 200, message = "Retrieve pressure reading for a journey")
-    public ResponseEntity<PagedResultWrapper<SpacecraftPressureOverTime>> getPressureReading(
+    public ResponseEntity<?> getPressureReading(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
@@ -88,9 +176,21 @@ public class InstrumentsController {
             @ApiParam(name="pagesize", value="Requested page size, default is 10", required=false )
             @RequestParam("pagesize") Optional<Integer> pageSize,
             @ApiParam(name="pagestate", value="Use to retrieve next pages", required=false )
-            @RequestParam("pagestate") Optional<String> pageState) {
+            @RequestParam("pagestate") Optional<String> pageState,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to,
+            @ApiParam(name="limit", value="Maximum number of readings, latest first", required=false )
+            @RequestParam("limit") Optional<Integer> limit,
+            @ApiParam(name="downsample", value="Return at most this number of readings keeping the shape of the series (LTTB), no paging", required=false )
+            @RequestParam("downsample") Optional<Integer> downsample) {
         LOGGER.debug("Retrieving pressure readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        return ResponseEntity.ok(astraService.getPressureReading(spacecraftName, journeyId, pageSize, pageState));
+        ReadingRange range = ReadingRange.of(from, to, limit);
+        if (downsample.isPresent()) {
+            return ResponseEntity.ok(astraService.getPressureReading(spacecraftName, journeyId, range, downsample.get()));
+        }
+        return page(Instrument.PRESSURE, spacecraftName, journeyId, range, pageSize, pageState);
     } 
     
     /**
@@ -99,7 +199,7 @@ public class InstrumentsController {
     @GetMapping(value="/speed", produces = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Retrieve speed reading for a journey", response = List.class)
     @ApiResponse(code = 200, message = "Retrieve speed reading for a journey")
-    public ResponseEntity<PagedResultWrapper<SpacecraftSpeedOverTime>> getSpeedReading(
+    public ResponseEntity<?> getSpeedReading(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
@@ -107,9 +207,21 @@ public class InstrumentsController {
             @ApiParam(name="pagesize", value="Requested page size, default is 10", required=false )
             @RequestParam("pagesize") Optional<Integer> pageSize,
             @ApiParam(name="pagestate", value="Use to retrieve next pages", required=false )
-            @RequestParam("pagestate") Optional<String> pageState) {
+            @RequestParam("pagestate") Optional<String> pageState,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to,
+            @ApiParam(name="limit", value="Maximum number of readings, latest first", required=false )
+            @RequestParam("limit") Optional<Integer> limit,
+            @ApiParam(name="downsample", value="Return at most this number of readings keeping the shape of the series (LTTB), no paging", required=false )
+            @RequestParam("downsample") Optional<Integer> downsample) {
         LOGGER.debug("Retrieving pressure readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        return ResponseEntity.ok(astraService.getSpeedReading(spacecraftName, journeyId, pageSize, pageState));
+        ReadingRange range = ReadingRange.of(from, to, limit);
+        if (downsample.isPresent()) {
+            return ResponseEntity.ok(astraService.getSpeedReading(spacecraftName, journeyId, range, downsample.get()));
+        }
+        return page(Instrument.SPEED, spacecraftName, journeyId, range, pageSize, pageState);
     } 
     
     /**
@@ -118,7 +230,7 @@ public class InstrumentsController {
     @GetMapping(value="/location", produces = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Retrieve location reading for a journey", response = List.class)
     @ApiResponse(code = 200, message = "Retrieve locartion reading for a journey")
-    public ResponseEntity<PagedResultWrapper<SpacecraftLocationOverTime>> getLocationReading(
+    public ResponseEntity<?> getLocationReading(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
@@ -126,73 +238,465 @@ public class InstrumentsController {
             @ApiParam(name="pagesize", value="Requested page size, default is 10", required=false )
             @RequestParam("pagesize") Optional<Integer> pageSize,
             @ApiParam(name="pagestate", value="Use to retrieve next pages", required=false )
-            @RequestParam("pagestate") Optional<String> pageState) {
+            @RequestParam("pagestate") Optional<String> pageState,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to,
+            @ApiParam(name="limit", value="Maximum number of readings, latest first", required=false )
+            @RequestParam("limit") Optional<Integer> limit) {
         LOGGER.debug("Retrieving pressure readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        return ResponseEntity.ok(astraService.getLocationReading(spacecraftName, journeyId, pageSize, pageState));
+        ReadingRange range = ReadingRange.of(from, to, limit);
+        return page(Instrument.LOCATION, spacecraftName, journeyId, range, pageSize, pageState);
+    }
+
+    /**
+     * Retrieve a page of every instrument at once.
+     */
+    @GetMapping(value="/all", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Retrieve a page of readings of every instrument for a journey", response = JourneyReadings.class)
+    @ApiResponse(code = 200, message = "A page per instrument, each one with its own page state")
+    public CompletionStage<ResponseEntity<JourneyReadings>> getJourneyReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="pagesize", value="Requested page size for every instrument, default is 10", required=false )
+            @RequestParam("pagesize") Optional<Integer> pageSize,
+            @ApiParam(name="temperaturepagestate", value="Use to retrieve next temperature page", required=false )
+            @RequestParam("temperaturepagestate") Optional<String> temperaturePageState,
+            @ApiParam(name="pressurepagestate", value="Use to retrieve next pressure page", required=false )
+            @RequestParam("pressurepagestate") Optional<String> pressurePageState,
+            @ApiParam(name="speedpagestate", value="Use to retrieve next speed page", required=false )
+            @RequestParam("speedpagestate") Optional<String> speedPageState,
+            @ApiParam(name="locationpagestate", value="Use to retrieve next location page", required=false )
+            @RequestParam("locationpagestate") Optional<String> locationPageState,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to,
+            @ApiParam(name="limit", value="Maximum number of readings per instrument, latest first", required=false )
+            @RequestParam("limit") Optional<Integer> limit) {
+        LOGGER.debug("Retrieving all readings for spacecraft {} and journey {}", spacecraftName, journeyId);
+        Map<Instrument, Optional<String>> pageStates = new EnumMap<>(Instrument.class);
+        pageStates.put(Instrument.TEMPERATURE, temperaturePageState);
+        pageStates.put(Instrument.PRESSURE,    pressurePageState);
+        pageStates.put(Instrument.SPEED,       speedPageState);
+        pageStates.put(Instrument.LOCATION,    locationPageState);
+        return astraService.getJourneyReadings(spacecraftName, journeyId, 
+                ReadingRange.of(from, to, limit), pageSize, pageStates).thenApply(ResponseEntity::ok);
+    }
+    
+    /**
+     * Latest readings of an active journey, from the hot tail when it holds enough readings.
+     */
+    @GetMapping(value="/{instrument}/latest", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Retrieve the latest readings of a journey, served from memory for active journeys")
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Latest readings, latest first"),
+        @ApiResponse(code = 400, message = "Unknown instrument or invalid count")
+    })
+    public ResponseEntity<byte[]> getLatestReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="count", value="Number of readings, default is 10", required=false )
+            @RequestParam("count") Optional<Integer> count) {
+        Instrument latest = Instrument.fromKey(instrument);
+        int readings = count.orElse(ReadingPageWriter.DEFAULT_SEEK_PAGE_SIZE);
+        if (readings < 1) {
+            throw new IllegalArgumentException("Invalid count " + readings + ", expecting a positive value");
+        }
+        Optional<ReadingsFrame> tail = astraService.getLatestReadings(latest, spacecraftName, journeyId, readings);
+        byte[] json;
+        if (tail.isPresent()) {
+            json = pageWriter.writeFrame(tail.get());
+        } else {
+            LOGGER.debug("Latest {} readings for spacecraft {} and journey {} read from Astra", instrument, spacecraftName, journeyId);
+            json = pageWriter.readPage(latest, spacecraftName, journeyId, 
+                    new ReadingRange(null, null, readings), Optional.of(readings), Optional.empty());
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+    
+    /**
+     * Live readings of a journey as server-sent events, fed by the ingestion.
+     */
+    @GetMapping(value="/{instrument}/subscribe", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @ApiOperation(value = "Subscribe to readings of a journey as they are written (server-sent events)")
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Event named after the instrument per written frame (json array of readings), "
+                + "'dropped' event with the number of frames a slow client lost"),
+        @ApiResponse(code = 400, message = "Unknown instrument")
+    })
+    public SseEmitter subscribeReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument) {
+        Instrument live = Instrument.fromKey(instrument);
+        SseEmitter emitter = new SseEmitter(readingHub.getTimeoutMillis());
+        ReadingHub.Subscription subscription = readingHub.subscribe(live, spacecraftName, journeyId, new ReadingHub.Sink() {
+            
+            /** {@inheritDoc} */
+            @Override
+            public void send(byte[] readings) throws IOException {
+                emitter.send(SseEmitter.event().name(live.key()).data(readings, MediaType.APPLICATION_JSON));
+            }
+            
+            /** {@inheritDoc} */
+            @Override
+            public void dropped(long frames) throws IOException {
+                emitter.send(SseEmitter.event().name(DROPPED_EVENT).data(frames));
+            }
+            
+            /** {@inheritDoc} */
+            @Override
+            public void complete() {
+                emitter.complete();
+            }
+        });
+        emitter.onCompletion(subscription::close);
+        emitter.onTimeout(subscription::close);
+        emitter.onError(error -> subscription.close());
+        return emitter;
+    }
+    
+    /**
+     * Retrieve readings with seek cursors on reading_time instead of driver paging states.
+     */
+    @GetMapping(value="/{instrument}/seek", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Retrieve a page of readings for a journey, next page from a signed cursor on reading_time")
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Readings latest first and the cursor of the next page, null on the last page"),
+        @ApiResponse(code = 400, message = "Unknown instrument, invalid range or cursor")
+    })
+    public ResponseEntity<byte[]> seekReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="pagesize", value="Requested page size, default is 10", required=false )
+            @RequestParam("pagesize") Optional<Integer> pageSize,
+            @ApiParam(name="cursor", value="Cursor of the previous page, readings before it are returned", required=false )
+            @RequestParam("cursor") Optional<String> cursor,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to) {
+        LOGGER.debug("Seeking {} readings for spacecraft {} and journey {}", instrument, spacecraftName, journeyId);
+        Instrument seeked = Instrument.fromKey(instrument);
+        Optional<ReadingRange> seekRange = pageWriter.seekRange(seeked, spacecraftName, journeyId, 
+                ReadingRange.of(from, to, Optional.empty()), pageSize.orElse(ReadingPageWriter.DEFAULT_SEEK_PAGE_SIZE), cursor);
+        Supplier<byte[]> reader = () -> pageWriter.readSeekPage(seeked, spacecraftName, journeyId, seekRange);
+        byte[] json;
+        if (seekRange.isPresent() && pageCache.isEnabled() && astraService.isJourneySealed(spacecraftName, journeyId)) {
+            // Keyed on the time window of the page, not on the cursor
+            json = pageCache.get(ReadingPageCache.partition(seeked.getTableName(), spacecraftName, journeyId),
+                    ReadingPageCache.key(seeked.getTableName(), spacecraftName, journeyId, 
+                    seekRange.get(), Optional.of(seekRange.get().getLimit()), Optional.of(SEEK_PAGE)), reader);
+        } else {
+            json = reader.get();
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+    
+    /**
+     * Pages are written as JSON straight from the driver rows, pages of sealed journeys are served from the page cache.
+     */
+    private ResponseEntity<byte[]> page(Instrument instrument, String spacecraftName, UUID journeyId, ReadingRange range,
+            Optional<Integer> pageSize, Optional<String> pageState) {
+        Supplier<byte[]> reader = () -> pageWriter.readPage(instrument, spacecraftName, journeyId, range, pageSize, pageState);
+        byte[] json;
+        if (pageCache.isEnabled() && astraService.isJourneySealed(spacecraftName, journeyId)) {
+            json = pageCache.get(ReadingPageCache.partition(instrument.getTableName(), spacecraftName, journeyId),
+                    ReadingPageCache.key(instrument.getTableName(), 
+                    spacecraftName, journeyId, range, pageSize, pageState), reader);
+        } else {
+            json = reader.get();
+        }
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(json);
+    }
+    
+    /**
+     * Aggregate readings by time buckets on the server.
+     */
+    @GetMapping(value="/{instrument}/aggregate", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Aggregate readings of a journey by time buckets (min, max, avg, count)", response = ReadingAggregation.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Non empty buckets, latest first"),
+        @ApiResponse(code = 400, message = "Unknown or non scalar instrument, invalid range or too many buckets")
+    })
+    public ResponseEntity<ReadingAggregation> aggregateReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="bucketseconds", value="Duration of a bucket in seconds, default is 60", required=false )
+            @RequestParam("bucketseconds") Optional<Long> bucketSeconds,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to) {
+        LOGGER.debug("Aggregating {} readings for spacecraft {} and journey {}", instrument, spacecraftName, journeyId);
+        return ResponseEntity.ok(astraService.aggregateReadings(Instrument.fromKey(instrument), spacecraftName, journeyId, 
+                ReadingRange.of(from, to, Optional.empty()), bucketSeconds.orElse(60L)));
+    }
+
+    /**
+     * Export all readings of an instrument, streamed page by page. The export is bounded by
+     * 'spring.mvc.async.request-timeout', not by the 30s default of async requests.
+     */
+    @GetMapping(value="/{instrument}/export")
+    @ApiOperation(value = "Export readings of a journey as NDJSON or CSV, streamed page by page")
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Readings latest first, one per line"),
+        @ApiResponse(code = 400, message = "Unknown instrument or format, invalid range")
+    })
+    public ResponseEntity<StreamingResponseBody> exportReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifer for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId, 
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="format", value="ndjson (default) or csv", required=false )
+            @RequestParam("format") Optional<String> format,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-01T00:10:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to) {
+        Instrument   exported     = Instrument.fromKey(instrument);
+        ExportFormat exportFormat = format.map(ExportFormat::fromKey).orElse(ExportFormat.NDJSON);
+        ReadingRange range        = ReadingRange.of(from, to, Optional.empty());
+        LOGGER.debug("Exporting {} readings for spacecraft {} and journey {}", instrument, spacecraftName, journeyId);
+        StreamingResponseBody body = out -> readingExporter.export(exported, spacecraftName, journeyId, range, exportFormat, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getMediaType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" 
+                        + spacecraftName + "-" + journeyId + "-" + exported.key() + "." + exportFormat.getExtension() + "\"")
+                .body(body);
     }
 
     @PostMapping(value="/temperature", consumes = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Save temperature reading for a journey", response = List.class)
-    @ApiResponse(code = 200, message = "Saved temperature reading for a journey")
-    public ResponseEntity<String> saveTemperatureReadings(
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Saved temperature reading for a journey"),
+        @ApiResponse(code = 400, message = "Reading without reading_time or value, or of another spacecraft or journey than the url"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> saveTemperatureReadings(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
             @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
             @RequestBody SpacecraftTemperatureOverTime[] readings) {
         LOGGER.debug("Saving temperature readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        if (null != readings && readings.length > 0) {
-            astraService.insertTemperatureReading(readings);
+        if (null == readings || readings.length == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
         }
-        return ResponseEntity.ok("OK");
+        bind(readings, spacecraftName, journeyId);
+        rateLimiter.acquire(spacecraftName, readings.length);
+        return acknowledge(astraService.insertTemperatureReading(readings), sync);
     }
 
     @PostMapping(value="/location", consumes = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Save location reading for a journey", response = List.class)
-    @ApiResponse(code = 200, message = "Saved location reading for a journey")
-    public ResponseEntity<String> saveLocationReadings(
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Saved location reading for a journey"),
+        @ApiResponse(code = 400, message = "Reading without reading_time or value, or of another spacecraft or journey than the url"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> saveLocationReadings(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
             @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
             @RequestBody SpacecraftLocationOverTime[] readings) {
         LOGGER.debug("Saving location reading(s) for spacecraft {} and journey {}", spacecraftName, journeyId);
-        if (null != readings && readings.length > 0) {
-            astraService.insertLocationReading(readings);
+        if (null == readings || readings.length == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
         }
-        return ResponseEntity.ok("OK");
+        bind(readings, spacecraftName, journeyId);
+        rateLimiter.acquire(spacecraftName, readings.length);
+        return acknowledge(astraService.insertLocationReading(readings), sync);
     }
 
     @PostMapping(value="/pressure", consumes = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Save pressure reading for a journey", response = List.class)
-    @ApiResponse(code = 200, message = "Saved pressure reading for a journey")
-    public ResponseEntity<String> savePressureReadings(
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Saved pressure reading for a journey"),
+        @ApiResponse(code = 400, message = "Reading without reading_time or value, or of another spacecraft or journey than the url"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> savePressureReadings(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
             @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
             @RequestBody SpacecraftPressureOverTime[] readings) {
         LOGGER.debug("Saving pressure readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        if (null != readings && readings.length > 0) {
-            astraService.insertPressureReading(readings);
+        if (null == readings || readings.length == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
         }
-        return ResponseEntity.ok("OK");
+        bind(readings, spacecraftName, journeyId);
+        rateLimiter.acquire(spacecraftName, readings.length);
+        return acknowledge(astraService.insertPressureReading(readings), sync);
     }
 
     @PostMapping(value="/speed", consumes = APPLICATION_JSON_VALUE)
     @ApiOperation(value = "Save speed reading for a journey", response = List.class)
-    @ApiResponse(code = 200, message = "Saved speed reading for a journey")
-    public ResponseEntity<String> saveSpeedReadings(
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Saved speed reading for a journey"),
+        @ApiResponse(code = 400, message = "Reading without reading_time or value, or of another spacecraft or journey than the url"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> saveSpeedReadings(
             @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
             @PathVariable(value = "spacecraftName") String spacecraftName,
             @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
             @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
             @RequestBody SpacecraftSpeedOverTime[] readings) {
         LOGGER.debug("Saving speed readings for spacecraft {} and journey {}", spacecraftName, journeyId);
-        if (null != readings && readings.length > 0) {
-            astraService.insertSpeedReading(readings);
+        if (null == readings || readings.length == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
+        }
+        bind(readings, spacecraftName, journeyId);
+        rateLimiter.acquire(spacecraftName, readings.length);
+        return acknowledge(astraService.insertSpeedReading(readings), sync);
+    }
+    
+    @PostMapping(value="/frames", consumes = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Save readings of all instruments for a journey, one frame per reading time", response = String.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Saved readings of all instruments for a journey"),
+        @ApiResponse(code = 400, message = "Frame without reading_time"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> saveInstrumentsFrames(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
+            @RequestBody InstrumentsFrame[] frames) {
+        LOGGER.debug("Saving instruments frames for spacecraft {} and journey {}", spacecraftName, journeyId);
+        if (null == frames || frames.length == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
+        }
+        // One token per reading, as the instrument endpoints
+        rateLimiter.acquire(spacecraftName, InstrumentsFrame.countReadings(frames));
+        return acknowledge(astraService.insertInstrumentsFrames(spacecraftName, journeyId, frames), sync);
+    }
+    
+    @PostMapping(value="/{instrument}", consumes = APPLICATION_NDJSON_VALUE)
+    @ApiOperation(value = "Stream readings for a journey, one json reading per line", response = String.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Readings have been written, reading pauses above the spacecraft rate limit"),
+        @ApiResponse(code = 400, message = "Unknown instrument, invalid reading or reading of another spacecraft or journey"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public ResponseEntity<String> streamReadings(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            HttpServletRequest request) throws IOException {
+        LOGGER.debug("Streaming {} readings for spacecraft {} and journey {}", instrument, spacecraftName, journeyId);
+        long count = readingStreamIngester.ingest(Instrument.fromKey(instrument), 
+                spacecraftName, journeyId, request.getInputStream());
+        return ResponseEntity.ok(count + " reading(s) written");
+    }
+    
+    @PostMapping(value="/{instrument}", consumes = ReadingsFrameCodec.MEDIA_TYPE)
+    @ApiOperation(value = "Save readings for a journey in compact binary format", response = String.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Readings have been saved"),
+        @ApiResponse(code = 400, message = "Invalid frame or frame not matching instrument, spacecraft and journey"),
+        @ApiResponse(code = 500, message = "Readings have not been written (sync only)"),
+        @ApiResponse(code = 413, message = "More readings than the spacecraft burst, split the request"),
+        @ApiResponse(code = 429, message = "Spacecraft above its rate limit, retry after delay"),
+        @ApiResponse(code = 503, message = "Too many readings in flight, retry later")
+    })
+    public CompletionStage<ResponseEntity<String>> saveReadingsFrame(
+            @ApiParam(name="spacecraftName", value="Spacecraft name",example = "gemini3",required=true )
+            @PathVariable(value = "spacecraftName") String spacecraftName,
+            @ApiParam(name="journeyId", value="Identifier for journey",example = "abb7c000-c310-11ac-8080-808080808080",required=true )
+            @PathVariable(value = "journeyId") UUID journeyId,
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed, location)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="sync", value="Wait for the readings to be written before answering", required=false )
+            @RequestParam("sync") Optional<Boolean> sync,
+            HttpServletRequest request) throws IOException {
+        LOGGER.debug("Saving {} readings frame for spacecraft {} and journey {}", instrument, spacecraftName, journeyId);
+        ReadingsFrame frame = ReadingsFrameCodec.decode(request.getInputStream());
+        if (frame.getInstrument() != Instrument.fromKey(instrument) 
+                || !frame.getSpacecraftName().equals(spacecraftName) 
+                || !frame.getJourneyId().equals(journeyId)) {
+            throw new IllegalArgumentException("Frame header (" + frame.getInstrument().key() + ", " 
+                    + frame.getSpacecraftName() + ", " + frame.getJourneyId() + ") does not match the url");
+        }
+        if (frame.size() == 0) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
+        }
+        rateLimiter.acquire(spacecraftName, frame.size());
+        return acknowledge(astraService.insertReadingsFrame(frame), sync);
+    }
+    
+    /**
+     * Readings are written and rate limited for the spacecraft and journey of the url, whatever their body says.
+     */
+    private static void bind(AbstractInstrumentReading[] readings, String spacecraftName, UUID journeyId) {
+        JourneyPartition partition = new JourneyPartition(spacecraftName, journeyId);
+        for (AbstractInstrumentReading read : readings) {
+            partition.bind(read);
+        }
+    }
+    
+    /**
+     * Answer immediately, or once readings have been written when a synchronous acknowledgement is requested.
+     */
+    private CompletionStage<ResponseEntity<String>> acknowledge(CompletionStage<Boolean> write, Optional<Boolean> sync) {
+        if (!sync.orElse(false)) {
+            return CompletableFuture.completedFuture(ResponseEntity.ok("OK"));
         }
-        return ResponseEntity.ok("OK");
+        return write.handle((applied, ex) -> (null == ex) ? ResponseEntity.ok("OK") : 
+            ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("Readings have not been written: " + ex.getMessage()));
     }
 
 }
@@ -0,0 +1,96 @@
+package com.datastax.astra.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.service.AstraService;
+import com.datastax.astra.service.ReadingHub;
+import com.datastax.astra.service.ReadingPageCache;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiResponse;
+
+/**
+ * REST Controller exposing metrics of the application.
+ */
+@CrossOrigin
+@RestController
+@Api(
+   value = "/api/metrics", 
+   description = "Metrics of the application")
+@RequestMapping("/api/metrics")
+public class MetricsController {
+    
+    /** Ingestion metrics. */
+    private IngestMetrics ingestMetrics;
+    
+    /** Read path caches. */
+    private AstraService astraService;
+    private ReadingPageCache pageCache;
+    
+    /** Live subscriptions. */
+    private ReadingHub readingHub;
+    
+    /**
+     * Constructor.
+     *
+     * @param ingestMetrics
+     *      ingestion metrics
+     * @param astraService
+     *      service holding the catalog cache
+     * @param pageCache
+     *      serialized pages of sealed journeys
+     * @param readingHub
+     *      live subscriptions
+     */
+    public MetricsController(IngestMetrics ingestMetrics, AstraService astraService, 
+            ReadingPageCache pageCache, ReadingHub readingHub) {
+        this.ingestMetrics = ingestMetrics;
+        this.astraService  = astraService;
+        this.pageCache     = pageCache;
+        this.readingHub    = readingHub;
+    }
+    
+    /**
+     * Metrics of the ingestion path.
+     */
+    @GetMapping(value = "/ingest", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Metrics of readings ingestion", response = Map.class)
+    @ApiResponse(code = 200, message = "Ingestion metrics per instrument")
+    public ResponseEntity<Map<String, Object>> getIngestMetrics() {
+        return ResponseEntity.ok(ingestMetrics.snapshot());
+    }
+    
+    /**
+     * Statistics of the live subscriptions.
+     */
+    @GetMapping(value = "/live", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Statistics of the live subscriptions", response = Map.class)
+    @ApiResponse(code = 200, message = "Subscribers, frames published, messages sent and frames dropped")
+    public ResponseEntity<Map<String, Object>> getLiveStats() {
+        return ResponseEntity.ok(readingHub.getStats());
+    }
+    
+    /**
+     * Statistics of the read caches.
+     */
+    @GetMapping(value = "/cache", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Statistics of the read caches", response = Map.class)
+    @ApiResponse(code = 200, message = "Entries, hits, misses, refreshes and evictions per cache")
+    public ResponseEntity<Map<String, Object>> getCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>(astraService.getCatalogCacheStats());
+        stats.put("pages", pageCache.getStats());
+        return ResponseEntity.ok(stats);
+    }
+    
+}
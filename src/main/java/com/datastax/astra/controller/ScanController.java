@@ -0,0 +1,145 @@
+package com.datastax.astra.controller;
+
+import static org.springframework.http.MediaType.APPLICATION_JSON_VALUE;
+
+import java.net.URI;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.service.ReadingScanJob;
+import com.datastax.astra.service.ReadingTableScanner;
+
+import io.swagger.annotations.Api;
+import io.swagger.annotations.ApiOperation;
+import io.swagger.annotations.ApiParam;
+import io.swagger.annotations.ApiResponse;
+import io.swagger.annotations.ApiResponses;
+
+/**
+ * REST Controller running aggregations over all partitions of a reading table (batch jobs).
+ */
+@CrossOrigin
+@RestController
+@Api(
+   value = "/api/admin/scans", 
+   description = "Aggregations over all journeys, run in background")
+@RequestMapping("/api/admin/scans")
+public class ScanController {
+    
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ScanController.class);
+    
+    /** Aggregations when none are requested. */
+    private static final String DEFAULT_AGGREGATIONS = "count,min,max,avg";
+    
+    /** Run scans. */
+    private ReadingTableScanner scanner;
+    
+    /**
+     * Constructor.
+     *
+     * @param scanner
+     *      run scans
+     */
+    public ScanController(ReadingTableScanner scanner) {
+        this.scanner = scanner;
+    }
+    
+    /**
+     * Start a scan of a reading table.
+     */
+    @PostMapping(value = "/{instrument}", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Aggregate readings of an instrument over all journeys in background", response = Map.class)
+    @ApiResponses({
+        @ApiResponse(code = 202, message = "Scan started, its status is in the 'location' header"),
+        @ApiResponse(code = 400, message = "Unknown or non scalar instrument, unknown aggregation or invalid range"),
+        @ApiResponse(code = 429, message = "Too many scans running")
+    })
+    public ResponseEntity<Map<String, Object>> startScan(
+            @ApiParam(name="instrument", value="Instrument (temperature, pressure, speed)",example = "temperature",required=true )
+            @PathVariable(value = "instrument") String instrument,
+            @ApiParam(name="aggregations", value="Comma separated aggregations, default is count,min,max,avg", example = "max", required=false )
+            @RequestParam("aggregations") Optional<String> aggregations,
+            @ApiParam(name="from", value="Readings at or after this time (ISO-8601)", example = "2020-01-01T00:00:00Z", required=false )
+            @RequestParam("from") Optional<Instant> from,
+            @ApiParam(name="to", value="Readings before this time (ISO-8601)", example = "2020-01-02T00:00:00Z", required=false )
+            @RequestParam("to") Optional<Instant> to) {
+        List<String> names = Arrays.stream(aggregations.orElse(DEFAULT_AGGREGATIONS).split(","))
+                .map(String::trim).filter(name -> !name.isEmpty()).collect(Collectors.toList());
+        ReadingScanJob job = scanner.start(Instrument.fromKey(instrument), 
+                ReadingRange.of(from, to, Optional.empty()), names);
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/admin/scans/{id}").buildAndExpand(job.getId()).toUri();
+        return ResponseEntity.accepted().location(location).body(job.getStatus());
+    }
+    
+    /**
+     * Scans running or retained.
+     */
+    @GetMapping(produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "List scans running or finished recently, oldest first", response = List.class)
+    @ApiResponse(code = 200, message = "Status of the scans")
+    public ResponseEntity<List<Map<String, Object>>> listScans() {
+        return ResponseEntity.ok(scanner.list().stream().map(ReadingScanJob::getStatus).collect(Collectors.toList()));
+    }
+    
+    /**
+     * Progress and results of a scan.
+     */
+    @GetMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Progress of a scan, and its results once finished", response = Map.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "State, ranges and rows read, results per aggregation"),
+        @ApiResponse(code = 404, message = "Unknown scan, or no longer retained")
+    })
+    public ResponseEntity<Map<String, Object>> getScan(
+            @ApiParam(name="id", value="Identifier of the scan", required=true )
+            @PathVariable(value = "id") UUID id) {
+        return scanner.find(id)
+                .map(job -> ResponseEntity.ok(job.getStatus()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+    
+    /**
+     * Cancel a scan, results of the token ranges read so far are kept.
+     */
+    @DeleteMapping(value = "/{id}", produces = APPLICATION_JSON_VALUE)
+    @ApiOperation(value = "Cancel a scan, ranges being read stop at the end of their current page", response = Map.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "Scan cancelled or already finished"),
+        @ApiResponse(code = 404, message = "Unknown scan, or no longer retained")
+    })
+    public ResponseEntity<Map<String, Object>> cancelScan(
+            @ApiParam(name="id", value="Identifier of the scan", required=true )
+            @PathVariable(value = "id") UUID id) {
+        Optional<ReadingScanJob> job = scanner.find(id);
+        if (!job.isPresent()) {
+            return ResponseEntity.notFound().build();
+        }
+        if (job.get().cancel()) {
+            LOGGER.info("Scan {} cancelled", id);
+        }
+        return ResponseEntity.ok(job.get().getStatus());
+    }
+    
+}
@@ -10,6 +10,9 @@ import java.util.Optional;
 import java.util.UUID;
 
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import org.apache.catalina.connector.ClientAbortException;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -22,10 +25,15 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
 import com.datastax.astra.entity.SpacecraftJourneyCatalog;
 import com.datastax.astra.service.AstraService;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
 
 import io.swagger.annotations.Api;
 import io.swagger.annotations.ApiImplicitParam;
@@ -51,29 +59,68 @@ public class SpacecraftController {
     
     /** Service implementation Injection. */
     private AstraService astraService;
+    
+    /** Stream journeys. */
+    private ObjectMapper objectMapper;
 
     /**
      * Constructor.
      *
      * @param spacecraftService
      *      service implementation
+     * @param objectMapper
+     *      json mapper
      */
-    public SpacecraftController(AstraService spacecraftService) {
+    public SpacecraftController(AstraService spacecraftService, ObjectMapper objectMapper) {
         this.astraService = spacecraftService;
+        this.objectMapper = objectMapper;
     }
     
     /**
-     * List all spacecrafts from the catalog
+     * List all spacecrafts from the catalog, bounded by 'spring.mvc.async.request-timeout'.
+     * 
+     * A token range failing before anything has been sent gives a 500. Once journeys have been sent the
+     * status cannot change anymore: the array is not closed and the connection is aborted, clients see
+     * an incomplete response rather than a truncated list.
      *  
+     * @param response
+     *      checked for commit when the scan fails
      * @return
      *      list all {@link SpacecraftJourneyCatalog} available in the table 
      */
     @GetMapping(produces = APPLICATION_JSON_VALUE)
-    @ApiOperation(value = "List all spacecrafts and journeys", response = List.class)
-    @ApiResponse(code = 200, message = "List all journeys for a spacecraft")
-    public ResponseEntity<List<SpacecraftJourneyCatalog>> findAllSpacecrafts() {
+    @ApiOperation(value = "List all spacecrafts and journeys, streamed in no particular order", response = List.class)
+    @ApiResponses({
+        @ApiResponse(code = 200, message = "List all journeys for a spacecraft"),
+        @ApiResponse(code = 500, message = "Catalog cannot be read, the connection is aborted if journeys have been sent")
+    })
+    public ResponseEntity<StreamingResponseBody> findAllSpacecrafts(HttpServletResponse response) {
         LOGGER.info("Retrieving all spacecrafts");
-        return ResponseEntity.ok(astraService.findAllSpacecrafts());
+        // Flushed by the generator buffer, not per journey
+        ObjectWriter writer = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = out -> {
+            // Closing would end the array and the response as if the scan succeeded
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.writeStartArray();
+            long journeys;
+            try {
+                journeys = astraService.scanAllSpacecrafts(journey -> writer.writeValue(generator, journey));
+            } catch (RuntimeException re) {
+                if (!response.isCommitted()) {
+                    response.resetBuffer();
+                    throw re;
+                }
+                // Any other exception gets an error page appended to the body and a clean end of response
+                LOGGER.error("Cannot read the journey catalog, aborting the response: {}", re.getMessage());
+                throw new ClientAbortException("Journey catalog scan failed");
+            }
+            generator.writeEndArray();
+            generator.close();
+            LOGGER.debug("{} journey(s) streamed", journeys);
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON).body(body);
     }
     
     /**
@@ -0,0 +1,229 @@
+package com.datastax.astra.dao;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.datastax.astra.metrics.RunningStats;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+
+/**
+ * Split statements of a partition into UNLOGGED batches within a byte budget, for one table.
+ *
+ * The size of a statement is estimated from its serialized values. The budget adapts to the feedback
+ * of Astra (AIMD): halved when a batch fails, reduced when a batch is slower than the target latency,
+ * slowly increased when batches filled to the budget are fast, always within [minBatchBytes, maxBatchBytes].
+ */
+public class BatchSizer {
+
+    /** Statement header in a batch: kind, prepared id, values count. */
+    private static final int STATEMENT_OVERHEAD = 24;
+
+    /** Length prefix of each value. */
+    private static final int VALUE_OVERHEAD = 4;
+
+    /** Statements limit, whatever their size. */
+    private final int maxStatements;
+
+    /** Bounds of the budget. */
+    private final int minBatchBytes;
+    private final int maxBatchBytes;
+
+    /** Batches slower than this reduce the budget, 0 to ignore latency. */
+    private final long targetLatencyNanos;
+
+    /** Current budget in bytes. */
+    private final AtomicInteger budgetBytes;
+
+    /** Sizes of executed batches. */
+    private final RunningStats batchBytes      = new RunningStats();
+    private final RunningStats batchStatements = new RunningStats();
+
+    /**
+     * Constructor.
+     *
+     * @param maxStatements
+     *      maximum number of statements per batch
+     * @param minBatchBytes
+     *      lowest budget reached after failures
+     * @param maxBatchBytes
+     *      initial and highest budget (keep under the server batch_size_warn_threshold)
+     * @param targetLatencyMillis
+     *      expected latency of a batch, 0 to ignore latency
+     */
+    public BatchSizer(int maxStatements, int minBatchBytes, int maxBatchBytes, long targetLatencyMillis) {
+        this.maxStatements      = Math.max(1, maxStatements);
+        this.maxBatchBytes      = Math.max(1, maxBatchBytes);
+        this.minBatchBytes      = Math.max(1, Math.min(minBatchBytes, this.maxBatchBytes));
+        this.targetLatencyNanos = TimeUnit.MILLISECONDS.toNanos(targetLatencyMillis);
+        this.budgetBytes        = new AtomicInteger(this.maxBatchBytes);
+    }
+
+    /**
+     * Sizer limited by the number of statements only.
+     *
+     * @param maxStatements
+     *      maximum number of statements per batch
+     * @return
+     *      sizer without byte budget nor tuning
+     */
+    public static BatchSizer ofStatements(int maxStatements) {
+        return new BatchSizer(maxStatements, Integer.MAX_VALUE, Integer.MAX_VALUE, 0);
+    }
+
+    /**
+     * Estimated size of a statement in a batch.
+     *
+     * @param statement
+     *      bound statement
+     * @return
+     *      size in bytes
+     */
+    public static int estimateSize(BoundStatement statement) {
+        int size = STATEMENT_OVERHEAD;
+        for (ByteBuffer value : statement.getValues()) {
+            size += VALUE_OVERHEAD + (null == value ? 0 : value.remaining());
+        }
+        return size;
+    }
+
+    /**
+     * Split statements of a single partition, a statement larger than the budget goes alone.
+     *
+     * @param statements
+     *      statements of one partition
+     * @return
+     *      groups of statements to execute as batches
+     */
+    public List<Batch> split(List<BoundStatement> statements) {
+        int budget = budgetBytes.get();
+        List<Batch> batches = new ArrayList<>();
+        int from  = 0;
+        int bytes = 0;
+        for (int i = 0; i < statements.size(); i++) {
+            int size = estimateSize(statements.get(i));
+            if (i > from && (bytes + size > budget || i - from == maxStatements)) {
+                batches.add(new Batch(statements.subList(from, i), bytes));
+                from  = i;
+                bytes = 0;
+            }
+            bytes += size;
+        }
+        if (from < statements.size()) {
+            batches.add(new Batch(statements.subList(from, statements.size()), bytes));
+        }
+        return batches;
+    }
+
+    /**
+     * A batch has been applied.
+     *
+     * @param batch
+     *      executed batch
+     * @param elapsedNanos
+     *      latency of the batch
+     */
+    public void onSuccess(Batch batch, long elapsedNanos) {
+        batchBytes.record(batch.getBytes());
+        batchStatements.record(batch.getStatements().size());
+        if (minBatchBytes == maxBatchBytes) {
+            return;
+        }
+        if (targetLatencyNanos > 0 && elapsedNanos > targetLatencyNanos && batch.getStatements().size() > 1) {
+            budgetBytes.updateAndGet(budget -> Math.max(minBatchBytes, budget - budget / 8));
+        } else if (4L * batch.getBytes() >= 3L * budgetBytes.get()) {
+            // Batch was limited by the budget, probe for more
+            budgetBytes.updateAndGet(budget -> Math.min(maxBatchBytes, budget + Math.max(64, budget / 32)));
+        }
+    }
+
+    /**
+     * A batch has failed (too large, timeout, overloaded node...).
+     *
+     * @param batch
+     *      executed batch
+     */
+    public void onFailure(Batch batch) {
+        if (minBatchBytes < maxBatchBytes && batch.getStatements().size() > 1) {
+            budgetBytes.updateAndGet(budget -> Math.max(minBatchBytes, Math.min(budget, batch.getBytes()) / 2));
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'budgetBytes'.
+     *
+     * @return
+     *       current value of 'budgetBytes'
+     */
+    public int getBudgetBytes() {
+        return budgetBytes.get();
+    }
+
+    /**
+     * Getter accessor for attribute 'batchBytes'.
+     *
+     * @return
+     *       estimated size of executed batches
+     */
+    public RunningStats getBatchBytes() {
+        return batchBytes;
+    }
+
+    /**
+     * Getter accessor for attribute 'batchStatements'.
+     *
+     * @return
+     *       statements of executed batches
+     */
+    public RunningStats getBatchStatements() {
+        return batchStatements;
+    }
+
+    /**
+     * Statements executed together and their estimated size.
+     */
+    public static class Batch {
+
+        /** Statements of a single partition. */
+        private final List<BoundStatement> statements;
+
+        /** Estimated size. */
+        private final int bytes;
+
+        /**
+         * Constructor.
+         *
+         * @param statements
+         *      statements of a single partition
+         * @param bytes
+         *      estimated size
+         */
+        public Batch(List<BoundStatement> statements, int bytes) {
+            this.statements = statements;
+            this.bytes      = bytes;
+        }
+
+        /**
+         * Getter accessor for attribute 'statements'.
+         *
+         * @return
+         *       current value of 'statements'
+         */
+        public List<BoundStatement> getStatements() {
+            return statements;
+        }
+
+        /**
+         * Getter accessor for attribute 'bytes'.
+         *
+         * @return
+         *       current value of 'bytes'
+         */
+        public int getBytes() {
+            return bytes;
+        }
+    }
+
+}
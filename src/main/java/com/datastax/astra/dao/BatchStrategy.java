@@ -0,0 +1,14 @@
+package com.datastax.astra.dao;
+
+/**
+ * How an array of readings is turned into statements against Astra.
+ */
+public enum BatchStrategy {
+    
+    /** Every reading in a single LOGGED batch, whatever the partition (legacy behaviour). */
+    LOGGED,
+    
+    /** Readings grouped by partition key, size-capped UNLOGGED batches executed concurrently. */
+    UNLOGGED_PARTITION;
+    
+}
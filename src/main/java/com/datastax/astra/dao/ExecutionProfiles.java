@@ -0,0 +1,33 @@
+package com.datastax.astra.dao;
+
+/**
+ * Names of the driver execution profiles defined in 'application.conf', one per workload.
+ *
+ * Selects are marked idempotent so the speculative executions of their profile can hedge slow replicas. Writes
+ * are never hedged as their profile has no speculative executions, whatever their idempotence: rollups are
+ * inserted with statements of the query builder (idempotent), readings with statements prepared from the CQL
+ * of the mapper (driver default, not idempotent).
+ */
+public final class ExecutionProfiles {
+
+    /** Journeys of the catalog, small and read often. */
+    public static final String CATALOG_READ = "catalog-read";
+
+    /** Pages and windows of readings of a journey (dashboards). */
+    public static final String READING_PAGE_READ = "reading-page-read";
+
+    /** All readings or rollups of a window read for an aggregation or a downsampling, page after page. */
+    public static final String AGGREGATION_READ = "aggregation-read";
+
+    /** Readings and rollups written. */
+    public static final String INGEST_WRITE = "ingest-write";
+
+    /** Exports and table scans, large pages read one after the other. */
+    public static final String EXPORT = "export";
+
+    /**
+     * Hide default constructor.
+     */
+    private ExecutionProfiles() {}
+
+}
@@ -1,5 +1,7 @@
 package com.datastax.astra.dao;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletionStage;
@@ -9,12 +11,21 @@ import com.datastax.astra.entity.SpacecraftLocationOverTime;
 import com.datastax.astra.entity.SpacecraftPressureOverTime;
 import com.datastax.astra.entity.SpacecraftSpeedOverTime;
 import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.model.ReadingRollup;
+import com.datastax.astra.model.RollupResolution;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.Insert;
 import com.datastax.oss.driver.api.mapper.annotations.QueryProvider;
 import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.api.mapper.annotations.StatementAttributes;
 
 /**
  * Operation to work with instruments
@@ -26,6 +37,7 @@ public interface SpacecraftInstrumentsDao {
      * Search for temperature readings with MAPPER
      */
     @Select(customWhereClause = "spacecraft_name= :spacecraftName AND journey_id= :journeyId")
+    @StatementAttributes(executionProfileName = ExecutionProfiles.READING_PAGE_READ, idempotence = true)
     PagingIterable<SpacecraftTemperatureOverTime> getTemperatureReading(
             String spacecraftName, UUID JourneyId,
             Function<BoundStatementBuilder, BoundStatementBuilder> setAttributes);
@@ -50,6 +62,7 @@ public interface SpacecraftInstrumentsDao {
      *      if statement was applied
      */
     @Insert
+    @StatementAttributes(executionProfileName = ExecutionProfiles.INGEST_WRITE)
     boolean upsertTemperature(SpacecraftTemperatureOverTime reading);
     
     /**
@@ -78,9 +91,58 @@ public interface SpacecraftInstrumentsDao {
                               SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
     CompletionStage<Boolean> insertSpeedReadingAsync(SpacecraftSpeedOverTime[] readings);
     
+    /**
+     * Bulk inserts of temperature readings with a dedicated batching strategy.
+     *
+     * @param readings
+     *      The temperature readings
+     * @param strategy
+     *      how readings are grouped into batches
+     * @param sizer
+     *      split of UNLOGGED batches (statements and byte budget) for the table
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertTemperatureReadingAsync(SpacecraftTemperatureOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertLocationReadingAsync(SpacecraftLocationOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertPressureReadingAsync(SpacecraftPressureOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertSpeedReadingAsync(SpacecraftSpeedOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer);
+    
     
     
 
+    /**
+     * Bulk inserts of a frame of readings (binary ingestion).
+     *
+     * @param frame
+     *      readings of one instrument for one journey
+     * @param strategy
+     *      how readings are grouped into batches
+     * @param sizer
+     *      split of UNLOGGED batches (statements and byte budget) for the table
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertReadingsFrameAsync(ReadingsFrame frame, BatchStrategy strategy, BatchSizer sizer);
+
     /**
      * Upsert a location reading.
      *
@@ -90,6 +152,7 @@ public interface SpacecraftInstrumentsDao {
      *      if statement was applied
      */
     @Insert
+    @StatementAttributes(executionProfileName = ExecutionProfiles.INGEST_WRITE)
     boolean upsertLocation(SpacecraftLocationOverTime reading);
 
     /**
@@ -101,6 +164,7 @@ public interface SpacecraftInstrumentsDao {
      *      if statement was applied
      */
     @Insert
+    @StatementAttributes(executionProfileName = ExecutionProfiles.INGEST_WRITE)
     boolean upsertPressure(SpacecraftPressureOverTime reading);
 
     /**
@@ -112,6 +176,7 @@ public interface SpacecraftInstrumentsDao {
      *      if statement was applied
      */
     @Insert
+    @StatementAttributes(executionProfileName = ExecutionProfiles.INGEST_WRITE)
     boolean upsertSpeed(SpacecraftSpeedOverTime reading);
 
     /**
@@ -141,13 +206,240 @@ public interface SpacecraftInstrumentsDao {
     PagingIterable<SpacecraftLocationOverTime> getLocationReading(
             String spacecraftName, UUID JourneyId, Optional<Integer> pageSize, Optional<String> pagingState);
     
+    /**
+     * Search for readings within a range of reading_time.
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<SpacecraftTemperatureOverTime> getTemperatureReading(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<SpacecraftPressureOverTime> getPressureReading(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<SpacecraftSpeedOverTime> getSpeedReading(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<SpacecraftLocationOverTime> getLocationReading(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    /**
+     * Search for a page of readings within a range of reading_time without blocking.
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<MappedAsyncPagingIterable<SpacecraftTemperatureOverTime>> getTemperatureReadingAsync(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<MappedAsyncPagingIterable<SpacecraftPressureOverTime>> getPressureReadingAsync(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<MappedAsyncPagingIterable<SpacecraftSpeedOverTime>> getSpeedReadingAsync(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<MappedAsyncPagingIterable<SpacecraftLocationOverTime>> getLocationReadingAsync(
+            String spacecraftName, UUID JourneyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    /**
+     * Search for a page of rows (all columns) within a range of reading_time without blocking, 
+     * rows are not mapped to entities (exports, serialization).
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param pageSize
+     *      page size
+     * @param pagingState
+     *      page state
+     * @return
+     *      completes with the page, next ones are fetched with {@link AsyncResultSet#fetchNextPage()}
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<AsyncResultSet> getReadingRowsAsync(Instrument instrument,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    /**
+     * Search for the first page of rows (all columns) of an export without blocking, same rows as 
+     * {@link #getReadingRowsAsync(Instrument, String, UUID, ReadingRange, Optional, Optional)} 
+     * with the execution profile of exports.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param pageSize
+     *      page size
+     * @param pagingState
+     *      page state
+     * @return
+     *      completes with the page, next ones are fetched with {@link AsyncResultSet#fetchNextPage()}
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<AsyncResultSet> exportReadingRowsAsync(Instrument instrument,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String> pagingState);
+    
+    /**
+     * Search for reading_time, value and unit of readings within a range (aggregations).
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param pageSize
+     *      rows fetched per page
+     * @return
+     *      rows, next pages are fetched while iterating
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<Row> getReadingValues(Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, int pageSize);
+    
+    /**
+     * Search for reading_time, value and unit of readings of all partitions in a token range (table scans).
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param tokenStart
+     *      start of the token range, exclusive
+     * @param tokenEnd
+     *      end of the token range, inclusive
+     * @param range
+     *      window of reading_time of each partition, limit does not apply
+     * @param pageSize
+     *      rows fetched per page
+     * @return
+     *      rows, next pages are fetched while iterating
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<Row> getReadingValuesInTokenRange(Instrument instrument, 
+            long tokenStart, long tokenEnd, ReadingRange range, int pageSize);
+    
+    /**
+     * Search for rollup rows (bucket_start, reading_count, min_value, max_value, sum_value, unit) 
+     * of a partition and instrument, latest bucket first.
+     *
+     * @param resolution
+     *      rollup table
+     * @param instrument
+     *      scalar instrument
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of bucket_start, limit does not apply
+     * @param pageSize
+     *      rows fetched per page
+     * @return
+     *      rows, several per bucket (one per flush)
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    PagingIterable<Row> getRollups(RollupResolution resolution, Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, int pageSize);
+    
+    /**
+     * Write aggregates in a rollup table, rows with the same bucket and flush_id are overwritten.
+     *
+     * @param resolution
+     *      rollup table
+     * @param flushId
+     *      flush_id of the rows
+     * @param rollups
+     *      aggregates of buckets
+     * @return
+     *      completes when all rows have been written
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+       entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                         SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertRollupsAsync(RollupResolution resolution, UUID flushId, List<ReadingRollup> rollups);
+    
     /**
      * Insert instruments.
      */
     @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
             entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
                               SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
-    void insertInstruments(
+    CompletionStage<Boolean> insertInstruments(
             SpacecraftTemperatureOverTime temperature, SpacecraftPressureOverTime pressure,  
             SpacecraftSpeedOverTime speed, SpacecraftLocationOverTime location);
+    
+    /**
+     * Insert readings of all instruments, tables are written in parallel.
+     *
+     * @param temperatures
+     *      temperature readings
+     * @param pressures
+     *      pressure readings
+     * @param speeds
+     *      speed readings
+     * @param locations
+     *      location readings
+     * @param strategies
+     *      how readings are grouped into batches per instrument
+     * @param sizers
+     *      split of UNLOGGED batches per instrument
+     * @return
+     *      completes when all tables have been written
+     */
+    @QueryProvider(providerClass = SpacecraftInstrumentsQueryProvider.class, 
+            entityHelpers = { SpacecraftTemperatureOverTime.class, SpacecraftPressureOverTime.class, 
+                              SpacecraftLocationOverTime.class, SpacecraftSpeedOverTime.class})
+    CompletionStage<Boolean> insertInstrumentsAsync(
+            SpacecraftTemperatureOverTime[] temperatures, SpacecraftPressureOverTime[] pressures,  
+            SpacecraftSpeedOverTime[] speeds, SpacecraftLocationOverTime[] locations,
+            Map<Instrument, BatchStrategy> strategies, Map<Instrument, BatchSizer> sizers);
 }
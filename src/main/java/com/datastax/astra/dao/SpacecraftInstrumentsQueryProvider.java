@@ -1,22 +1,54 @@
 package com.datastax.astra.dao;
 
+import static com.datastax.astra.dao.ExecutionProfiles.AGGREGATION_READ;
+import static com.datastax.astra.dao.ExecutionProfiles.EXPORT;
+import static com.datastax.astra.dao.ExecutionProfiles.INGEST_WRITE;
+import static com.datastax.astra.dao.ExecutionProfiles.READING_PAGE_READ;
 import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_JOURNEY_ID;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_READING_TIME;
 import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_SPACECRAFT_NAME;
+import static com.datastax.astra.model.RollupResolution.COLUMN_BUCKET_START;
+import static com.datastax.astra.model.RollupResolution.COLUMN_FLUSH_ID;
+import static com.datastax.astra.model.RollupResolution.COLUMN_INSTRUMENT;
+import static com.datastax.astra.model.RollupResolution.COLUMN_MAX_VALUE;
+import static com.datastax.astra.model.RollupResolution.COLUMN_MIN_VALUE;
+import static com.datastax.astra.model.RollupResolution.COLUMN_READING_COUNT;
+import static com.datastax.astra.model.RollupResolution.COLUMN_SUM_VALUE;
+import static com.datastax.astra.model.RollupResolution.COLUMN_UNIT;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.insertInto;
 import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.selectFrom;
 import static com.datastax.oss.driver.api.querybuilder.relation.Relation.column;
 
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.datastax.astra.dao.BatchSizer.Batch;
+import com.datastax.astra.entity.AbstractInstrumentReading;
 import com.datastax.astra.entity.SpacecraftLocationOverTime;
 import com.datastax.astra.entity.SpacecraftPressureOverTime;
 import com.datastax.astra.entity.SpacecraftSpeedOverTime;
 import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.model.ReadingRollup;
+import com.datastax.astra.model.RollupResolution;
+import com.datastax.astra.model.ReadingsFrame;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
 import com.datastax.oss.driver.api.core.cql.BatchStatement;
 import com.datastax.oss.driver.api.core.cql.BatchStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.BoundStatement;
@@ -24,10 +56,14 @@ import com.datastax.oss.driver.api.core.cql.BoundStatementBuilder;
 import com.datastax.oss.driver.api.core.cql.DefaultBatchType;
 import com.datastax.oss.driver.api.core.cql.PreparedStatement;
 import com.datastax.oss.driver.api.core.cql.ResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.type.UserDefinedType;
 import com.datastax.oss.driver.api.mapper.MapperContext;
 import com.datastax.oss.driver.api.mapper.annotations.QueryProvider;
 import com.datastax.oss.driver.api.mapper.entity.EntityHelper;
 import com.datastax.oss.driver.api.mapper.entity.saving.NullSavingStrategy;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+import com.datastax.oss.driver.api.querybuilder.select.Select;
 import com.datastax.oss.protocol.internal.util.Bytes;
 
 /**
@@ -36,6 +72,34 @@ import com.datastax.oss.protocol.internal.util.Bytes;
  */
 public class SpacecraftInstrumentsQueryProvider {
     
+    /** One statement per batch, used for single readings. */
+    private static final Map<Instrument, BatchSizer> SINGLE_STATEMENT = new EnumMap<>(Instrument.class);
+    static {
+        for (Instrument instrument : Instrument.values()) {
+            SINGLE_STATEMENT.put(instrument, BatchSizer.ofStatements(1));
+        }
+    }
+    
+    /** Same strategy for all instruments. */
+    private static final Map<Instrument, BatchStrategy> UNLOGGED_PARTITION = new EnumMap<>(Instrument.class);
+    static {
+        for (Instrument instrument : Instrument.values()) {
+            UNLOGGED_PARTITION.put(instrument, BatchStrategy.UNLOGGED_PARTITION);
+        }
+    }
+    
+    /** Rollups of a partition written in the same UNLOGGED batch. */
+    private static final int ROLLUP_BATCH_SIZE = 50;
+    
+    /** Bind markers of range queries. */
+    private static final String MARKER_FROM  = "reading_time_from";
+    private static final String MARKER_TO    = "reading_time_to";
+    private static final String MARKER_LIMIT = "reading_limit";
+    
+    /** Bind markers of token range queries. */
+    private static final String MARKER_TOKEN_START = "token_start";
+    private static final String MARKER_TOKEN_END   = "token_end";
+    
     private CqlSession cqlSession;
     
     /** Helper for bean, tables mappings. */
@@ -50,11 +114,20 @@ public class SpacecraftInstrumentsQueryProvider {
     private PreparedStatement psInsertLocationReading;
     private PreparedStatement psInsertSpeedReading;
     
+    /** Type of column 'location' to bind values without entity. */
+    private UserDefinedType udtLocation;
+    
     private PreparedStatement psSelectTemperatureReading;
     private PreparedStatement psSelectPressureReading;
     private PreparedStatement psSelectLocationReading;
     private PreparedStatement psSelectSpeedReading;
     
+    /** Statements of range queries prepared once per table and shape (from, to, limit). */
+    private final Map<String, PreparedStatement> psSelectRangeReadings = new ConcurrentHashMap<>();
+    
+    /** Statements against the rollup tables. */
+    private final Map<RollupResolution, PreparedStatement> psInsertRollup = new EnumMap<>(RollupResolution.class);
+    
     /**
      * Constructor invoked by the DataStax driver based on Annotation {@link QueryProvider} 
      * set on class {@link SpacecraftInstrumentsDao}.
@@ -84,6 +157,8 @@ public class SpacecraftInstrumentsQueryProvider {
         psInsertPressureReading    = cqlSession.prepare(ehPressure.insert().asCql());
         psInsertLocationReading    = cqlSession.prepare(ehLocation.insert().asCql());
         psInsertSpeedReading       = cqlSession.prepare(ehSpeed.insert().asCql());
+        udtLocation = (UserDefinedType) psInsertLocationReading.getVariableDefinitions()
+                .get(SpacecraftLocationOverTime.COLUMN_LOCATION).getType();
         
         psSelectTemperatureReading = cqlSession.prepare(
                 selectFrom(SpacecraftTemperatureOverTime.TABLE_NAME).all()
@@ -105,44 +180,243 @@ public class SpacecraftInstrumentsQueryProvider {
                 .where(column(COLUMN_SPACECRAFT_NAME).isEqualTo(bindMarker(COLUMN_SPACECRAFT_NAME)))
                 .where(column(COLUMN_JOURNEY_ID).isEqualTo(bindMarker(COLUMN_JOURNEY_ID)))
                 .build());
+        psSelectRangeReadings.put(rangeKey(SpacecraftTemperatureOverTime.TABLE_NAME, ReadingRange.ALL), psSelectTemperatureReading);
+        psSelectRangeReadings.put(rangeKey(SpacecraftPressureOverTime.TABLE_NAME, ReadingRange.ALL), psSelectPressureReading);
+        psSelectRangeReadings.put(rangeKey(SpacecraftSpeedOverTime.TABLE_NAME, ReadingRange.ALL), psSelectSpeedReading);
+        psSelectRangeReadings.put(rangeKey(SpacecraftLocationOverTime.TABLE_NAME, ReadingRange.ALL), psSelectLocationReading);
+        for (RollupResolution resolution : RollupResolution.values()) {
+            psInsertRollup.put(resolution, cqlSession.prepare(insertInto(resolution.getTableName())
+                    .value(COLUMN_SPACECRAFT_NAME, bindMarker(COLUMN_SPACECRAFT_NAME))
+                    .value(COLUMN_JOURNEY_ID,      bindMarker(COLUMN_JOURNEY_ID))
+                    .value(COLUMN_INSTRUMENT,      bindMarker(COLUMN_INSTRUMENT))
+                    .value(COLUMN_BUCKET_START,    bindMarker(COLUMN_BUCKET_START))
+                    .value(COLUMN_FLUSH_ID,        bindMarker(COLUMN_FLUSH_ID))
+                    .value(COLUMN_READING_COUNT,   bindMarker(COLUMN_READING_COUNT))
+                    .value(COLUMN_MIN_VALUE,       bindMarker(COLUMN_MIN_VALUE))
+                    .value(COLUMN_MAX_VALUE,       bindMarker(COLUMN_MAX_VALUE))
+                    .value(COLUMN_SUM_VALUE,       bindMarker(COLUMN_SUM_VALUE))
+                    .value(COLUMN_UNIT,            bindMarker(COLUMN_UNIT))
+                    .build()));
+        }
     }
     
     /**
      * Insert instruments values for a timestamp.
      */
-    public void insertInstruments(
+    public CompletionStage<Boolean> insertInstruments(
             SpacecraftTemperatureOverTime temperature, SpacecraftPressureOverTime pressure,  
             SpacecraftSpeedOverTime speed, SpacecraftLocationOverTime location) {
-        cqlSession.executeAsync(BatchStatement.builder(DefaultBatchType.LOGGED)
-                .addStatement(bind(psInsertTemperatureReading, temperature, ehTemperature))
-                .addStatement(bind(psInsertPressureReading, pressure, ehPressure))
-                .addStatement(bind(psInsertSpeedReading, speed, ehSpeed))
-                .addStatement(bind(psInsertLocationReading, location, ehLocation))
-                .build()).thenApply(rs -> null);
+        return insertInstrumentsAsync(
+                new SpacecraftTemperatureOverTime[] { temperature }, new SpacecraftPressureOverTime[] { pressure }, 
+                new SpacecraftSpeedOverTime[] { speed }, new SpacecraftLocationOverTime[] { location }, 
+                UNLOGGED_PARTITION, SINGLE_STATEMENT);
+    }
+    
+    /**
+     * Insert readings of all instruments, the four tables are written in parallel, each with its own strategy.
+     */
+    public CompletionStage<Boolean> insertInstrumentsAsync(
+            SpacecraftTemperatureOverTime[] temperatures, SpacecraftPressureOverTime[] pressures,  
+            SpacecraftSpeedOverTime[] speeds, SpacecraftLocationOverTime[] locations,
+            Map<Instrument, BatchStrategy> strategies, Map<Instrument, BatchSizer> sizers) {
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        writes.add(insertReadingsAsync(temperatures, psInsertTemperatureReading, ehTemperature, 
+                strategies.get(Instrument.TEMPERATURE), sizers.get(Instrument.TEMPERATURE)).toCompletableFuture());
+        writes.add(insertReadingsAsync(pressures, psInsertPressureReading, ehPressure, 
+                strategies.get(Instrument.PRESSURE), sizers.get(Instrument.PRESSURE)).toCompletableFuture());
+        writes.add(insertReadingsAsync(speeds, psInsertSpeedReading, ehSpeed, 
+                strategies.get(Instrument.SPEED), sizers.get(Instrument.SPEED)).toCompletableFuture());
+        writes.add(insertReadingsAsync(locations, psInsertLocationReading, ehLocation, 
+                strategies.get(Instrument.LOCATION), sizers.get(Instrument.LOCATION)).toCompletableFuture());
+        return allApplied(writes);
     }
     
     public CompletionStage<Boolean> insertLocationReadingAsync(SpacecraftLocationOverTime[] readings) {
-        BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED);
-        Arrays.stream(readings).forEach(read -> myBatch.addStatement(bind(psInsertLocationReading, read, ehLocation)));
-        return cqlSession.executeAsync(myBatch.build()).thenApply(rs ->  rs.wasApplied());
+        return insertLocationReadingAsync(readings, BatchStrategy.LOGGED, BatchSizer.ofStatements(readings.length));
     }
     
     public CompletionStage<Boolean> insertTemperatureReadingAsync(SpacecraftTemperatureOverTime[] readings) {
-        BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED);
-        Arrays.stream(readings).forEach(read -> myBatch.addStatement(bind(psInsertTemperatureReading, read, ehTemperature)));
-        return cqlSession.executeAsync(myBatch.build()).thenApply(rs -> rs.wasApplied());
+        return insertTemperatureReadingAsync(readings, BatchStrategy.LOGGED, BatchSizer.ofStatements(readings.length));
     }
     
     public CompletionStage<Boolean> insertPressureReadingAsync(SpacecraftPressureOverTime[] readings) {
-        BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED);
-        Arrays.stream(readings).forEach(read -> myBatch.addStatement(bind(psInsertPressureReading, read, ehPressure)));
-        return cqlSession.executeAsync(myBatch.build()).thenApply(rs -> rs.wasApplied());
+        return insertPressureReadingAsync(readings, BatchStrategy.LOGGED, BatchSizer.ofStatements(readings.length));
     }
     
     public CompletionStage<Boolean> insertSpeedReadingAsync(SpacecraftSpeedOverTime[] readings) {
-        BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED);
-        Arrays.stream(readings).forEach(read -> myBatch.addStatement(bind(psInsertSpeedReading, read, ehSpeed)));
-        return cqlSession.executeAsync(myBatch.build()).thenApplyAsync(rs -> rs.wasApplied());
+        return insertSpeedReadingAsync(readings, BatchStrategy.LOGGED, BatchSizer.ofStatements(readings.length));
+    }
+    
+    public CompletionStage<Boolean> insertLocationReadingAsync(SpacecraftLocationOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer) {
+        return insertReadingsAsync(readings, psInsertLocationReading, ehLocation, strategy, sizer);
+    }
+    
+    public CompletionStage<Boolean> insertTemperatureReadingAsync(SpacecraftTemperatureOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer) {
+        return insertReadingsAsync(readings, psInsertTemperatureReading, ehTemperature, strategy, sizer);
+    }
+    
+    public CompletionStage<Boolean> insertPressureReadingAsync(SpacecraftPressureOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer) {
+        return insertReadingsAsync(readings, psInsertPressureReading, ehPressure, strategy, sizer);
+    }
+    
+    public CompletionStage<Boolean> insertSpeedReadingAsync(SpacecraftSpeedOverTime[] readings, 
+            BatchStrategy strategy, BatchSizer sizer) {
+        return insertReadingsAsync(readings, psInsertSpeedReading, ehSpeed, strategy, sizer);
+    }
+    
+    /**
+     * Write readings with the expected {@link BatchStrategy}.
+     * 
+     * With {@link BatchStrategy#UNLOGGED_PARTITION} readings are grouped by partition key (spacecraft_name, journey_id), 
+     * each group is split in UNLOGGED batches by the {@link BatchSizer} of the table (statements and byte budget) 
+     * and all batches are executed concurrently. A single-partition UNLOGGED batch is applied atomically by the 
+     * replica and skips the batchlog.
+     */
+    private <T extends AbstractInstrumentReading> CompletionStage<Boolean> insertReadingsAsync(
+            T[] readings, PreparedStatement ps, EntityHelper<T> entityHelper, 
+            BatchStrategy strategy, BatchSizer sizer) {
+        if (null == readings || readings.length == 0) {
+            return CompletableFuture.completedFuture(true);
+        }
+        if (BatchStrategy.LOGGED == strategy) {
+            BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED).setExecutionProfileName(INGEST_WRITE);
+            Arrays.stream(readings).forEach(read -> myBatch.addStatement(bind(ps, read, entityHelper)));
+            return cqlSession.executeAsync(myBatch.build()).thenApply(rs -> rs.wasApplied());
+        }
+        Map<JourneyPartition, List<BoundStatement>> partitions = new LinkedHashMap<>();
+        for (T read : readings) {
+            partitions.computeIfAbsent(JourneyPartition.of(read), key -> new ArrayList<>())
+                      .add(bind(ps, read, entityHelper));
+        }
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        for (List<BoundStatement> statements : partitions.values()) {
+            for (Batch batch : sizer.split(statements)) {
+                writes.add(executeUnlogged(batch, sizer));
+            }
+        }
+        return allApplied(writes);
+    }
+    
+    /**
+     * Write a frame of readings, statements are bound from the primitive arrays without creating entities.
+     * All readings of a frame belong to the same partition.
+     */
+    public CompletionStage<Boolean> insertReadingsFrameAsync(ReadingsFrame frame, BatchStrategy strategy, BatchSizer sizer) {
+        if (frame.size() == 0) {
+            return CompletableFuture.completedFuture(true);
+        }
+        List<BoundStatement> statements = new ArrayList<>(frame.size());
+        long[] times    = frame.getReadingTimes();
+        double[] values = frame.getValues();
+        // A null unit is left unset, as the mapper does for entities (no tombstone)
+        String unitColumn = null;
+        for (int i = 0; i < times.length; i++) {
+            BoundStatement bs = null;
+            switch(frame.getInstrument()) {
+                case TEMPERATURE:
+                    bs = psInsertTemperatureReading.bind()
+                            .setDouble(SpacecraftTemperatureOverTime.COLUMN_TEMPERATURE, values[i]);
+                    unitColumn = SpacecraftTemperatureOverTime.COLUMN_TEMPERATURE_UNIT;
+                break;
+                case PRESSURE:
+                    bs = psInsertPressureReading.bind()
+                            .setDouble(SpacecraftPressureOverTime.COLUMN_PRESSURE, values[i]);
+                    unitColumn = SpacecraftPressureOverTime.COLUMN_PRESSURE_UNIT;
+                break;
+                case SPEED:
+                    bs = psInsertSpeedReading.bind()
+                            .setDouble(SpacecraftSpeedOverTime.COLUMN_SPEED, values[i]);
+                    unitColumn = SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT;
+                break;
+                case LOCATION:
+                    bs = psInsertLocationReading.bind()
+                            .setUdtValue(SpacecraftLocationOverTime.COLUMN_LOCATION, 
+                                    udtLocation.newValue(values[3 * i], values[3 * i + 1], values[3 * i + 2]));
+                    unitColumn = SpacecraftLocationOverTime.COLUMN_LOCATION_UNIT;
+                break;
+            }
+            if (null != frame.getUnit()) {
+                bs = bs.setString(unitColumn, frame.getUnit());
+            }
+            statements.add(bs
+                    .setString(COLUMN_SPACECRAFT_NAME, frame.getSpacecraftName())
+                    .setUuid(COLUMN_JOURNEY_ID, frame.getJourneyId())
+                    .setInstant(COLUMN_READING_TIME, Instant.ofEpochMilli(times[i])));
+        }
+        if (BatchStrategy.LOGGED == strategy) {
+            BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.LOGGED).setExecutionProfileName(INGEST_WRITE);
+            statements.forEach(myBatch::addStatement);
+            return cqlSession.executeAsync(myBatch.build()).thenApply(rs -> rs.wasApplied());
+        }
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        for (Batch batch : sizer.split(statements)) {
+            writes.add(executeUnlogged(batch, sizer));
+        }
+        return allApplied(writes);
+    }
+    
+    /**
+     * Write aggregates in a rollup table, a row with the same bucket_start and flush_id is overwritten.
+     */
+    public CompletionStage<Boolean> insertRollupsAsync(RollupResolution resolution, UUID flushId, List<ReadingRollup> rollups) {
+        PreparedStatement ps = psInsertRollup.get(resolution);
+        Map<List<Object>, List<BoundStatement>> partitions = new LinkedHashMap<>();
+        for (ReadingRollup rollup : rollups) {
+            partitions.computeIfAbsent(Arrays.asList(rollup.getSpacecraftName(), rollup.getJourneyId(), rollup.getInstrument()), 
+                    key -> new ArrayList<>()).add(ps.bind()
+                    .setString(COLUMN_SPACECRAFT_NAME, rollup.getSpacecraftName())
+                    .setUuid(COLUMN_JOURNEY_ID, rollup.getJourneyId())
+                    .setString(COLUMN_INSTRUMENT, rollup.getInstrument().key())
+                    .setInstant(COLUMN_BUCKET_START, Instant.ofEpochMilli(rollup.getBucketStart()))
+                    .setUuid(COLUMN_FLUSH_ID, flushId)
+                    .setLong(COLUMN_READING_COUNT, rollup.getCount())
+                    .setDouble(COLUMN_MIN_VALUE, rollup.getMin())
+                    .setDouble(COLUMN_MAX_VALUE, rollup.getMax())
+                    .setDouble(COLUMN_SUM_VALUE, rollup.getSum())
+                    .setString(COLUMN_UNIT, rollup.getUnit()));
+        }
+        BatchSizer sizer = BatchSizer.ofStatements(ROLLUP_BATCH_SIZE);
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        for (List<BoundStatement> statements : partitions.values()) {
+            for (Batch batch : sizer.split(statements)) {
+                writes.add(executeUnlogged(batch, sizer));
+            }
+        }
+        return allApplied(writes);
+    }
+    
+    /**
+     * Single statements are sent as is, others in an UNLOGGED batch. Outcome and latency are reported to the sizer.
+     */
+    private CompletableFuture<Boolean> executeUnlogged(Batch batch, BatchSizer sizer) {
+        List<BoundStatement> statements = batch.getStatements();
+        long top = System.nanoTime();
+        CompletionStage<Boolean> write;
+        if (statements.size() == 1) {
+            write = cqlSession.executeAsync(statements.get(0).setExecutionProfileName(INGEST_WRITE)).thenApply(rs -> rs.wasApplied());
+        } else {
+            BatchStatementBuilder myBatch = BatchStatement.builder(DefaultBatchType.UNLOGGED).setExecutionProfileName(INGEST_WRITE);
+            statements.forEach(myBatch::addStatement);
+            write = cqlSession.executeAsync(myBatch.build()).thenApply(rs -> rs.wasApplied());
+        }
+        return write.whenComplete((applied, ex) -> {
+            if (null != ex) {
+                sizer.onFailure(batch);
+            } else {
+                sizer.onSuccess(batch, System.nanoTime() - top);
+            }
+        }).toCompletableFuture();
+    }
+    
+    /**
+     * Combine concurrent writes, applied when all of them have been applied.
+     */
+    private static CompletableFuture<Boolean> allApplied(List<CompletableFuture<Boolean>> writes) {
+        return CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[writes.size()]))
+                .thenApply(v -> writes.stream().allMatch(CompletableFuture::join));
     }
     
     /**
@@ -153,11 +427,23 @@ public class SpacecraftInstrumentsQueryProvider {
             UUID journeyId,
             Optional<Integer> pageSize,
             Optional<String>  pagingState) {
+        return getTemperatureReading(spacecraftName, journeyId, ReadingRange.ALL, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve Temperature reading for a journey within a range of reading_time.
+     */
+    public PagingIterable<SpacecraftTemperatureOverTime> getTemperatureReading(
+            String spacecraftName,
+            UUID journeyId,
+            ReadingRange range,
+            Optional<Integer> pageSize,
+            Optional<String>  pagingState) {
         
         // Detailing operations for the first (next will be much compact)
         
-        // (1) - Bind the prepared statement with parameters 
-        BoundStatement bsTemperature = psSelectTemperatureReading.bind()
+        // (1) - Bind the prepared statement (of the query shape) with parameters 
+        BoundStatement bsTemperature = bindRange(READING_PAGE_READ, SpacecraftTemperatureOverTime.TABLE_NAME, range)
                 .setUuid(COLUMN_JOURNEY_ID, journeyId)
                 .setString(COLUMN_SPACECRAFT_NAME, spacecraftName);
 
@@ -176,7 +462,16 @@ public class SpacecraftInstrumentsQueryProvider {
      */
     public PagingIterable<SpacecraftPressureOverTime> getPressureReading(
             String spacecraftName, UUID journeyId, Optional<Integer> pageSize, Optional<String>  pagingState) {
-       return cqlSession.execute(paging(psSelectPressureReading.bind()
+       return getPressureReading(spacecraftName, journeyId, ReadingRange.ALL, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve Pressure reading for a journey within a range of reading_time.
+     */
+    public PagingIterable<SpacecraftPressureOverTime> getPressureReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+       return cqlSession.execute(paging(bindRange(READING_PAGE_READ, SpacecraftPressureOverTime.TABLE_NAME, range)
                        .setUuid(COLUMN_JOURNEY_ID, journeyId)
                        .setString(COLUMN_SPACECRAFT_NAME, spacecraftName), pageSize, pagingState))
                .map(ehPressure::get);
@@ -187,23 +482,258 @@ public class SpacecraftInstrumentsQueryProvider {
      */
     public PagingIterable<SpacecraftLocationOverTime> getLocationReading(
             String spacecraftName, UUID journeyId, Optional<Integer> pageSize, Optional<String>  pagingState) {
-       return cqlSession.execute(paging(psSelectLocationReading.bind()
+       return getLocationReading(spacecraftName, journeyId, ReadingRange.ALL, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve Location reading for a journey within a range of reading_time.
+     */
+    public PagingIterable<SpacecraftLocationOverTime> getLocationReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+       return cqlSession.execute(paging(bindRange(READING_PAGE_READ, SpacecraftLocationOverTime.TABLE_NAME, range)
                        .setUuid(COLUMN_JOURNEY_ID, journeyId)
                        .setString(COLUMN_SPACECRAFT_NAME, spacecraftName), pageSize, pagingState))
                .map(ehLocation::get);
     }
     
     /**
-     * Retrieve Pressure reading for a journey.
+     * Retrieve Speed reading for a journey.
      */
     public PagingIterable<SpacecraftSpeedOverTime> getSpeedReading(
             String spacecraftName, UUID journeyId, Optional<Integer> pageSize, Optional<String>  pagingState) {
-       return cqlSession.execute(paging(psSelectSpeedReading.bind()
+       return getSpeedReading(spacecraftName, journeyId, ReadingRange.ALL, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve Speed reading for a journey within a range of reading_time.
+     */
+    public PagingIterable<SpacecraftSpeedOverTime> getSpeedReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+       return cqlSession.execute(paging(bindRange(READING_PAGE_READ, SpacecraftSpeedOverTime.TABLE_NAME, range)
                        .setUuid(COLUMN_JOURNEY_ID, journeyId)
                        .setString(COLUMN_SPACECRAFT_NAME, spacecraftName), pageSize, pagingState))
                .map(ehSpeed::get);
     }
     
+    /**
+     * Retrieve reading_time, value and unit of readings within a range, without entity mapping (aggregations).
+     */
+    public PagingIterable<Row> getReadingValues(Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, int pageSize) {
+        return cqlSession.execute(bindRange(AGGREGATION_READ, instrument.getTableName(), range, 
+                    COLUMN_READING_TIME, instrument.getValueColumn(), instrument.getUnitColumn())
+                .setUuid(COLUMN_JOURNEY_ID, journeyId)
+                .setString(COLUMN_SPACECRAFT_NAME, spacecraftName)
+                .setPageSize(pageSize));
+    }
+    
+    /**
+     * Search for reading_time, value and unit of readings of all partitions whose token is in (start, end],
+     * the range is applied on reading_time of each partition, limit does not apply.
+     */
+    public PagingIterable<Row> getReadingValuesInTokenRange(Instrument instrument, 
+            long tokenStart, long tokenEnd, ReadingRange range, int pageSize) {
+        String tableName = instrument.getTableName();
+        PreparedStatement ps = psSelectRangeReadings.computeIfAbsent(tableName + "/token/" + range.shape(), 
+                key -> cqlSession.prepare(selectTokenRange(tableName, range, 
+                        COLUMN_READING_TIME, instrument.getValueColumn(), instrument.getUnitColumn()).build()));
+        BoundStatement bs = ps.bind()
+                .setExecutionProfileName(EXPORT)
+                .setIdempotent(true)
+                .setLong(MARKER_TOKEN_START, tokenStart)
+                .setLong(MARKER_TOKEN_END, tokenEnd);
+        if (null != range.getFrom()) {
+            bs = bs.setInstant(MARKER_FROM, range.getFrom());
+        }
+        if (null != range.getTo()) {
+            bs = bs.setInstant(MARKER_TO, range.getTo());
+        }
+        return cqlSession.execute(bs.setPageSize(pageSize));
+    }
+    
+    /**
+     * Retrieve a page of Temperature readings without blocking.
+     */
+    public CompletionStage<MappedAsyncPagingIterable<SpacecraftTemperatureOverTime>> getTemperatureReadingAsync(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readPageAsync(SpacecraftTemperatureOverTime.TABLE_NAME, ehTemperature, 
+                spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve a page of Pressure readings without blocking.
+     */
+    public CompletionStage<MappedAsyncPagingIterable<SpacecraftPressureOverTime>> getPressureReadingAsync(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readPageAsync(SpacecraftPressureOverTime.TABLE_NAME, ehPressure, 
+                spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve a page of Speed readings without blocking.
+     */
+    public CompletionStage<MappedAsyncPagingIterable<SpacecraftSpeedOverTime>> getSpeedReadingAsync(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readPageAsync(SpacecraftSpeedOverTime.TABLE_NAME, ehSpeed, 
+                spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve a page of Location readings without blocking.
+     */
+    public CompletionStage<MappedAsyncPagingIterable<SpacecraftLocationOverTime>> getLocationReadingAsync(
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readPageAsync(SpacecraftLocationOverTime.TABLE_NAME, ehLocation, 
+                spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve a page of rows (all columns) of an instrument without blocking, rows are not mapped.
+     */
+    public CompletionStage<AsyncResultSet> getReadingRowsAsync(Instrument instrument,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readRowsAsync(READING_PAGE_READ, instrument, spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    /**
+     * Retrieve the first page of rows (all columns) of an export without blocking, rows are not mapped.
+     */
+    public CompletionStage<AsyncResultSet> exportReadingRowsAsync(Instrument instrument,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return readRowsAsync(EXPORT, instrument, spacecraftName, journeyId, range, pageSize, pagingState);
+    }
+    
+    private CompletionStage<AsyncResultSet> readRowsAsync(String profile, Instrument instrument,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return cqlSession.executeAsync(paging(bindRange(profile, instrument.getTableName(), range)
+                        .setUuid(COLUMN_JOURNEY_ID, journeyId)
+                        .setString(COLUMN_SPACECRAFT_NAME, spacecraftName), pageSize, pagingState));
+    }
+    
+    private <T> CompletionStage<MappedAsyncPagingIterable<T>> readPageAsync(String tableName, EntityHelper<T> entityHelper,
+            String spacecraftName, UUID journeyId, ReadingRange range, 
+            Optional<Integer> pageSize, Optional<String>  pagingState) {
+        return cqlSession.executeAsync(paging(bindRange(READING_PAGE_READ, tableName, range)
+                        .setUuid(COLUMN_JOURNEY_ID, journeyId)
+                        .setString(COLUMN_SPACECRAFT_NAME, spacecraftName), pageSize, pagingState))
+                .thenApply(rs -> rs.map(entityHelper::get));
+    }
+    
+    /**
+     * Search for rollup rows of a partition and instrument, range is applied on bucket_start.
+     */
+    public PagingIterable<Row> getRollups(RollupResolution resolution, Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, int pageSize) {
+        String tableName = resolution.getTableName();
+        PreparedStatement ps = psSelectRangeReadings.computeIfAbsent(rangeKey(tableName, range), 
+                key -> cqlSession.prepare(selectRollups(tableName, range).build()));
+        BoundStatement bs = ps.bind()
+                .setExecutionProfileName(AGGREGATION_READ)
+                .setIdempotent(true)
+                .setString(COLUMN_SPACECRAFT_NAME, spacecraftName)
+                .setUuid(COLUMN_JOURNEY_ID, journeyId)
+                .setString(COLUMN_INSTRUMENT, instrument.key());
+        if (null != range.getFrom()) {
+            bs = bs.setInstant(MARKER_FROM, range.getFrom());
+        }
+        if (null != range.getTo()) {
+            bs = bs.setInstant(MARKER_TO, range.getTo());
+        }
+        return cqlSession.execute(bs.setPageSize(pageSize));
+    }
+    
+    /**
+     * Bind the range values on the statement of its shape, prepared on first use, for the execution profile 
+     * of the workload. Partition key values are left to the caller, no columns means all columns.
+     */
+    private BoundStatement bindRange(String profile, String tableName, ReadingRange range, String... columns) {
+        PreparedStatement ps = psSelectRangeReadings.computeIfAbsent(rangeKey(tableName, range, columns), 
+                key -> cqlSession.prepare(selectRange(tableName, range, columns).build()));
+        // Selects can be sent again (speculative executions of read profiles)
+        BoundStatement bs = ps.bind().setExecutionProfileName(profile).setIdempotent(true);
+        if (null != range.getFrom()) {
+            bs = bs.setInstant(MARKER_FROM, range.getFrom());
+        }
+        if (null != range.getTo()) {
+            bs = bs.setInstant(MARKER_TO, range.getTo());
+        }
+        if (null != range.getLimit()) {
+            bs = bs.setInt(MARKER_LIMIT, range.getLimit());
+        }
+        return bs;
+    }
+    
+    /**
+     * Select on a partition with the predicates of the range (from inclusive, to exclusive).
+     */
+    private static Select selectRange(String tableName, ReadingRange range, String... columns) {
+        Select select = (columns.length == 0 ? selectFrom(tableName).all() : selectFrom(tableName).columns(columns))
+                .where(column(COLUMN_SPACECRAFT_NAME).isEqualTo(bindMarker(COLUMN_SPACECRAFT_NAME)))
+                .where(column(COLUMN_JOURNEY_ID).isEqualTo(bindMarker(COLUMN_JOURNEY_ID)));
+        if (null != range.getFrom()) {
+            select = select.where(column(COLUMN_READING_TIME).isGreaterThanOrEqualTo(bindMarker(MARKER_FROM)));
+        }
+        if (null != range.getTo()) {
+            select = select.where(column(COLUMN_READING_TIME).isLessThan(bindMarker(MARKER_TO)));
+        }
+        if (null != range.getLimit()) {
+            select = select.limit(bindMarker(MARKER_LIMIT));
+        }
+        return select;
+    }
+    
+    /**
+     * Select on a token range of the partition key, the range on reading_time is a slice of each partition 
+     * (filtering is required by CQL as the partition key is not restricted by equality).
+     */
+    private static Select selectTokenRange(String tableName, ReadingRange range, String... columns) {
+        Select select = selectFrom(tableName).columns(columns)
+                .where(Relation.token(COLUMN_SPACECRAFT_NAME, COLUMN_JOURNEY_ID).isGreaterThan(bindMarker(MARKER_TOKEN_START)))
+                .where(Relation.token(COLUMN_SPACECRAFT_NAME, COLUMN_JOURNEY_ID).isLessThanOrEqualTo(bindMarker(MARKER_TOKEN_END)));
+        if (null != range.getFrom()) {
+            select = select.where(column(COLUMN_READING_TIME).isGreaterThanOrEqualTo(bindMarker(MARKER_FROM)));
+        }
+        if (null != range.getTo()) {
+            select = select.where(column(COLUMN_READING_TIME).isLessThan(bindMarker(MARKER_TO)));
+        }
+        if (null != range.getFrom() || null != range.getTo()) {
+            select = select.allowFiltering();
+        }
+        return select;
+    }
+    
+    /**
+     * Select on a rollup partition with the predicates of the range on bucket_start, limit does not apply.
+     */
+    private static Select selectRollups(String tableName, ReadingRange range) {
+        Select select = selectFrom(tableName)
+                .columns(COLUMN_BUCKET_START, COLUMN_READING_COUNT, COLUMN_MIN_VALUE, 
+                         COLUMN_MAX_VALUE, COLUMN_SUM_VALUE, COLUMN_UNIT, COLUMN_FLUSH_ID)
+                .where(column(COLUMN_SPACECRAFT_NAME).isEqualTo(bindMarker(COLUMN_SPACECRAFT_NAME)))
+                .where(column(COLUMN_JOURNEY_ID).isEqualTo(bindMarker(COLUMN_JOURNEY_ID)))
+                .where(column(COLUMN_INSTRUMENT).isEqualTo(bindMarker(COLUMN_INSTRUMENT)));
+        if (null != range.getFrom()) {
+            select = select.where(column(COLUMN_BUCKET_START).isGreaterThanOrEqualTo(bindMarker(MARKER_FROM)));
+        }
+        if (null != range.getTo()) {
+            select = select.where(column(COLUMN_BUCKET_START).isLessThan(bindMarker(MARKER_TO)));
+        }
+        return select;
+    }
+    
+    private static String rangeKey(String tableName, ReadingRange range, String... columns) {
+        return tableName + "/" + range.shape() + "/" + String.join(",", columns);
+    }
+    
     /**
      * Syntaxic sugar to help with paging
      */
@@ -2,13 +2,16 @@ package com.datastax.astra.dao;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletionStage;
 
 import com.datastax.astra.entity.SpacecraftJourneyCatalog;
+import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
 import com.datastax.oss.driver.api.mapper.annotations.Dao;
 import com.datastax.oss.driver.api.mapper.annotations.Insert;
-import com.datastax.oss.driver.api.mapper.annotations.Query;
+import com.datastax.oss.driver.api.mapper.annotations.QueryProvider;
 import com.datastax.oss.driver.api.mapper.annotations.Select;
+import com.datastax.oss.driver.api.mapper.annotations.StatementAttributes;
 
 /**
  * Defining Dao for Spacecraft requests.
@@ -17,10 +20,20 @@ import com.datastax.oss.driver.api.mapper.annotations.Select;
 public interface SpacecraftJourneyDao {
     
     /**
-     * Find All spacecraft in the table.
+     * Find journeys of the spacecrafts in a token range, without blocking (parallel scans).
+     *
+     * @param tokenStart
+     *      start of the range, exclusive
+     * @param tokenEnd
+     *      end of the range, inclusive
+     * @param pageSize
+     *      page size
+     * @return
+     *      first page, next ones are fetched with {@link MappedAsyncPagingIterable#fetchNextPage()}
      */
-    @Query("SELECT * FROM ${keyspaceId}.${tableId}")
-    PagingIterable<SpacecraftJourneyCatalog> findAll();
+    @QueryProvider(providerClass = SpacecraftJourneyQueryProvider.class, entityHelpers = SpacecraftJourneyCatalog.class)
+    CompletionStage<MappedAsyncPagingIterable<SpacecraftJourneyCatalog>> findAllInTokenRangeAsync(
+            long tokenStart, long tokenEnd, int pageSize);
     
     /**
      * Find all journeys for a spacecraft name.
@@ -31,6 +44,7 @@ public interface SpacecraftJourneyDao {
      *      list of journeys
      */
     @Select(customWhereClause = SpacecraftJourneyCatalog.COLUMN_SPACECRAFT_NAME + "= :spacecraftName")
+    @StatementAttributes(executionProfileName = ExecutionProfiles.CATALOG_READ, idempotence = true)
     PagingIterable<SpacecraftJourneyCatalog> findAllJourneysForSpacecraft(String spacecraftName);
     
     /**
@@ -44,6 +58,7 @@ public interface SpacecraftJourneyDao {
      *      journey details if it exists or empty
      */
     @Select
+    @StatementAttributes(executionProfileName = ExecutionProfiles.CATALOG_READ, idempotence = true)
     Optional<SpacecraftJourneyCatalog> findById(String spacecraftName, UUID journeyId);
     
     /**
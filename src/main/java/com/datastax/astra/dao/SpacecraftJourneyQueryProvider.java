@@ -0,0 +1,64 @@
+package com.datastax.astra.dao;
+
+import static com.datastax.oss.driver.api.querybuilder.QueryBuilder.bindMarker;
+
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.astra.entity.SpacecraftJourneyCatalog;
+import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
+import com.datastax.oss.driver.api.core.cql.PreparedStatement;
+import com.datastax.oss.driver.api.mapper.MapperContext;
+import com.datastax.oss.driver.api.mapper.entity.EntityHelper;
+import com.datastax.oss.driver.api.querybuilder.relation.Relation;
+
+/**
+ * Implementation of the journey catalog queries not covered by the mapper annotations.
+ */
+public class SpacecraftJourneyQueryProvider {
+
+    /** Bind markers of token range queries. */
+    private static final String MARKER_TOKEN_START = "token_start";
+    private static final String MARKER_TOKEN_END   = "token_end";
+
+    private CqlSession cqlSession;
+
+    /** Helper for bean, tables mappings. */
+    private EntityHelper<SpacecraftJourneyCatalog> ehJourney;
+
+    /** All journeys of a token range. */
+    private PreparedStatement psSelectTokenRange;
+
+    /**
+     * Constructor invoked by the DataStax driver based on Annotation {@link QueryProvider} 
+     * set on class {@link SpacecraftJourneyDao}.
+     *
+     * @param context
+     *      context to extrat dse session
+     * @param ehJourney
+     *      entity helper to interact with bean {@link SpacecraftJourneyCatalog}
+     */
+    public SpacecraftJourneyQueryProvider(MapperContext context, EntityHelper<SpacecraftJourneyCatalog> ehJourney) {
+        this.cqlSession = context.getSession();
+        this.ehJourney  = ehJourney;
+        this.psSelectTokenRange = cqlSession.prepare(ehJourney.selectStart()
+                .where(Relation.token(SpacecraftJourneyCatalog.COLUMN_SPACECRAFT_NAME).isGreaterThan(bindMarker(MARKER_TOKEN_START)))
+                .where(Relation.token(SpacecraftJourneyCatalog.COLUMN_SPACECRAFT_NAME).isLessThanOrEqualTo(bindMarker(MARKER_TOKEN_END)))
+                .build());
+    }
+
+    /**
+     * Journeys of spacecrafts whose partition token is in (start, end], without blocking.
+     */
+    public CompletionStage<MappedAsyncPagingIterable<SpacecraftJourneyCatalog>> findAllInTokenRangeAsync(
+            long tokenStart, long tokenEnd, int pageSize) {
+        return cqlSession.executeAsync(psSelectTokenRange.bind()
+                    .setExecutionProfileName(ExecutionProfiles.CATALOG_READ)
+                    .setIdempotent(true)
+                    .setLong(MARKER_TOKEN_START, tokenStart)
+                    .setLong(MARKER_TOKEN_END, tokenEnd)
+                    .setPageSize(pageSize))
+                .thenApply(rs -> rs.map(ehJourney::get));
+    }
+
+}
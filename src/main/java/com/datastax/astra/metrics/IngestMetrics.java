@@ -0,0 +1,155 @@
+package com.datastax.astra.metrics;
+
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Metrics of the ingestion path, per instrument.
+ */
+@Component
+public class IngestMetrics {
+    
+    /** Rows per flush of the coalescing buffers. */
+    private final Map<Instrument, RunningStats> flushSize = new EnumMap<>(Instrument.class);
+    
+    /** Duration of a flush in micros, from the write to the acknowledgement of Astra. */
+    private final Map<Instrument, RunningStats> flushLatency = new EnumMap<>(Instrument.class);
+    
+    /** Readings acknowledged by Astra. */
+    private final Map<Instrument, LongAdder> writtenReadings = new EnumMap<>(Instrument.class);
+    
+    /** Readings whose write has failed. */
+    private final Map<Instrument, LongAdder> failedReadings = new EnumMap<>(Instrument.class);
+    
+    /** Readings rejected because too many were in flight. */
+    private final Map<Instrument, LongAdder> rejectedReadings = new EnumMap<>(Instrument.class);
+    
+    /** Gauges bound by components of the ingestion path (readings in flight...). */
+    private final Map<String, LongSupplier> gauges = new ConcurrentSkipListMap<>();
+    
+    /** Gauges bound per instrument (batch sizes...). */
+    private final Map<Instrument, Map<String, Supplier<Object>>> instrumentGauges = new EnumMap<>(Instrument.class);
+    
+    /**
+     * Default constructor.
+     */
+    public IngestMetrics() {
+        for (Instrument instrument : Instrument.values()) {
+            flushSize.put(instrument, new RunningStats());
+            flushLatency.put(instrument, new RunningStats());
+            writtenReadings.put(instrument, new LongAdder());
+            failedReadings.put(instrument, new LongAdder());
+            rejectedReadings.put(instrument, new LongAdder());
+            instrumentGauges.put(instrument, new ConcurrentSkipListMap<>());
+        }
+    }
+    
+    /**
+     * A coalesced flush has completed.
+     *
+     * @param instrument
+     *      current instrument
+     * @param rows
+     *      number of readings written
+     * @param elapsedNanos
+     *      flush duration
+     */
+    public void recordFlush(Instrument instrument, int rows, long elapsedNanos) {
+        flushSize.get(instrument).record(rows);
+        flushLatency.get(instrument).record(elapsedNanos / 1000);
+    }
+    
+    /**
+     * Readings have been written.
+     *
+     * @param instrument
+     *      current instrument
+     * @param readings
+     *      number of readings
+     */
+    public void recordWritten(Instrument instrument, int readings) {
+        writtenReadings.get(instrument).add(readings);
+    }
+    
+    /**
+     * Write of readings has failed.
+     *
+     * @param instrument
+     *      current instrument
+     * @param readings
+     *      number of readings
+     */
+    public void recordFailed(Instrument instrument, int readings) {
+        failedReadings.get(instrument).add(readings);
+    }
+    
+    /**
+     * Readings have been rejected (overload).
+     *
+     * @param instrument
+     *      current instrument
+     * @param readings
+     *      number of readings
+     */
+    public void recordRejected(Instrument instrument, int readings) {
+        rejectedReadings.get(instrument).add(readings);
+    }
+    
+    /**
+     * Bind a gauge.
+     *
+     * @param name
+     *      gauge name
+     * @param gauge
+     *      supplier of current value
+     */
+    public void bindGauge(String name, LongSupplier gauge) {
+        gauges.put(name, gauge);
+    }
+    
+    /**
+     * Bind a gauge of an instrument.
+     *
+     * @param instrument
+     *      current instrument
+     * @param name
+     *      gauge name
+     * @param gauge
+     *      supplier of current value (number or map)
+     */
+    public void bindGauge(Instrument instrument, String name, Supplier<Object> gauge) {
+        instrumentGauges.get(instrument).put(name, gauge);
+    }
+    
+    /**
+     * Current values as a map (for json rendering).
+     *
+     * @return
+     *      metrics per instrument
+     */
+    public Map<String, Object> snapshot() {
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        gauges.forEach((name, gauge) -> snapshot.put(name, gauge.getAsLong()));
+        for (Instrument instrument : Instrument.values()) {
+            Map<String, Object> instrumentMetrics = new LinkedHashMap<>();
+            instrumentMetrics.put("writtenReadings", writtenReadings.get(instrument).sum());
+            instrumentMetrics.put("failedReadings", failedReadings.get(instrument).sum());
+            instrumentMetrics.put("rejectedReadings", rejectedReadings.get(instrument).sum());
+            instrumentMetrics.put("flushSize", flushSize.get(instrument).snapshot());
+            instrumentMetrics.put("flushLatencyMicros", flushLatency.get(instrument).snapshot());
+            instrumentGauges.get(instrument).forEach((name, gauge) -> instrumentMetrics.put(name, gauge.get()));
+            snapshot.put(instrument.key(), instrumentMetrics);
+        }
+        return snapshot;
+    }
+    
+}
@@ -0,0 +1,60 @@
+package com.datastax.astra.metrics;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free count, sum, min and max of a recorded value (latency, size...).
+ */
+public class RunningStats {
+    
+    /** Accumulators. */
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum   = new LongAdder();
+    private final LongAccumulator min = new LongAccumulator(Math::min, Long.MAX_VALUE);
+    private final LongAccumulator max = new LongAccumulator(Math::max, Long.MIN_VALUE);
+    
+    /**
+     * Record a new value.
+     *
+     * @param value
+     *      value to record
+     */
+    public void record(long value) {
+        count.increment();
+        sum.add(value);
+        min.accumulate(value);
+        max.accumulate(value);
+    }
+    
+    /**
+     * Getter accessor for attribute 'count'.
+     *
+     * @return
+     *       number of recorded values
+     */
+    public long getCount() {
+        return count.sum();
+    }
+    
+    /**
+     * Current values as a map (for json rendering).
+     *
+     * @return
+     *      count, sum, min, max and mean
+     */
+    public Map<String, Object> snapshot() {
+        long currentCount = count.sum();
+        long currentSum   = sum.sum();
+        Map<String, Object> snapshot = new LinkedHashMap<>();
+        snapshot.put("count", currentCount);
+        snapshot.put("sum",   currentSum);
+        snapshot.put("min",   currentCount == 0 ? 0 : min.get());
+        snapshot.put("max",   currentCount == 0 ? 0 : max.get());
+        snapshot.put("mean",  currentCount == 0 ? 0 : (double) currentSum / currentCount);
+        return snapshot;
+    }
+    
+}
@@ -0,0 +1,64 @@
+package com.datastax.astra.model;
+
+/**
+ * Formats of exported readings.
+ */
+public enum ExportFormat {
+
+    /** One json reading per line, same documents as the streamed ingestion. */
+    NDJSON("application/x-ndjson", "ndjson"),
+
+    /** Header line then one reading per line. */
+    CSV("text/csv", "csv");
+
+    /** Content type of the response. */
+    private final String mediaType;
+
+    /** Extension of the exported file. */
+    private final String extension;
+
+    private ExportFormat(String mediaType, String extension) {
+        this.mediaType = mediaType;
+        this.extension = extension;
+    }
+
+    /**
+     * Format from a request parameter.
+     *
+     * @param key
+     *      format name (ndjson, csv), case insensitive
+     * @return
+     *      format
+     * @throws IllegalArgumentException
+     *      unknown format
+     */
+    public static ExportFormat fromKey(String key) {
+        for (ExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(key)) {
+                return format;
+            }
+        }
+        throw new IllegalArgumentException("Unknown export format '" + key + "', expecting ndjson or csv");
+    }
+
+    /**
+     * Getter accessor for attribute 'mediaType'.
+     *
+     * @return
+     *       current value of 'mediaType'
+     */
+    public String getMediaType() {
+        return mediaType;
+    }
+
+    /**
+     * Getter accessor for attribute 'extension'.
+     *
+     * @return
+     *       current value of 'extension'
+     */
+    public String getExtension() {
+        return extension;
+    }
+
+}
@@ -0,0 +1,105 @@
+package com.datastax.astra.model;
+
+import com.datastax.astra.entity.SpacecraftLocationOverTime;
+import com.datastax.astra.entity.SpacecraftPressureOverTime;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+
+/**
+ * Instruments available on a spacecraft, each one mapped to its reading table.
+ */
+public enum Instrument {
+    
+    TEMPERATURE(SpacecraftTemperatureOverTime.TABLE_NAME, 
+            SpacecraftTemperatureOverTime.COLUMN_TEMPERATURE, SpacecraftTemperatureOverTime.COLUMN_TEMPERATURE_UNIT),
+    PRESSURE(SpacecraftPressureOverTime.TABLE_NAME, 
+            SpacecraftPressureOverTime.COLUMN_PRESSURE, SpacecraftPressureOverTime.COLUMN_PRESSURE_UNIT),
+    SPEED(SpacecraftSpeedOverTime.TABLE_NAME, 
+            SpacecraftSpeedOverTime.COLUMN_SPEED, SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT),
+    LOCATION(SpacecraftLocationOverTime.TABLE_NAME, 
+            SpacecraftLocationOverTime.COLUMN_LOCATION, SpacecraftLocationOverTime.COLUMN_LOCATION_UNIT);
+    
+    /** Table holding the readings. */
+    private final String tableName;
+    
+    /** Columns of the value and of its unit. */
+    private final String valueColumn;
+    private final String unitColumn;
+    
+    private Instrument(String tableName, String valueColumn, String unitColumn) {
+        this.tableName   = tableName;
+        this.valueColumn = valueColumn;
+        this.unitColumn  = unitColumn;
+    }
+    
+    /**
+     * Key used in configuration files and urls.
+     *
+     * @return
+     *      lower case name of the instrument
+     */
+    public String key() {
+        return name().toLowerCase();
+    }
+    
+    /**
+     * Find instrument from its key.
+     *
+     * @param key
+     *      instrument key (temperature, pressure, speed, location)
+     * @return
+     *      matching instrument
+     * @throws IllegalArgumentException
+     *      unknown instrument
+     */
+    public static Instrument fromKey(String key) {
+        for (Instrument instrument : values()) {
+            if (instrument.key().equalsIgnoreCase(key)) {
+                return instrument;
+            }
+        }
+        throw new IllegalArgumentException("Unknown instrument '" + key 
+                + "', expecting temperature, pressure, speed or location");
+    }
+    
+    /**
+     * Getter accessor for attribute 'tableName'.
+     *
+     * @return
+     *       current value of 'tableName'
+     */
+    public String getTableName() {
+        return tableName;
+    }
+    
+    /**
+     * Getter accessor for attribute 'valueColumn'.
+     *
+     * @return
+     *       current value of 'valueColumn'
+     */
+    public String getValueColumn() {
+        return valueColumn;
+    }
+    
+    /**
+     * Getter accessor for attribute 'unitColumn'.
+     *
+     * @return
+     *       current value of 'unitColumn'
+     */
+    public String getUnitColumn() {
+        return unitColumn;
+    }
+    
+    /**
+     * Readings are a single double (location is a 3D point).
+     *
+     * @return
+     *      if the value is a double
+     */
+    public boolean isScalar() {
+        return this != LOCATION;
+    }
+    
+}
@@ -0,0 +1,221 @@
+package com.datastax.astra.model;
+
+import java.time.Instant;
+
+import com.datastax.astra.entity.LocationUdt;
+
+/**
+ * Values of all instruments read at the same time, instruments without value are ignored.
+ */
+public class InstrumentsFrame {
+    
+    /** Reading time shared by all instruments. */
+    private Instant reading_time;
+    
+    /** Temperature. */
+    private Double temperature;
+    private String temperature_unit;
+    
+    /** Pressure. */
+    private Double pressure;
+    private String pressure_unit;
+    
+    /** Speed. */
+    private Double speed;
+    private String speed_unit;
+    
+    /** Location. */
+    private LocationUdt location;
+    private String location_unit;
+
+    /**
+     * Getter accessor for attribute 'reading_time'.
+     *
+     * @return
+     *       current value of 'reading_time'
+     */
+    public Instant getReading_time() {
+        return reading_time;
+    }
+
+    /**
+     * Setter accessor for attribute 'reading_time'.
+     * @param reading_time
+     *      new value for 'reading_time '
+     */
+    public void setReading_time(Instant reading_time) {
+        this.reading_time = reading_time;
+    }
+
+    /**
+     * Getter accessor for attribute 'temperature'.
+     *
+     * @return
+     *       current value of 'temperature'
+     */
+    public Double getTemperature() {
+        return temperature;
+    }
+
+    /**
+     * Setter accessor for attribute 'temperature'.
+     * @param temperature
+     *      new value for 'temperature '
+     */
+    public void setTemperature(Double temperature) {
+        this.temperature = temperature;
+    }
+
+    /**
+     * Getter accessor for attribute 'temperature_unit'.
+     *
+     * @return
+     *       current value of 'temperature_unit'
+     */
+    public String getTemperature_unit() {
+        return temperature_unit;
+    }
+
+    /**
+     * Setter accessor for attribute 'temperature_unit'.
+     * @param temperature_unit
+     *      new value for 'temperature_unit '
+     */
+    public void setTemperature_unit(String temperature_unit) {
+        this.temperature_unit = temperature_unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'pressure'.
+     *
+     * @return
+     *       current value of 'pressure'
+     */
+    public Double getPressure() {
+        return pressure;
+    }
+
+    /**
+     * Setter accessor for attribute 'pressure'.
+     * @param pressure
+     *      new value for 'pressure '
+     */
+    public void setPressure(Double pressure) {
+        this.pressure = pressure;
+    }
+
+    /**
+     * Getter accessor for attribute 'pressure_unit'.
+     *
+     * @return
+     *       current value of 'pressure_unit'
+     */
+    public String getPressure_unit() {
+        return pressure_unit;
+    }
+
+    /**
+     * Setter accessor for attribute 'pressure_unit'.
+     * @param pressure_unit
+     *      new value for 'pressure_unit '
+     */
+    public void setPressure_unit(String pressure_unit) {
+        this.pressure_unit = pressure_unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'speed'.
+     *
+     * @return
+     *       current value of 'speed'
+     */
+    public Double getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Setter accessor for attribute 'speed'.
+     * @param speed
+     *      new value for 'speed '
+     */
+    public void setSpeed(Double speed) {
+        this.speed = speed;
+    }
+
+    /**
+     * Getter accessor for attribute 'speed_unit'.
+     *
+     * @return
+     *       current value of 'speed_unit'
+     */
+    public String getSpeed_unit() {
+        return speed_unit;
+    }
+
+    /**
+     * Setter accessor for attribute 'speed_unit'.
+     * @param speed_unit
+     *      new value for 'speed_unit '
+     */
+    public void setSpeed_unit(String speed_unit) {
+        this.speed_unit = speed_unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'location'.
+     *
+     * @return
+     *       current value of 'location'
+     */
+    public LocationUdt getLocation() {
+        return location;
+    }
+
+    /**
+     * Setter accessor for attribute 'location'.
+     * @param location
+     *      new value for 'location '
+     */
+    public void setLocation(LocationUdt location) {
+        this.location = location;
+    }
+
+    /**
+     * Getter accessor for attribute 'location_unit'.
+     *
+     * @return
+     *       current value of 'location_unit'
+     */
+    public String getLocation_unit() {
+        return location_unit;
+    }
+
+    /**
+     * Setter accessor for attribute 'location_unit'.
+     * @param location_unit
+     *      new value for 'location_unit '
+     */
+    public void setLocation_unit(String location_unit) {
+        this.location_unit = location_unit;
+    }
+
+    /**
+     * Readings carried by frames, one per instrument with a value (up to 4 per frame).
+     *
+     * @param frames
+     *      frames of a request
+     * @return
+     *      number of readings
+     */
+    public static int countReadings(InstrumentsFrame[] frames) {
+        int readings = 0;
+        for (InstrumentsFrame frame : frames) {
+            if (null != frame) {
+                readings += (null != frame.temperature ? 1 : 0) + (null != frame.pressure ? 1 : 0)
+                          + (null != frame.speed ? 1 : 0) + (null != frame.location ? 1 : 0);
+            }
+        }
+        return readings;
+    }
+    
+}
@@ -0,0 +1,110 @@
+package com.datastax.astra.model;
+
+import java.util.Objects;
+import java.util.UUID;
+
+import com.datastax.astra.entity.AbstractInstrumentReading;
+
+/**
+ * Partition key of the reading tables: (spacecraft_name, journey_id).
+ */
+public final class JourneyPartition {
+    
+    /** Partition key columns. */
+    private final String spacecraftName;
+    private final UUID   journeyId;
+    
+    /**
+     * Constructor with partition key columns.
+     *
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     */
+    public JourneyPartition(String spacecraftName, UUID journeyId) {
+        this.spacecraftName = spacecraftName;
+        this.journeyId      = journeyId;
+    }
+    
+    /**
+     * Extract partition from a reading.
+     *
+     * @param reading
+     *      current reading
+     * @return
+     *      partition of the reading
+     */
+    public static JourneyPartition of(AbstractInstrumentReading reading) {
+        return new JourneyPartition(reading.getSpacecraft_name(), reading.getJourney_id());
+    }
+
+    /**
+     * Assign a reading to this partition: missing key columns are set, other partitions are rejected.
+     *
+     * @param reading
+     *      current reading
+     * @throws IllegalArgumentException
+     *      reading of another spacecraft or journey
+     */
+    public void bind(AbstractInstrumentReading reading) {
+        if (null == reading.getSpacecraft_name()) {
+            reading.setSpacecraft_name(spacecraftName);
+        }
+        if (null == reading.getJourney_id()) {
+            reading.setJourney_id(journeyId);
+        }
+        if (!Objects.equals(spacecraftName, reading.getSpacecraft_name()) 
+                || !Objects.equals(journeyId, reading.getJourney_id())) {
+            throw new IllegalArgumentException("Reading of " + reading.getSpacecraft_name() + "/" 
+                    + reading.getJourney_id() + " posted for " + this);
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'spacecraftName'.
+     *
+     * @return
+     *       current value of 'spacecraftName'
+     */
+    public String getSpacecraftName() {
+        return spacecraftName;
+    }
+
+    /**
+     * Getter accessor for attribute 'journeyId'.
+     *
+     * @return
+     *       current value of 'journeyId'
+     */
+    public UUID getJourneyId() {
+        return journeyId;
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof JourneyPartition)) {
+            return false;
+        }
+        JourneyPartition other = (JourneyPartition) o;
+        return Objects.equals(spacecraftName, other.spacecraftName) 
+                && Objects.equals(journeyId, other.journeyId);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public int hashCode() {
+        return Objects.hash(spacecraftName, journeyId);
+    }
+    
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return spacecraftName + "/" + journeyId;
+    }
+    
+}
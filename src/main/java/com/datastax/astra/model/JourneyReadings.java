@@ -0,0 +1,87 @@
+package com.datastax.astra.model;
+
+import com.datastax.astra.entity.SpacecraftLocationOverTime;
+import com.datastax.astra.entity.SpacecraftPressureOverTime;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+
+/**
+ * A page of readings of every instrument of a journey, each one with its own page state.
+ */
+public class JourneyReadings {
+
+    /** Pages per instrument. */
+    private PagedResultWrapper<SpacecraftTemperatureOverTime> temperature;
+    private PagedResultWrapper<SpacecraftPressureOverTime>    pressure;
+    private PagedResultWrapper<SpacecraftSpeedOverTime>       speed;
+    private PagedResultWrapper<SpacecraftLocationOverTime>    location;
+
+    /**
+     * Default constructor.
+     */
+    public JourneyReadings() {}
+
+    /**
+     * Constructor with all pages.
+     *
+     * @param temperature
+     *      temperature readings
+     * @param pressure
+     *      pressure readings
+     * @param speed
+     *      speed readings
+     * @param location
+     *      location readings
+     */
+    public JourneyReadings(
+            PagedResultWrapper<SpacecraftTemperatureOverTime> temperature,
+            PagedResultWrapper<SpacecraftPressureOverTime>    pressure,
+            PagedResultWrapper<SpacecraftSpeedOverTime>       speed,
+            PagedResultWrapper<SpacecraftLocationOverTime>    location) {
+        this.temperature = temperature;
+        this.pressure    = pressure;
+        this.speed       = speed;
+        this.location    = location;
+    }
+
+    /**
+     * Getter accessor for attribute 'temperature'.
+     *
+     * @return
+     *       current value of 'temperature'
+     */
+    public PagedResultWrapper<SpacecraftTemperatureOverTime> getTemperature() {
+        return temperature;
+    }
+
+    /**
+     * Getter accessor for attribute 'pressure'.
+     *
+     * @return
+     *       current value of 'pressure'
+     */
+    public PagedResultWrapper<SpacecraftPressureOverTime> getPressure() {
+        return pressure;
+    }
+
+    /**
+     * Getter accessor for attribute 'speed'.
+     *
+     * @return
+     *       current value of 'speed'
+     */
+    public PagedResultWrapper<SpacecraftSpeedOverTime> getSpeed() {
+        return speed;
+    }
+
+    /**
+     * Getter accessor for attribute 'location'.
+     *
+     * @return
+     *       current value of 'location'
+     */
+    public PagedResultWrapper<SpacecraftLocationOverTime> getLocation() {
+        return location;
+    }
+
+}
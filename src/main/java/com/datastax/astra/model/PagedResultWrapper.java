@@ -1,11 +1,9 @@
 package com.datastax.astra.model;
 
-import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.IntStream;
 
 import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
@@ -43,25 +41,32 @@ public class PagedResultWrapper < ENTITY > {
     public PagedResultWrapper(PagingIterable<ENTITY> rs, int pageSize) {
         if (null != rs) {
             Iterator<ENTITY> iterResults = rs.iterator();
-            IntStream.range(0, rs.getAvailableWithoutFetching())
-                     .forEach(item -> data.add(iterResults.next()));
-            if (null != rs.getExecutionInfo().getPagingState()) {
-                ByteBuffer pagingState = rs.getExecutionInfo().getPagingState();
-                if (pagingState != null && pagingState.hasArray()) {
-                    pageState = Optional.ofNullable(Bytes.toHexString(pagingState));
-                }
+            int available = rs.getAvailableWithoutFetching();
+            data = new ArrayList<>(available);
+            for (int item = 0; item < available; item++) {
+                data.add(iterResults.next());
             }
+            // Direct buffers are encoded as well (no backing array)
+            pageState = Optional.ofNullable(Bytes.toHexString(rs.getExecutionInfo().getPagingState()));
             this.pageSize = pageSize;
         }
     }
     
+    /**
+     * Constructor for a single page computed on the server (no paging state).
+     *
+     * @param data
+     *      all results
+     */
+    public PagedResultWrapper(List<ENTITY> data) {
+        this.data     = data;
+        this.pageSize = data.size();
+    }
+
     public PagedResultWrapper(MappedAsyncPagingIterable<ENTITY> rs, int pageSize) {
         if (null != rs) {
            rs.currentPage().forEach(data::add);
-           ByteBuffer pagingState = rs.getExecutionInfo().getPagingState();
-           if (pagingState != null && pagingState.hasArray()) {
-               pageState = Optional.ofNullable(Bytes.toHexString(pagingState));
-           }
+           pageState = Optional.ofNullable(Bytes.toHexString(rs.getExecutionInfo().getPagingState()));
            this.pageSize = pageSize;
         }
     }
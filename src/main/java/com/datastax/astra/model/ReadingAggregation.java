@@ -0,0 +1,103 @@
+package com.datastax.astra.model;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Readings of a journey aggregated by time buckets, latest bucket first.
+ */
+public class ReadingAggregation {
+
+    /** Instrument key. */
+    private String instrument;
+
+    /** Unit of the values (first reading). */
+    private String unit;
+
+    /** Duration of a bucket. */
+    private long bucketSeconds;
+
+    /** Readings read to build the buckets. */
+    private long readings;
+
+    /** Non empty buckets. */
+    private List<ReadingBucket> buckets = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public ReadingAggregation() {}
+
+    /**
+     * Constructor with all values.
+     *
+     * @param instrument
+     *      instrument key
+     * @param unit
+     *      unit of values
+     * @param bucketSeconds
+     *      duration of a bucket
+     * @param readings
+     *      readings aggregated
+     * @param buckets
+     *      non empty buckets
+     */
+    public ReadingAggregation(String instrument, String unit, long bucketSeconds, long readings, List<ReadingBucket> buckets) {
+        this.instrument    = instrument;
+        this.unit          = unit;
+        this.bucketSeconds = bucketSeconds;
+        this.readings      = readings;
+        this.buckets       = buckets;
+    }
+
+    /**
+     * Getter accessor for attribute 'instrument'.
+     *
+     * @return
+     *       current value of 'instrument'
+     */
+    public String getInstrument() {
+        return instrument;
+    }
+
+    /**
+     * Getter accessor for attribute 'unit'.
+     *
+     * @return
+     *       current value of 'unit'
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'bucketSeconds'.
+     *
+     * @return
+     *       current value of 'bucketSeconds'
+     */
+    public long getBucketSeconds() {
+        return bucketSeconds;
+    }
+
+    /**
+     * Getter accessor for attribute 'readings'.
+     *
+     * @return
+     *       current value of 'readings'
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    /**
+     * Getter accessor for attribute 'buckets'.
+     *
+     * @return
+     *       current value of 'buckets'
+     */
+    public List<ReadingBucket> getBuckets() {
+        return buckets;
+    }
+
+}
@@ -0,0 +1,110 @@
+package com.datastax.astra.model;
+
+import java.time.Instant;
+
+/**
+ * Aggregated readings of a time bucket [start, end).
+ */
+public class ReadingBucket {
+
+    /** Bounds of the bucket. */
+    private Instant start;
+    private Instant end;
+
+    /** Aggregates. */
+    private long   count;
+    private double min;
+    private double max;
+    private double avg;
+
+    /**
+     * Default constructor.
+     */
+    public ReadingBucket() {}
+
+    /**
+     * Constructor with all values.
+     *
+     * @param start
+     *      bucket start (inclusive)
+     * @param end
+     *      bucket end (exclusive)
+     * @param count
+     *      number of readings
+     * @param min
+     *      lowest value
+     * @param max
+     *      highest value
+     * @param avg
+     *      mean value
+     */
+    public ReadingBucket(Instant start, Instant end, long count, double min, double max, double avg) {
+        this.start = start;
+        this.end   = end;
+        this.count = count;
+        this.min   = min;
+        this.max   = max;
+        this.avg   = avg;
+    }
+
+    /**
+     * Getter accessor for attribute 'start'.
+     *
+     * @return
+     *       current value of 'start'
+     */
+    public Instant getStart() {
+        return start;
+    }
+
+    /**
+     * Getter accessor for attribute 'end'.
+     *
+     * @return
+     *       current value of 'end'
+     */
+    public Instant getEnd() {
+        return end;
+    }
+
+    /**
+     * Getter accessor for attribute 'count'.
+     *
+     * @return
+     *       current value of 'count'
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter accessor for attribute 'min'.
+     *
+     * @return
+     *       current value of 'min'
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Getter accessor for attribute 'max'.
+     *
+     * @return
+     *       current value of 'max'
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Getter accessor for attribute 'avg'.
+     *
+     * @return
+     *       current value of 'avg'
+     */
+    public double getAvg() {
+        return avg;
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.datastax.astra.model;
+
+import java.time.Instant;
+import java.util.Optional;
+
+/**
+ * Window of readings in a partition: reading_time in [from, to), at most 'limit' readings (latest first).
+ */
+public final class ReadingRange {
+
+    /** Whole partition. */
+    public static final ReadingRange ALL = new ReadingRange(null, null, null);
+
+    /** Bounds, null when not set. */
+    private final Instant from;
+    private final Instant to;
+    private final Integer limit;
+
+    /**
+     * Constructor.
+     *
+     * @param from
+     *      lower bound (inclusive), null for none
+     * @param to
+     *      upper bound (exclusive), null for none
+     * @param limit
+     *      maximum number of readings, null for none
+     */
+    public ReadingRange(Instant from, Instant to, Integer limit) {
+        if (null != from && null != to && !from.isBefore(to)) {
+            throw new IllegalArgumentException("Invalid range, 'from' (" + from + ") must be before 'to' (" + to + ")");
+        }
+        if (null != limit && limit < 1) {
+            throw new IllegalArgumentException("Invalid limit " + limit + ", expecting a positive value");
+        }
+        this.from  = from;
+        this.to    = to;
+        this.limit = limit;
+    }
+
+    /**
+     * Build from optional request parameters.
+     *
+     * @param from
+     *      lower bound (inclusive)
+     * @param to
+     *      upper bound (exclusive)
+     * @param limit
+     *      maximum number of readings
+     * @return
+     *      range
+     */
+    public static ReadingRange of(Optional<Instant> from, Optional<Instant> to, Optional<Integer> limit) {
+        if (!from.isPresent() && !to.isPresent() && !limit.isPresent()) {
+            return ALL;
+        }
+        return new ReadingRange(from.orElse(null), to.orElse(null), limit.orElse(null));
+    }
+
+    /**
+     * Identify statements with the same predicates, values are not part of it.
+     *
+     * @return
+     *      shape of the query (from, to, limit)
+     */
+    public String shape() {
+        return (null != from ? "F" : "-") + (null != to ? "T" : "-") + (null != limit ? "L" : "-");
+    }
+
+    /**
+     * Getter accessor for attribute 'from'.
+     *
+     * @return
+     *       current value of 'from'
+     */
+    public Instant getFrom() {
+        return from;
+    }
+
+    /**
+     * Getter accessor for attribute 'to'.
+     *
+     * @return
+     *       current value of 'to'
+     */
+    public Instant getTo() {
+        return to;
+    }
+
+    /**
+     * Getter accessor for attribute 'limit'.
+     *
+     * @return
+     *       current value of 'limit'
+     */
+    public Integer getLimit() {
+        return limit;
+    }
+
+}
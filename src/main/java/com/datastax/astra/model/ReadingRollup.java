@@ -0,0 +1,150 @@
+package com.datastax.astra.model;
+
+import java.util.UUID;
+
+/**
+ * Partial aggregate of the readings of a partition and instrument in a rollup bucket.
+ */
+public final class ReadingRollup {
+
+    /** Partition and instrument. */
+    private final String     spacecraftName;
+    private final UUID       journeyId;
+    private final Instrument instrument;
+    private final String     unit;
+
+    /** Start of the bucket in epoch millis. */
+    private final long bucketStart;
+
+    /** Aggregated values. */
+    private final long   count;
+    private final double min;
+    private final double max;
+    private final double sum;
+
+    /**
+     * Constructor with all values.
+     *
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param instrument
+     *      scalar instrument
+     * @param unit
+     *      unit of the values
+     * @param bucketStart
+     *      start of the bucket in epoch millis
+     * @param count
+     *      number of readings
+     * @param min
+     *      minimum value
+     * @param max
+     *      maximum value
+     * @param sum
+     *      sum of the values
+     */
+    public ReadingRollup(String spacecraftName, UUID journeyId, Instrument instrument, String unit,
+            long bucketStart, long count, double min, double max, double sum) {
+        this.spacecraftName = spacecraftName;
+        this.journeyId      = journeyId;
+        this.instrument     = instrument;
+        this.unit           = unit;
+        this.bucketStart    = bucketStart;
+        this.count          = count;
+        this.min            = min;
+        this.max            = max;
+        this.sum            = sum;
+    }
+
+    /**
+     * Getter accessor for attribute 'spacecraftName'.
+     *
+     * @return
+     *       current value of 'spacecraftName'
+     */
+    public String getSpacecraftName() {
+        return spacecraftName;
+    }
+
+    /**
+     * Getter accessor for attribute 'journeyId'.
+     *
+     * @return
+     *       current value of 'journeyId'
+     */
+    public UUID getJourneyId() {
+        return journeyId;
+    }
+
+    /**
+     * Getter accessor for attribute 'instrument'.
+     *
+     * @return
+     *       current value of 'instrument'
+     */
+    public Instrument getInstrument() {
+        return instrument;
+    }
+
+    /**
+     * Getter accessor for attribute 'unit'.
+     *
+     * @return
+     *       current value of 'unit'
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'bucketStart'.
+     *
+     * @return
+     *       current value of 'bucketStart'
+     */
+    public long getBucketStart() {
+        return bucketStart;
+    }
+
+    /**
+     * Getter accessor for attribute 'count'.
+     *
+     * @return
+     *       current value of 'count'
+     */
+    public long getCount() {
+        return count;
+    }
+
+    /**
+     * Getter accessor for attribute 'min'.
+     *
+     * @return
+     *       current value of 'min'
+     */
+    public double getMin() {
+        return min;
+    }
+
+    /**
+     * Getter accessor for attribute 'max'.
+     *
+     * @return
+     *       current value of 'max'
+     */
+    public double getMax() {
+        return max;
+    }
+
+    /**
+     * Getter accessor for attribute 'sum'.
+     *
+     * @return
+     *       current value of 'sum'
+     */
+    public double getSum() {
+        return sum;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.datastax.astra.model;
+
+import java.util.Arrays;
+
+/**
+ * Scalar readings of a partition as primitive arrays (reading time in epoch millis, value), in reading order.
+ */
+public class ReadingSeries {
+
+    /** Unit of the values (first reading). */
+    private String unit;
+
+    /** Readings, only the first 'size' items are set. */
+    private long[]   readingTimes;
+    private double[] values;
+    private int      size;
+
+    /**
+     * Constructor with initial capacity.
+     *
+     * @param capacity
+     *      expected number of readings
+     */
+    public ReadingSeries(int capacity) {
+        this.readingTimes = new long[Math.max(16, capacity)];
+        this.values       = new double[readingTimes.length];
+    }
+
+    /**
+     * Add a reading, arrays grow as needed.
+     *
+     * @param epochMillis
+     *      reading time
+     * @param value
+     *      reading value
+     */
+    public void add(long epochMillis, double value) {
+        if (size == readingTimes.length) {
+            int capacity = readingTimes.length + (readingTimes.length >> 1);
+            readingTimes = Arrays.copyOf(readingTimes, capacity);
+            values       = Arrays.copyOf(values, capacity);
+        }
+        readingTimes[size] = epochMillis;
+        values[size]       = value;
+        size++;
+    }
+
+    /**
+     * Keep only some readings.
+     *
+     * @param indices
+     *      indices to keep, in order
+     * @return
+     *      new series
+     */
+    public ReadingSeries select(int[] indices) {
+        ReadingSeries selected = new ReadingSeries(indices.length);
+        selected.setUnit(unit);
+        for (int index : indices) {
+            selected.add(readingTimes[index], values[index]);
+        }
+        return selected;
+    }
+
+    /**
+     * Getter accessor for attribute 'size'.
+     *
+     * @return
+     *       number of readings
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Reading time of a reading.
+     *
+     * @param index
+     *      reading index
+     * @return
+     *      epoch millis
+     */
+    public long getReadingTime(int index) {
+        return readingTimes[index];
+    }
+
+    /**
+     * Value of a reading.
+     *
+     * @param index
+     *      reading index
+     * @return
+     *      value
+     */
+    public double getValue(int index) {
+        return values[index];
+    }
+
+    /**
+     * Getter accessor for attribute 'unit'.
+     *
+     * @return
+     *       current value of 'unit'
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Setter accessor for attribute 'unit'.
+     * @param unit
+     *      new value for 'unit '
+     */
+    public void setUnit(String unit) {
+        this.unit = unit;
+    }
+
+}
@@ -0,0 +1,246 @@
+package com.datastax.astra.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import com.datastax.astra.entity.AbstractInstrumentReading;
+import com.datastax.astra.entity.LocationUdt;
+import com.datastax.astra.entity.SpacecraftLocationOverTime;
+import com.datastax.astra.entity.SpacecraftPressureOverTime;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+
+/**
+ * Readings of one instrument for one journey held in primitive arrays (no object per reading).
+ * 
+ * Values are packed with a stride of 1 for scalar instruments (temperature, pressure, speed) 
+ * and 3 for location (x, y, z).
+ */
+public class ReadingsFrame {
+    
+    /** Header. */
+    private final Instrument instrument;
+    private final String     spacecraftName;
+    private final UUID       journeyId;
+    private final String     unit;
+    
+    /** Reading times as epoch millis. */
+    private final long[] readingTimes;
+    
+    /** Packed values. */
+    private final double[] values;
+    
+    /**
+     * Constructor.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param unit
+     *      unit of the values
+     * @param readingTimes
+     *      reading times as epoch millis
+     * @param values
+     *      packed values, stride is {@link #stride(Instrument)}
+     */
+    public ReadingsFrame(Instrument instrument, String spacecraftName, UUID journeyId, String unit, 
+            long[] readingTimes, double[] values) {
+        if (values.length != readingTimes.length * stride(instrument)) {
+            throw new IllegalArgumentException("Expecting " + stride(instrument) 
+                    + " value(s) per reading for " + instrument.key());
+        }
+        this.instrument     = instrument;
+        this.spacecraftName = spacecraftName;
+        this.journeyId      = journeyId;
+        this.unit           = unit;
+        this.readingTimes   = readingTimes;
+        this.values         = values;
+    }
+    
+    /**
+     * Number of values per reading.
+     *
+     * @param instrument
+     *      current instrument
+     * @return
+     *      3 for location, 1 otherwise
+     */
+    public static int stride(Instrument instrument) {
+        return Instrument.LOCATION == instrument ? 3 : 1;
+    }
+    
+    /**
+     * Pack entity readings into frames, one frame per partition and unit.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param readings
+     *      readings of the instrument
+     * @return
+     *      frames in order of first appearance
+     * @throws IllegalArgumentException
+     *      a reading has no reading_time or no value
+     */
+    public static List<ReadingsFrame> fromReadings(Instrument instrument, AbstractInstrumentReading[] readings) {
+        validate(instrument, readings);
+        Map<List<Object>, List<AbstractInstrumentReading>> groups = new LinkedHashMap<>();
+        for (AbstractInstrumentReading read : readings) {
+            groups.computeIfAbsent(Arrays.asList(read.getSpacecraft_name(), read.getJourney_id(), 
+                    unitOf(instrument, read)), key -> new ArrayList<>()).add(read);
+        }
+        int stride = stride(instrument);
+        List<ReadingsFrame> frames = new ArrayList<>(groups.size());
+        groups.forEach((key, group) -> {
+            long[] times    = new long[group.size()];
+            double[] values = new double[group.size() * stride];
+            for (int i = 0; i < times.length; i++) {
+                AbstractInstrumentReading read = group.get(i);
+                times[i] = read.getReading_time().toEpochMilli();
+                switch(instrument) {
+                    case TEMPERATURE:
+                        values[i] = ((SpacecraftTemperatureOverTime) read).getTemperature();
+                    break;
+                    case PRESSURE:
+                        values[i] = ((SpacecraftPressureOverTime) read).getPressure();
+                    break;
+                    case SPEED:
+                        values[i] = ((SpacecraftSpeedOverTime) read).getSpeed();
+                    break;
+                    case LOCATION:
+                        LocationUdt location = ((SpacecraftLocationOverTime) read).getLocation();
+                        values[3 * i]     = location.getX_coordinate();
+                        values[3 * i + 1] = location.getY_coordinate();
+                        values[3 * i + 2] = location.getZ_coordinate();
+                    break;
+                }
+            }
+            frames.add(new ReadingsFrame(instrument, (String) key.get(0), (UUID) key.get(1), (String) key.get(2), times, values));
+        });
+        return frames;
+    }
+    
+    /**
+     * Check readings can be written, whatever the path they take.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param readings
+     *      readings of the instrument
+     * @throws IllegalArgumentException
+     *      a reading has no reading_time or no value
+     */
+    public static void validate(Instrument instrument, AbstractInstrumentReading[] readings) {
+        for (AbstractInstrumentReading read : readings) {
+            if (null == read.getReading_time()) {
+                throw new IllegalArgumentException("Reading reading_time is required");
+            }
+            if (!hasValue(instrument, read)) {
+                throw new IllegalArgumentException("Reading " + instrument.key() + " value is required");
+            }
+        }
+    }
+    
+    private static boolean hasValue(Instrument instrument, AbstractInstrumentReading read) {
+        switch(instrument) {
+            case TEMPERATURE:
+                return null != ((SpacecraftTemperatureOverTime) read).getTemperature();
+            case PRESSURE:
+                return null != ((SpacecraftPressureOverTime) read).getPressure();
+            case SPEED:
+                return null != ((SpacecraftSpeedOverTime) read).getSpeed();
+            default:
+                return null != ((SpacecraftLocationOverTime) read).getLocation();
+        }
+    }
+    
+    private static String unitOf(Instrument instrument, AbstractInstrumentReading read) {
+        switch(instrument) {
+            case TEMPERATURE:
+                return ((SpacecraftTemperatureOverTime) read).getTemperature_unit();
+            case PRESSURE:
+                return ((SpacecraftPressureOverTime) read).getPressure_unit();
+            case SPEED:
+                return ((SpacecraftSpeedOverTime) read).getSpeed_unit();
+            default:
+                return ((SpacecraftLocationOverTime) read).getLocation_unit();
+        }
+    }
+    
+    /**
+     * Number of readings.
+     *
+     * @return
+     *      number of readings
+     */
+    public int size() {
+        return readingTimes.length;
+    }
+
+    /**
+     * Getter accessor for attribute 'instrument'.
+     *
+     * @return
+     *       current value of 'instrument'
+     */
+    public Instrument getInstrument() {
+        return instrument;
+    }
+
+    /**
+     * Getter accessor for attribute 'spacecraftName'.
+     *
+     * @return
+     *       current value of 'spacecraftName'
+     */
+    public String getSpacecraftName() {
+        return spacecraftName;
+    }
+
+    /**
+     * Getter accessor for attribute 'journeyId'.
+     *
+     * @return
+     *       current value of 'journeyId'
+     */
+    public UUID getJourneyId() {
+        return journeyId;
+    }
+
+    /**
+     * Getter accessor for attribute 'unit'.
+     *
+     * @return
+     *       current value of 'unit'
+     */
+    public String getUnit() {
+        return unit;
+    }
+
+    /**
+     * Getter accessor for attribute 'readingTimes'.
+     *
+     * @return
+     *       current value of 'readingTimes'
+     */
+    public long[] getReadingTimes() {
+        return readingTimes;
+    }
+
+    /**
+     * Getter accessor for attribute 'values'.
+     *
+     * @return
+     *       current value of 'values'
+     */
+    public double[] getValues() {
+        return values;
+    }
+    
+}
@@ -0,0 +1,97 @@
+package com.datastax.astra.model;
+
+import java.util.Optional;
+
+/**
+ * Resolutions of the rollup tables, coarsest last.
+ */
+public enum RollupResolution {
+
+    MINUTE("spacecraft_rollup_by_minute", 60),
+    HOUR("spacecraft_rollup_by_hour", 3600);
+
+    /** Columns of the rollup tables. */
+    public static final String COLUMN_INSTRUMENT    = "instrument";
+    public static final String COLUMN_BUCKET_START  = "bucket_start";
+    public static final String COLUMN_FLUSH_ID      = "flush_id";
+    public static final String COLUMN_READING_COUNT = "reading_count";
+    public static final String COLUMN_MIN_VALUE     = "min_value";
+    public static final String COLUMN_MAX_VALUE     = "max_value";
+    public static final String COLUMN_SUM_VALUE     = "sum_value";
+    public static final String COLUMN_UNIT          = "unit";
+
+    /** Rollup table. */
+    private final String tableName;
+
+    /** Duration of a bucket. */
+    private final long seconds;
+
+    private RollupResolution(String tableName, long seconds) {
+        this.tableName = tableName;
+        this.seconds   = seconds;
+    }
+
+    /**
+     * Coarsest resolution buckets of the expected duration can be built from.
+     *
+     * @param bucketSeconds
+     *      duration of the expected buckets
+     * @return
+     *      resolution dividing the duration, empty when raw readings are needed
+     */
+    public static Optional<RollupResolution> forBucket(long bucketSeconds) {
+        RollupResolution[] resolutions = values();
+        for (int i = resolutions.length - 1; i >= 0; i--) {
+            if (bucketSeconds % resolutions[i].seconds == 0) {
+                return Optional.of(resolutions[i]);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Start of the bucket of a reading.
+     *
+     * @param epochMillis
+     *      reading time
+     * @return
+     *      bucket start in epoch millis
+     */
+    public long bucketStart(long epochMillis) {
+        long millis = seconds * 1000;
+        return Math.floorDiv(epochMillis, millis) * millis;
+    }
+
+    /**
+     * Tell if an instant is on a bucket boundary.
+     *
+     * @param epochMillis
+     *      instant
+     * @return
+     *      true when buckets do not cross it
+     */
+    public boolean isAligned(long epochMillis) {
+        return bucketStart(epochMillis) == epochMillis;
+    }
+
+    /**
+     * Getter accessor for attribute 'tableName'.
+     *
+     * @return
+     *       current value of 'tableName'
+     */
+    public String getTableName() {
+        return tableName;
+    }
+
+    /**
+     * Getter accessor for attribute 'seconds'.
+     *
+     * @return
+     *       current value of 'seconds'
+     */
+    public long getSeconds() {
+        return seconds;
+    }
+
+}
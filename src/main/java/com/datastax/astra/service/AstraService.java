@@ -1,10 +1,30 @@
 package com.datastax.astra.service;
 
+import java.io.IOException;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 import javax.annotation.PreDestroy;
 
@@ -12,19 +32,48 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import com.datastax.astra.config.IngestProperties;
+import com.datastax.astra.config.IngestProperties.BatchSettings;
+import com.datastax.astra.config.IngestProperties.CoalescingSettings;
+import com.datastax.astra.config.IngestProperties.LanesSettings;
+import com.datastax.astra.config.IngestProperties.RollupSettings;
+import com.datastax.astra.config.IngestProperties.WalSettings;
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.config.ReadProperties.CacheSettings;
+import com.datastax.astra.config.ReadProperties.CatalogScanSettings;
+import com.datastax.astra.config.ReadProperties.HotTailSettings;
+import com.datastax.astra.dao.BatchSizer;
+import com.datastax.astra.dao.BatchStrategy;
 import com.datastax.astra.dao.SessionManager;
 import com.datastax.astra.dao.SpacecraftInstrumentsDao;
 import com.datastax.astra.dao.SpacecraftJourneyDao;
 import com.datastax.astra.dao.SpacecraftMapper;
 import com.datastax.astra.dao.SpacecraftMapperBuilder;
+import com.datastax.astra.entity.AbstractInstrumentReading;
 import com.datastax.astra.entity.SpacecraftJourneyCatalog;
 import com.datastax.astra.entity.SpacecraftLocationOverTime;
 import com.datastax.astra.entity.SpacecraftPressureOverTime;
 import com.datastax.astra.entity.SpacecraftSpeedOverTime;
 import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.InstrumentsFrame;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.JourneyReadings;
 import com.datastax.astra.model.PagedResultWrapper;
+import com.datastax.astra.model.ReadingAggregation;
+import com.datastax.astra.model.ReadingBucket;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.model.ReadingRollup;
+import com.datastax.astra.model.ReadingSeries;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.astra.model.RollupResolution;
+import com.datastax.astra.utils.LttbDownsampler;
+import com.datastax.astra.wal.WriteAheadLog;
 import com.datastax.oss.driver.api.core.CqlSession;
+import com.datastax.oss.driver.api.core.MappedAsyncPagingIterable;
 import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.api.core.cql.Row;
 import com.datastax.oss.driver.api.core.uuid.Uuids;
 
 /**
@@ -36,17 +85,223 @@ public class AstraService {
 
     /** Logger for the class. */
     private static final Logger LOGGER = LoggerFactory.getLogger(AstraService.class);
+    
+    /** Rows fetched per page when a partition is read on the server (aggregations). */
+    private static final int SCAN_PAGE_SIZE = 5000;
+    
+    /** Buckets returned by an aggregation. */
+    private static final int MAX_BUCKETS = 10000;
+    
+    /** Readings held in memory to downsample a series. */
+    private static final int MAX_SERIES_READINGS = 2_000_000;
    
     /** Driver Daos. */
     private SpacecraftJourneyDao     spacecraftJourneyDao;
     private SpacecraftInstrumentsDao spacecraftInstrumentsDao;
     
+    /** Ingestion settings. */
+    private final IngestProperties ingestProperties;
+    
+    /** Ingestion metrics. */
+    private final IngestMetrics ingestMetrics;
+    
+    /** Split of UNLOGGED batches per instrument, byte budget tuned from Astra feedback. */
+    private final Map<Instrument, BatchSizer> batchSizers = new EnumMap<>(Instrument.class);
+    
+    /** Batch strategy per instrument. */
+    private final Map<Instrument, BatchStrategy> batchStrategies = new EnumMap<>(Instrument.class);
+    
+    /** Bound the readings being written. */
+    private final InFlightLimiter inFlightLimiter;
+    
+    /** Buffers of readings across requests, null when coalescing is disabled. */
+    private ScheduledExecutorService flushScheduler;
+    private WriteCoalescer<SpacecraftTemperatureOverTime> temperatureCoalescer;
+    private WriteCoalescer<SpacecraftPressureOverTime>    pressureCoalescer;
+    private WriteCoalescer<SpacecraftSpeedOverTime>       speedCoalescer;
+    private WriteCoalescer<SpacecraftLocationOverTime>    locationCoalescer;
+    
+    /** Single-threaded writer lanes per partition, null when disabled. */
+    private WriterLanes<SpacecraftTemperatureOverTime> temperatureLanes;
+    private WriterLanes<SpacecraftPressureOverTime>    pressureLanes;
+    private WriterLanes<SpacecraftSpeedOverTime>       speedLanes;
+    private WriterLanes<SpacecraftLocationOverTime>    locationLanes;
+    
+    /** Local write-ahead log, null when disabled. */
+    private WriteAheadLog wal;
+    
+    /** Journey catalog, journeys per spacecraft, null when disabled. */
+    private ExecutorService catalogRefresher;
+    private ReadThroughCache<String, List<SpacecraftJourneyCatalog>> spacecraftJourneysCache;
+    
+    /** Minute and hour rollups of written readings, null when disabled. */
+    private ScheduledExecutorService rollupScheduler;
+    private RollupAccumulator rollups;
+    
+    /** Parallel scan of the journey catalog. */
+    private final CatalogScanSettings catalogScan;
+    
+    /** Live subscribers of written readings. */
+    private final ReadingHub readingHub;
+    
+    /** Pages of sealed journeys, invalidated by writes. */
+    private final ReadingPageCache pageCache;
+    
+    /** Latest written readings per partition and instrument, null when disabled. */
+    private ScheduledExecutorService tailEvicter;
+    private HotTail hotTail;
+    
     /**
-     * Find all spacecrafts in the catalog.
+     * Constructor.
+     *
+     * @param ingestProperties
+     *      ingestion settings
+     * @param ingestMetrics
+     *      ingestion metrics
+     * @param readProperties
+     *      read path settings
+     * @param readingHub
+     *      live subscribers of written readings
+     * @param pageCache
+     *      pages of sealed journeys
      */
-    public List< SpacecraftJourneyCatalog > findAllSpacecrafts() {
-        // no paging we don't expect more than 5k journeys
-        return getSpaceCraftJourneyDao().findAll().all(); 
+    public AstraService(IngestProperties ingestProperties, IngestMetrics ingestMetrics, 
+            ReadProperties readProperties, ReadingHub readingHub, ReadingPageCache pageCache) {
+        this.ingestProperties = ingestProperties;
+        this.ingestMetrics    = ingestMetrics;
+        this.readingHub       = readingHub;
+        this.pageCache        = pageCache;
+        this.catalogScan      = readProperties.getCatalogScan();
+        if (catalogScan.getSplits() < 1) {
+            throw new IllegalArgumentException("Invalid 'astra.read.catalog-scan.splits' " 
+                    + catalogScan.getSplits() + ", expecting a positive value");
+        }
+        this.inFlightLimiter  = new InFlightLimiter(
+                ingestProperties.getMaxInFlightReadings(), 
+                ingestProperties.getAcquireTimeoutMillis());
+        ingestMetrics.bindGauge("inFlightReadings", inFlightLimiter::getInFlight);
+        for (Instrument instrument : Instrument.values()) {
+            BatchSettings batching = ingestProperties.getBatching(instrument);
+            BatchSizer sizer = new BatchSizer(batching.getMaxBatchSize(), 
+                    batching.getMinBatchBytes(), batching.getMaxBatchBytes(), batching.getTargetLatencyMillis());
+            batchSizers.put(instrument, sizer);
+            batchStrategies.put(instrument, batching.getStrategy());
+            ingestMetrics.bindGauge(instrument, "batchBudgetBytes", sizer::getBudgetBytes);
+            ingestMetrics.bindGauge(instrument, "batchBytes", () -> sizer.getBatchBytes().snapshot());
+            ingestMetrics.bindGauge(instrument, "batchStatements", () -> sizer.getBatchStatements().snapshot());
+        }
+        CoalescingSettings coalescing = ingestProperties.getCoalescing();
+        if (coalescing.isEnabled()) {
+            flushScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread flusher = new Thread(runnable, "astra-ingest-flush");
+                flusher.setDaemon(true);
+                return flusher;
+            });
+            int  maxRows  = coalescing.getMaxRows();
+            long maxDelay = coalescing.getMaxDelayMillis();
+            temperatureCoalescer = new WriteCoalescer<>(Instrument.TEMPERATURE, this::writeTemperatureReadings, 
+                    SpacecraftTemperatureOverTime[]::new, maxRows, maxDelay, flushScheduler, ingestMetrics);
+            pressureCoalescer = new WriteCoalescer<>(Instrument.PRESSURE, this::writePressureReadings, 
+                    SpacecraftPressureOverTime[]::new, maxRows, maxDelay, flushScheduler, ingestMetrics);
+            speedCoalescer = new WriteCoalescer<>(Instrument.SPEED, this::writeSpeedReadings, 
+                    SpacecraftSpeedOverTime[]::new, maxRows, maxDelay, flushScheduler, ingestMetrics);
+            locationCoalescer = new WriteCoalescer<>(Instrument.LOCATION, this::writeLocationReadings, 
+                    SpacecraftLocationOverTime[]::new, maxRows, maxDelay, flushScheduler, ingestMetrics);
+            LOGGER.info("Coalescing of readings enabled ({} rows or {} millis)", maxRows, maxDelay);
+        }
+        LanesSettings lanes = ingestProperties.getLanes();
+        if (lanes.isEnabled()) {
+            temperatureLanes = new WriterLanes<>(Instrument.TEMPERATURE, this::writeTemperatureReadings,
+                    SpacecraftTemperatureOverTime[]::new, lanes.getLanes(), lanes.getMaxRows(), lanes.getQueueCapacity(), ingestMetrics);
+            pressureLanes = new WriterLanes<>(Instrument.PRESSURE, this::writePressureReadings,
+                    SpacecraftPressureOverTime[]::new, lanes.getLanes(), lanes.getMaxRows(), lanes.getQueueCapacity(), ingestMetrics);
+            speedLanes = new WriterLanes<>(Instrument.SPEED, this::writeSpeedReadings,
+                    SpacecraftSpeedOverTime[]::new, lanes.getLanes(), lanes.getMaxRows(), lanes.getQueueCapacity(), ingestMetrics);
+            locationLanes = new WriterLanes<>(Instrument.LOCATION, this::writeLocationReadings,
+                    SpacecraftLocationOverTime[]::new, lanes.getLanes(), lanes.getMaxRows(), lanes.getQueueCapacity(), ingestMetrics);
+            ingestMetrics.bindGauge("laneQueuedRequests", () -> temperatureLanes.getQueued() 
+                    + pressureLanes.getQueued() + speedLanes.getQueued() + locationLanes.getQueued());
+            LOGGER.info("Writer lanes enabled ({} lane(s) per instrument, {} rows)", lanes.getLanes(), lanes.getMaxRows());
+        }
+        WalSettings walSettings = ingestProperties.getWal();
+        if (walSettings.isEnabled()) {
+            try {
+                wal = new WriteAheadLog(Paths.get(walSettings.getDirectory()),
+                        walSettings.getSegmentSizeBytes(), walSettings.getMaxSegments(),
+                        walSettings.getMaxRecycledSegments(), walSettings.isForceOnAppend(),
+                        walSettings.getDrainBatchSize(), walSettings.getDrainIdleMillis(),
+                        walSettings.getRetryDelayMillis(), walSettings.getMaxReplayAttempts(), this::writeReadingsFrame);
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot open write-ahead log in " + walSettings.getDirectory(), e);
+            }
+            ingestMetrics.bindGauge("walPendingRecords", wal::getPendingRecords);
+            ingestMetrics.bindGauge("walSegments", wal::getSegmentCount);
+            ingestMetrics.bindGauge("walDeadLetterRecords", wal::getDeadLetterRecords);
+            wal.start();
+        }
+        RollupSettings rollupSettings = ingestProperties.getRollups();
+        if (rollupSettings.isEnabled()) {
+            long interval = rollupSettings.getFlushIntervalMillis();
+            rollups = new RollupAccumulator(this::aggregateBucket, (resolution, rows) -> 
+                    getSpaceCraftInstrumentsDao().insertRollupsAsync(resolution, RollupAccumulator.BUCKET_ROW_ID, rows), 
+                    interval);
+            rollupScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread flusher = new Thread(runnable, "astra-rollup-flush");
+                flusher.setDaemon(true);
+                return flusher;
+            });
+            rollupScheduler.scheduleWithFixedDelay(rollups::flush, interval, interval, TimeUnit.MILLISECONDS);
+            ingestMetrics.bindGauge("rollupPartitions", rollups::getPartitions);
+            ingestMetrics.bindGauge("rollupFailedMinutes", rollups::getFailedMinutes);
+            LOGGER.info("Rollups enabled (flushed every {} millis)", interval);
+        }
+        CacheSettings catalogCache = readProperties.getCatalogCache();
+        if (catalogCache.isEnabled()) {
+            catalogRefresher = Executors.newSingleThreadExecutor(runnable -> {
+                Thread refresher = new Thread(runnable, "astra-catalog-refresh");
+                refresher.setDaemon(true);
+                return refresher;
+            });
+            spacecraftJourneysCache = new ReadThroughCache<>("spacecraftJourneys", 
+                    name -> Collections.unmodifiableList(getSpaceCraftJourneyDao().findAllJourneysForSpacecraft(name).all()), 
+                    catalogCache.getMaxEntries(), catalogCache.getTtlMillis(), catalogCache.getRefreshAheadMillis(), catalogRefresher);
+            LOGGER.info("Journey catalog cache enabled ({} spacecraft(s), ttl {} millis)", 
+                    catalogCache.getMaxEntries(), catalogCache.getTtlMillis());
+        }
+        if (pageCache.isEnabled() && null == spacecraftJourneysCache) {
+            LOGGER.warn("Page cache enabled without the journey catalog cache, no page will be cached");
+        }
+        HotTailSettings hotTailSettings = readProperties.getHotTail();
+        if (hotTailSettings.isEnabled()) {
+            long interval = hotTailSettings.getEvictIntervalMillis();
+            hotTail = new HotTail(hotTailSettings.getCapacity(), hotTailSettings.getIdleMillis());
+            tailEvicter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                Thread evicter = new Thread(runnable, "astra-tail-evict");
+                evicter.setDaemon(true);
+                return evicter;
+            });
+            tailEvicter.scheduleWithFixedDelay(this::evictHotTail, interval, interval, TimeUnit.MILLISECONDS);
+            ingestMetrics.bindGauge("hotTailPartitions", hotTail::getPartitions);
+            LOGGER.info("Hot tail enabled ({} reading(s) per partition and instrument)", hotTailSettings.getCapacity());
+        }
+    }
+    
+    /**
+     * Read all journeys of the catalog, token ranges are read in parallel and journeys are handed to the
+     * caller thread page by page, in no particular order.
+     *
+     * @param sink
+     *      consume journeys
+     * @return
+     *      number of journeys
+     * @throws IOException
+     *      journeys cannot be consumed, or the scan has been interrupted
+     */
+    public long scanAllSpacecrafts(TokenRangeScanner.Sink<SpacecraftJourneyCatalog> sink) throws IOException {
+        int pageSize = catalogScan.getPageSize();
+        return new TokenRangeScanner<SpacecraftJourneyCatalog, MappedAsyncPagingIterable<SpacecraftJourneyCatalog>>(
+                (start, end) -> getSpaceCraftJourneyDao().findAllInTokenRangeAsync(start, end, pageSize),
+                catalogScan.getSplits(), catalogScan.getConcurrency()).scan(sink);
     }
     
     /**
@@ -58,6 +313,9 @@ public class AstraService {
      *      list of journeys
      */
     public List < SpacecraftJourneyCatalog > findAllJourneysForSpacecraft(String spacecraftName) {
+        if (null != spacecraftJourneysCache) {
+            return spacecraftJourneysCache.get(spacecraftName);
+        }
         // no paging we don't expect more than 5k journeys
         return getSpaceCraftJourneyDao().findAllJourneysForSpacecraft(spacecraftName).all();
     }
@@ -73,7 +331,104 @@ public class AstraService {
      *      journey details if it exists
      */
     public Optional< SpacecraftJourneyCatalog > findJourneyById(String spacecraftName, UUID journeyId) {
-        return getSpaceCraftJourneyDao().findById(spacecraftName, journeyId);
+        if (null != spacecraftJourneysCache) {
+            for (SpacecraftJourneyCatalog journey : spacecraftJourneysCache.get(spacecraftName)) {
+                if (journeyId.equals(journey.getJourneyId())) {
+                    return Optional.of(journey);
+                }
+            }
+        }
+        // Not cached yet (created by another instance), the cached journeys are stale
+        Optional<SpacecraftJourneyCatalog> journey = getSpaceCraftJourneyDao().findById(spacecraftName, journeyId);
+        if (journey.isPresent()) {
+            invalidateCatalog(spacecraftName);
+        }
+        return journey;
+    }
+    
+    /**
+     * A journey is sealed once inactive and ended, its readings are not expected to change anymore.
+     * Only the catalog cache is read (the check runs on every read of readings), a journey is never
+     * sealed when the cache is disabled or does not know the journey yet.
+     *
+     * @param spacecraftName
+     *      unique spacecraft name (PK)
+     * @param journeyId
+     *      journey unique identifier
+     * @return
+     *      true when the journey is cached and sealed
+     */
+    public boolean isJourneySealed(String spacecraftName, UUID journeyId) {
+        if (null == spacecraftJourneysCache) {
+            return false;
+        }
+        for (SpacecraftJourneyCatalog journey : spacecraftJourneysCache.get(spacecraftName)) {
+            if (journeyId.equals(journey.getJourneyId())) {
+                return Boolean.FALSE.equals(journey.getActive())
+                        && null != journey.getEnd()
+                        && journey.getEnd().isBefore(Instant.now());
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Latest readings written by this instance, without reading Astra.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      unique spacecraft name (PK)
+     * @param journeyId
+     *      journey unique identifier
+     * @param count
+     *      number of readings
+     * @return
+     *      readings latest first, empty when the hot tail is disabled or holds fewer readings
+     */
+    public Optional<ReadingsFrame> getLatestReadings(Instrument instrument, String spacecraftName, UUID journeyId, int count) {
+        if (null == hotTail) {
+            return Optional.empty();
+        }
+        return hotTail.latest(instrument, spacecraftName, journeyId, count);
+    }
+    
+    /**
+     * Drop the hot tail of idle partitions and sealed journeys.
+     */
+    private void evictHotTail() {
+        try {
+            int evicted = hotTail.evict(System.currentTimeMillis(), this::isJourneySealed);
+            if (evicted > 0) {
+                LOGGER.debug("{} partition(s) evicted from the hot tail", evicted);
+            }
+        } catch (RuntimeException re) {
+            // Keep the scheduled eviction alive
+            LOGGER.warn("Cannot evict hot tail: {}", re.getMessage());
+        }
+    }
+    
+    /**
+     * Statistics of the journey catalog cache.
+     *
+     * @return
+     *      hits, misses, refreshes and evictions per cache, empty when disabled
+     */
+    public Map<String, Object> getCatalogCacheStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        if (null != spacecraftJourneysCache) {
+            stats.put("spacecraftJourneys", spacecraftJourneysCache.getStats());
+        }
+        return stats;
+    }
+    
+    /**
+     * Journeys of a spacecraft changed, cached lists are loaded again on next read.
+     */
+    private void invalidateCatalog(String spacecraftName) {
+        if (null != spacecraftJourneysCache) {
+            spacecraftJourneysCache.invalidate(spacecraftName);
+        }
     }
     
     /**
@@ -97,6 +452,7 @@ public class AstraService {
         dto.setActive(false);
         dto.setJourneyId(journeyUid);
         getSpaceCraftJourneyDao().upsert(dto);
+        invalidateCatalog(spacecraftName);
         return journeyUid;
     }
     
@@ -107,6 +463,8 @@ public class AstraService {
      *      name of spacecrafr
      * @param journeyId
      *      journey identifier
+     * @param range
+     *      window of reading_time and limit
      * @param pageSize
      *      page size
      * @param pageState
@@ -115,10 +473,10 @@ public class AstraService {
      *      result page
      */
     public PagedResultWrapper<SpacecraftTemperatureOverTime> getTemperatureReading(
-            String spacecraftName, UUID journeyId, 
+            String spacecraftName, UUID journeyId, ReadingRange range,
             Optional<Integer> pageSize, Optional<String> pageState) {
         PagingIterable<SpacecraftTemperatureOverTime> daoResult = 
-                getSpaceCraftInstrumentsDao().getTemperatureReading(spacecraftName, journeyId, pageSize, pageState);
+                getSpaceCraftInstrumentsDao().getTemperatureReading(spacecraftName, journeyId, range, pageSize, pageState);
         return new PagedResultWrapper<SpacecraftTemperatureOverTime>(daoResult, 
                 pageSize.isPresent() ? pageSize.get() : 0);
     }
@@ -129,13 +487,13 @@ public class AstraService {
      * @param readings
      *       An array unique temperature readings
      * @return
-     *       true if successful
+     *       completes when readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
      */
-    public void insertTemperatureReading(SpacecraftTemperatureOverTime[] readings) {
-        long top = System.currentTimeMillis();
-        getSpaceCraftInstrumentsDao().insertTemperatureReadingAsync(readings)
-                                     .whenComplete((res,ex) -> LOGGER.debug("{} temperature reading(s) inserted in {} millis", 
-                                            readings.length, System.currentTimeMillis() - top));
+    public CompletionStage<Boolean> insertTemperatureReading(SpacecraftTemperatureOverTime[] readings) {
+        return submit(Instrument.TEMPERATURE, readings.length, () -> 
+                route(Instrument.TEMPERATURE, readings, temperatureLanes, temperatureCoalescer, this::writeTemperatureReadings));
     }
 
     /**
@@ -144,14 +502,13 @@ public class AstraService {
      * @param readings
      *       An array unique location readings
      * @return
-     *       true if successful
+     *       completes when readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
      */
-    public void insertLocationReading(SpacecraftLocationOverTime[] readings) {
-        long top = System.currentTimeMillis();
-        getSpaceCraftInstrumentsDao()
-            .insertLocationReadingAsync(readings)
-            .whenComplete((res,ex) -> LOGGER.debug("{} location reading(s) inserted in {} millis", 
-                                            readings.length, System.currentTimeMillis() - top));
+    public CompletionStage<Boolean> insertLocationReading(SpacecraftLocationOverTime[] readings) {
+        return submit(Instrument.LOCATION, readings.length, () -> 
+                route(Instrument.LOCATION, readings, locationLanes, locationCoalescer, this::writeLocationReadings));
     }
 
     /**
@@ -160,14 +517,13 @@ public class AstraService {
      * @param readings
      *       An array unique pressure readings
      * @return
-     *       true if successful
+     *       completes when readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
      */
-    public void insertPressureReading(SpacecraftPressureOverTime[] readings) {
-        long top = System.currentTimeMillis();
-        getSpaceCraftInstrumentsDao()
-            .insertPressureReadingAsync(readings)
-            .whenComplete((res,ex) -> LOGGER.debug("{} pressure reading(s) inserted in {} millis", 
-                                            readings.length, System.currentTimeMillis() - top));
+    public CompletionStage<Boolean> insertPressureReading(SpacecraftPressureOverTime[] readings) {
+        return submit(Instrument.PRESSURE, readings.length, () -> 
+                route(Instrument.PRESSURE, readings, pressureLanes, pressureCoalescer, this::writePressureReadings));
     }
 
     /**
@@ -176,14 +532,282 @@ public class AstraService {
      * @param readings
      *       An array unique pressure readings
      * @return
-     *       true if successful
+     *       completes when readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
+     */
+    public CompletionStage<Boolean> insertSpeedReading(SpacecraftSpeedOverTime[] readings) {
+        return submit(Instrument.SPEED, readings.length, () -> 
+                route(Instrument.SPEED, readings, speedLanes, speedCoalescer, this::writeSpeedReadings));
+    }
+    
+    /**
+     * Write a frame of readings (binary ingestion), statements are bound without entities.
+     *
+     * @param frame
+     *       readings of one instrument for one journey
+     * @return
+     *       completes when readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
+     */
+    public CompletionStage<Boolean> insertReadingsFrame(ReadingsFrame frame) {
+        return submit(frame.getInstrument(), frame.size(), () -> null != wal 
+                ? logFrames(Collections.singletonList(frame)) : writeReadingsFrame(frame));
+    }
+    
+    /**
+     * Write frames of all instruments, the four tables are written in parallel with a single completion.
+     *
+     * @param spacecraftName
+     *       spacecraft name
+     * @param journeyId
+     *       journey identifier
+     * @param frames
+     *       values of all instruments per reading time
+     * @return
+     *       completes when all readings have been written
+     * @throws IngestOverloadedException
+     *       too many readings are in flight
+     */
+    public CompletionStage<Boolean> insertInstrumentsFrames(String spacecraftName, UUID journeyId, InstrumentsFrame[] frames) {
+        List<SpacecraftTemperatureOverTime> temperatures = new ArrayList<>(frames.length);
+        List<SpacecraftPressureOverTime>    pressures    = new ArrayList<>(frames.length);
+        List<SpacecraftSpeedOverTime>       speeds       = new ArrayList<>(frames.length);
+        List<SpacecraftLocationOverTime>    locations    = new ArrayList<>(frames.length);
+        for (InstrumentsFrame frame : frames) {
+            if (null == frame.getReading_time()) {
+                throw new IllegalArgumentException("Frame reading_time is required");
+            }
+            if (null != frame.getTemperature()) {
+                SpacecraftTemperatureOverTime read = new SpacecraftTemperatureOverTime();
+                read.setTemperature(frame.getTemperature());
+                read.setTemperature_unit(frame.getTemperature_unit());
+                temperatures.add(initReading(read, spacecraftName, journeyId, frame));
+            }
+            if (null != frame.getPressure()) {
+                SpacecraftPressureOverTime read = new SpacecraftPressureOverTime();
+                read.setPressure(frame.getPressure());
+                read.setPressure_unit(frame.getPressure_unit());
+                pressures.add(initReading(read, spacecraftName, journeyId, frame));
+            }
+            if (null != frame.getSpeed()) {
+                SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+                read.setSpeed(frame.getSpeed());
+                read.setSpeed_unit(frame.getSpeed_unit());
+                speeds.add(initReading(read, spacecraftName, journeyId, frame));
+            }
+            if (null != frame.getLocation()) {
+                SpacecraftLocationOverTime read = new SpacecraftLocationOverTime();
+                read.setLocation(frame.getLocation());
+                read.setLocation_unit(frame.getLocation_unit());
+                locations.add(initReading(read, spacecraftName, journeyId, frame));
+            }
+        }
+        Map<Instrument, Integer> counts = new EnumMap<>(Instrument.class);
+        counts.put(Instrument.TEMPERATURE, temperatures.size());
+        counts.put(Instrument.PRESSURE,    pressures.size());
+        counts.put(Instrument.SPEED,       speeds.size());
+        counts.put(Instrument.LOCATION,    locations.size());
+        if (null != wal) {
+            List<ReadingsFrame> logged = new ArrayList<>();
+            logged.addAll(ReadingsFrame.fromReadings(Instrument.TEMPERATURE, temperatures.toArray(new AbstractInstrumentReading[0])));
+            logged.addAll(ReadingsFrame.fromReadings(Instrument.PRESSURE, pressures.toArray(new AbstractInstrumentReading[0])));
+            logged.addAll(ReadingsFrame.fromReadings(Instrument.SPEED, speeds.toArray(new AbstractInstrumentReading[0])));
+            logged.addAll(ReadingsFrame.fromReadings(Instrument.LOCATION, locations.toArray(new AbstractInstrumentReading[0])));
+            return submit(counts, () -> logFrames(logged));
+        }
+        SpacecraftTemperatureOverTime[] temperatureReadings = temperatures.toArray(new SpacecraftTemperatureOverTime[temperatures.size()]);
+        SpacecraftPressureOverTime[]    pressureReadings    = pressures.toArray(new SpacecraftPressureOverTime[pressures.size()]);
+        SpacecraftSpeedOverTime[]       speedReadings       = speeds.toArray(new SpacecraftSpeedOverTime[speeds.size()]);
+        SpacecraftLocationOverTime[]    locationReadings    = locations.toArray(new SpacecraftLocationOverTime[locations.size()]);
+        return submit(counts, () -> written(written(written(written(getSpaceCraftInstrumentsDao().insertInstrumentsAsync(
+                temperatureReadings, pressureReadings, speedReadings, locationReadings,
+                batchStrategies, batchSizers),
+                Instrument.TEMPERATURE, temperatureReadings), 
+                Instrument.PRESSURE, pressureReadings), 
+                Instrument.SPEED, speedReadings),
+                Instrument.LOCATION, locationReadings));
+    }
+    
+    private static <T extends AbstractInstrumentReading> T initReading(T read, 
+            String spacecraftName, UUID journeyId, InstrumentsFrame frame) {
+        read.setSpacecraft_name(spacecraftName);
+        read.setJourney_id(journeyId);
+        read.setReading_time(frame.getReading_time());
+        return read;
+    }
+    
+    /**
+     * Run a write within the in-flight limit and track its outcome.
      */
-    public void insertSpeedReading(SpacecraftSpeedOverTime[] readings) {
+    private CompletionStage<Boolean> submit(Instrument instrument, int count, Supplier<CompletionStage<Boolean>> write) {
+        return submit(Collections.singletonMap(instrument, count), write);
+    }
+    
+    /**
+     * Run a write within the in-flight limit and track its outcome, counts are readings per instrument.
+     */
+    private CompletionStage<Boolean> submit(Map<Instrument, Integer> counts, Supplier<CompletionStage<Boolean>> write) {
+        int count = counts.values().stream().mapToInt(Integer::intValue).sum();
+        int permits;
+        try {
+            permits = inFlightLimiter.acquire(count);
+        } catch(IngestOverloadedException overloaded) {
+            counts.forEach(ingestMetrics::recordRejected);
+            throw overloaded;
+        }
         long top = System.currentTimeMillis();
-        getSpaceCraftInstrumentsDao()
-            .insertSpeedReadingAsync(readings)
-            .whenComplete((res,ex) -> LOGGER.debug("{} speed reading(s) inserted in {} millis", 
-                                            readings.length, System.currentTimeMillis() - top));
+        CompletionStage<Boolean> result;
+        try {
+            result = write.get();
+        } catch(RuntimeException re) {
+            inFlightLimiter.release(permits);
+            counts.forEach(ingestMetrics::recordFailed);
+            throw re;
+        }
+        return result.whenComplete((res,ex) -> {
+            inFlightLimiter.release(permits);
+            if (null != ex) {
+                counts.forEach(ingestMetrics::recordFailed);
+                LOGGER.error("Cannot insert {} reading(s) {}: {}", count, counts.keySet(), ex.getMessage());
+            } else {
+                counts.forEach(ingestMetrics::recordWritten);
+                LOGGER.debug("{} reading(s) {} inserted in {} millis", 
+                        count, counts.keySet(), System.currentTimeMillis() - top);
+            }
+        });
+    }
+    
+    /**
+     * Readings go to the write-ahead log, the writer lanes, the coalescing buffers or directly 
+     * against Astra, first enabled wins. They are validated the same way whatever the route.
+     */
+    private <T extends AbstractInstrumentReading> CompletionStage<Boolean> route(Instrument instrument, T[] readings, 
+            WriterLanes<T> lanes, WriteCoalescer<T> coalescer, Function<T[], CompletionStage<Boolean>> writer) {
+        ReadingsFrame.validate(instrument, readings);
+        if (null != wal) {
+            return logReadings(instrument, readings);
+        }
+        if (null != lanes) {
+            return lanes.add(readings);
+        }
+        if (null != coalescer) {
+            return coalescer.add(readings);
+        }
+        return writer.apply(readings);
+    }
+    
+    /**
+     * Append readings to the write-ahead log, they are written against Astra by its drainer.
+     */
+    private CompletionStage<Boolean> logReadings(Instrument instrument, AbstractInstrumentReading[] readings) {
+        return logFrames(ReadingsFrame.fromReadings(instrument, readings));
+    }
+    
+    /**
+     * Append frames to the write-ahead log as a single record.
+     */
+    private CompletionStage<Boolean> logFrames(List<ReadingsFrame> frames) {
+        if (!frames.isEmpty() && !wal.append(frames)) {
+            throw new IngestOverloadedException("Write-ahead log is full, readings are not being written fast enough", 1);
+        }
+        return CompletableFuture.completedFuture(true);
+    }
+    
+    /**
+     * Write a frame against Astra with the batching of its instrument.
+     */
+    private CompletionStage<Boolean> writeReadingsFrame(ReadingsFrame frame) {
+        BatchSettings batching = ingestProperties.getBatching(frame.getInstrument());
+        CompletionStage<Boolean> write = getSpaceCraftInstrumentsDao()
+                .insertReadingsFrameAsync(frame, batching.getStrategy(), batchSizers.get(frame.getInstrument()));
+        if (!isFedOnWrite(frame.getInstrument())) {
+            return write;
+        }
+        return write.whenComplete((applied, ex) -> {
+            if (null == ex && Boolean.TRUE.equals(applied)) {
+                written(frame);
+            }
+        });
+    }
+    
+    /**
+     * Feed the rollups and the hot tail with readings once written.
+     */
+    private CompletionStage<Boolean> written(CompletionStage<Boolean> write, 
+            Instrument instrument, AbstractInstrumentReading[] readings) {
+        if (!isFedOnWrite(instrument) || readings.length == 0) {
+            return write;
+        }
+        return write.whenComplete((applied, ex) -> {
+            if (null == ex && Boolean.TRUE.equals(applied)) {
+                ReadingsFrame.fromReadings(instrument, readings).forEach(this::written);
+            }
+        });
+    }
+    
+    /**
+     * Rollups keep scalar instruments only, the hot tail, live subscribers and the page cache get them all.
+     */
+    private boolean isFedOnWrite(Instrument instrument) {
+        return null != hotTail || readingHub.hasSubscribers() || pageCache.isEnabled()
+                || (null != rollups && instrument.isScalar());
+    }
+    
+    private void written(ReadingsFrame frame) {
+        if (pageCache.isEnabled()) {
+            // Late readings of a sealed journey (replay, backfill)
+            pageCache.invalidate(ReadingPageCache.partition(
+                    frame.getInstrument().getTableName(), frame.getSpacecraftName(), frame.getJourneyId()));
+        }
+        if (null != rollups) {
+            rollups.add(frame);
+        }
+        if (null != hotTail) {
+            hotTail.add(frame);
+        }
+        readingHub.publish(frame);
+    }
+    
+    /**
+     * Write temperature readings against Astra with the batching of the instrument.
+     */
+    private CompletionStage<Boolean> writeTemperatureReadings(SpacecraftTemperatureOverTime[] readings) {
+        BatchSettings batching = ingestProperties.getBatching(Instrument.TEMPERATURE);
+        return written(getSpaceCraftInstrumentsDao()
+                .insertTemperatureReadingAsync(readings, batching.getStrategy(), batchSizers.get(Instrument.TEMPERATURE)),
+                Instrument.TEMPERATURE, readings);
+    }
+    
+    /**
+     * Write location readings against Astra with the batching of the instrument.
+     */
+    private CompletionStage<Boolean> writeLocationReadings(SpacecraftLocationOverTime[] readings) {
+        BatchSettings batching = ingestProperties.getBatching(Instrument.LOCATION);
+        return written(getSpaceCraftInstrumentsDao()
+                .insertLocationReadingAsync(readings, batching.getStrategy(), batchSizers.get(Instrument.LOCATION)),
+                Instrument.LOCATION, readings);
+    }
+    
+    /**
+     * Write pressure readings against Astra with the batching of the instrument.
+     */
+    private CompletionStage<Boolean> writePressureReadings(SpacecraftPressureOverTime[] readings) {
+        BatchSettings batching = ingestProperties.getBatching(Instrument.PRESSURE);
+        return written(getSpaceCraftInstrumentsDao()
+                .insertPressureReadingAsync(readings, batching.getStrategy(), batchSizers.get(Instrument.PRESSURE)),
+                Instrument.PRESSURE, readings);
+    }
+    
+    /**
+     * Write speed readings against Astra with the batching of the instrument.
+     */
+    private CompletionStage<Boolean> writeSpeedReadings(SpacecraftSpeedOverTime[] readings) {
+        BatchSettings batching = ingestProperties.getBatching(Instrument.SPEED);
+        return written(getSpaceCraftInstrumentsDao()
+                .insertSpeedReadingAsync(readings, batching.getStrategy(), batchSizers.get(Instrument.SPEED)),
+                Instrument.SPEED, readings);
     }
     
     /**
@@ -193,6 +817,8 @@ public class AstraService {
      *      name of spacecrafr
      * @param journeyId
      *      journey identifier
+     * @param range
+     *      window of reading_time and limit
      * @param pageSize
      *      page size
      * @param pageState
@@ -201,10 +827,10 @@ public class AstraService {
      *      result page
      */
     public PagedResultWrapper<SpacecraftPressureOverTime> getPressureReading(
-            String spacecraftName, UUID journeyId, 
+            String spacecraftName, UUID journeyId, ReadingRange range,
             Optional<Integer> pageSize, Optional<String> pageState) {
         PagingIterable<SpacecraftPressureOverTime> daoResult = 
-                getSpaceCraftInstrumentsDao().getPressureReading(spacecraftName, journeyId, pageSize, pageState);
+                getSpaceCraftInstrumentsDao().getPressureReading(spacecraftName, journeyId, range, pageSize, pageState);
         return new PagedResultWrapper<SpacecraftPressureOverTime>(daoResult, 
                 pageSize.isPresent() ? pageSize.get() : 0);
     }
@@ -216,6 +842,8 @@ public class AstraService {
      *      name of spacecrafr
      * @param journeyId
      *      journey identifier
+     * @param range
+     *      window of reading_time and limit
      * @param pageSize
      *      page size
      * @param pageState
@@ -224,10 +852,10 @@ public class AstraService {
      *      result page
      */
     public PagedResultWrapper<SpacecraftSpeedOverTime> getSpeedReading(
-            String spacecraftName, UUID journeyId, 
+            String spacecraftName, UUID journeyId, ReadingRange range,
             Optional<Integer> pageSize, Optional<String> pageState) {
         PagingIterable<SpacecraftSpeedOverTime> daoResult = 
-                getSpaceCraftInstrumentsDao().getSpeedReading(spacecraftName, journeyId, pageSize, pageState);
+                getSpaceCraftInstrumentsDao().getSpeedReading(spacecraftName, journeyId, range, pageSize, pageState);
         return new PagedResultWrapper<SpacecraftSpeedOverTime>(daoResult, 
                 pageSize.isPresent() ? pageSize.get() : 0);
     }
@@ -239,6 +867,8 @@ public class AstraService {
      *      name of spacecrafr
      * @param journeyId
      *      journey identifier
+     * @param range
+     *      window of reading_time and limit
      * @param pageSize
      *      page size
      * @param pageState
@@ -247,14 +877,337 @@ public class AstraService {
      *      result page
      */
     public PagedResultWrapper<SpacecraftLocationOverTime> getLocationReading(
-            String spacecraftName, UUID journeyId, 
+            String spacecraftName, UUID journeyId, ReadingRange range,
             Optional<Integer> pageSize, Optional<String> pageState) {
         PagingIterable<SpacecraftLocationOverTime> daoResult = 
-                getSpaceCraftInstrumentsDao().getLocationReading(spacecraftName, journeyId, pageSize, pageState);
+                getSpaceCraftInstrumentsDao().getLocationReading(spacecraftName, journeyId, range, pageSize, pageState);
         return new PagedResultWrapper<SpacecraftLocationOverTime>(daoResult, 
                 pageSize.isPresent() ? pageSize.get() : 0);
     }
     
+    /**
+     * Retrieve a page of every instrument of a journey, the four selects run concurrently.
+     *
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit, applied to every instrument
+     * @param pageSize
+     *      page size, applied to every instrument
+     * @param pageStates
+     *      page state per instrument, first page when missing
+     * @return
+     *      completes when all pages have been read
+     */
+    public CompletionStage<JourneyReadings> getJourneyReadings(String spacecraftName, UUID journeyId, 
+            ReadingRange range, Optional<Integer> pageSize, Map<Instrument, Optional<String>> pageStates) {
+        int size = pageSize.orElse(0);
+        SpacecraftInstrumentsDao dao = getSpaceCraftInstrumentsDao();
+        CompletableFuture<PagedResultWrapper<SpacecraftTemperatureOverTime>> temperature = dao.getTemperatureReadingAsync(
+                spacecraftName, journeyId, range, pageSize, pageStates.getOrDefault(Instrument.TEMPERATURE, Optional.empty()))
+                .thenApply(rs -> new PagedResultWrapper<>(rs, size)).toCompletableFuture();
+        CompletableFuture<PagedResultWrapper<SpacecraftPressureOverTime>> pressure = dao.getPressureReadingAsync(
+                spacecraftName, journeyId, range, pageSize, pageStates.getOrDefault(Instrument.PRESSURE, Optional.empty()))
+                .thenApply(rs -> new PagedResultWrapper<>(rs, size)).toCompletableFuture();
+        CompletableFuture<PagedResultWrapper<SpacecraftSpeedOverTime>> speed = dao.getSpeedReadingAsync(
+                spacecraftName, journeyId, range, pageSize, pageStates.getOrDefault(Instrument.SPEED, Optional.empty()))
+                .thenApply(rs -> new PagedResultWrapper<>(rs, size)).toCompletableFuture();
+        CompletableFuture<PagedResultWrapper<SpacecraftLocationOverTime>> location = dao.getLocationReadingAsync(
+                spacecraftName, journeyId, range, pageSize, pageStates.getOrDefault(Instrument.LOCATION, Optional.empty()))
+                .thenApply(rs -> new PagedResultWrapper<>(rs, size)).toCompletableFuture();
+        return CompletableFuture.allOf(temperature, pressure, speed, location)
+                .thenApply(v -> new JourneyReadings(temperature.join(), pressure.join(), speed.join(), location.join()));
+    }
+    
+    /**
+     * Aggregate readings of a journey by time buckets (min, max, avg, count), the partition is read 
+     * page by page and only the buckets are kept.
+     *
+     * @param instrument
+     *      scalar instrument (temperature, pressure, speed)
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time
+     * @param bucketSeconds
+     *      duration of a bucket
+     * @return
+     *      non empty buckets, latest first
+     */
+    public ReadingAggregation aggregateReadings(Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, long bucketSeconds) {
+        if (!instrument.isScalar()) {
+            throw new IllegalArgumentException("Cannot aggregate " + instrument.key() + " readings");
+        }
+        Optional<RollupResolution> resolution = RollupResolution.forBucket(bucketSeconds);
+        if (null != rollups && resolution.isPresent() && isAligned(range, resolution.get())) {
+            return aggregateRollups(instrument, spacecraftName, journeyId, range, bucketSeconds, resolution.get());
+        }
+        long top = System.currentTimeMillis();
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(bucketSeconds * 1000, MAX_BUCKETS);
+        String unit = null;
+        for (Row row : getSpaceCraftInstrumentsDao().getReadingValues(instrument, 
+                spacecraftName, journeyId, range, SCAN_PAGE_SIZE)) {
+            if (row.isNull(1)) {
+                continue;
+            }
+            if (null == unit) {
+                unit = row.getString(2);
+            }
+            aggregator.add(row.getInstant(0).toEpochMilli(), row.getDouble(1));
+        }
+        List<ReadingBucket> buckets = aggregator.finish();
+        LOGGER.debug("{} {} reading(s) aggregated in {} bucket(s) in {} millis", aggregator.getReadings(), 
+                instrument.key(), buckets.size(), System.currentTimeMillis() - top);
+        return new ReadingAggregation(instrument.key(), unit, bucketSeconds, aggregator.getReadings(), buckets);
+    }
+    
+    /**
+     * Retrieve temperature readings for a journey downsampled to at most 'points' readings (LTTB).
+     *
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param points
+     *      maximum number of readings returned
+     * @return
+     *      single page, latest first
+     */
+    public PagedResultWrapper<SpacecraftTemperatureOverTime> getTemperatureReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, int points) {
+        return downsample(Instrument.TEMPERATURE, spacecraftName, journeyId, range, points, 
+                SpacecraftTemperatureOverTime::new, 
+                SpacecraftTemperatureOverTime::setTemperature, 
+                SpacecraftTemperatureOverTime::setTemperature_unit);
+    }
+    
+    /**
+     * Retrieve pressure readings for a journey downsampled to at most 'points' readings (LTTB).
+     *
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param points
+     *      maximum number of readings returned
+     * @return
+     *      single page, latest first
+     */
+    public PagedResultWrapper<SpacecraftPressureOverTime> getPressureReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, int points) {
+        return downsample(Instrument.PRESSURE, spacecraftName, journeyId, range, points, 
+                SpacecraftPressureOverTime::new, 
+                SpacecraftPressureOverTime::setPressure, 
+                SpacecraftPressureOverTime::setPressure_unit);
+    }
+    
+    /**
+     * Retrieve speed readings for a journey downsampled to at most 'points' readings (LTTB).
+     *
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param points
+     *      maximum number of readings returned
+     * @return
+     *      single page, latest first
+     */
+    public PagedResultWrapper<SpacecraftSpeedOverTime> getSpeedReading(
+            String spacecraftName, UUID journeyId, ReadingRange range, int points) {
+        return downsample(Instrument.SPEED, spacecraftName, journeyId, range, points, 
+                SpacecraftSpeedOverTime::new, 
+                SpacecraftSpeedOverTime::setSpeed, 
+                SpacecraftSpeedOverTime::setSpeed_unit);
+    }
+    
+    /**
+     * Read the values of a scalar instrument page by page into primitive arrays.
+     *
+     * @param instrument
+     *      scalar instrument (temperature, pressure, speed)
+     * @param spacecraftName
+     *      name of spacecraft
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @return
+     *      non null readings, latest first
+     */
+    public ReadingSeries readSeries(Instrument instrument, String spacecraftName, UUID journeyId, ReadingRange range) {
+        if (!instrument.isScalar()) {
+            throw new IllegalArgumentException("Cannot read " + instrument.key() + " readings as a series");
+        }
+        ReadingSeries series = new ReadingSeries(null != range.getLimit() ? range.getLimit() : SCAN_PAGE_SIZE);
+        for (Row row : getSpaceCraftInstrumentsDao().getReadingValues(instrument, 
+                spacecraftName, journeyId, range, SCAN_PAGE_SIZE)) {
+            if (row.isNull(1)) {
+                continue;
+            }
+            if (series.size() == MAX_SERIES_READINGS) {
+                throw new IllegalArgumentException("More than " + MAX_SERIES_READINGS 
+                        + " readings, use a narrower range or the aggregation endpoint");
+            }
+            if (null == series.getUnit()) {
+                series.setUnit(row.getString(2));
+            }
+            series.add(row.getInstant(0).toEpochMilli(), row.getDouble(1));
+        }
+        return series;
+    }
+    
+    /**
+     * Downsample a scalar series, entities are only created for the readings kept.
+     */
+    private <T extends AbstractInstrumentReading> PagedResultWrapper<T> downsample(Instrument instrument, 
+            String spacecraftName, UUID journeyId, ReadingRange range, int points, 
+            Supplier<T> factory, BiConsumer<T, Double> valueSetter, BiConsumer<T, String> unitSetter) {
+        long top = System.currentTimeMillis();
+        ReadingSeries series = readSeries(instrument, spacecraftName, journeyId, range);
+        int[] kept = LttbDownsampler.downsample(series, points);
+        List<T> readings = new ArrayList<>(kept.length);
+        for (int index : kept) {
+            T read = factory.get();
+            read.setSpacecraft_name(spacecraftName);
+            read.setJourney_id(journeyId);
+            read.setReading_time(Instant.ofEpochMilli(series.getReadingTime(index)));
+            valueSetter.accept(read, series.getValue(index));
+            unitSetter.accept(read, series.getUnit());
+            readings.add(read);
+        }
+        LOGGER.debug("{} {} reading(s) downsampled to {} in {} millis", series.size(), 
+                instrument.key(), kept.length, System.currentTimeMillis() - top);
+        return new PagedResultWrapper<T>(readings);
+    }
+    
+    /**
+     * Aggregate from a rollup table, latest first. Buckets whose rows are not up to date (written to since 
+     * the last flush, flush in flight or failed) are aggregated from raw readings instead.
+     */
+    private ReadingAggregation aggregateRollups(Instrument instrument, String spacecraftName, UUID journeyId, 
+            ReadingRange range, long bucketSeconds, RollupResolution resolution) {
+        long top = System.currentTimeMillis();
+        JourneyPartition partition = new JourneyPartition(spacecraftName, journeyId);
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(bucketSeconds * 1000, MAX_BUCKETS);
+        List<Long> pending = new ArrayList<>();
+        for (long bucketStart : rollups.pending(partition, instrument, resolution)) {
+            if ((null == range.getFrom() || bucketStart >= range.getFrom().toEpochMilli()) 
+                    && (null == range.getTo() || bucketStart < range.getTo().toEpochMilli())) {
+                pending.add(bucketStart);
+            }
+        }
+        Set<Long> pendingBuckets = new HashSet<>(pending);
+        String unit = null;
+        int next = 0;
+        for (Row row : getSpaceCraftInstrumentsDao().getRollups(resolution, instrument, 
+                spacecraftName, journeyId, range, SCAN_PAGE_SIZE)) {
+            long bucketStart = row.getInstant(0).toEpochMilli();
+            for (; next < pending.size() && pending.get(next) >= bucketStart; next++) {
+                unit = addBucket(aggregator, unit, readBucket(partition, instrument, resolution, pending.get(next)));
+            }
+            if (pendingBuckets.contains(bucketStart)) {
+                continue;
+            }
+            if (null == unit) {
+                unit = row.getString(5);
+            }
+            aggregator.add(bucketStart, row.getLong(1), row.getDouble(2), row.getDouble(3), row.getDouble(4));
+        }
+        for (; next < pending.size(); next++) {
+            unit = addBucket(aggregator, unit, readBucket(partition, instrument, resolution, pending.get(next)));
+        }
+        List<ReadingBucket> buckets = aggregator.finish();
+        LOGGER.debug("{} {} reading(s) aggregated from {} rollups in {} bucket(s) in {} millis", aggregator.getReadings(), 
+                instrument.key(), resolution, buckets.size(), System.currentTimeMillis() - top);
+        return new ReadingAggregation(instrument.key(), unit, bucketSeconds, aggregator.getReadings(), buckets);
+    }
+    
+    private static String addBucket(TimeBucketAggregator aggregator, String unit, ReadingRollup rollup) {
+        if (null == rollup) {
+            return unit;
+        }
+        aggregator.add(rollup.getBucketStart(), rollup.getCount(), rollup.getMin(), rollup.getMax(), rollup.getSum());
+        return (null == unit) ? rollup.getUnit() : unit;
+    }
+    
+    /**
+     * Aggregate a bucket for its rollup row: a minute from its raw readings, an hour from its minute rows.
+     */
+    private ReadingRollup aggregateBucket(JourneyPartition partition, Instrument instrument, 
+            RollupResolution resolution, long bucketStart) {
+        if (RollupResolution.MINUTE == resolution) {
+            return readBucket(partition, instrument, resolution, bucketStart);
+        }
+        long count = 0;
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY, sum = 0;
+        String unit = null;
+        for (Row row : getSpaceCraftInstrumentsDao().getRollups(RollupResolution.MINUTE, instrument, 
+                partition.getSpacecraftName(), partition.getJourneyId(), 
+                bucketRange(resolution, bucketStart), SCAN_PAGE_SIZE)) {
+            if (null == unit) {
+                unit = row.getString(5);
+            }
+            count += row.getLong(1);
+            min    = Math.min(min, row.getDouble(2));
+            max    = Math.max(max, row.getDouble(3));
+            sum   += row.getDouble(4);
+        }
+        return (count == 0) ? null : new ReadingRollup(partition.getSpacecraftName(), partition.getJourneyId(), 
+                instrument, unit, bucketStart, count, min, max, sum);
+    }
+    
+    /**
+     * Aggregate a bucket from its raw readings.
+     */
+    private ReadingRollup readBucket(JourneyPartition partition, Instrument instrument, 
+            RollupResolution resolution, long bucketStart) {
+        long count = 0;
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY, sum = 0;
+        String unit = null;
+        for (Row row : getSpaceCraftInstrumentsDao().getReadingValues(instrument, 
+                partition.getSpacecraftName(), partition.getJourneyId(), 
+                bucketRange(resolution, bucketStart), SCAN_PAGE_SIZE)) {
+            if (row.isNull(1)) {
+                continue;
+            }
+            if (null == unit) {
+                unit = row.getString(2);
+            }
+            double value = row.getDouble(1);
+            count++;
+            min  = Math.min(min, value);
+            max  = Math.max(max, value);
+            sum += value;
+        }
+        return (count == 0) ? null : new ReadingRollup(partition.getSpacecraftName(), partition.getJourneyId(), 
+                instrument, unit, bucketStart, count, min, max, sum);
+    }
+    
+    private static ReadingRange bucketRange(RollupResolution resolution, long bucketStart) {
+        return new ReadingRange(Instant.ofEpochMilli(bucketStart), 
+                Instant.ofEpochMilli(bucketStart + resolution.getSeconds() * 1000), null);
+    }
+    
+    /**
+     * Rollups can only be used when the range does not cut their buckets.
+     */
+    private static boolean isAligned(ReadingRange range, RollupResolution resolution) {
+        return (null == range.getFrom() || resolution.isAligned(range.getFrom().toEpochMilli()))
+            && (null == range.getTo()   || resolution.isAligned(range.getTo().toEpochMilli()));
+    }
+    
     protected synchronized SpacecraftJourneyDao getSpaceCraftJourneyDao() {
         if (spacecraftJourneyDao == null) {
             CqlSession cqlSession   = SessionManager.getInstance().connectToAstra();
@@ -278,6 +1231,48 @@ public class AstraService {
      */
     @PreDestroy
     public void cleanUp() {
+        if (null != flushScheduler) {
+            CompletableFuture<Void> flushed = CompletableFuture.allOf(
+                    temperatureCoalescer.flushAll(),
+                    pressureCoalescer.flushAll(),
+                    speedCoalescer.flushAll(),
+                    locationCoalescer.flushAll());
+            long timeout = ingestProperties.getCoalescing().getShutdownTimeoutMillis();
+            try {
+                flushed.get(timeout, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                LOGGER.warn("Coalesced readings not written after {} millis, closing anyway", timeout);
+            } catch (ExecutionException e) {
+                // Failures have been reported to the requests
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            flushScheduler.shutdown();
+        }
+        if (null != temperatureLanes) {
+            temperatureLanes.close();
+            pressureLanes.close();
+            speedLanes.close();
+            locationLanes.close();
+        }
+        if (null != wal) {
+            wal.close();
+        }
+        if (null != catalogRefresher) {
+            catalogRefresher.shutdownNow();
+        }
+        if (null != tailEvicter) {
+            tailEvicter.shutdownNow();
+        }
+        if (null != rollups) {
+            rollupScheduler.shutdown();
+            try {
+                rollupScheduler.awaitTermination(rollups.getFlushTimeoutMillis(), TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            rollups.flush();
+        }
         SessionManager.getInstance().close();
     }
     
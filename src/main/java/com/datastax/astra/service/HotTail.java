@@ -0,0 +1,324 @@
+package com.datastax.astra.service;
+
+import java.util.Comparator;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.BiPredicate;
+import java.util.stream.IntStream;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Latest readings written by this instance, per partition and instrument, in fixed size rings of primitives.
+ *
+ * Rings are ordered by reading_time whatever the order readings are written in (latest first posts,
+ * replays, backfills): a reading newer than the ring head is appended, an older one is inserted at its
+ * place (or dropped when older than all readings kept) and a reading_time already kept is overwritten,
+ * as Astra does.
+ *
+ * Writers of a ring are serialized, readers never lock: every slot carries the sequence of the reading
+ * it holds, cleared while it is being written, and a reader stops at the first slot whose sequence
+ * changed. Inserts and overwrites move readings between slots, they bump an epoch of the ring around
+ * the move and readers overlapping it read again. Rings of partitions without readings for 'idleMillis',
+ * or of journeys that went inactive, are evicted.
+ */
+public class HotTail {
+
+    /** Readings kept per partition and instrument. */
+    private final int capacity;
+
+    /** Rings without readings for this long are evicted. */
+    private final long idleMillis;
+
+    /** Rings per partition. */
+    private final ConcurrentMap<JourneyPartition, AtomicReferenceArray<Ring>> partitions = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param capacity
+     *      readings kept per partition and instrument
+     * @param idleMillis
+     *      rings without readings for this long are evicted
+     */
+    public HotTail(int capacity, long idleMillis) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Invalid hot tail capacity " + capacity + ", expecting a positive value");
+        }
+        this.capacity   = capacity;
+        this.idleMillis = idleMillis;
+    }
+
+    /**
+     * Keep written readings.
+     *
+     * @param frame
+     *      readings of an instrument for one journey
+     */
+    public void add(ReadingsFrame frame) {
+        if (frame.size() == 0) {
+            return;
+        }
+        AtomicReferenceArray<Ring> rings = partitions.computeIfAbsent(
+                new JourneyPartition(frame.getSpacecraftName(), frame.getJourneyId()), 
+                key -> new AtomicReferenceArray<>(Instrument.values().length));
+        int instrument = frame.getInstrument().ordinal();
+        Ring ring = rings.get(instrument);
+        if (null == ring) {
+            rings.compareAndSet(instrument, null, new Ring(capacity, ReadingsFrame.stride(frame.getInstrument())));
+            ring = rings.get(instrument);
+        }
+        ring.add(frame);
+    }
+
+    /**
+     * Latest readings of a partition, only when the ring holds at least 'count' readings.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param count
+     *      number of readings
+     * @return
+     *      readings latest first, empty when fewer readings are kept
+     */
+    public Optional<ReadingsFrame> latest(Instrument instrument, String spacecraftName, UUID journeyId, int count) {
+        if (count < 1 || count > capacity) {
+            return Optional.empty();
+        }
+        AtomicReferenceArray<Ring> rings = partitions.get(new JourneyPartition(spacecraftName, journeyId));
+        Ring ring = (null == rings) ? null : rings.get(instrument.ordinal());
+        return (null == ring) ? Optional.empty() : ring.latest(instrument, spacecraftName, journeyId, count);
+    }
+
+    /**
+     * Drop rings of idle partitions and of inactive journeys.
+     *
+     * @param now
+     *      current time in epoch millis
+     * @param inactive
+     *      journeys that went inactive (spacecraft name, journey identifier)
+     * @return
+     *      number of partitions evicted
+     */
+    public int evict(long now, BiPredicate<String, UUID> inactive) {
+        int evicted = 0;
+        for (JourneyPartition key : partitions.keySet()) {
+            AtomicReferenceArray<Ring> rings = partitions.get(key);
+            long lastWrite = 0;
+            for (int i = 0; null != rings && i < rings.length(); i++) {
+                Ring ring = rings.get(i);
+                if (null != ring) {
+                    lastWrite = Math.max(lastWrite, ring.lastWrite);
+                }
+            }
+            if (now - lastWrite >= idleMillis || inactive.test(key.getSpacecraftName(), key.getJourneyId())) {
+                if (partitions.remove(key, rings)) {
+                    evicted++;
+                }
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Partitions with rings.
+     *
+     * @return
+     *      number of partitions
+     */
+    public long getPartitions() {
+        return partitions.size();
+    }
+
+    /**
+     * Ring of readings, values packed with the stride of the instrument, doubles stored as raw bits.
+     */
+    private static final class Ring {
+
+        /** Sequence of a slot being written. */
+        private static final long WRITING = -1;
+
+        /** Reads overlapped by writers are tried again, then readings are read from Astra. */
+        private static final int READ_ATTEMPTS = 3;
+
+        private final int capacity;
+
+        private final int stride;
+
+        private final AtomicLongArray sequences;
+
+        private final AtomicLongArray times;
+
+        private final AtomicLongArray values;
+
+        /** Sequence of the next reading. */
+        private final AtomicLong head = new AtomicLong();
+
+        /** Odd while readings are moved between slots. */
+        private final AtomicLong epoch = new AtomicLong();
+
+        /** Unit of the latest readings. */
+        private volatile String unit;
+
+        private volatile long lastWrite = System.currentTimeMillis();
+
+        private Ring(int capacity, int stride) {
+            this.capacity  = capacity;
+            this.stride    = stride;
+            this.sequences = new AtomicLongArray(capacity);
+            this.times     = new AtomicLongArray(capacity);
+            this.values    = new AtomicLongArray(capacity * stride);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, WRITING);
+            }
+        }
+
+        private synchronized void add(ReadingsFrame frame) {
+            long[]   readingTimes = frame.getReadingTimes();
+            double[] readings     = frame.getValues();
+            for (int r : ascending(readingTimes)) {
+                put(readingTimes[r], readings, r * stride);
+            }
+            unit      = frame.getUnit();
+            lastWrite = System.currentTimeMillis();
+        }
+
+        /**
+         * Keep a reading at its place in the ring, guarded by the ring.
+         */
+        private void put(long readingTime, double[] readings, int offset) {
+            long last   = head.get();
+            long oldest = Math.max(0, last - capacity);
+            long before = last - 1;
+            while (before >= oldest && times.get(slot(before)) > readingTime) {
+                before--;
+            }
+            if (before >= oldest && times.get(slot(before)) == readingTime) {
+                // Same reading written again (upsert)
+                epoch.incrementAndGet();
+                setValues(slot(before), readings, offset);
+                epoch.incrementAndGet();
+                return;
+            }
+            if (before == last - 1) {
+                int slot = slot(last);
+                sequences.set(slot, WRITING);
+                times.set(slot, readingTime);
+                setValues(slot, readings, offset);
+                sequences.set(slot, last);
+                head.set(last + 1);
+                return;
+            }
+            if (before < oldest && last >= capacity) {
+                // Older than all readings kept
+                return;
+            }
+            // Newer readings are moved one slot up, the oldest one kept is overwritten when the ring is full
+            epoch.incrementAndGet();
+            for (long sequence = last; sequence > before + 1; sequence--) {
+                int from = slot(sequence - 1);
+                int to   = slot(sequence);
+                times.set(to, times.get(from));
+                for (int v = 0; v < stride; v++) {
+                    values.set(to * stride + v, values.get(from * stride + v));
+                }
+                sequences.set(to, sequence);
+            }
+            int slot = slot(before + 1);
+            times.set(slot, readingTime);
+            setValues(slot, readings, offset);
+            sequences.set(slot, before + 1);
+            head.set(last + 1);
+            epoch.incrementAndGet();
+        }
+
+        private void setValues(int slot, double[] readings, int offset) {
+            for (int v = 0; v < stride; v++) {
+                values.set(slot * stride + v, Double.doubleToRawLongBits(readings[offset + v]));
+            }
+        }
+
+        private int slot(long sequence) {
+            return (int) (sequence % capacity);
+        }
+
+        private Optional<ReadingsFrame> latest(Instrument instrument, String spacecraftName, UUID journeyId, int count) {
+            for (int attempt = 0; attempt < READ_ATTEMPTS; attempt++) {
+                long currentEpoch = epoch.get();
+                if ((currentEpoch & 1) != 0) {
+                    // Readings being moved
+                    continue;
+                }
+                long last = head.get();
+                if (last < count) {
+                    return Optional.empty();
+                }
+                ReadingsFrame frame = read(instrument, spacecraftName, journeyId, count, last);
+                if (null != frame && epoch.get() == currentEpoch) {
+                    return Optional.of(frame);
+                }
+            }
+            return Optional.empty();
+        }
+
+        /**
+         * Copy readings before the sequence 'last', null when writers overwrote them meanwhile.
+         */
+        private ReadingsFrame read(Instrument instrument, String spacecraftName, UUID journeyId, int count, long last) {
+            long[]   readingTimes = new long[count];
+            double[] readings     = new double[count * stride];
+            String   currentUnit  = unit;
+            for (int r = 0; r < count; r++) {
+                long sequence = last - 1 - r;
+                int  slot     = slot(sequence);
+                if (sequences.get(slot) != sequence) {
+                    // Overwritten by writers meanwhile
+                    return null;
+                }
+                readingTimes[r] = times.get(slot);
+                for (int v = 0; v < stride; v++) {
+                    readings[r * stride + v] = Double.longBitsToDouble(values.get(slot * stride + v));
+                }
+                if (sequences.get(slot) != sequence) {
+                    return null;
+                }
+            }
+            return new ReadingsFrame(instrument, spacecraftName, journeyId, currentUnit, readingTimes, readings);
+        }
+
+        /**
+         * Order of the readings of a frame by reading_time, frames are usually sorted one way or the other.
+         */
+        private static int[] ascending(long[] readingTimes) {
+            int length = readingTimes.length;
+            boolean ascending  = true;
+            boolean descending = true;
+            for (int r = 1; r < length; r++) {
+                ascending  &= readingTimes[r - 1] <= readingTimes[r];
+                descending &= readingTimes[r - 1] >= readingTimes[r];
+            }
+            if (!ascending && !descending) {
+                return IntStream.range(0, length).boxed()
+                        .sorted(Comparator.comparingLong(r -> readingTimes[r]))
+                        .mapToInt(Integer::intValue).toArray();
+            }
+            int[] order = new int[length];
+            for (int r = 0; r < length; r++) {
+                order[r] = ascending ? r : length - 1 - r;
+            }
+            return order;
+        }
+    }
+
+}
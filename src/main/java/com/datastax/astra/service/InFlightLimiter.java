@@ -0,0 +1,95 @@
+package com.datastax.astra.service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bound the number of readings being written against Astra at the same time.
+ */
+public class InFlightLimiter {
+    
+    /** One permit per reading in flight. */
+    private final Semaphore permits;
+    
+    /** Limit. */
+    private final int maxInFlight;
+    
+    /** Time to wait for permits before rejecting, 0 to reject immediately. */
+    private final long acquireTimeoutMillis;
+    
+    /**
+     * Constructor.
+     *
+     * @param maxInFlight
+     *      maximum number of readings in flight
+     * @param acquireTimeoutMillis
+     *      time to wait for permits before rejecting
+     */
+    public InFlightLimiter(int maxInFlight, long acquireTimeoutMillis) {
+        if (maxInFlight < 1) {
+            throw new IllegalArgumentException("Invalid in-flight limit: " + maxInFlight);
+        }
+        this.maxInFlight          = maxInFlight;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+        this.permits              = new Semaphore(maxInFlight);
+    }
+    
+    /**
+     * Reserve permits for readings, a request larger than the limit takes the whole limit.
+     *
+     * @param readings
+     *      number of readings to write
+     * @return
+     *      number of permits to release when the write completes
+     * @throws IngestOverloadedException
+     *      when permits are not available in time
+     */
+    public int acquire(int readings) {
+        int required = Math.min(Math.max(1, readings), maxInFlight);
+        boolean acquired;
+        try {
+            acquired = acquireTimeoutMillis > 0 
+                    ? permits.tryAcquire(required, acquireTimeoutMillis, TimeUnit.MILLISECONDS)
+                    : permits.tryAcquire(required);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        }
+        if (!acquired) {
+            throw new IngestOverloadedException("Too many readings in flight (" 
+                    + getInFlight() + "/" + maxInFlight + "), retry later", 1);
+        }
+        return required;
+    }
+    
+    /**
+     * Release permits once a write has completed.
+     *
+     * @param acquired
+     *      value returned by {@link #acquire(int)}
+     */
+    public void release(int acquired) {
+        permits.release(acquired);
+    }
+    
+    /**
+     * Number of readings currently in flight.
+     *
+     * @return
+     *      readings in flight
+     */
+    public int getInFlight() {
+        return maxInFlight - permits.availablePermits();
+    }
+
+    /**
+     * Getter accessor for attribute 'maxInFlight'.
+     *
+     * @return
+     *       current value of 'maxInFlight'
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+    
+}
@@ -0,0 +1,37 @@
+package com.datastax.astra.service;
+
+/**
+ * Raised when the ingestion path cannot accept more readings for now, client should retry later.
+ */
+public class IngestOverloadedException extends RuntimeException {
+
+    /** Serial. */
+    private static final long serialVersionUID = 1L;
+    
+    /** Delay before retrying, in seconds. */
+    private final long retryAfterSeconds;
+    
+    /**
+     * Constructor with message.
+     *
+     * @param message
+     *      error message
+     * @param retryAfterSeconds
+     *      delay before retrying
+     */
+    public IngestOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+     * Getter accessor for attribute 'retryAfterSeconds'.
+     *
+     * @return
+     *       current value of 'retryAfterSeconds'
+     */
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+    
+}
@@ -0,0 +1,23 @@
+package com.datastax.astra.service;
+
+/**
+ * Raised when a spacecraft sends readings faster than its rate limit, client should slow down.
+ */
+public class IngestRateLimitedException extends IngestOverloadedException {
+
+    /** Serial. */
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Constructor with message.
+     *
+     * @param message
+     *      error message
+     * @param retryAfterSeconds
+     *      delay before retrying
+     */
+    public IngestRateLimitedException(String message, long retryAfterSeconds) {
+        super(message, retryAfterSeconds);
+    }
+    
+}
@@ -0,0 +1,22 @@
+package com.datastax.astra.service;
+
+/**
+ * Raised when a request carries more readings than the burst of its spacecraft, it would never be accepted:
+ * client should split it.
+ */
+public class IngestTooLargeException extends RuntimeException {
+
+    /** Serial. */
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Constructor with message.
+     *
+     * @param message
+     *      error message
+     */
+    public IngestTooLargeException(String message) {
+        super(message);
+    }
+    
+}
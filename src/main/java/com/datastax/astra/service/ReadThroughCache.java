@@ -0,0 +1,242 @@
+package com.datastax.astra.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Read-through cache bounded by number of entries and time to live.
+ *
+ * A missing entry is loaded by the first caller, concurrent callers wait for the same load. An entry
+ * read after 'refreshAheadMillis' is reloaded in background while the current value is still served,
+ * so entries read often never expire on a request thread. Above 'maxEntries' the least recently read
+ * entry is evicted.
+ *
+ * @param <K>
+ *      key type
+ * @param <V>
+ *      value type
+ */
+public class ReadThroughCache<K, V> {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadThroughCache.class);
+
+    /** Cache name for logs and statistics. */
+    private final String name;
+
+    /** Load a value from Astra. */
+    private final Function<K, V> loader;
+
+    /** Bounds. */
+    private final int  maxEntries;
+    private final long ttlMillis;
+    private final long refreshAheadMillis;
+
+    /** Runs background refreshes. */
+    private final Executor refresher;
+
+    /** Entries. */
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /** Statistics. */
+    private final LongAdder hits      = new LongAdder();
+    private final LongAdder misses    = new LongAdder();
+    private final LongAdder refreshes = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param name
+     *      cache name
+     * @param loader
+     *      load a value from Astra
+     * @param maxEntries
+     *      maximum number of entries
+     * @param ttlMillis
+     *      entries older than this are loaded again
+     * @param refreshAheadMillis
+     *      entries older than this are refreshed in background when read
+     * @param refresher
+     *      runs background refreshes
+     */
+    public ReadThroughCache(String name, Function<K, V> loader,
+            int maxEntries, long ttlMillis, long refreshAheadMillis, Executor refresher) {
+        if (maxEntries < 1 || ttlMillis < 1 || refreshAheadMillis < 0 || refreshAheadMillis > ttlMillis) {
+            throw new IllegalArgumentException("Invalid cache " + name + ": maxEntries=" + maxEntries
+                    + ", ttlMillis=" + ttlMillis + ", refreshAheadMillis=" + refreshAheadMillis);
+        }
+        this.name               = name;
+        this.loader             = loader;
+        this.maxEntries         = maxEntries;
+        this.ttlMillis          = ttlMillis;
+        this.refreshAheadMillis = refreshAheadMillis;
+        this.refresher          = refresher;
+    }
+
+    /**
+     * Read a value, loading it when missing or expired.
+     *
+     * @param key
+     *      key
+     * @return
+     *      value
+     */
+    public V get(K key) {
+        long now = System.currentTimeMillis();
+        Entry<V> entry = entries.get(key);
+        if (null != entry && !entry.isExpired(now, ttlMillis)) {
+            hits.increment();
+            entry.lastRead = now;
+            if (entry.isLoaded() && now - entry.loadedAt >= refreshAheadMillis && entry.refreshing.compareAndSet(false, true)) {
+                refreshes.increment();
+                refresher.execute(() -> refresh(key, entry));
+            }
+            return join(key, entry);
+        }
+        Entry<V> loading = new Entry<>(now);
+        boolean owner = (null == entry) ? null == entries.putIfAbsent(key, loading) : entries.replace(key, entry, loading);
+        if (!owner) {
+            // Another caller is loading it
+            return get(key);
+        }
+        misses.increment();
+        evictIfNeeded();
+        try {
+            loading.complete(loader.apply(key), System.currentTimeMillis());
+        } catch (RuntimeException re) {
+            entries.remove(key, loading);
+            loading.value.completeExceptionally(re);
+            throw re;
+        }
+        return join(key, loading);
+    }
+
+    /**
+     * Remove an entry, next read loads it again.
+     *
+     * @param key
+     *      key
+     */
+    public void invalidate(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * Remove all entries.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @return
+     *      entries, hits, misses, hit ratio, refreshes and evictions
+     */
+    public Map<String, Object> getStats() {
+        long hitCount  = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("entries", entries.size());
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", (hitCount + missCount) == 0 ? 0d : (double) hitCount / (hitCount + missCount));
+        stats.put("refreshes", refreshes.sum());
+        stats.put("evictions", evictions.sum());
+        return stats;
+    }
+
+    /**
+     * Load the value again, the entry is only replaced if it has not been invalidated meanwhile.
+     */
+    private void refresh(K key, Entry<V> entry) {
+        try {
+            Entry<V> refreshed = new Entry<>(System.currentTimeMillis());
+            refreshed.lastRead = entry.lastRead;
+            refreshed.complete(loader.apply(key), System.currentTimeMillis());
+            entries.replace(key, entry, refreshed);
+        } catch (RuntimeException re) {
+            LOGGER.warn("Cannot refresh {} entry {}, keeping current value: {}", name, key, re.getMessage());
+        } finally {
+            entry.refreshing.set(false);
+        }
+    }
+
+    /**
+     * Evict the least recently read entries above the bound (scan, only on misses).
+     */
+    private void evictIfNeeded() {
+        while (entries.size() > maxEntries) {
+            K oldest = null;
+            long oldestRead = Long.MAX_VALUE;
+            for (Map.Entry<K, Entry<V>> candidate : entries.entrySet()) {
+                if (candidate.getValue().isLoaded() && candidate.getValue().lastRead < oldestRead) {
+                    oldest     = candidate.getKey();
+                    oldestRead = candidate.getValue().lastRead;
+                }
+            }
+            if (null == oldest) {
+                return;
+            }
+            if (null != entries.remove(oldest)) {
+                evictions.increment();
+            }
+        }
+    }
+
+    private V join(K key, Entry<V> entry) {
+        try {
+            return entry.value.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            }
+            throw new IllegalStateException("Cannot load " + name + " entry " + key, ce.getCause());
+        }
+    }
+
+    /**
+     * Value being loaded or loaded.
+     */
+    private static final class Entry<V> {
+
+        private final CompletableFuture<V> value = new CompletableFuture<>();
+
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+
+        private volatile long loadedAt;
+
+        private volatile long lastRead;
+
+        private Entry(long now) {
+            this.lastRead = now;
+        }
+
+        private void complete(V loaded, long now) {
+            this.loadedAt = now;
+            value.complete(loaded);
+        }
+
+        private boolean isLoaded() {
+            return value.isDone();
+        }
+
+        private boolean isExpired(long now, long ttlMillis) {
+            return isLoaded() && now - loadedAt >= ttlMillis;
+        }
+    }
+
+}
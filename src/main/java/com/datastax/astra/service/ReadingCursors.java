@@ -0,0 +1,144 @@
+package com.datastax.astra.service;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Seek cursors: the last reading_time of a page, the next page is the clustering range before it.
+ *
+ * A cursor does not depend on the driver nor on the page size. It is 18 bytes, base64url encoded (24 chars):
+ * version, instrument, reading_time in epoch millis and a truncated HMAC-SHA256. The signature also covers the
+ * spacecraft and the journey, so a cursor cannot be replayed on another partition. With the same secret, the
+ * same position always gives the same cursor, on every instance. Without a configured secret a random key is
+ * used, cursors are then only valid on the instance that issued them, until it restarts.
+ */
+@Component
+public class ReadingCursors {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingCursors.class);
+
+    /** Layout of a cursor. */
+    private static final byte VERSION         = 1;
+    private static final int  PAYLOAD_BYTES   = 1 + 1 + Long.BYTES;
+    private static final int  SIGNATURE_BYTES = 8;
+
+    /** HMAC algorithm. */
+    private static final String ALGORITHM = "HmacSHA256";
+
+    /** Signing key. */
+    private final SecretKeySpec key;
+
+    /**
+     * Constructor.
+     *
+     * @param readProperties
+     *      read path settings
+     */
+    public ReadingCursors(ReadProperties readProperties) {
+        byte[] secret;
+        String configured = readProperties.getCursorSecret();
+        if (null == configured || configured.isEmpty()) {
+            LOGGER.warn("No 'astra.read.cursor-secret' (ASTRA_CURSOR_SECRET), seek cursors are signed with a random key "
+                    + "and only valid on this instance until it restarts: set the same secret on every instance");
+            secret = new byte[32];
+            new SecureRandom().nextBytes(secret);
+        } else {
+            secret = configured.getBytes(StandardCharsets.UTF_8);
+        }
+        this.key = new SecretKeySpec(secret, ALGORITHM);
+    }
+
+    /**
+     * Cursor of the next page.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param lastReadingTime
+     *      reading_time of the last reading of the page
+     * @return
+     *      cursor
+     */
+    public String encode(Instrument instrument, String spacecraftName, UUID journeyId, Instant lastReadingTime) {
+        ByteBuffer cursor = ByteBuffer.allocate(PAYLOAD_BYTES + SIGNATURE_BYTES);
+        cursor.put(VERSION).put((byte) instrument.ordinal()).putLong(lastReadingTime.toEpochMilli());
+        cursor.put(sign(cursor.array(), spacecraftName, journeyId), 0, SIGNATURE_BYTES);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.array());
+    }
+
+    /**
+     * Reading_time of a cursor, next page holds readings strictly before it.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param cursor
+     *      cursor returned with the previous page
+     * @return
+     *      reading_time of the last reading of the previous page
+     * @throws IllegalArgumentException
+     *      malformed cursor, or issued for another partition or instrument
+     */
+    public Instant decode(Instrument instrument, String spacecraftName, UUID journeyId, String cursor) {
+        byte[] bytes;
+        try {
+            bytes = Base64.getUrlDecoder().decode(cursor);
+        } catch (IllegalArgumentException iae) {
+            throw new IllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+        if (bytes.length != PAYLOAD_BYTES + SIGNATURE_BYTES || bytes[0] != VERSION) {
+            throw new IllegalArgumentException("Invalid cursor '" + cursor + "'");
+        }
+        byte[] expected = sign(bytes, spacecraftName, journeyId);
+        byte[] actual   = new byte[SIGNATURE_BYTES];
+        System.arraycopy(bytes, PAYLOAD_BYTES, actual, 0, SIGNATURE_BYTES);
+        byte[] truncated = new byte[SIGNATURE_BYTES];
+        System.arraycopy(expected, 0, truncated, 0, SIGNATURE_BYTES);
+        if (!MessageDigest.isEqual(truncated, actual) || bytes[1] != instrument.ordinal()) {
+            throw new IllegalArgumentException("Cursor '" + cursor + "' was not issued for these "
+                    + instrument.key() + " readings");
+        }
+        return Instant.ofEpochMilli(ByteBuffer.wrap(bytes, 2, Long.BYTES).getLong());
+    }
+
+    /**
+     * Signature of the payload (first bytes of the cursor) for a partition.
+     */
+    private byte[] sign(byte[] cursor, String spacecraftName, UUID journeyId) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            mac.update(cursor, 0, PAYLOAD_BYTES);
+            mac.update(ByteBuffer.allocate(2 * Long.BYTES)
+                    .putLong(journeyId.getMostSignificantBits())
+                    .putLong(journeyId.getLeastSignificantBits()).array());
+            return mac.doFinal(spacecraftName.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Cannot sign cursor", e);
+        }
+    }
+
+}
@@ -0,0 +1,200 @@
+package com.datastax.astra.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.model.ExportFormat;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.utils.ReadingRowWriter;
+import com.datastax.astra.utils.ReadingRowWriter.Columns;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Export every reading of a journey for an instrument, page by page.
+ *
+ * The next driver page is requested before the current one is written, so Astra and the client work
+ * at the same time, and rows are written straight from the driver without entities. Each page is
+ * flushed as a chunk: an export holds at most the page being written and the page being fetched.
+ */
+@Component
+public class ReadingExporter {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingExporter.class);
+
+    /** Read path. */
+    private final AstraService astraService;
+
+    /** Json mapper configured by Spring. */
+    private final ObjectMapper objectMapper;
+
+    /** Rows per driver page. */
+    private final int pageSize;
+
+    /**
+     * Constructor.
+     *
+     * @param astraService
+     *      read path
+     * @param objectMapper
+     *      json mapper
+     * @param readProperties
+     *      read path settings
+     */
+    public ReadingExporter(AstraService astraService, ObjectMapper objectMapper, ReadProperties readProperties) {
+        this.astraService = astraService;
+        this.objectMapper = objectMapper;
+        this.pageSize     = Math.max(1, readProperties.getExportPageSize());
+    }
+
+    /**
+     * Write readings of a journey, latest first.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param format
+     *      ndjson or csv
+     * @param out
+     *      response body, not closed
+     * @return
+     *      number of readings written
+     * @throws IOException
+     *      cannot write, usually the client went away
+     */
+    public long export(Instrument instrument, String spacecraftName, UUID journeyId, ReadingRange range,
+            ExportFormat format, OutputStream out) throws IOException {
+        RowSink sink = (format == ExportFormat.CSV) ? new CsvSink(instrument, out) : new JsonSink(instrument, out);
+        long count = 0;
+        AsyncResultSet page = join(astraService.getSpaceCraftInstrumentsDao().exportReadingRowsAsync(instrument,
+                spacecraftName, journeyId, range, Optional.of(pageSize), Optional.empty()).toCompletableFuture());
+        while (true) {
+            // Prefetch the next page while this one is written
+            CompletableFuture<AsyncResultSet> next = page.hasMorePages() ? page.fetchNextPage().toCompletableFuture() : null;
+            for (Row row : page.currentPage()) {
+                sink.write(row);
+                count++;
+            }
+            sink.flush();
+            if (null == next) {
+                break;
+            }
+            page = join(next);
+        }
+        LOGGER.debug("{} {} reading(s) exported as {} for spacecraft {} and journey {}",
+                count, instrument.key(), format, spacecraftName, journeyId);
+        return count;
+    }
+
+    private static AsyncResultSet join(CompletableFuture<AsyncResultSet> page) {
+        try {
+            return page.join();
+        } catch (CompletionException ce) {
+            if (ce.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ce.getCause();
+            }
+            throw new IllegalStateException("Cannot read page of readings", ce.getCause());
+        }
+    }
+
+    /**
+     * Write rows in the format of the export.
+     */
+    private interface RowSink {
+
+        void write(Row row) throws IOException;
+
+        /** End of a page, sent as a chunk. */
+        void flush() throws IOException;
+    }
+
+    /**
+     * One json document per line.
+     */
+    private final class JsonSink implements RowSink {
+
+        private final Instrument instrument;
+
+        private final JsonGenerator generator;
+
+        /** Resolved on the first row, all pages have the same columns. */
+        private Columns columns;
+
+        private JsonSink(Instrument instrument, OutputStream out) throws IOException {
+            this.instrument = instrument;
+            this.generator  = objectMapper.getFactory().createGenerator(out)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            // Documents are separated by new lines only, not by the default space
+            generator.setRootValueSeparator(null);
+        }
+
+        @Override
+        public void write(Row row) throws IOException {
+            if (null == columns) {
+                columns = Columns.of(instrument, row.getColumnDefinitions());
+            }
+            ReadingRowWriter.writeJson(generator, columns, row);
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void flush() throws IOException {
+            generator.flush();
+        }
+    }
+
+    /**
+     * Header line then one reading per line.
+     */
+    private static final class CsvSink implements RowSink {
+
+        private final Instrument instrument;
+
+        private final Writer writer;
+
+        /** Resolved on the first row, all pages have the same columns. */
+        private Columns columns;
+
+        private CsvSink(Instrument instrument, OutputStream out) throws IOException {
+            this.instrument = instrument;
+            this.writer     = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+            ReadingRowWriter.writeCsvHeader(writer, instrument);
+        }
+
+        @Override
+        public void write(Row row) throws IOException {
+            if (null == columns) {
+                columns = Columns.of(instrument, row.getColumnDefinitions());
+            }
+            ReadingRowWriter.writeCsv(writer, columns, row);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+    }
+
+}
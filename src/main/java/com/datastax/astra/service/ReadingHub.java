@@ -0,0 +1,400 @@
+package com.datastax.astra.service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.config.ReadProperties.LiveSettings;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.astra.utils.ReadingRowWriter;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Fan-out of written readings to live subscribers of a journey and instrument.
+ *
+ * Frames are queued per subscriber as published, off the ingestion path: a frame is serialized by the
+ * first dispatcher thread sending it, once whatever the number of subscribers, and never when every
+ * subscriber dropped it. Queues are bounded: a slow subscriber loses its oldest readings, and is told how
+ * many, instead of slowing down ingestion or the other subscribers. Queues are drained by a small pool of
+ * dispatcher threads, subscribers still open on shutdown are completed.
+ */
+@Component
+public class ReadingHub {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingHub.class);
+
+    /** Messages sent per subscriber before yielding the dispatcher thread. */
+    private static final int MAX_MESSAGES_PER_DRAIN = 32;
+
+    /** Receive messages of a subscription, called by one dispatcher thread at a time. */
+    public interface Sink {
+
+        /**
+         * Send readings.
+         *
+         * @param readings
+         *      json array of readings
+         * @throws IOException
+         *      subscriber is gone, the subscription is closed
+         */
+        void send(byte[] readings) throws IOException;
+
+        /**
+         * Tell the subscriber readings have been dropped.
+         *
+         * @param frames
+         *      number of frames dropped since the last message
+         * @throws IOException
+         *      subscriber is gone, the subscription is closed
+         */
+        void dropped(long frames) throws IOException;
+
+        /**
+         * The hub is shutting down, end the stream.
+         */
+        void complete();
+    }
+
+    /** Json mapper configured by Spring. */
+    private final ObjectMapper objectMapper;
+
+    /** Frames queued per subscriber. */
+    private final int queueCapacity;
+
+    /** Subscriptions without timeout are closed after this delay. */
+    private final long timeoutMillis;
+
+    /** Send messages to subscribers. */
+    private final ExecutorService dispatcher;
+
+    /** Subscriptions per journey and instrument. */
+    private final ConcurrentMap<Topic, List<Subscription>> topics = new ConcurrentHashMap<>();
+    private final AtomicInteger subscribers = new AtomicInteger();
+
+    /** Statistics. */
+    private final LongAdder published = new LongAdder();
+    private final LongAdder sent      = new LongAdder();
+    private final LongAdder dropped   = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param readProperties
+     *      read path settings
+     * @param objectMapper
+     *      json mapper
+     */
+    public ReadingHub(ReadProperties readProperties, ObjectMapper objectMapper) {
+        LiveSettings settings = readProperties.getLive();
+        this.objectMapper  = objectMapper;
+        this.queueCapacity = Math.max(1, settings.getQueueCapacity());
+        this.timeoutMillis = settings.getTimeoutMillis();
+        AtomicInteger threads = new AtomicInteger();
+        this.dispatcher = Executors.newFixedThreadPool(Math.max(1, settings.getDispatchThreads()), runnable -> {
+            Thread sender = new Thread(runnable, "astra-live-dispatch-" + threads.incrementAndGet());
+            sender.setDaemon(true);
+            return sender;
+        });
+    }
+
+    /**
+     * Subscribe to readings of a journey and instrument written from now on.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param sink
+     *      receive messages
+     * @return
+     *      subscription, to be closed
+     */
+    public Subscription subscribe(Instrument instrument, String spacecraftName, UUID journeyId, Sink sink) {
+        Topic topic = new Topic(instrument, spacecraftName, journeyId);
+        Subscription subscription = new Subscription(topic, sink);
+        topics.compute(topic, (key, subscriptions) -> {
+            List<Subscription> updated = (null == subscriptions) ? new CopyOnWriteArrayList<>() : subscriptions;
+            updated.add(subscription);
+            return updated;
+        });
+        subscribers.incrementAndGet();
+        LOGGER.debug("New {} subscriber for spacecraft {} and journey {}", instrument.key(), spacecraftName, journeyId);
+        return subscription;
+    }
+
+    /**
+     * Any live subscriber, nothing is published without.
+     *
+     * @return
+     *      true when at least one subscription is open
+     */
+    public boolean hasSubscribers() {
+        return subscribers.get() > 0;
+    }
+
+    /**
+     * Publish written readings to the subscribers of their journey and instrument, never blocks.
+     *
+     * @param frame
+     *      readings of an instrument for one journey
+     */
+    public void publish(ReadingsFrame frame) {
+        if (!hasSubscribers() || frame.size() == 0) {
+            return;
+        }
+        List<Subscription> subscriptions = topics.get(
+                new Topic(frame.getInstrument(), frame.getSpacecraftName(), frame.getJourneyId()));
+        if (null == subscriptions || subscriptions.isEmpty()) {
+            return;
+        }
+        Message message = new Message(frame);
+        published.increment();
+        for (Subscription subscription : subscriptions) {
+            subscription.offer(message);
+        }
+    }
+
+    /**
+     * Statistics of the hub.
+     *
+     * @return
+     *      subscribers, frames published, messages sent and frames dropped
+     */
+    public Map<String, Object> getStats() {
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("subscribers", subscribers.get());
+        stats.put("topics", topics.size());
+        stats.put("published", published.sum());
+        stats.put("sent", sent.sum());
+        stats.put("dropped", dropped.sum());
+        return stats;
+    }
+
+    /**
+     * Getter accessor for attribute 'timeoutMillis'.
+     *
+     * @return
+     *       current value of 'timeoutMillis'
+     */
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+     * Stop sending messages and complete the open subscriptions.
+     */
+    @PreDestroy
+    public void close() {
+        dispatcher.shutdownNow();
+        for (List<Subscription> subscriptions : topics.values()) {
+            for (Subscription subscription : subscriptions) {
+                try {
+                    subscription.sink.complete();
+                } catch (RuntimeException re) {
+                    LOGGER.debug("Cannot complete {} subscription: {}", subscription.topic.instrument.key(), re.getMessage());
+                }
+                subscription.close();
+            }
+        }
+    }
+
+    private byte[] serialize(ReadingsFrame frame) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(frame.size() * 160);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out, JsonEncoding.UTF8)) {
+            generator.writeStartArray();
+            for (int i = 0; i < frame.size(); i++) {
+                ReadingRowWriter.writeJson(generator, frame, i);
+            }
+            generator.writeEndArray();
+        } catch (IOException e) {
+            // In memory, not expected
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * Subscriber of a journey and instrument with its bounded queue.
+     */
+    public final class Subscription {
+
+        private final Topic topic;
+
+        private final Sink sink;
+
+        /** Guarded by this. */
+        private final ArrayDeque<Message> queue = new ArrayDeque<>();
+        private long    droppedFrames;
+        private boolean scheduled;
+        private boolean closed;
+
+        private Subscription(Topic topic, Sink sink) {
+            this.topic = topic;
+            this.sink  = sink;
+        }
+
+        /**
+         * Stop receiving readings, idempotent.
+         */
+        public void close() {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+                queue.clear();
+            }
+            topics.computeIfPresent(topic, (key, subscriptions) -> {
+                subscriptions.remove(this);
+                return subscriptions.isEmpty() ? null : subscriptions;
+            });
+            subscribers.decrementAndGet();
+        }
+
+        private void offer(Message message) {
+            synchronized (this) {
+                if (closed) {
+                    return;
+                }
+                if (queue.size() == queueCapacity) {
+                    // Drop oldest
+                    queue.poll();
+                    droppedFrames++;
+                    dropped.increment();
+                }
+                queue.add(message);
+                if (scheduled) {
+                    return;
+                }
+                scheduled = true;
+            }
+            schedule();
+        }
+
+        private void schedule() {
+            try {
+                dispatcher.execute(this::drain);
+            } catch (RuntimeException re) {
+                // Dispatcher shut down
+                close();
+            }
+        }
+
+        private void drain() {
+            for (int i = 0; i < MAX_MESSAGES_PER_DRAIN; i++) {
+                Message message;
+                long    lost;
+                synchronized (this) {
+                    message = queue.poll();
+                    if (null == message) {
+                        scheduled = false;
+                        return;
+                    }
+                    lost = droppedFrames;
+                    droppedFrames = 0;
+                }
+                try {
+                    if (lost > 0) {
+                        sink.dropped(lost);
+                    }
+                    sink.send(message.bytes());
+                    sent.increment();
+                } catch (IOException | RuntimeException e) {
+                    LOGGER.debug("Closing {} subscription: {}", topic.instrument.key(), e.getMessage());
+                    close();
+                    return;
+                }
+            }
+            // Let other subscribers go first
+            schedule();
+        }
+    }
+
+    /**
+     * Frame shared by the subscribers of its topic, serialized on first send.
+     */
+    private final class Message {
+
+        private final ReadingsFrame frame;
+
+        /** Guarded by this. */
+        private byte[] bytes;
+
+        private Message(ReadingsFrame frame) {
+            this.frame = frame;
+        }
+
+        private synchronized byte[] bytes() {
+            if (null == bytes) {
+                bytes = serialize(frame);
+            }
+            return bytes;
+        }
+    }
+
+    /**
+     * Journey and instrument.
+     */
+    private static final class Topic {
+
+        private final Instrument instrument;
+
+        private final String spacecraftName;
+
+        private final UUID journeyId;
+
+        private Topic(Instrument instrument, String spacecraftName, UUID journeyId) {
+            this.instrument     = instrument;
+            this.spacecraftName = spacecraftName;
+            this.journeyId      = journeyId;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Topic)) {
+                return false;
+            }
+            Topic other = (Topic) o;
+            return instrument == other.instrument 
+                    && spacecraftName.equals(other.spacecraftName) 
+                    && journeyId.equals(other.journeyId);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(instrument, spacecraftName, journeyId);
+        }
+    }
+
+}
@@ -0,0 +1,210 @@
+package com.datastax.astra.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.config.ReadProperties.PageCacheSettings;
+import com.datastax.astra.model.ReadingRange;
+
+/**
+ * Pages of readings of sealed journeys (inactive and ended) kept as serialized JSON.
+ *
+ * Readings of a sealed journey are not expected to change, so a page is fully identified by its table, partition,
+ * range, page size and paging state: a hit skips both Astra and Jackson. Pages are evicted least
+ * recently read first once the cached bytes go above 'maxBytes'.
+ *
+ * Nothing prevents late writes to a sealed journey (replays, backfills), the write path invalidates the pages
+ * of the partitions it writes. A page read while its partition is written is not cached.
+ */
+@Component
+public class ReadingPageCache {
+
+    /** Pages are not cached when disabled. */
+    private final boolean enabled;
+
+    /** Budget of the cached pages. */
+    private final long maxBytes;
+
+    /** Pages larger than this are not cached. */
+    private final long maxPageBytes;
+
+    /** Pages in access order, guarded by this. */
+    private final LinkedHashMap<String, byte[]> pages = new LinkedHashMap<>(256, 0.75f, true);
+    private long bytes;
+
+    /** Writes seen per partition with cached pages, a page is cached only if none happened while it was read. */
+    private final ConcurrentMap<String, Long> writes = new ConcurrentHashMap<>();
+
+    /** Statistics. */
+    private final LongAdder hits      = new LongAdder();
+    private final LongAdder misses    = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param readProperties
+     *      read path settings
+     */
+    public ReadingPageCache(ReadProperties readProperties) {
+        PageCacheSettings settings = readProperties.getPageCache();
+        this.enabled      = settings.isEnabled();
+        this.maxBytes     = settings.getMaxBytes();
+        this.maxPageBytes = settings.getMaxPageBytes();
+    }
+
+    /**
+     * Key of a partition, prefix of the keys of its pages.
+     *
+     * @param tableName
+     *      table of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @return
+     *      key
+     */
+    public static String partition(String tableName, String spacecraftName, UUID journeyId) {
+        return tableName + "/" + spacecraftName + "/" + journeyId + "/";
+    }
+
+    /**
+     * Key of a page.
+     *
+     * @param tableName
+     *      table of the readings
+     * @param spacecraftName
+     *      spacecraft name
+     * @param journeyId
+     *      journey identifier
+     * @param range
+     *      window of reading_time and limit
+     * @param pageSize
+     *      requested page size
+     * @param pageState
+     *      requested paging state
+     * @return
+     *      key
+     */
+    public static String key(String tableName, String spacecraftName, UUID journeyId,
+            ReadingRange range, Optional<Integer> pageSize, Optional<String> pageState) {
+        return partition(tableName, spacecraftName, journeyId) + range.getFrom() + "/" + range.getTo() + "/" + range.getLimit()
+                + "/" + pageSize.orElse(null) + "/" + pageState.orElse("");
+    }
+
+    /**
+     * Serialized page, read and cached on a miss.
+     *
+     * @param partition
+     *      key of the partition of the page
+     * @param key
+     *      key of the page
+     * @param reader
+     *      read the page from Astra as JSON
+     * @return
+     *      page as JSON
+     */
+    public byte[] get(String partition, String key, Supplier<byte[]> reader) {
+        byte[] json;
+        synchronized (this) {
+            json = pages.get(key);
+        }
+        if (null != json) {
+            hits.increment();
+            return json;
+        }
+        misses.increment();
+        long before = writes.computeIfAbsent(partition, p -> 0L);
+        json = reader.get();
+        if (json.length <= maxPageBytes) {
+            synchronized (this) {
+                if (writes.get(partition) == before) {
+                    put(key, json);
+                }
+            }
+        }
+        return json;
+    }
+
+    /**
+     * Readings of a partition have been written, its pages are dropped.
+     *
+     * @param partition
+     *      key of the partition
+     */
+    public void invalidate(String partition) {
+        if (!writes.containsKey(partition)) {
+            // No page of the partition has been cached
+            return;
+        }
+        synchronized (this) {
+            writes.computeIfPresent(partition, (p, count) -> count + 1);
+            Iterator<Map.Entry<String, byte[]>> entries = pages.entrySet().iterator();
+            while (entries.hasNext()) {
+                Map.Entry<String, byte[]> page = entries.next();
+                if (page.getKey().startsWith(partition)) {
+                    bytes -= page.getValue().length;
+                    entries.remove();
+                    invalidations.increment();
+                }
+            }
+        }
+    }
+
+    /**
+     * Statistics of the cache.
+     *
+     * @return
+     *      pages, bytes, hits, misses, hit ratio and evictions
+     */
+    public Map<String, Object> getStats() {
+        long hitCount  = hits.sum();
+        long missCount = misses.sum();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        synchronized (this) {
+            stats.put("entries", pages.size());
+            stats.put("bytes", bytes);
+        }
+        stats.put("hits", hitCount);
+        stats.put("misses", missCount);
+        stats.put("hitRatio", (hitCount + missCount) == 0 ? 0d : (double) hitCount / (hitCount + missCount));
+        stats.put("evictions", evictions.sum());
+        stats.put("invalidations", invalidations.sum());
+        return stats;
+    }
+
+    /**
+     * Getter accessor for attribute 'enabled'.
+     *
+     * @return
+     *       current value of 'enabled'
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /** Must hold the lock. */
+    private void put(String key, byte[] json) {
+        byte[] previous = pages.put(key, json);
+        bytes += json.length - (null == previous ? 0 : previous.length);
+        Iterator<byte[]> eldest = pages.values().iterator();
+        while (bytes > maxBytes && eldest.hasNext()) {
+            bytes -= eldest.next().length;
+            eldest.remove();
+            evictions.increment();
+        }
+    }
+
+}
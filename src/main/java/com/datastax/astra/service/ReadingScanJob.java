@@ -0,0 +1,298 @@
+package com.datastax.astra.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.oss.driver.api.core.PagingIterable;
+import com.datastax.oss.driver.api.core.cql.Row;
+
+/**
+ * Aggregation of the readings of an instrument over all partitions, by token ranges.
+ *
+ * The ranges are split in halves down to a single range, forked on the pool of the scanner: each range is
+ * folded by its own aggregators and the states are merged when the halves are joined. A range is read with a
+ * permit of the scanner, whatever the threads the pool adds while tasks are joined. Progress is updated
+ * after every page and cancellation is checked between pages, a cancelled job keeps the results of the
+ * ranges read so far.
+ */
+public class ReadingScanJob {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingScanJob.class);
+
+    /** Lifecycle of a job. */
+    public enum State { RUNNING, COMPLETED, CANCELLED, FAILED }
+
+    /** Read (reading_time, value, unit) rows of a token range. */
+    public interface RangeReader {
+
+        /**
+         * Query rows of a token range.
+         *
+         * @param tokenStart
+         *      start of the range, exclusive
+         * @param tokenEnd
+         *      end of the range, inclusive
+         * @return
+         *      rows, next pages are fetched while iterating
+         */
+        PagingIterable<Row> read(long tokenStart, long tokenEnd);
+    }
+
+    /** Identifier of the job. */
+    private final UUID id = UUID.randomUUID();
+
+    /** Readings aggregated. */
+    private final Instrument instrument;
+    private final ReadingRange range;
+
+    /** Aggregators by name. */
+    private final Map<String, Supplier<ScanAggregator>> aggregators;
+
+    /** Boundaries of the token ranges. */
+    private final long[] bounds;
+
+    /** Read a range against Astra. */
+    private final RangeReader reader;
+
+    /** Ranges read at the same time, shared by all jobs. */
+    private final Semaphore reads;
+
+    /** Progress. */
+    private final AtomicInteger rangesDone = new AtomicInteger();
+    private final LongAdder     rows       = new LongAdder();
+
+    /** Set once. */
+    private final long startedAt = System.currentTimeMillis();
+    private volatile long   finishedAt;
+    private volatile String unit;
+    private volatile String error;
+    private volatile Map<String, Object> results;
+
+    private volatile boolean cancelled;
+    private volatile State state = State.RUNNING;
+
+    /**
+     * Constructor.
+     *
+     * @param instrument
+     *      scalar instrument
+     * @param range
+     *      window of reading_time of each partition
+     * @param aggregators
+     *      aggregators by name
+     * @param bounds
+     *      boundaries of the token ranges
+     * @param reads
+     *      permits to read a range, shared by all jobs
+     * @param reader
+     *      read a range against Astra
+     */
+    public ReadingScanJob(Instrument instrument, ReadingRange range,
+            Map<String, Supplier<ScanAggregator>> aggregators, long[] bounds, Semaphore reads, RangeReader reader) {
+        this.instrument  = instrument;
+        this.range       = range;
+        this.aggregators = aggregators;
+        this.bounds      = bounds;
+        this.reads       = reads;
+        this.reader      = reader;
+    }
+
+    /**
+     * Read all ranges, to be invoked from a thread of the fork-join pool.
+     */
+    public void run() {
+        try {
+            ScanAggregator[] states = new RangeTask(0, bounds.length - 1).invoke();
+            Map<String, Object> values = new LinkedHashMap<>();
+            int i = 0;
+            for (String name : aggregators.keySet()) {
+                values.put(name, states[i++].result());
+            }
+            results = values;
+            state   = (cancelled && rangesDone.get() < bounds.length - 1) ? State.CANCELLED : State.COMPLETED;
+        } catch (RuntimeException re) {
+            // Ranges still being read are stopped, join rethrows a copy of the exception of the failed range
+            cancelled = true;
+            Throwable cause = (null != re.getCause() && re.getClass() == re.getCause().getClass()) ? re.getCause() : re;
+            LOGGER.warn("Scan {} of {} readings failed after {} row(s): {}", id, instrument.key(), rows.sum(), cause.getMessage());
+            error = cause.getMessage();
+            state = State.FAILED;
+        } finally {
+            finishedAt = System.currentTimeMillis();
+        }
+        LOGGER.info("Scan {} of {} readings {} in {} millis, {} row(s) in {}/{} range(s)", id, instrument.key(), 
+                state, finishedAt - startedAt, rows.sum(), rangesDone.get(), bounds.length - 1);
+    }
+
+    /**
+     * Stop reading, ranges being read stop at the end of their current page.
+     *
+     * @return
+     *      false if the job was not running
+     */
+    public boolean cancel() {
+        if (isDone()) {
+            return false;
+        }
+        cancelled = true;
+        return true;
+    }
+
+    /**
+     * Completed, cancelled or failed.
+     *
+     * @return
+     *      if the job is over
+     */
+    public boolean isDone() {
+        return State.RUNNING != state;
+    }
+
+    /**
+     * Getter accessor for attribute 'id'.
+     *
+     * @return
+     *       current value of 'id'
+     */
+    public UUID getId() {
+        return id;
+    }
+
+    /**
+     * Progress and, once over, results of the job.
+     *
+     * @return
+     *      state, ranges read, rows read, elapsed time and results per aggregator
+     */
+    public Map<String, Object> getStatus() {
+        State current = state;
+        int   ranges  = bounds.length - 1;
+        int   done    = rangesDone.get();
+        long  end     = (State.RUNNING == current) ? System.currentTimeMillis() : finishedAt;
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("id", id);
+        status.put("instrument", instrument.key());
+        status.put("from", range.getFrom());
+        status.put("to", range.getTo());
+        status.put("aggregations", new ArrayList<>(aggregators.keySet()));
+        status.put("state", current);
+        status.put("ranges", ranges);
+        status.put("rangesDone", done);
+        status.put("progress", (double) done / ranges);
+        status.put("rows", rows.sum());
+        status.put("startedAt", Instant.ofEpochMilli(startedAt));
+        status.put("elapsedMillis", end - startedAt);
+        status.put("unit", unit);
+        status.put("results", results);
+        status.put("error", error);
+        return status;
+    }
+
+    private ScanAggregator[] newStates() {
+        List<ScanAggregator> states = new ArrayList<>(aggregators.size());
+        aggregators.values().forEach(factory -> states.add(factory.get()));
+        return states.toArray(new ScanAggregator[0]);
+    }
+
+    /**
+     * Ranges [from, to) of the boundaries, split until a single one is left.
+     */
+    private final class RangeTask extends RecursiveTask<ScanAggregator[]> {
+
+        /** Serial. */
+        private static final long serialVersionUID = 1L;
+
+        private final int from;
+
+        private final int to;
+
+        private RangeTask(int from, int to) {
+            this.from = from;
+            this.to   = to;
+        }
+
+        @Override
+        protected ScanAggregator[] compute() {
+            if (to - from == 1) {
+                return read();
+            }
+            int middle = (from + to) >>> 1;
+            RangeTask left = new RangeTask(from, middle);
+            left.fork();
+            ScanAggregator[] states = new RangeTask(middle, to).compute();
+            ScanAggregator[] others = left.join();
+            for (int i = 0; i < states.length; i++) {
+                states[i].merge(others[i]);
+            }
+            return states;
+        }
+
+        /**
+         * Fold the rows of a single range with a permit, blocking this worker.
+         */
+        private ScanAggregator[] read() {
+            ScanAggregator[] states = newStates();
+            if (cancelled) {
+                return states;
+            }
+            try {
+                reads.acquire();
+            } catch (InterruptedException ie) {
+                // Pool shut down
+                Thread.currentThread().interrupt();
+                cancelled = true;
+                return states;
+            }
+            try {
+                return read(states);
+            } finally {
+                reads.release();
+            }
+        }
+
+        private ScanAggregator[] read(ScanAggregator[] states) {
+            PagingIterable<Row> page = reader.read(bounds[from], bounds[to]);
+            long pageRows = 0;
+            for (Row row : page) {
+                pageRows++;
+                if (!row.isNull(1)) {
+                    long   epochMillis = row.getInstant(0).toEpochMilli();
+                    double value       = row.getDouble(1);
+                    for (ScanAggregator state : states) {
+                        state.add(epochMillis, value);
+                    }
+                    if (null == unit) {
+                        unit = row.getString(2);
+                    }
+                }
+                if (page.getAvailableWithoutFetching() == 0) {
+                    // End of a page, the next one is fetched by the next iteration
+                    rows.add(pageRows);
+                    pageRows = 0;
+                    if (cancelled && !page.isFullyFetched()) {
+                        return states;
+                    }
+                }
+            }
+            rows.add(pageRows);
+            rangesDone.incrementAndGet();
+            return states;
+        }
+    }
+
+}
@@ -0,0 +1,166 @@
+package com.datastax.astra.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.IngestProperties;
+import com.datastax.astra.entity.AbstractInstrumentReading;
+import com.datastax.astra.entity.SpacecraftLocationOverTime;
+import com.datastax.astra.entity.SpacecraftPressureOverTime;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.entity.SpacecraftTemperatureOverTime;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Ingest a stream of readings (one json document per line) chunk by chunk, while the body is being received.
+ */
+@Component
+public class ReadingStreamIngester {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingStreamIngester.class);
+
+    /** Write path. */
+    private final AstraService astraService;
+    
+    /** Chunks wait for the rate limit of their spacecraft. */
+    private final SpacecraftRateLimiter rateLimiter;
+
+    /** Json mapper configured by Spring (jsr310). */
+    private final ObjectMapper objectMapper;
+
+    /** Chunking. */
+    private final int chunkSize;
+    private final int chunksInFlight;
+
+    /**
+     * Constructor.
+     *
+     * @param astraService
+     *      write path
+     * @param objectMapper
+     *      json mapper
+     * @param ingestProperties
+     *      ingestion settings
+     * @param rateLimiter
+     *      rate limits per spacecraft
+     */
+    public ReadingStreamIngester(AstraService astraService, ObjectMapper objectMapper, 
+            IngestProperties ingestProperties, SpacecraftRateLimiter rateLimiter) {
+        this.astraService   = astraService;
+        this.rateLimiter    = rateLimiter;
+        this.objectMapper   = objectMapper;
+        this.chunkSize      = Math.max(1, ingestProperties.getStreamChunkSize());
+        this.chunksInFlight = Math.max(1, ingestProperties.getStreamChunksInFlight());
+    }
+
+    /**
+     * Read and write a stream of readings.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param spacecraftName
+     *      spacecraft name, set on readings without one, readings of other spacecrafts are rejected
+     * @param journeyId
+     *      journey identifier, set on readings without one, readings of other journeys are rejected
+     * @param in
+     *      request body
+     * @return
+     *      number of readings written
+     * @throws IOException
+     *      cannot read or parse the body
+     */
+    public long ingest(Instrument instrument, String spacecraftName, UUID journeyId, InputStream in)
+    throws IOException {
+        switch(instrument) {
+            case TEMPERATURE:
+                return ingest(in, SpacecraftTemperatureOverTime.class, SpacecraftTemperatureOverTime[]::new,
+                        astraService::insertTemperatureReading, spacecraftName, journeyId);
+            case PRESSURE:
+                return ingest(in, SpacecraftPressureOverTime.class, SpacecraftPressureOverTime[]::new,
+                        astraService::insertPressureReading, spacecraftName, journeyId);
+            case SPEED:
+                return ingest(in, SpacecraftSpeedOverTime.class, SpacecraftSpeedOverTime[]::new,
+                        astraService::insertSpeedReading, spacecraftName, journeyId);
+            case LOCATION:
+                return ingest(in, SpacecraftLocationOverTime.class, SpacecraftLocationOverTime[]::new,
+                        astraService::insertLocationReading, spacecraftName, journeyId);
+            default:
+                throw new IllegalArgumentException("Unsupported instrument " + instrument);
+        }
+    }
+
+    /**
+     * Only 'chunkSize' readings are held by the parser, reading the body pauses
+     * while 'chunksInFlight' chunks are being written or when the spacecraft is above its rate limit.
+     */
+    private <T extends AbstractInstrumentReading> long ingest(InputStream in,
+            Class<T> type, IntFunction<T[]> arrayFactory, Function<T[], CompletionStage<Boolean>> writer,
+            String spacecraftName, UUID journeyId) throws IOException {
+        long top   = System.currentTimeMillis();
+        long count = 0;
+        Deque<CompletableFuture<Boolean>> outstanding = new ArrayDeque<>();
+        JourneyPartition partition = new JourneyPartition(spacecraftName, journeyId);
+        try (JsonParser parser = objectMapper.getFactory().createParser(in);
+             MappingIterator<T> readings = objectMapper.readerFor(type).readValues(parser)) {
+            T[] chunk = arrayFactory.apply(chunkSize);
+            int size  = 0;
+            while (readings.hasNextValue()) {
+                T read = readings.nextValue();
+                partition.bind(read);
+                chunk[size++] = read;
+                count++;
+                if (size == chunkSize) {
+                    write(outstanding, writer, chunk, spacecraftName);
+                    chunk = arrayFactory.apply(chunkSize);
+                    size  = 0;
+                }
+            }
+            if (size > 0) {
+                write(outstanding, writer, Arrays.copyOf(chunk, size), spacecraftName);
+            }
+        } catch(JsonProcessingException invalid) {
+            throw new IllegalArgumentException("Invalid reading after " + count + " line(s): " 
+                        + invalid.getOriginalMessage(), invalid);
+        }
+        while (!outstanding.isEmpty()) {
+            await(outstanding.poll());
+        }
+        LOGGER.debug("{} reading(s) streamed in {} millis", count, System.currentTimeMillis() - top);
+        return count;
+    }
+
+    private <T> void write(Deque<CompletableFuture<Boolean>> outstanding,
+            Function<T[], CompletionStage<Boolean>> writer, T[] chunk, String spacecraftName) {
+        if (outstanding.size() >= chunksInFlight) {
+            await(outstanding.poll());
+        }
+        rateLimiter.throttle(spacecraftName, chunk.length);
+        outstanding.add(writer.apply(chunk).toCompletableFuture());
+    }
+
+    /**
+     * Failure of a chunk stops the upload (CompletionException).
+     */
+    private void await(CompletableFuture<Boolean> write) {
+        write.join();
+    }
+
+}
@@ -0,0 +1,202 @@
+package com.datastax.astra.service;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+import javax.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.config.ReadProperties.AnalyticsScanSettings;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.utils.TokenRanges;
+
+/**
+ * Aggregation jobs over all partitions of a reading table (fleet-wide questions, batch jobs).
+ *
+ * Jobs run in background on a fork-join pool shared by all of them. The token ranges read at the same time
+ * against Astra by all jobs are bounded by 'parallelism' permits (the pool may add threads while tasks are joined),
+ * and at most 'maxRunningJobs' jobs run at once. Aggregators are looked up by name, built-ins can be completed with
+ * {@link #registerAggregator(String, Supplier)}. Finished jobs are kept for their results up to 'retainedJobs'.
+ */
+@Component
+public class ReadingTableScanner {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReadingTableScanner.class);
+
+    /** Query tables. */
+    private final AstraService astraService;
+
+    /** Boundaries of the token ranges, page size and retention. */
+    private final long[] bounds;
+    private final int pageSize;
+    private final int retainedJobs;
+    private final int maxRunningJobs;
+
+    /** Read token ranges. */
+    private final ForkJoinPool pool;
+
+    /** Token ranges being read by all jobs. */
+    private final Semaphore reads;
+
+    /** Aggregators by name. */
+    private final ConcurrentMap<String, Supplier<ScanAggregator>> aggregators = new ConcurrentHashMap<>(ScanAggregators.builtIns());
+
+    /** Jobs in submission order, guarded by this. */
+    private final Map<UUID, ReadingScanJob> jobs = new LinkedHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param astraService
+     *      service holding the daos
+     * @param readProperties
+     *      read path settings
+     * @throws IllegalArgumentException
+     *      invalid number of token ranges
+     */
+    public ReadingTableScanner(AstraService astraService, ReadProperties readProperties) {
+        AnalyticsScanSettings settings = readProperties.getAnalyticsScan();
+        int parallelism = Math.max(1, settings.getParallelism());
+        this.astraService   = astraService;
+        this.bounds         = TokenRanges.split(settings.getSplits());
+        this.pageSize       = settings.getPageSize();
+        this.retainedJobs   = Math.max(1, settings.getRetainedJobs());
+        this.maxRunningJobs = Math.max(1, settings.getMaxRunningJobs());
+        this.reads          = new Semaphore(parallelism);
+        this.pool = new ForkJoinPool(parallelism, forkJoinPool -> {
+            ForkJoinWorkerThread worker = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(forkJoinPool);
+            worker.setName("astra-analytics-" + worker.getPoolIndex());
+            return worker;
+        }, null, false);
+    }
+
+    /**
+     * Make an aggregator available to jobs, replacing the one with the same name.
+     *
+     * @param name
+     *      name used in requests
+     * @param factory
+     *      create an aggregator per token range
+     */
+    public void registerAggregator(String name, Supplier<ScanAggregator> factory) {
+        aggregators.put(name.toLowerCase(), factory);
+    }
+
+    /**
+     * Start aggregating readings of all partitions in background.
+     *
+     * @param instrument
+     *      scalar instrument
+     * @param range
+     *      window of reading_time of each partition, limit does not apply
+     * @param aggregations
+     *      names of the aggregators
+     * @return
+     *      running job
+     * @throws IllegalArgumentException
+     *      non scalar instrument, limit set, no or unknown aggregator
+     * @throws ScanRejectedException
+     *      'maxRunningJobs' jobs are already running
+     */
+    public ReadingScanJob start(Instrument instrument, ReadingRange range, List<String> aggregations) {
+        if (!instrument.isScalar()) {
+            throw new IllegalArgumentException("Cannot aggregate " + instrument.key() + " readings");
+        }
+        if (null != range.getLimit()) {
+            throw new IllegalArgumentException("Invalid range, limit is not supported by table scans");
+        }
+        if (aggregations.isEmpty()) {
+            throw new IllegalArgumentException("Invalid aggregations, expecting at least one of " + aggregators.keySet());
+        }
+        Map<String, Supplier<ScanAggregator>> factories = new LinkedHashMap<>();
+        for (String name : aggregations) {
+            Supplier<ScanAggregator> factory = aggregators.get(name.trim().toLowerCase());
+            if (null == factory) {
+                throw new IllegalArgumentException("Unknown aggregation '" + name + "', expecting one of " + aggregators.keySet());
+            }
+            factories.put(name.trim().toLowerCase(), factory);
+        }
+        ReadingScanJob job = new ReadingScanJob(instrument, range, factories, bounds, reads,
+                (start, end) -> astraService.getSpaceCraftInstrumentsDao()
+                        .getReadingValuesInTokenRange(instrument, start, end, range, pageSize));
+        synchronized (this) {
+            long running = jobs.values().stream().filter(other -> !other.isDone()).count();
+            if (running >= maxRunningJobs) {
+                throw new ScanRejectedException(running + " scan(s) running, retry once one of them is over");
+            }
+            jobs.put(job.getId(), job);
+            evictFinishedJobs();
+        }
+        LOGGER.info("Scan {} of {} readings started, aggregations {}", job.getId(), instrument.key(), factories.keySet());
+        pool.execute(job::run);
+        return job;
+    }
+
+    /**
+     * Find a job running or retained.
+     *
+     * @param id
+     *      job identifier
+     * @return
+     *      job if known
+     */
+    public synchronized Optional<ReadingScanJob> find(UUID id) {
+        return Optional.ofNullable(jobs.get(id));
+    }
+
+    /**
+     * Jobs running or retained, oldest first.
+     *
+     * @return
+     *      jobs
+     */
+    public synchronized List<ReadingScanJob> list() {
+        return new ArrayList<>(jobs.values());
+    }
+
+    /**
+     * Cancel running jobs and stop the pool.
+     */
+    @PreDestroy
+    public void close() {
+        list().forEach(ReadingScanJob::cancel);
+        pool.shutdownNow();
+    }
+
+    /**
+     * Remove the oldest finished jobs above the retention, running jobs are always kept.
+     */
+    private void evictFinishedJobs() {
+        int finished = 0;
+        for (ReadingScanJob job : jobs.values()) {
+            if (job.isDone()) {
+                finished++;
+            }
+        }
+        Iterator<ReadingScanJob> oldest = jobs.values().iterator();
+        while (finished > retainedJobs && oldest.hasNext()) {
+            if (oldest.next().isDone()) {
+                oldest.remove();
+                finished--;
+            }
+        }
+    }
+
+}
@@ -0,0 +1,393 @@
+package com.datastax.astra.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.ReadingRollup;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.astra.model.RollupResolution;
+import com.datastax.oss.driver.api.core.uuid.Uuids;
+
+/**
+ * Maintain minute and hour rollups of scalar instruments from written readings, per partition.
+ *
+ * Written readings only mark their minute bucket as dirty. On every flush, each dirty minute is aggregated
+ * again from its raw readings, then each hour holding a dirty minute from its minute rows. A bucket is a single
+ * row ({@link #BUCKET_ROW_ID}) overwritten by every flush: a rollup is a function of the rows below it, so readings
+ * written again (write-ahead log records replayed, clients retrying a request) are not counted twice and a flush
+ * that fails is simply retried. Partitions without readings during a whole flush interval are released.
+ *
+ * Buckets are reported by {@link #pending} from the time they are marked until their rows are acknowledged, readers
+ * aggregate them from raw readings. Buckets marked and not flushed before a crash keep their previous aggregate
+ * until readings are written to them again (the write-ahead log replays its records).
+ */
+public class RollupAccumulator {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(RollupAccumulator.class);
+
+    /** Value of flush_id of every rollup row, a bucket has a single row. */
+    public static final UUID BUCKET_ROW_ID = Uuids.startOf(0);
+
+    /** Aggregate a bucket from the rows below it. */
+    public interface Reader {
+
+        /**
+         * Aggregate a bucket: raw readings of a minute, minute rollups of an hour.
+         *
+         * @param partition
+         *      partition
+         * @param instrument
+         *      scalar instrument
+         * @param resolution
+         *      resolution of the bucket
+         * @param bucketStart
+         *      start of the bucket in epoch millis
+         * @return
+         *      aggregate of the bucket, null without readings
+         */
+        ReadingRollup aggregate(JourneyPartition partition, Instrument instrument, RollupResolution resolution, long bucketStart);
+    }
+
+    /** Write rollup rows. */
+    public interface Writer {
+
+        /**
+         * Write rows in a rollup table, replacing the rows of the same buckets.
+         *
+         * @param resolution
+         *      rollup table
+         * @param rollups
+         *      aggregates of buckets
+         * @return
+         *      completes when rows have been written
+         */
+        CompletionStage<Boolean> write(RollupResolution resolution, List<ReadingRollup> rollups);
+    }
+
+    /** Aggregate buckets. */
+    private final Reader reader;
+
+    /** Write rollups against Astra. */
+    private final Writer writer;
+
+    /** Maximum time to wait for a flush to be written. */
+    private final long flushTimeoutMillis;
+
+    /** Dirty minutes per partition. */
+    private final ConcurrentMap<JourneyPartition, Partition> partitions = new ConcurrentHashMap<>();
+
+    /** Minutes of flushes that failed, retried first. */
+    private final ConcurrentLinkedQueue<Minute> failed = new ConcurrentLinkedQueue<>();
+
+    /** Minutes taken by a flush and not acknowledged yet, in flight or failed. */
+    private final Set<Minute> unwritten = ConcurrentHashMap.newKeySet();
+
+    /** Minutes move from partitions to unwritten under the write lock, readers take the read lock. */
+    private final ReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    /**
+     * Constructor.
+     *
+     * @param reader
+     *      aggregate buckets from Astra
+     * @param writer
+     *      write rollups against Astra
+     * @param flushTimeoutMillis
+     *      maximum time to wait for a flush to be written
+     */
+    public RollupAccumulator(Reader reader, Writer writer, long flushTimeoutMillis) {
+        this.reader             = reader;
+        this.writer             = writer;
+        this.flushTimeoutMillis = flushTimeoutMillis;
+    }
+
+    /**
+     * Mark the minutes of written readings, frames of non scalar instruments are ignored.
+     *
+     * @param frame
+     *      readings of an instrument for one journey
+     */
+    public void add(ReadingsFrame frame) {
+        if (!frame.getInstrument().isScalar() || frame.size() == 0) {
+            return;
+        }
+        JourneyPartition key = new JourneyPartition(frame.getSpacecraftName(), frame.getJourneyId());
+        while (true) {
+            Partition partition = partitions.computeIfAbsent(key, Partition::new);
+            synchronized (partition) {
+                // Released by a flush in the meantime, a new one is created
+                if (!partition.released) {
+                    partition.add(frame);
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Buckets of a partition and instrument whose rows are not up to date (read path): buckets marked since
+     * the last flush, and buckets of flushes in flight or failed.
+     *
+     * @param key
+     *      partition
+     * @param instrument
+     *      scalar instrument
+     * @param resolution
+     *      resolution of the buckets
+     * @return
+     *      start of the buckets in epoch millis, latest first
+     */
+    public List<Long> pending(JourneyPartition key, Instrument instrument, RollupResolution resolution) {
+        List<Long> minutes = new ArrayList<>();
+        flushLock.readLock().lock();
+        try {
+            Partition partition = partitions.get(key);
+            if (null != partition) {
+                synchronized (partition) {
+                    partition.minutes[instrument.ordinal()].copyTo(minutes);
+                }
+            }
+            for (Minute minute : unwritten) {
+                if (minute.instrument == instrument && minute.partition.equals(key)) {
+                    minutes.add(minute.start);
+                }
+            }
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        return minutes.stream().map(resolution::bucketStart).distinct()
+                .sorted((a, b) -> Long.compare(b, a)).collect(Collectors.toList());
+    }
+
+    /**
+     * Aggregate and write all dirty buckets and wait for them, minutes of flushes that failed are kept
+     * for the next call.
+     */
+    public void flush() {
+        List<Minute> minutes = new ArrayList<>();
+        Minute retry;
+        while (null != (retry = failed.poll())) {
+            minutes.add(retry);
+        }
+        flushLock.writeLock().lock();
+        try {
+            partitions.forEach((key, partition) -> {
+                synchronized (partition) {
+                    if (!partition.drainTo(minutes)) {
+                        partition.released = true;
+                        partitions.remove(key, partition);
+                    }
+                }
+            });
+            unwritten.addAll(minutes);
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+        if (minutes.isEmpty()) {
+            return;
+        }
+        try {
+            // Hours are aggregated from minutes, minutes go first
+            Set<Minute> hours = new LinkedHashSet<>();
+            List<ReadingRollup> minuteRollups = new ArrayList<>();
+            for (Minute minute : minutes) {
+                hours.add(minute.hour());
+                ReadingRollup rollup = reader.aggregate(minute.partition, minute.instrument, RollupResolution.MINUTE, minute.start);
+                if (null != rollup) {
+                    minuteRollups.add(rollup);
+                }
+            }
+            write(RollupResolution.MINUTE, minuteRollups);
+            List<ReadingRollup> hourRollups = new ArrayList<>();
+            for (Minute hour : hours) {
+                ReadingRollup rollup = reader.aggregate(hour.partition, hour.instrument, RollupResolution.HOUR, hour.start);
+                if (null != rollup) {
+                    hourRollups.add(rollup);
+                }
+            }
+            write(RollupResolution.HOUR, hourRollups);
+            unwritten.removeAll(minutes);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            failed.addAll(minutes);
+        } catch (Exception e) {
+            LOGGER.warn("Cannot write rollups of {} minute(s), retrying on next flush: {}", minutes.size(), e.getMessage());
+            failed.addAll(minutes);
+        }
+    }
+
+    private void write(RollupResolution resolution, List<ReadingRollup> rollups) throws Exception {
+        if (!rollups.isEmpty()) {
+            writer.write(resolution, rollups).toCompletableFuture().get(flushTimeoutMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Getter accessor for attribute 'flushTimeoutMillis'.
+     *
+     * @return
+     *       current value of 'flushTimeoutMillis'
+     */
+    public long getFlushTimeoutMillis() {
+        return flushTimeoutMillis;
+    }
+
+    /**
+     * Partitions with dirty minutes.
+     *
+     * @return
+     *      number of partitions
+     */
+    public long getPartitions() {
+        return partitions.size();
+    }
+
+    /**
+     * Minutes waiting for a retry.
+     *
+     * @return
+     *      number of minutes
+     */
+    public long getFailedMinutes() {
+        return failed.size();
+    }
+
+    /**
+     * Dirty minute of a partition and instrument.
+     */
+    private static final class Minute {
+
+        private final JourneyPartition partition;
+
+        private final Instrument instrument;
+
+        private final long start;
+
+        private Minute(JourneyPartition partition, Instrument instrument, long start) {
+            this.partition  = partition;
+            this.instrument = instrument;
+            this.start      = start;
+        }
+
+        private Minute hour() {
+            return new Minute(partition, instrument, RollupResolution.HOUR.bucketStart(start));
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Minute)) {
+                return false;
+            }
+            Minute other = (Minute) o;
+            return start == other.start && instrument == other.instrument && partition.equals(other.partition);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public int hashCode() {
+            return Objects.hash(partition, instrument, start);
+        }
+    }
+
+    /**
+     * Dirty minutes of a partition per instrument, guarded by the partition.
+     */
+    private static final class Partition {
+
+        private final JourneyPartition key;
+
+        /** Indexed by instrument ordinal. */
+        private final Minutes[] minutes = new Minutes[Instrument.values().length];
+
+        /** Readings added since the last flush. */
+        private boolean active = true;
+
+        /** Removed from the accumulator, readings go to a new partition. */
+        private boolean released;
+
+        private Partition(JourneyPartition key) {
+            this.key = key;
+            for (int i = 0; i < minutes.length; i++) {
+                minutes[i] = new Minutes();
+            }
+        }
+
+        private void add(ReadingsFrame frame) {
+            Minutes target = minutes[frame.getInstrument().ordinal()];
+            for (long time : frame.getReadingTimes()) {
+                target.add(RollupResolution.MINUTE.bucketStart(time));
+            }
+            active = true;
+        }
+
+        /**
+         * Move all dirty minutes to a flush.
+         *
+         * @return
+         *      false when no reading has been added since the last flush
+         */
+        private boolean drainTo(List<Minute> flushed) {
+            boolean wasActive = active;
+            for (Instrument instrument : Instrument.values()) {
+                Minutes target = minutes[instrument.ordinal()];
+                for (int i = 0; i < target.size; i++) {
+                    flushed.add(new Minute(key, instrument, target.starts[i]));
+                }
+                target.size = 0;
+            }
+            active = false;
+            return wasActive;
+        }
+    }
+
+    /**
+     * Growable primitive array of distinct minutes, readings mostly hit the last ones.
+     */
+    private static final class Minutes {
+
+        private long[] starts = new long[4];
+        private int    size;
+
+        private void add(long start) {
+            for (int i = size - 1; i >= 0; i--) {
+                if (starts[i] == start) {
+                    return;
+                }
+            }
+            if (size == starts.length) {
+                starts = Arrays.copyOf(starts, size << 1);
+            }
+            starts[size++] = start;
+        }
+
+        private void copyTo(List<Long> target) {
+            for (int i = 0; i < size; i++) {
+                target.add(starts[i]);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.datastax.astra.service;
+
+/**
+ * Fold readings of a table scan into a primitive state.
+ *
+ * Each token range is folded by its own aggregator (no sharing between threads), states of ranges are
+ * merged two by two once read, so an aggregator only needs to be associative.
+ */
+public interface ScanAggregator {
+
+    /**
+     * Fold a reading.
+     *
+     * @param epochMillis
+     *      reading time
+     * @param value
+     *      reading value
+     */
+    void add(long epochMillis, double value);
+
+    /**
+     * Fold the state of another range, always an aggregator created by the same factory.
+     *
+     * @param other
+     *      state of another range
+     */
+    void merge(ScanAggregator other);
+
+    /**
+     * Result of the readings folded.
+     *
+     * @return
+     *      value serialized as json, null when no reading has been folded
+     */
+    Object result();
+
+}
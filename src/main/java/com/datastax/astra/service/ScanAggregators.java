@@ -0,0 +1,160 @@
+package com.datastax.astra.service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Aggregators of table scans available out of the box: count, min, max, sum and avg.
+ */
+public class ScanAggregators {
+
+    /**
+     * Hide default constructor.
+     */
+    private ScanAggregators() {}
+
+    /**
+     * Factories of the built-in aggregators, by name.
+     *
+     * @return
+     *      new map of factories
+     */
+    public static Map<String, Supplier<ScanAggregator>> builtIns() {
+        Map<String, Supplier<ScanAggregator>> factories = new LinkedHashMap<>();
+        factories.put("count", Count::new);
+        factories.put("min", Min::new);
+        factories.put("max", Max::new);
+        factories.put("sum", Sum::new);
+        factories.put("avg", Avg::new);
+        return factories;
+    }
+
+    /**
+     * Number of readings.
+     */
+    private static final class Count implements ScanAggregator {
+
+        private long count;
+
+        @Override
+        public void add(long epochMillis, double value) {
+            count++;
+        }
+
+        @Override
+        public void merge(ScanAggregator other) {
+            count += ((Count) other).count;
+        }
+
+        @Override
+        public Object result() {
+            return count;
+        }
+    }
+
+    /**
+     * Lowest value.
+     */
+    private static final class Min implements ScanAggregator {
+
+        private long   count;
+        private double min = Double.POSITIVE_INFINITY;
+
+        @Override
+        public void add(long epochMillis, double value) {
+            count++;
+            min = Math.min(min, value);
+        }
+
+        @Override
+        public void merge(ScanAggregator other) {
+            count += ((Min) other).count;
+            min    = Math.min(min, ((Min) other).min);
+        }
+
+        @Override
+        public Object result() {
+            return count == 0 ? null : min;
+        }
+    }
+
+    /**
+     * Highest value.
+     */
+    private static final class Max implements ScanAggregator {
+
+        private long   count;
+        private double max = Double.NEGATIVE_INFINITY;
+
+        @Override
+        public void add(long epochMillis, double value) {
+            count++;
+            max = Math.max(max, value);
+        }
+
+        @Override
+        public void merge(ScanAggregator other) {
+            count += ((Max) other).count;
+            max    = Math.max(max, ((Max) other).max);
+        }
+
+        @Override
+        public Object result() {
+            return count == 0 ? null : max;
+        }
+    }
+
+    /**
+     * Sum of the values.
+     */
+    private static final class Sum implements ScanAggregator {
+
+        private long   count;
+        private double sum;
+
+        @Override
+        public void add(long epochMillis, double value) {
+            count++;
+            sum += value;
+        }
+
+        @Override
+        public void merge(ScanAggregator other) {
+            count += ((Sum) other).count;
+            sum   += ((Sum) other).sum;
+        }
+
+        @Override
+        public Object result() {
+            return count == 0 ? null : sum;
+        }
+    }
+
+    /**
+     * Mean of the values.
+     */
+    private static final class Avg implements ScanAggregator {
+
+        private long   count;
+        private double sum;
+
+        @Override
+        public void add(long epochMillis, double value) {
+            count++;
+            sum += value;
+        }
+
+        @Override
+        public void merge(ScanAggregator other) {
+            count += ((Avg) other).count;
+            sum   += ((Avg) other).sum;
+        }
+
+        @Override
+        public Object result() {
+            return count == 0 ? null : sum / count;
+        }
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.datastax.astra.service;
+
+/**
+ * Raised when a table scan cannot be started because too many scans are running, client should retry later.
+ */
+public class ScanRejectedException extends RuntimeException {
+
+    /** Serial. */
+    private static final long serialVersionUID = 1L;
+    
+    /**
+     * Constructor with message.
+     *
+     * @param message
+     *      error message
+     */
+    public ScanRejectedException(String message) {
+        super(message);
+    }
+    
+}
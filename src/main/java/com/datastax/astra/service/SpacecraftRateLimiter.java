@@ -0,0 +1,186 @@
+package com.datastax.astra.service;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.stereotype.Component;
+
+import com.datastax.astra.config.IngestProperties;
+import com.datastax.astra.config.IngestProperties.RateLimitSettings;
+import com.datastax.astra.metrics.IngestMetrics;
+
+/**
+ * Token bucket per spacecraft on the ingestion path, one token per reading.
+ *
+ * Buckets are kept as GCRA 'theoretical arrival times' (a single long updated by CAS): spacecrafts are hashed
+ * on a fixed array of stripes sharing the default rate, spacecrafts with dedicated settings get their own bucket.
+ * No lock and no allocation per request.
+ */
+@Component
+public class SpacecraftRateLimiter {
+
+    /** Limits are not applied when disabled. */
+    private final boolean enabled;
+
+    /** Default bucket, shared by spacecrafts on the same stripe. */
+    private final Bucket defaultBucket;
+    private final AtomicLongArray stripes;
+    private final int stripeMask;
+
+    /** Dedicated buckets. */
+    private final Map<String, Bucket> buckets = new HashMap<>();
+    private final Map<String, AtomicLong> bucketStates = new HashMap<>();
+
+    /** Time origin, keeps arrival times positive. */
+    private final long origin = System.nanoTime();
+
+    /** Requests rejected. */
+    private final LongAdder limited = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param ingestProperties
+     *      ingestion settings
+     * @param ingestMetrics
+     *      ingestion metrics
+     */
+    public SpacecraftRateLimiter(IngestProperties ingestProperties, IngestMetrics ingestMetrics) {
+        RateLimitSettings settings = ingestProperties.getRateLimit();
+        this.enabled       = settings.isEnabled();
+        this.defaultBucket = new Bucket(settings.getReadingsPerSecond(), settings.getBurst());
+        // Power of two to pick a stripe with a mask
+        int size = Integer.highestOneBit(Math.max(1, settings.getStripes() - 1)) << 1;
+        this.stripes    = new AtomicLongArray(size);
+        this.stripeMask = size - 1;
+        settings.getSpacecrafts().forEach((name, limit) -> {
+            buckets.put(name, new Bucket(limit.getReadingsPerSecond(), limit.getBurst()));
+            bucketStates.put(name, new AtomicLong());
+        });
+        ingestMetrics.bindGauge("rateLimitedRequests", limited::sum);
+    }
+
+    /**
+     * Take tokens for readings of a spacecraft or reject the request.
+     *
+     * @param spacecraftName
+     *      spacecraft sending readings
+     * @param readings
+     *      number of readings
+     * @throws IngestRateLimitedException
+     *      spacecraft is above its rate
+     * @throws IngestTooLargeException
+     *      more readings than the burst of the spacecraft, never accepted
+     */
+    public void acquire(String spacecraftName, int readings) {
+        if (!enabled) {
+            return;
+        }
+        long burst = bucket(spacecraftName).burst;
+        if (readings > burst) {
+            limited.increment();
+            throw new IngestTooLargeException(readings + " reading(s) sent at once by spacecraft " + spacecraftName 
+                    + ", above its burst of " + burst + ", split the request");
+        }
+        long waitNanos = take(spacecraftName, readings, false);
+        if (waitNanos > 0) {
+            limited.increment();
+            throw new IngestRateLimitedException("Spacecraft " + spacecraftName + " is above its rate of "
+                    + bucket(spacecraftName).readingsPerSecond + " reading(s) per second, slow down",
+                    Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+        }
+    }
+
+    /**
+     * Take tokens for readings of a spacecraft, waiting for them if needed (streamed uploads). Chunks above
+     * the burst are charged in full, they wait for as long as their readings take at the sustained rate.
+     *
+     * @param spacecraftName
+     *      spacecraft sending readings
+     * @param readings
+     *      number of readings
+     */
+    public void throttle(String spacecraftName, int readings) {
+        if (!enabled) {
+            return;
+        }
+        long waitNanos = take(spacecraftName, readings, true);
+        if (waitNanos > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * GCRA: a request of n readings is allowed when the bucket, once advanced of n emission intervals,
+     * does not run ahead of now by more than the burst.
+     *
+     * @return
+     *      0 when tokens have been taken, otherwise nanos to wait (tokens are taken anyway when 'reserve')
+     */
+    private long take(String spacecraftName, int readings, boolean reserve) {
+        Bucket bucket = bucket(spacecraftName);
+        long cost = Math.max(1, readings) * bucket.emissionNanos;
+        AtomicLong dedicated = bucketStates.get(spacecraftName);
+        int stripe = (null == dedicated) ? stripe(spacecraftName) : -1;
+        while (true) {
+            long now  = System.nanoTime() - origin;
+            long tat  = (null == dedicated) ? stripes.get(stripe) : dedicated.get();
+            long next = Math.max(tat, now) + cost;
+            long wait = next - now - bucket.toleranceNanos;
+            if (wait > 0 && !reserve) {
+                return wait;
+            }
+            boolean updated = (null == dedicated)
+                    ? stripes.compareAndSet(stripe, tat, next) : dedicated.compareAndSet(tat, next);
+            if (updated) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    private Bucket bucket(String spacecraftName) {
+        return buckets.getOrDefault(spacecraftName, defaultBucket);
+    }
+
+    private int stripe(String spacecraftName) {
+        int h = spacecraftName.hashCode();
+        return (h ^ (h >>> 16)) & stripeMask;
+    }
+
+    /**
+     * Rate and burst of a bucket, as emission interval and tolerance.
+     */
+    private static final class Bucket {
+
+        /** Configured rate. */
+        private final long readingsPerSecond;
+
+        /** Readings accepted at once. */
+        private final long burst;
+
+        /** Time between two readings at the configured rate. */
+        private final long emissionNanos;
+
+        /** Advance allowed on the rate. */
+        private final long toleranceNanos;
+
+        private Bucket(long readingsPerSecond, long burst) {
+            if (readingsPerSecond < 1 || burst < 1) {
+                throw new IllegalArgumentException("Invalid rate limit: " + readingsPerSecond + "/s burst " + burst);
+            }
+            this.readingsPerSecond = readingsPerSecond;
+            this.burst             = burst;
+            this.emissionNanos     = Math.max(1, TimeUnit.SECONDS.toNanos(1) / readingsPerSecond);
+            this.toleranceNanos    = emissionNanos * burst;
+        }
+    }
+
+}
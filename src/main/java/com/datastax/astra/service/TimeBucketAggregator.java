@@ -0,0 +1,134 @@
+package com.datastax.astra.service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.datastax.astra.model.ReadingBucket;
+
+/**
+ * Fold readings into fixed time buckets with primitive accumulators.
+ *
+ * Readings of a partition come ordered on reading_time, so only the current bucket is accumulated
+ * and it is emitted as soon as a reading falls into another one: memory is one bucket plus the results.
+ */
+public class TimeBucketAggregator {
+
+    /** Duration of a bucket. */
+    private final long bucketMillis;
+
+    /** Results are bounded. */
+    private final int maxBuckets;
+
+    /** Emitted buckets. */
+    private final List<ReadingBucket> buckets = new ArrayList<>();
+
+    /** Current bucket. */
+    private long   current = Long.MIN_VALUE;
+    private long   count;
+    private double min;
+    private double max;
+    private double sum;
+
+    /** Readings folded. */
+    private long readings;
+
+    /**
+     * Constructor.
+     *
+     * @param bucketMillis
+     *      duration of a bucket
+     * @param maxBuckets
+     *      maximum number of buckets
+     */
+    public TimeBucketAggregator(long bucketMillis, int maxBuckets) {
+        if (bucketMillis < 1) {
+            throw new IllegalArgumentException("Invalid bucket duration " + bucketMillis + " ms");
+        }
+        this.bucketMillis = bucketMillis;
+        this.maxBuckets   = maxBuckets;
+    }
+
+    /**
+     * Fold a reading.
+     *
+     * @param epochMillis
+     *      reading time
+     * @param value
+     *      reading value
+     * @throws IllegalArgumentException
+     *      more than maxBuckets buckets, a larger bucket or a narrower range is needed
+     */
+    public void add(long epochMillis, double value) {
+        add(epochMillis, 1, value, value, value);
+    }
+
+    /**
+     * Fold a partial aggregate (rollup), partials of a bucket must come one after the other.
+     *
+     * @param epochMillis
+     *      time within the bucket
+     * @param partialCount
+     *      readings of the partial
+     * @param partialMin
+     *      minimum value of the partial
+     * @param partialMax
+     *      maximum value of the partial
+     * @param partialSum
+     *      sum of the values of the partial
+     * @throws IllegalArgumentException
+     *      more than maxBuckets buckets, a larger bucket or a narrower range is needed
+     */
+    public void add(long epochMillis, long partialCount, double partialMin, double partialMax, double partialSum) {
+        long bucket = Math.floorDiv(epochMillis, bucketMillis);
+        if (bucket != current) {
+            emit();
+            current = bucket;
+            min     = partialMin;
+            max     = partialMax;
+        } else {
+            min = Math.min(min, partialMin);
+            max = Math.max(max, partialMax);
+        }
+        sum      += partialSum;
+        count    += partialCount;
+        readings += partialCount;
+    }
+
+    /**
+     * Emit the last bucket and return all of them.
+     *
+     * @return
+     *      non empty buckets in reading order
+     */
+    public List<ReadingBucket> finish() {
+        emit();
+        return buckets;
+    }
+
+    /**
+     * Getter accessor for attribute 'readings'.
+     *
+     * @return
+     *       readings folded
+     */
+    public long getReadings() {
+        return readings;
+    }
+
+    private void emit() {
+        if (count == 0) {
+            return;
+        }
+        if (buckets.size() >= maxBuckets) {
+            throw new IllegalArgumentException("More than " + maxBuckets
+                    + " buckets, use a larger bucket or a narrower range");
+        }
+        long start = current * bucketMillis;
+        buckets.add(new ReadingBucket(Instant.ofEpochMilli(start), Instant.ofEpochMilli(start + bucketMillis),
+                count, min, max, sum / count));
+        count = 0;
+        sum   = 0;
+    }
+
+}
@@ -0,0 +1,142 @@
+package com.datastax.astra.service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import com.datastax.astra.utils.TokenRanges;
+import com.datastax.oss.driver.api.core.AsyncPagingIterable;
+
+/**
+ * Scan a whole table by token ranges, several ranges being read at the same time.
+ *
+ * Rows are handed to the caller thread page by page, in no particular order. The next page of a range
+ * is only requested once its current page has been consumed, so at most 'concurrency' pages are held
+ * in memory whatever the size of the table.
+ *
+ * @param <T>
+ *      row type
+ * @param <P>
+ *      page type
+ */
+public class TokenRangeScanner<T, P extends AsyncPagingIterable<T, P>> {
+
+    /** Query the first page of a token range. */
+    public interface RangeQuery<P> {
+
+        /**
+         * Query rows of a token range.
+         *
+         * @param tokenStart
+         *      start of the range, exclusive
+         * @param tokenEnd
+         *      end of the range, inclusive
+         * @return
+         *      first page
+         */
+        CompletionStage<P> query(long tokenStart, long tokenEnd);
+    }
+
+    /** Consume rows on the caller thread. */
+    public interface Sink<T> {
+
+        /**
+         * Consume a row.
+         *
+         * @param row
+         *      current row
+         * @throws IOException
+         *      cannot consume, scan is stopped
+         */
+        void accept(T row) throws IOException;
+    }
+
+    /** Query a range. */
+    private final RangeQuery<P> rangeQuery;
+
+    /** Number of token ranges. */
+    private final int splits;
+
+    /** Ranges read at the same time. */
+    private final int concurrency;
+
+    /**
+     * Constructor.
+     *
+     * @param rangeQuery
+     *      query a range
+     * @param splits
+     *      number of token ranges
+     * @param concurrency
+     *      ranges read at the same time
+     */
+    public TokenRangeScanner(RangeQuery<P> rangeQuery, int splits, int concurrency) {
+        this.rangeQuery  = rangeQuery;
+        this.splits      = splits;
+        this.concurrency = Math.max(1, concurrency);
+    }
+
+    /**
+     * Read every row of the table.
+     *
+     * @param sink
+     *      consume rows
+     * @return
+     *      number of rows
+     * @throws IOException
+     *      rows cannot be consumed, or the scan has been interrupted
+     */
+    @SuppressWarnings("unchecked")
+    public long scan(Sink<T> sink) throws IOException {
+        long[] bounds = TokenRanges.split(splits);
+        // Pages or failures, at most one pending page per range in flight
+        BlockingQueue<Object> completed = new LinkedBlockingQueue<>();
+        int  nextRange = 0;
+        int  inFlight  = 0;
+        long rows      = 0;
+        try {
+            for (; nextRange < splits && inFlight < concurrency; nextRange++, inFlight++) {
+                enqueue(rangeQuery.query(bounds[nextRange], bounds[nextRange + 1]), completed);
+            }
+            while (inFlight > 0) {
+                Object event = completed.take();
+                if (event instanceof Throwable) {
+                    throw unwrap((Throwable) event);
+                }
+                P page = (P) event;
+                for (T row : page.currentPage()) {
+                    sink.accept(row);
+                    rows++;
+                }
+                if (page.hasMorePages()) {
+                    enqueue(page.fetchNextPage(), completed);
+                } else if (nextRange < splits) {
+                    enqueue(rangeQuery.query(bounds[nextRange], bounds[nextRange + 1]), completed);
+                    nextRange++;
+                } else {
+                    inFlight--;
+                }
+            }
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Scan interrupted after " + rows + " row(s)");
+        }
+        return rows;
+    }
+
+    private static <P> void enqueue(CompletionStage<P> page, BlockingQueue<Object> completed) {
+        page.whenComplete((result, error) -> completed.add(null != error ? error : result));
+    }
+
+    private static RuntimeException unwrap(Throwable error) {
+        Throwable cause = (error instanceof CompletionException && null != error.getCause()) ? error.getCause() : error;
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        return new CompletionException("Cannot scan token range", cause);
+    }
+
+}
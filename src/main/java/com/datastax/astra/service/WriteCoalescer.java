@@ -0,0 +1,272 @@
+package com.datastax.astra.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.datastax.astra.entity.AbstractInstrumentReading;
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+
+/**
+ * Buffer readings of an instrument across requests, per partition, and write them when
+ * the buffer reaches 'maxRows' readings or when the oldest reading has waited 'maxDelayMillis'.
+ *
+ * A buffer left empty is removed from the map under its lock and marked released, readings appended
+ * to it afterwards go to a new buffer: partitions do not leak and a shutdown flush sees every reading.
+ *
+ * @param <T>
+ *      reading type
+ */
+public class WriteCoalescer<T extends AbstractInstrumentReading> {
+
+    /** Instrument of the readings. */
+    private final Instrument instrument;
+
+    /** Write readings against Astra. */
+    private final Function<T[], CompletionStage<Boolean>> writer;
+
+    /** Create arrays expected by the writer. */
+    private final IntFunction<T[]> arrayFactory;
+
+    /** Thresholds. */
+    private final int  maxRows;
+    private final long maxDelayMillis;
+
+    /** Timers for time-based flushes. */
+    private final ScheduledExecutorService scheduler;
+
+    /** Flush metrics. */
+    private final IngestMetrics metrics;
+
+    /** Pending readings per partition. */
+    private final ConcurrentMap<JourneyPartition, Buffer> buffers = new ConcurrentHashMap<>();
+
+    /** Flushes sent to Astra and not acknowledged yet. */
+    private final Set<CompletableFuture<Boolean>> inFlight = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Constructor.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param writer
+     *      write readings against Astra
+     * @param arrayFactory
+     *      create arrays expected by the writer
+     * @param maxRows
+     *      flush when a buffer reaches this number of readings
+     * @param maxDelayMillis
+     *      flush when the oldest buffered reading has waited this long
+     * @param scheduler
+     *      executor for time-based flushes
+     * @param metrics
+     *      flush metrics
+     */
+    public WriteCoalescer(Instrument instrument,
+            Function<T[], CompletionStage<Boolean>> writer, IntFunction<T[]> arrayFactory,
+            int maxRows, long maxDelayMillis,
+            ScheduledExecutorService scheduler, IngestMetrics metrics) {
+        if (maxRows < 1 || maxDelayMillis < 0) {
+            throw new IllegalArgumentException("Invalid coalescing thresholds: maxRows="
+                        + maxRows + ", maxDelayMillis=" + maxDelayMillis);
+        }
+        this.instrument     = instrument;
+        this.writer         = writer;
+        this.arrayFactory   = arrayFactory;
+        this.maxRows        = maxRows;
+        this.maxDelayMillis = maxDelayMillis;
+        this.scheduler      = scheduler;
+        this.metrics        = metrics;
+    }
+
+    /**
+     * Buffer readings.
+     *
+     * @param readings
+     *      readings to write
+     * @return
+     *      completes when all readings have been written
+     */
+    public CompletableFuture<Boolean> add(T[] readings) {
+        Map<JourneyPartition, List<T>> partitions = new LinkedHashMap<>();
+        for (T read : readings) {
+            partitions.computeIfAbsent(JourneyPartition.of(read), key -> new ArrayList<>()).add(read);
+        }
+        List<CompletableFuture<Boolean>> acks = new ArrayList<>();
+        partitions.forEach((partition, partitionReadings) -> {
+            List<CompletableFuture<Boolean>> appended;
+            do {
+                // Released by a flush in the meantime, a new one is created
+                appended = buffers.computeIfAbsent(partition, Buffer::new).append(partitionReadings);
+            } while (null == appended);
+            acks.addAll(appended);
+        });
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[acks.size()]))
+                .thenApply(v -> acks.stream().allMatch(CompletableFuture::join));
+    }
+
+    /**
+     * Write all pending readings (shutdown).
+     *
+     * @return
+     *      completes when pending readings and flushes already sent have been acknowledged, failed or not
+     */
+    public CompletableFuture<Void> flushAll() {
+        buffers.values().forEach(Buffer::flushOnTimer);
+        CompletableFuture<?>[] acks = inFlight.stream()
+                .map(ack -> ack.handle((applied, ex) -> applied))
+                .toArray(CompletableFuture<?>[]::new);
+        return CompletableFuture.allOf(acks);
+    }
+
+    /**
+     * Partitions with pending readings.
+     *
+     * @return
+     *      number of buffers
+     */
+    int getBufferCount() {
+        return buffers.size();
+    }
+
+    /**
+     * Readings cut from a buffer, written together.
+     */
+    private final class Flush {
+
+        private final List<T> readings;
+
+        private final CompletableFuture<Boolean> ack;
+
+        private Flush(List<T> readings, CompletableFuture<Boolean> ack) {
+            this.readings = readings;
+            this.ack      = ack;
+        }
+
+        private void write() {
+            long top = System.nanoTime();
+            inFlight.add(ack);
+            ack.whenComplete((applied, ex) -> inFlight.remove(ack));
+            CompletionStage<Boolean> write;
+            try {
+                write = writer.apply(readings.toArray(arrayFactory.apply(readings.size())));
+            } catch(RuntimeException re) {
+                ack.completeExceptionally(re);
+                return;
+            }
+            write.whenComplete((applied, ex) -> {
+                metrics.recordFlush(instrument, readings.size(), System.nanoTime() - top);
+                if (null != ex) {
+                    ack.completeExceptionally(ex);
+                } else {
+                    ack.complete(applied);
+                }
+            });
+        }
+    }
+
+    /**
+     * Pending readings of a partition.
+     */
+    private final class Buffer {
+
+        private final JourneyPartition partition;
+
+        /** Guarded by this. */
+        private List<T> pending = new ArrayList<>();
+        private CompletableFuture<Boolean> ack = new CompletableFuture<>();
+        private ScheduledFuture<?> timer;
+        private boolean released;
+
+        private Buffer(JourneyPartition partition) {
+            this.partition = partition;
+        }
+
+        /**
+         * Add readings, flushing every time the buffer is full.
+         *
+         * @return
+         *      acknowledgements of the readings, null when the buffer has been released
+         */
+        private List<CompletableFuture<Boolean>> append(List<T> readings) {
+            List<CompletableFuture<Boolean>> acks = new ArrayList<>();
+            List<Flush> ready = new ArrayList<>();
+            synchronized (this) {
+                if (released) {
+                    return null;
+                }
+                for (T read : readings) {
+                    pending.add(read);
+                    if (pending.size() >= maxRows) {
+                        Flush flush = cut();
+                        acks.add(flush.ack);
+                        ready.add(flush);
+                    }
+                }
+                if (pending.isEmpty()) {
+                    // Cut on size with nothing left, no timer to release the buffer
+                    release();
+                } else {
+                    acks.add(ack);
+                    if (null == timer) {
+                        timer = scheduler.schedule(this::flushOnTimer, maxDelayMillis, TimeUnit.MILLISECONDS);
+                    }
+                }
+            }
+            ready.forEach(Flush::write);
+            return acks;
+        }
+
+        /**
+         * Oldest reading has waited long enough. The buffer is released, a concurrent
+         * append goes to a new buffer so nothing is lost.
+         */
+        private void flushOnTimer() {
+            Flush flush = null;
+            synchronized (this) {
+                if (released) {
+                    return;
+                }
+                if (!pending.isEmpty()) {
+                    flush = cut();
+                }
+                release();
+            }
+            if (null != flush) {
+                flush.write();
+            }
+        }
+
+        /** Must hold the lock. */
+        private void release() {
+            released = true;
+            buffers.remove(partition, this);
+        }
+
+        /** Must hold the lock. */
+        private Flush cut() {
+            Flush flush = new Flush(pending, ack);
+            pending = new ArrayList<>();
+            ack     = new CompletableFuture<>();
+            if (null != timer) {
+                timer.cancel(false);
+                timer = null;
+            }
+            return flush;
+        }
+    }
+
+}
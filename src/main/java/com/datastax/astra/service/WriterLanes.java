@@ -0,0 +1,292 @@
+package com.datastax.astra.service;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.astra.entity.AbstractInstrumentReading;
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+
+/**
+ * Write readings of an instrument through a fixed set of single-threaded lanes, a partition
+ * (spacecraft_name, journey_id) always goes to the same lane.
+ *
+ * A lane takes everything queued (up to 'maxRows' readings) and writes it as one call, then waits for
+ * the acknowledgement before the next one: readings of a partition are written in arrival order and
+ * batches grow naturally while Astra is busy. Request threads only enqueue, there is no shared lock.
+ *
+ * @param <T>
+ *      reading type
+ */
+public class WriterLanes<T extends AbstractInstrumentReading> {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriterLanes.class);
+
+    /** Instrument of the readings. */
+    private final Instrument instrument;
+
+    /** Write readings against Astra. */
+    private final Function<T[], CompletionStage<Boolean>> writer;
+
+    /** Create arrays expected by the writer. */
+    private final IntFunction<T[]> arrayFactory;
+
+    /** Readings written at once by a lane. */
+    private final int maxRows;
+
+    /** Flush metrics. */
+    private final IngestMetrics metrics;
+
+    /** Lanes. */
+    private final List<Lane> lanes;
+
+    /** Lanes stop once their queue is empty. */
+    private volatile boolean running = true;
+
+    /** Lanes have been joined, tasks still queued are failed. */
+    private volatile boolean closed;
+
+    /**
+     * Constructor, lanes are started.
+     *
+     * @param instrument
+     *      instrument of the readings
+     * @param writer
+     *      write readings against Astra
+     * @param arrayFactory
+     *      create arrays expected by the writer
+     * @param laneCount
+     *      number of lanes (threads)
+     * @param maxRows
+     *      readings written at once by a lane
+     * @param queueCapacity
+     *      pending requests per lane, above requests are rejected
+     * @param metrics
+     *      flush metrics
+     */
+    public WriterLanes(Instrument instrument,
+            Function<T[], CompletionStage<Boolean>> writer, IntFunction<T[]> arrayFactory,
+            int laneCount, int maxRows, int queueCapacity, IngestMetrics metrics) {
+        if (laneCount < 1 || maxRows < 1 || queueCapacity < 1) {
+            throw new IllegalArgumentException("Invalid writer lanes: lanes=" + laneCount
+                        + ", maxRows=" + maxRows + ", queueCapacity=" + queueCapacity);
+        }
+        this.instrument   = instrument;
+        this.writer       = writer;
+        this.arrayFactory = arrayFactory;
+        this.maxRows      = maxRows;
+        this.metrics      = metrics;
+        this.lanes        = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            Lane lane = new Lane(queueCapacity, "astra-lane-" + instrument.key() + "-" + i);
+            lanes.add(lane);
+            lane.thread.start();
+        }
+    }
+
+    /**
+     * Queue readings on the lanes of their partitions.
+     *
+     * @param readings
+     *      readings to write
+     * @return
+     *      completes when all readings have been written
+     * @throws IngestOverloadedException
+     *      queue of a lane is full, no reading of the request has been queued
+     */
+    public CompletableFuture<Boolean> add(T[] readings) {
+        Map<JourneyPartition, List<T>> partitions = new LinkedHashMap<>();
+        for (T read : readings) {
+            partitions.computeIfAbsent(JourneyPartition.of(read), key -> new ArrayList<>()).add(read);
+        }
+        if (!running) {
+            throw new IngestOverloadedException("Writer lanes of " + instrument + " are stopped", 1);
+        }
+        // Slots are reserved on every lane first, a request is either fully queued or rejected
+        Map<Lane, List<Task>> tasks = new LinkedHashMap<>();
+        partitions.forEach((partition, partitionReadings) ->
+            tasks.computeIfAbsent(lane(partition), key -> new ArrayList<>()).add(new Task(partitionReadings)));
+        List<Lane> reserved = new ArrayList<>(tasks.size());
+        for (Map.Entry<Lane, List<Task>> laneTasks : tasks.entrySet()) {
+            Lane lane = laneTasks.getKey();
+            if (!lane.slots.tryAcquire(laneTasks.getValue().size())) {
+                reserved.forEach(r -> r.slots.release(tasks.get(r).size()));
+                throw new IngestOverloadedException("Writer lane " + lane.thread.getName() + " is full, retry later", 1);
+            }
+            reserved.add(lane);
+        }
+        List<CompletableFuture<Boolean>> acks = new ArrayList<>();
+        tasks.forEach((lane, laneTasks) -> laneTasks.forEach(task -> {
+            lane.queue.add(task);
+            acks.add(task.ack);
+        }));
+        if (closed) {
+            // Queued while closing, after the lanes have been drained
+            tasks.keySet().forEach(Lane::failQueued);
+        }
+        return CompletableFuture.allOf(acks.toArray(new CompletableFuture<?>[acks.size()]))
+                .thenApply(v -> acks.stream().allMatch(CompletableFuture::join));
+    }
+
+    /**
+     * Requests waiting in the lanes.
+     *
+     * @return
+     *      queued requests
+     */
+    public long getQueued() {
+        long queued = 0;
+        for (Lane lane : lanes) {
+            queued += lane.queue.size();
+        }
+        return queued;
+    }
+
+    /**
+     * Stop accepting readings, write what is queued and stop the lanes (shutdown). Tasks still queued
+     * once the lanes are stopped (lane interrupted or not done in time) are failed.
+     */
+    public void close() {
+        running = false;
+        boolean interrupted = false;
+        for (Lane lane : lanes) {
+            try {
+                lane.thread.join(TimeUnit.SECONDS.toMillis(10));
+            } catch (InterruptedException e) {
+                interrupted = true;
+                break;
+            }
+        }
+        closed = true;
+        lanes.forEach(Lane::failQueued);
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Lane lane(JourneyPartition partition) {
+        int h = partition.hashCode();
+        return lanes.get(((h ^ (h >>> 16)) & 0x7fffffff) % lanes.size());
+    }
+
+    /**
+     * Readings of a single partition from one request.
+     */
+    private final class Task {
+
+        private final List<T> readings;
+
+        private final CompletableFuture<Boolean> ack = new CompletableFuture<>();
+
+        private Task(List<T> readings) {
+            this.readings = readings;
+        }
+    }
+
+    /**
+     * Single writer thread and its queue.
+     */
+    private final class Lane implements Runnable {
+
+        private final BlockingQueue<Task> queue = new LinkedBlockingQueue<>();
+
+        /** Free places in the queue, reserved before tasks are queued and released once they are taken. */
+        private final Semaphore slots;
+
+        private final Thread thread;
+
+        private Lane(int queueCapacity, String name) {
+            this.slots  = new Semaphore(queueCapacity);
+            this.thread = new Thread(this, name);
+            this.thread.setDaemon(true);
+        }
+
+        @Override
+        public void run() {
+            List<Task> tasks = new ArrayList<>();
+            while (running || !queue.isEmpty()) {
+                try {
+                    Task first = queue.poll(100, TimeUnit.MILLISECONDS);
+                    if (null == first) {
+                        continue;
+                    }
+                    slots.release();
+                    tasks.add(first);
+                    int rows = first.readings.size();
+                    Task next;
+                    while (rows < maxRows && null != (next = queue.peek())
+                            && rows + next.readings.size() <= maxRows) {
+                        tasks.add(queue.poll());
+                        slots.release();
+                        rows += next.readings.size();
+                    }
+                    write(tasks, rows);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    IngestOverloadedException stopped = new IngestOverloadedException("Writer lane stopped", 1);
+                    tasks.forEach(task -> task.ack.completeExceptionally(stopped));
+                    return;
+                } finally {
+                    tasks.clear();
+                }
+            }
+        }
+
+        /**
+         * Fail the tasks left in the queue, their slots are released.
+         */
+        private void failQueued() {
+            IngestOverloadedException stopped = null;
+            Task task;
+            while (null != (task = queue.poll())) {
+                slots.release();
+                if (null == stopped) {
+                    stopped = new IngestOverloadedException("Writer lane " + thread.getName() + " is stopped", 1);
+                }
+                task.ack.completeExceptionally(stopped);
+            }
+        }
+
+        /**
+         * Write the tasks in a single call and wait for Astra, a failure fails all of them.
+         */
+        private void write(List<Task> tasks, int rows) throws InterruptedException {
+            T[] readings = arrayFactory.apply(rows);
+            int offset = 0;
+            for (Task task : tasks) {
+                for (T read : task.readings) {
+                    readings[offset++] = read;
+                }
+            }
+            long top = System.nanoTime();
+            try {
+                Boolean applied = writer.apply(readings).toCompletableFuture().get();
+                tasks.forEach(task -> task.ack.complete(applied));
+            } catch (InterruptedException ie) {
+                throw ie;
+            } catch (Exception e) {
+                Throwable cause = (null != e.getCause()) ? e.getCause() : e;
+                LOGGER.debug("Lane {} cannot write {} reading(s): {}", thread.getName(), rows, cause.getMessage());
+                tasks.forEach(task -> task.ack.completeExceptionally(cause));
+            } finally {
+                metrics.recordFlush(instrument, rows, System.nanoTime() - top);
+            }
+        }
+    }
+
+}
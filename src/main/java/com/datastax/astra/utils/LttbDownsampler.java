@@ -0,0 +1,84 @@
+package com.datastax.astra.utils;
+
+import com.datastax.astra.model.ReadingSeries;
+
+/**
+ * Largest-Triangle-Three-Buckets downsampling: keep the points that preserve the visual shape of a series.
+ *
+ * First and last points are kept, the other ones are split in (threshold - 2) buckets and, in each bucket, 
+ * the point forming the largest triangle with the previously kept point and the average of the next bucket is kept.
+ */
+public class LttbDownsampler {
+
+    /**
+     * Hide default constructor.
+     */
+    private LttbDownsampler() {}
+
+    /**
+     * Downsample a series.
+     *
+     * @param series
+     *      readings ordered on reading time (ascending or descending)
+     * @param threshold
+     *      maximum number of points
+     * @return
+     *      indices of the points to keep, in series order
+     * @throws IllegalArgumentException
+     *      threshold is lower than 3
+     */
+    public static int[] downsample(ReadingSeries series, int threshold) {
+        if (threshold < 3) {
+            throw new IllegalArgumentException("Invalid downsample " + threshold + ", expecting at least 3 points");
+        }
+        int size = series.size();
+        if (threshold >= size) {
+            int[] all = new int[size];
+            for (int i = 0; i < size; i++) {
+                all[i] = i;
+            }
+            return all;
+        }
+        // Times relative to the first reading, keeps precision on products
+        long origin = series.getReadingTime(0);
+        int[] sampled = new int[threshold];
+        int count = 0;
+        sampled[count++] = 0;
+        double every = (double) (size - 2) / (threshold - 2);
+        int a = 0;
+        for (int i = 0; i < threshold - 2; i++) {
+            // Average of the next bucket
+            int avgStart = (int) Math.floor((i + 1) * every) + 1;
+            int avgEnd   = Math.min((int) Math.floor((i + 2) * every) + 1, size);
+            double avgX = 0;
+            double avgY = 0;
+            for (int j = avgStart; j < avgEnd; j++) {
+                avgX += series.getReadingTime(j) - origin;
+                avgY += series.getValue(j);
+            }
+            int avgLength = Math.max(1, avgEnd - avgStart);
+            avgX /= avgLength;
+            avgY /= avgLength;
+            // Point of the current bucket with the largest triangle
+            int from = (int) Math.floor(i * every) + 1;
+            int to   = (int) Math.floor((i + 1) * every) + 1;
+            double ax = series.getReadingTime(a) - origin;
+            double ay = series.getValue(a);
+            double maxArea = -1;
+            int next = from;
+            for (int j = from; j < to; j++) {
+                double area = Math.abs((ax - avgX) * (series.getValue(j) - ay)
+                        - (ax - (series.getReadingTime(j) - origin)) * (avgY - ay));
+                if (area > maxArea) {
+                    maxArea = area;
+                    next    = j;
+                }
+            }
+            sampled[count++] = next;
+            a = next;
+        }
+        sampled[count++] = size - 1;
+        return sampled;
+    }
+
+}
@@ -0,0 +1,271 @@
+package com.datastax.astra.utils;
+
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_JOURNEY_ID;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_READING_TIME;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_SPACECRAFT_NAME;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.time.Instant;
+import java.util.UUID;
+
+import com.datastax.astra.entity.LocationUdt;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.data.UdtValue;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+/**
+ * Write rows of the reading tables (all columns selected) without mapping them to entities.
+ *
+ * Json documents use the property names of the entities, so exported readings can be posted back. Values are
+ * read by position, see {@link Columns}.
+ */
+public class ReadingRowWriter {
+
+    /**
+     * Hide default constructor.
+     */
+    private ReadingRowWriter() {}
+
+    /**
+     * Write a row as a json reading.
+     *
+     * @param generator
+     *      json output
+     * @param columns
+     *      positions of the columns in the rows
+     * @param row
+     *      row with all columns
+     * @throws IOException
+     *      cannot write
+     */
+    public static void writeJson(JsonGenerator generator, Columns columns, Row row) throws IOException {
+        Instrument instrument = columns.getInstrument();
+        generator.writeStartObject();
+        writeStringField(generator, COLUMN_SPACECRAFT_NAME, row.getString(columns.spacecraftName));
+        UUID journeyId = row.getUuid(columns.journeyId);
+        writeStringField(generator, COLUMN_JOURNEY_ID, null == journeyId ? null : journeyId.toString());
+        Instant readingTime = row.getInstant(columns.readingTime);
+        writeStringField(generator, COLUMN_READING_TIME, null == readingTime ? null : readingTime.toString());
+        if (instrument.isScalar()) {
+            if (row.isNull(columns.value)) {
+                generator.writeNullField(instrument.getValueColumn());
+            } else {
+                generator.writeNumberField(instrument.getValueColumn(), row.getDouble(columns.value));
+            }
+        } else {
+            UdtValue location = row.getUdtValue(columns.value);
+            if (null == location) {
+                generator.writeNullField(instrument.getValueColumn());
+            } else {
+                generator.writeObjectFieldStart(instrument.getValueColumn());
+                generator.writeNumberField(LocationUdt.XCOORDINATE, location.getDouble(LocationUdt.XCOORDINATE));
+                generator.writeNumberField(LocationUdt.YCOORDINATE, location.getDouble(LocationUdt.YCOORDINATE));
+                generator.writeNumberField(LocationUdt.ZCOORDINATE, location.getDouble(LocationUdt.ZCOORDINATE));
+                generator.writeEndObject();
+            }
+        }
+        writeStringField(generator, instrument.getUnitColumn(), row.getString(columns.unit));
+        generator.writeEndObject();
+    }
+
+    /**
+     * Write a reading of a frame as json, same document as {@link #writeJson(JsonGenerator, Columns, Row)}.
+     *
+     * @param generator
+     *      json output
+     * @param frame
+     *      readings of an instrument for one journey
+     * @param index
+     *      index of the reading in the frame
+     * @throws IOException
+     *      cannot write
+     */
+    public static void writeJson(JsonGenerator generator, ReadingsFrame frame, int index) throws IOException {
+        Instrument instrument = frame.getInstrument();
+        double[]   values     = frame.getValues();
+        generator.writeStartObject();
+        generator.writeStringField(COLUMN_SPACECRAFT_NAME, frame.getSpacecraftName());
+        generator.writeStringField(COLUMN_JOURNEY_ID, frame.getJourneyId().toString());
+        generator.writeStringField(COLUMN_READING_TIME, Instant.ofEpochMilli(frame.getReadingTimes()[index]).toString());
+        if (instrument.isScalar()) {
+            generator.writeNumberField(instrument.getValueColumn(), values[index]);
+        } else {
+            int offset = index * ReadingsFrame.stride(instrument);
+            generator.writeObjectFieldStart(instrument.getValueColumn());
+            generator.writeNumberField(LocationUdt.XCOORDINATE, values[offset]);
+            generator.writeNumberField(LocationUdt.YCOORDINATE, values[offset + 1]);
+            generator.writeNumberField(LocationUdt.ZCOORDINATE, values[offset + 2]);
+            generator.writeEndObject();
+        }
+        writeStringField(generator, instrument.getUnitColumn(), frame.getUnit());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Header line of a csv export.
+     *
+     * @param out
+     *      csv output
+     * @param instrument
+     *      instrument of the table
+     * @throws IOException
+     *      cannot write
+     */
+    public static void writeCsvHeader(Writer out, Instrument instrument) throws IOException {
+        out.write(COLUMN_SPACECRAFT_NAME);
+        out.write(',');
+        out.write(COLUMN_JOURNEY_ID);
+        out.write(',');
+        out.write(COLUMN_READING_TIME);
+        out.write(',');
+        if (instrument.isScalar()) {
+            out.write(instrument.getValueColumn());
+        } else {
+            out.write(LocationUdt.XCOORDINATE + "," + LocationUdt.YCOORDINATE + "," + LocationUdt.ZCOORDINATE);
+        }
+        out.write(',');
+        out.write(instrument.getUnitColumn());
+        out.write('\n');
+    }
+
+    /**
+     * Write a row as a csv line, empty cells for null values.
+     *
+     * @param out
+     *      csv output
+     * @param columns
+     *      positions of the columns in the rows
+     * @param row
+     *      row with all columns
+     * @throws IOException
+     *      cannot write
+     */
+    public static void writeCsv(Writer out, Columns columns, Row row) throws IOException {
+        writeCsvString(out, row.getString(columns.spacecraftName));
+        out.write(',');
+        UUID journeyId = row.getUuid(columns.journeyId);
+        out.write(null == journeyId ? "" : journeyId.toString());
+        out.write(',');
+        Instant readingTime = row.getInstant(columns.readingTime);
+        out.write(null == readingTime ? "" : readingTime.toString());
+        out.write(',');
+        if (columns.getInstrument().isScalar()) {
+            if (!row.isNull(columns.value)) {
+                out.write(Double.toString(row.getDouble(columns.value)));
+            }
+        } else {
+            UdtValue location = row.getUdtValue(columns.value);
+            if (null == location) {
+                out.write(",,");
+            } else {
+                out.write(location.getDouble(LocationUdt.XCOORDINATE) + "," 
+                        + location.getDouble(LocationUdt.YCOORDINATE) + ","
+                        + location.getDouble(LocationUdt.ZCOORDINATE));
+            }
+        }
+        out.write(',');
+        writeCsvString(out, row.getString(columns.unit));
+        out.write('\n');
+    }
+
+    private static void writeStringField(JsonGenerator generator, String name, String value) throws IOException {
+        if (null == value) {
+            generator.writeNullField(name);
+        } else {
+            generator.writeStringField(name, value);
+        }
+    }
+
+    /**
+     * Quote values holding separators, quotes are doubled.
+     */
+    private static void writeCsvString(Writer out, String value) throws IOException {
+        if (null == value) {
+            return;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            out.write(value);
+            return;
+        }
+        out.write('"');
+        out.write(value.replace("\"", "\"\""));
+        out.write('"');
+    }
+
+    /**
+     * Positions of the columns of a reading table in a result set: resolved once per result set, the lookup
+     * of a column by name costs more than decoding its value.
+     */
+    public static final class Columns {
+
+        private final Instrument instrument;
+
+        private final int spacecraftName;
+
+        private final int journeyId;
+
+        private final int readingTime;
+
+        private final int value;
+
+        private final int unit;
+
+        private Columns(Instrument instrument, ColumnDefinitions definitions) {
+            this.instrument     = instrument;
+            this.spacecraftName = indexOf(definitions, COLUMN_SPACECRAFT_NAME);
+            this.journeyId      = indexOf(definitions, COLUMN_JOURNEY_ID);
+            this.readingTime    = indexOf(definitions, COLUMN_READING_TIME);
+            this.value          = indexOf(definitions, instrument.getValueColumn());
+            this.unit           = indexOf(definitions, instrument.getUnitColumn());
+        }
+
+        /**
+         * Resolve the columns of an instrument table.
+         *
+         * @param instrument
+         *      instrument of the table
+         * @param definitions
+         *      columns of the result set
+         * @return
+         *      positions of the columns
+         * @throws IllegalArgumentException
+         *      a column of the table is not selected
+         */
+        public static Columns of(Instrument instrument, ColumnDefinitions definitions) {
+            return new Columns(instrument, definitions);
+        }
+
+        private static int indexOf(ColumnDefinitions definitions, String name) {
+            int index = definitions.firstIndexOf(name);
+            if (index < 0) {
+                throw new IllegalArgumentException("Column '" + name + "' is not selected");
+            }
+            return index;
+        }
+
+        /**
+         * Getter accessor for attribute 'instrument'.
+         *
+         * @return
+         *       current value of 'instrument'
+         */
+        public Instrument getInstrument() {
+            return instrument;
+        }
+
+        /**
+         * Getter accessor for attribute 'readingTime'.
+         *
+         * @return
+         *       position of the reading_time column
+         */
+        public int getReadingTime() {
+            return readingTime;
+        }
+    }
+
+}
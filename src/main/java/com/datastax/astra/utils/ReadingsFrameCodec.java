@@ -0,0 +1,122 @@
+package com.datastax.astra.utils;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.UUID;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Compact binary format for bulk readings (big endian).
+ * 
+ * <pre>
+ * int     magic 'ARF1'
+ * byte    instrument (0=temperature, 1=pressure, 2=speed, 3=location)
+ * utf     spacecraft name
+ * long    journey id (most significant bits)
+ * long    journey id (least significant bits)
+ * utf     unit
+ * int     number of readings
+ * then for each reading
+ *   long    reading time (epoch millis)
+ *   double  value (or x, y, z for location)
+ * </pre>
+ */
+public class ReadingsFrameCodec {
+    
+    /** Content type of the format. */
+    public static final String MEDIA_TYPE = "application/x-astra-readings";
+    
+    /** First bytes of a frame ('ARF1'). */
+    public static final int MAGIC = 0x41524631;
+    
+    /** Upper bound of readings in a frame, protects the heap against a corrupted header. */
+    public static final int MAX_READINGS = 1_000_000;
+    
+    /** Hide default constructor. */
+    private ReadingsFrameCodec() {}
+    
+    /**
+     * Write a frame.
+     *
+     * @param frame
+     *      readings to write
+     * @param out
+     *      target stream (not closed)
+     * @throws IOException
+     *      cannot write
+     */
+    public static void encode(ReadingsFrame frame, OutputStream out) 
+    throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeByte(frame.getInstrument().ordinal());
+        data.writeUTF(frame.getSpacecraftName());
+        data.writeLong(frame.getJourneyId().getMostSignificantBits());
+        data.writeLong(frame.getJourneyId().getLeastSignificantBits());
+        data.writeUTF(null == frame.getUnit() ? "" : frame.getUnit());
+        data.writeInt(frame.size());
+        int stride       = ReadingsFrame.stride(frame.getInstrument());
+        long[] times     = frame.getReadingTimes();
+        double[] values  = frame.getValues();
+        for (int i = 0; i < times.length; i++) {
+            data.writeLong(times[i]);
+            for (int v = i * stride; v < (i + 1) * stride; v++) {
+                data.writeDouble(values[v]);
+            }
+        }
+        data.flush();
+    }
+    
+    /**
+     * Read a frame.
+     *
+     * @param in
+     *      source stream (not closed), a {@link DataInputStream} is read as is so that
+     *      consecutive frames can be decoded from the same stream
+     * @return
+     *      decoded frame
+     * @throws IOException
+     *      cannot read or truncated frame
+     * @throws IllegalArgumentException
+     *      invalid header
+     */
+    public static ReadingsFrame decode(InputStream in) 
+    throws IOException {
+        DataInputStream data = (in instanceof DataInputStream) 
+                ? (DataInputStream) in : new DataInputStream(new BufferedInputStream(in));
+        if (data.readInt() != MAGIC) {
+            throw new IllegalArgumentException("Invalid readings frame, expecting content type " + MEDIA_TYPE);
+        }
+        int type = data.readUnsignedByte();
+        if (type >= Instrument.values().length) {
+            throw new IllegalArgumentException("Invalid readings frame, unknown instrument " + type);
+        }
+        Instrument instrument = Instrument.values()[type];
+        String spacecraftName = data.readUTF();
+        UUID journeyId        = new UUID(data.readLong(), data.readLong());
+        String unit           = data.readUTF();
+        int count             = data.readInt();
+        if (count < 0 || count > MAX_READINGS) {
+            throw new IllegalArgumentException("Invalid readings frame, expecting at most " 
+                        + MAX_READINGS + " readings but got " + count);
+        }
+        int stride      = ReadingsFrame.stride(instrument);
+        long[] times    = new long[count];
+        double[] values = new double[count * stride];
+        for (int i = 0; i < count; i++) {
+            times[i] = data.readLong();
+            for (int v = i * stride; v < (i + 1) * stride; v++) {
+                values[v] = data.readDouble();
+            }
+        }
+        return new ReadingsFrame(instrument, spacecraftName, journeyId, unit.isEmpty() ? null : unit, times, values);
+    }
+
+}
@@ -0,0 +1,41 @@
+package com.datastax.astra.utils;
+
+import java.math.BigInteger;
+
+/**
+ * Split the token ring of the Murmur3 partitioner (Astra) into contiguous ranges.
+ */
+public class TokenRanges {
+
+    /** Number of tokens of the ring. */
+    private static final BigInteger RING_SIZE = BigInteger.valueOf(2).pow(64);
+
+    /**
+     * Hide default constructor.
+     */
+    private TokenRanges() {}
+
+    /**
+     * Boundaries of ranges of the same size, range 'i' holds tokens in (bounds[i], bounds[i + 1]].
+     *
+     * Long.MIN_VALUE is never a token of a key, so the first range starting after it covers the whole ring.
+     *
+     * @param splits
+     *      number of ranges
+     * @return
+     *      'splits + 1' boundaries, from Long.MIN_VALUE to Long.MAX_VALUE
+     */
+    public static long[] split(int splits) {
+        if (splits < 1) {
+            throw new IllegalArgumentException("Invalid number of token ranges " + splits + ", expecting a positive value");
+        }
+        long[] bounds = new long[splits + 1];
+        BigInteger min = BigInteger.valueOf(Long.MIN_VALUE);
+        for (int i = 0; i < splits; i++) {
+            bounds[i] = min.add(RING_SIZE.multiply(BigInteger.valueOf(i)).divide(BigInteger.valueOf(splits))).longValueExact();
+        }
+        bounds[splits] = Long.MAX_VALUE;
+        return bounds;
+    }
+
+}
@@ -0,0 +1,265 @@
+package com.datastax.astra.wal;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.zip.CRC32;
+
+/**
+ * Memory-mapped segment file of the write-ahead log.
+ *
+ * <pre>
+ * header   int magic 'AWL1', long segment id, int reserved
+ * records  int length, int crc32(payload), byte[length] payload
+ * end      int 0
+ * </pre>
+ *
+ * A single thread appends, other threads read up to {@link #getCommitted()}.
+ */
+public class WalSegment {
+
+    /** Segment header. */
+    public static final int MAGIC       = 0x41574C31;
+    public static final int HEADER_SIZE = 16;
+
+    /** Record header (length + crc). */
+    public static final int RECORD_HEADER_SIZE = 8;
+
+    /** Segment file. */
+    private Path path;
+    private long id;
+    private final MappedByteBuffer buffer;
+
+    /** End of the last complete record. */
+    private volatile int committed = HEADER_SIZE;
+
+    /** No more appends, {@link #committed} is final. */
+    private volatile boolean sealed = false;
+
+    private WalSegment(Path path, long id, MappedByteBuffer buffer) {
+        this.path   = path;
+        this.id     = id;
+        this.buffer = buffer;
+    }
+
+    /**
+     * File name of a segment.
+     *
+     * @param id
+     *      segment id
+     * @return
+     *      file name
+     */
+    public static String fileName(long id) {
+        return String.format("segment-%016d.wal", id);
+    }
+
+    /**
+     * Create and map a new empty segment.
+     *
+     * @param directory
+     *      log directory
+     * @param id
+     *      segment id
+     * @param size
+     *      segment size in bytes
+     * @return
+     *      empty segment
+     * @throws IOException
+     *      cannot create file
+     */
+    public static WalSegment create(Path directory, long id, int size)
+    throws IOException {
+        Path path = directory.resolve(fileName(id));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            WalSegment segment = new WalSegment(path, id, channel.map(MapMode.READ_WRITE, 0, size));
+            segment.writeHeader();
+            return segment;
+        }
+    }
+
+    /**
+     * Map an existing segment and locate the end of its last valid record.
+     *
+     * @param path
+     *      segment file
+     * @return
+     *      segment positioned after its last valid record
+     * @throws IOException
+     *      cannot read file or invalid header
+     */
+    public static WalSegment open(Path path)
+    throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(MapMode.READ_WRITE, 0, channel.size());
+            if (buffer.capacity() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+                throw new IOException("Invalid write-ahead log segment " + path);
+            }
+            WalSegment segment = new WalSegment(path, buffer.getLong(4), buffer);
+            int offset = HEADER_SIZE;
+            while (null != segment.read(offset, buffer.capacity())) {
+                offset += RECORD_HEADER_SIZE + buffer.getInt(offset);
+            }
+            segment.committed = offset;
+            return segment;
+        }
+    }
+
+    /**
+     * Reuse a drained segment file under a new id, its mapping is kept.
+     *
+     * @param directory
+     *      log directory
+     * @param newId
+     *      new segment id
+     * @throws IOException
+     *      cannot rename file
+     */
+    public void recycle(Path directory, long newId)
+    throws IOException {
+        Path target = directory.resolve(fileName(newId));
+        Files.move(path, target, StandardCopyOption.ATOMIC_MOVE);
+        this.path      = target;
+        this.id        = newId;
+        this.committed = HEADER_SIZE;
+        this.sealed    = false;
+        writeHeader();
+    }
+
+    private void writeHeader() {
+        buffer.putInt(HEADER_SIZE, 0);
+        buffer.putInt(0, MAGIC);
+        buffer.putLong(4, id);
+        buffer.putInt(12, 0);
+    }
+
+    /**
+     * Append a record, only one thread appends.
+     *
+     * @param payload
+     *      record content
+     * @return
+     *      false if the segment has not enough room left
+     */
+    public boolean append(byte[] payload) {
+        int offset = committed;
+        int end    = offset + RECORD_HEADER_SIZE + payload.length;
+        if (end + 4 > buffer.capacity()) {
+            return false;
+        }
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, payload.length);
+        // End marker first, length last: a record is visible only once complete
+        buffer.putInt(end, 0);
+        buffer.putInt(offset + 4, (int) crc.getValue());
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + RECORD_HEADER_SIZE);
+        view.put(payload);
+        buffer.putInt(offset, payload.length);
+        committed = end;
+        return true;
+    }
+
+    /**
+     * Read the record at an offset.
+     *
+     * @param offset
+     *      record offset
+     * @param limit
+     *      records must end before this offset
+     * @return
+     *      payload or null if there is no valid record at this offset
+     */
+    public byte[] read(int offset, int limit) {
+        if (offset + RECORD_HEADER_SIZE > limit) {
+            return null;
+        }
+        int length = buffer.getInt(offset);
+        if (length <= 0 || offset + RECORD_HEADER_SIZE + length > limit) {
+            return null;
+        }
+        byte[] payload = new byte[length];
+        ByteBuffer view = buffer.duplicate();
+        view.position(offset + RECORD_HEADER_SIZE);
+        view.get(payload);
+        CRC32 crc = new CRC32();
+        crc.update(payload, 0, length);
+        if ((int) crc.getValue() != buffer.getInt(offset + 4)) {
+            // Torn write (crash during append)
+            return null;
+        }
+        return payload;
+    }
+
+    /**
+     * Flush mapped pages to disk.
+     */
+    public void force() {
+        buffer.force();
+    }
+
+    /**
+     * No more appends on this segment.
+     */
+    public void seal() {
+        this.sealed = true;
+    }
+
+    /**
+     * Room for a payload in an empty segment.
+     *
+     * @return
+     *      maximum payload size
+     */
+    public int maxPayloadSize() {
+        return buffer.capacity() - HEADER_SIZE - RECORD_HEADER_SIZE - 4;
+    }
+
+    /**
+     * Getter accessor for attribute 'path'.
+     *
+     * @return
+     *       current value of 'path'
+     */
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * Getter accessor for attribute 'id'.
+     *
+     * @return
+     *       current value of 'id'
+     */
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Getter accessor for attribute 'committed'.
+     *
+     * @return
+     *       current value of 'committed'
+     */
+    public int getCommitted() {
+        return committed;
+    }
+
+    /**
+     * Getter accessor for attribute 'sealed'.
+     *
+     * @return
+     *       current value of 'sealed'
+     */
+    public boolean isSealed() {
+        return sealed;
+    }
+
+}
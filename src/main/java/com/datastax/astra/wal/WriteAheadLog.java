@@ -0,0 +1,475 @@
+package com.datastax.astra.wal;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.astra.utils.ReadingsFrameCodec;
+
+/**
+ * Local write-ahead log for readings.
+ *
+ * Readings are appended as records (one or more {@link ReadingsFrame}) to memory-mapped segment files and
+ * acknowledged right away. A background drainer replays records in order against Astra through the 'sink',
+ * persists a checkpoint (segment id, offset) after each successful group and recycles drained segments.
+ * On restart the drainer resumes from the checkpoint, so readings acknowledged before a crash are not lost.
+ * Records written after the last checkpoint are written again, a group retried in the same run skips
+ * the frames it already wrote.
+ *
+ * A group still failing after 'maxReplayAttempts' replays (Astra rejecting its readings, record that cannot
+ * be decoded) is replayed record by record once more, records failing again are appended to the dead-letter
+ * file (length then payload, as logged) and the checkpoint moves on, so one bad record cannot stall the log.
+ */
+public class WriteAheadLog {
+
+    /** Logger for the class. */
+    private static final Logger LOGGER = LoggerFactory.getLogger(WriteAheadLog.class);
+
+    /** Last drained position. */
+    private static final String CHECKPOINT_FILE = "checkpoint";
+
+    /** Records given up by the drainer. */
+    private static final String DEAD_LETTER_FILE = "dead-letter";
+
+    /** Log directory and settings. */
+    private final Path directory;
+    private final int segmentSize;
+    private final int maxSegments;
+    private final int maxRecycledSegments;
+    private final boolean forceOnAppend;
+    private final int drainBatchSize;
+    private final long drainIdleMillis;
+    private final long retryDelayMillis;
+    private final int maxReplayAttempts;
+
+    /** Replay records against Astra. */
+    private final Function<ReadingsFrame, CompletionStage<Boolean>> sink;
+
+    /** Live segments ordered by id, the last one is active (guarded by this). */
+    private final Deque<WalSegment> segments = new ArrayDeque<>();
+
+    /** Drained segments ready for reuse (guarded by this). */
+    private final Deque<WalSegment> recycled = new ArrayDeque<>();
+
+    /** Drainer position, owned by the drainer thread. */
+    private WalSegment readSegment;
+    private int readOffset;
+
+    /** Frames of the current group already written (segment id, offset, frame index), cleared on checkpoint. */
+    private final Set<String> replayed = ConcurrentHashMap.newKeySet();
+
+    /** Drainer thread. */
+    private volatile boolean running = false;
+    private Thread drainer;
+
+    /** Counters. */
+    private final LongAdder appendedRecords = new LongAdder();
+    private final LongAdder drainedRecords  = new LongAdder();
+    private final LongAdder deadLetterRecords = new LongAdder();
+
+    /**
+     * Open (or create) the log and recover its state from disk.
+     *
+     * @param directory
+     *      log directory
+     * @param segmentSize
+     *      size of a segment file in bytes
+     * @param maxSegments
+     *      live segments limit, appends are refused above
+     * @param maxRecycledSegments
+     *      drained segments kept for reuse
+     * @param forceOnAppend
+     *      flush pages to disk on each append (survives power loss, slower)
+     * @param drainBatchSize
+     *      records replayed concurrently by the drainer
+     * @param drainIdleMillis
+     *      pause of the drainer when the log is empty
+     * @param retryDelayMillis
+     *      pause of the drainer when Astra is not available
+     * @param maxReplayAttempts
+     *      replays of a group before failing records are moved to the dead-letter file
+     * @param sink
+     *      replay a frame against Astra
+     * @throws IOException
+     *      cannot read or create log files
+     */
+    public WriteAheadLog(Path directory, int segmentSize, int maxSegments, int maxRecycledSegments,
+            boolean forceOnAppend, int drainBatchSize, long drainIdleMillis, long retryDelayMillis,
+            int maxReplayAttempts, Function<ReadingsFrame, CompletionStage<Boolean>> sink) throws IOException {
+        this.directory           = directory;
+        this.segmentSize         = segmentSize;
+        this.maxSegments         = Math.max(2, maxSegments);
+        this.maxRecycledSegments = maxRecycledSegments;
+        this.forceOnAppend       = forceOnAppend;
+        this.drainBatchSize      = Math.max(1, drainBatchSize);
+        this.drainIdleMillis     = drainIdleMillis;
+        this.retryDelayMillis    = retryDelayMillis;
+        this.maxReplayAttempts   = Math.max(1, maxReplayAttempts);
+        this.sink                = sink;
+        recover();
+    }
+
+    /**
+     * Open segments found on disk, drop those before the checkpoint.
+     */
+    private synchronized void recover() throws IOException {
+        Files.createDirectories(directory);
+        List<WalSegment> found = new ArrayList<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory, "segment-*.wal")) {
+            for (Path file : files) {
+                found.add(WalSegment.open(file));
+            }
+        }
+        found.sort(Comparator.comparingLong(WalSegment::getId));
+        long[] checkpoint = readCheckpoint();
+        for (WalSegment segment : found) {
+            if (null != checkpoint && segment.getId() < checkpoint[0]) {
+                release(segment);
+            } else {
+                segments.addLast(segment);
+            }
+        }
+        if (segments.isEmpty()) {
+            long lastId = found.isEmpty() ? -1 : found.get(found.size() - 1).getId();
+            segments.addLast(newSegment(Math.max(lastId + 1, null != checkpoint ? checkpoint[0] + 1 : 0)));
+        }
+        // Only the last segment accepts appends
+        for (WalSegment segment : segments) {
+            if (segment != segments.peekLast()) {
+                segment.seal();
+            }
+        }
+        readSegment = segments.peekFirst();
+        readOffset  = (null != checkpoint && readSegment.getId() == checkpoint[0])
+                ? (int) Math.min(checkpoint[1], readSegment.getCommitted()) : WalSegment.HEADER_SIZE;
+        LOGGER.info("Write-ahead log opened in {} with {} segment(s), replaying from segment {} offset {}",
+                directory, segments.size(), readSegment.getId(), readOffset);
+    }
+
+    /**
+     * Start the drainer.
+     */
+    public synchronized void start() {
+        if (!running) {
+            running = true;
+            drainer = new Thread(this::drain, "astra-wal-drainer");
+            drainer.setDaemon(true);
+            drainer.start();
+        }
+    }
+
+    /**
+     * Stop the drainer and flush segments, pending records are replayed on next start.
+     */
+    public void close() {
+        running = false;
+        if (null != drainer) {
+            drainer.interrupt();
+            try {
+                drainer.join(retryDelayMillis + 1000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        synchronized (this) {
+            segments.forEach(WalSegment::force);
+        }
+    }
+
+    /**
+     * Append frames as a single record.
+     *
+     * @param frames
+     *      readings to log
+     * @return
+     *      false if the log is full (drainer is too far behind)
+     * @throws IllegalArgumentException
+     *      record larger than a segment
+     */
+    public boolean append(List<ReadingsFrame> frames) {
+        byte[] payload = encode(frames);
+        synchronized (this) {
+            WalSegment active = segments.peekLast();
+            if (payload.length > active.maxPayloadSize()) {
+                throw new IllegalArgumentException("Readings too large for the write-ahead log ("
+                        + payload.length + " bytes, segments are " + segmentSize + " bytes)");
+            }
+            if (!active.append(payload)) {
+                if (segments.size() >= maxSegments) {
+                    return false;
+                }
+                active.seal();
+                active.force();
+                try {
+                    active = newSegment(active.getId() + 1);
+                } catch (IOException e) {
+                    throw new UncheckedIOException("Cannot create write-ahead log segment", e);
+                }
+                segments.addLast(active);
+                active.append(payload);
+            }
+            if (forceOnAppend) {
+                active.force();
+            }
+        }
+        appendedRecords.increment();
+        return true;
+    }
+
+    /**
+     * Replay records in order, a group of records is written concurrently and
+     * the checkpoint moves only when the whole group has been written.
+     */
+    private void drain() {
+        int attempts = 0;
+        while (running) {
+            WalSegment segment = readSegment;
+            int offset         = readOffset;
+            List<byte[]> records = new ArrayList<>(drainBatchSize);
+            List<String> positions = new ArrayList<>(drainBatchSize);
+            while (records.size() < drainBatchSize) {
+                byte[] payload = segment.read(offset, segment.getCommitted());
+                if (null != payload) {
+                    records.add(payload);
+                    positions.add(segment.getId() + "/" + offset);
+                    offset += WalSegment.RECORD_HEADER_SIZE + payload.length;
+                } else if (segment.isSealed() && offset >= segment.getCommitted()) {
+                    WalSegment next = nextSegment(segment);
+                    if (null == next) {
+                        break;
+                    }
+                    segment = next;
+                    offset  = WalSegment.HEADER_SIZE;
+                } else {
+                    break;
+                }
+            }
+            try {
+                if (records.isEmpty()) {
+                    if (segment != readSegment) {
+                        checkpoint(segment, offset);
+                    }
+                    Thread.sleep(drainIdleMillis);
+                    continue;
+                }
+                if (attempts < maxReplayAttempts) {
+                    replay(records, positions);
+                } else {
+                    replayOrDeadLetter(records, positions);
+                }
+                checkpoint(segment, offset);
+                drainedRecords.add(records.size());
+                replayed.clear();
+                attempts = 0;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (Exception e) {
+                attempts++;
+                LOGGER.warn("Cannot replay write-ahead log (attempt {}/{}), retrying in {} millis: {}",
+                        attempts, maxReplayAttempts, retryDelayMillis, e.getMessage());
+                try {
+                    Thread.sleep(retryDelayMillis);
+                } catch (InterruptedException ie) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Write records concurrently, fails if any of them fails. Frames written by a previous attempt
+     * of the group are skipped, the sink sees a frame once.
+     */
+    private void replay(List<byte[]> records, List<String> positions) throws Exception {
+        List<CompletableFuture<Boolean>> writes = new ArrayList<>();
+        for (int r = 0; r < records.size(); r++) {
+            List<ReadingsFrame> frames = decode(records.get(r));
+            for (int f = 0; f < frames.size(); f++) {
+                String frameKey = positions.get(r) + "/" + f;
+                if (!replayed.contains(frameKey)) {
+                    writes.add(sink.apply(frames.get(f)).toCompletableFuture()
+                            .thenApply(applied -> {
+                                replayed.add(frameKey);
+                                return applied;
+                            }));
+                }
+            }
+        }
+        CompletableFuture.allOf(writes.toArray(new CompletableFuture<?>[writes.size()])).get();
+    }
+
+    /**
+     * Last attempt for a group, one record at a time, records failing again are dead-lettered.
+     */
+    private void replayOrDeadLetter(List<byte[]> records, List<String> positions) throws IOException, InterruptedException {
+        for (int r = 0; r < records.size(); r++) {
+            byte[] record = records.get(r);
+            try {
+                replay(Collections.singletonList(record), Collections.singletonList(positions.get(r)));
+            } catch (InterruptedException e) {
+                throw e;
+            } catch (Exception e) {
+                appendDeadLetter(record);
+                deadLetterRecords.increment();
+                LOGGER.error("Write-ahead log record of {} bytes moved to {} after {} attempts: {}",
+                        record.length, directory.resolve(DEAD_LETTER_FILE), maxReplayAttempts, e.getMessage());
+            }
+        }
+    }
+
+    private void appendDeadLetter(byte[] record) throws IOException {
+        ByteBuffer entry = ByteBuffer.allocate(4 + record.length);
+        entry.putInt(record.length).put(record);
+        Files.write(directory.resolve(DEAD_LETTER_FILE), entry.array(),
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND, StandardOpenOption.SYNC);
+    }
+
+    /**
+     * Persist the drained position then release fully drained segments.
+     */
+    private void checkpoint(WalSegment segment, int offset) throws IOException {
+        writeCheckpoint(segment.getId(), offset);
+        readSegment = segment;
+        readOffset  = offset;
+        synchronized (this) {
+            while (segments.peekFirst() != segment) {
+                release(segments.pollFirst());
+            }
+        }
+    }
+
+    private synchronized WalSegment nextSegment(WalSegment segment) {
+        Iterator<WalSegment> iter = segments.iterator();
+        while (iter.hasNext()) {
+            if (iter.next() == segment) {
+                return iter.hasNext() ? iter.next() : null;
+            }
+        }
+        return null;
+    }
+
+    /** Must hold the lock. */
+    private WalSegment newSegment(long id) throws IOException {
+        WalSegment reused = recycled.pollFirst();
+        if (null != reused) {
+            reused.recycle(directory, id);
+            return reused;
+        }
+        return WalSegment.create(directory, id, segmentSize);
+    }
+
+    /** Must hold the lock. */
+    private void release(WalSegment drained) throws IOException {
+        if (recycled.size() < maxRecycledSegments) {
+            recycled.addLast(drained);
+        } else {
+            Files.deleteIfExists(drained.getPath());
+        }
+    }
+
+    private long[] readCheckpoint() throws IOException {
+        Path file = directory.resolve(CHECKPOINT_FILE);
+        if (!Files.exists(file)) {
+            return null;
+        }
+        ByteBuffer content = ByteBuffer.wrap(Files.readAllBytes(file));
+        if (content.capacity() != 12) {
+            LOGGER.warn("Ignoring invalid write-ahead log checkpoint {}", file);
+            return null;
+        }
+        return new long[] { content.getLong(), content.getInt() };
+    }
+
+    private void writeCheckpoint(long segmentId, int offset) throws IOException {
+        ByteBuffer content = ByteBuffer.allocate(12);
+        content.putLong(segmentId).putInt(offset);
+        Path tmp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+        Files.write(tmp, content.array());
+        Files.move(tmp, directory.resolve(CHECKPOINT_FILE),
+                StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static byte[] encode(List<ReadingsFrame> frames) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            DataOutputStream data = new DataOutputStream(bytes);
+            data.writeInt(frames.size());
+            for (ReadingsFrame frame : frames) {
+                ReadingsFrameCodec.encode(frame, data);
+            }
+            data.flush();
+            return bytes.toByteArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static List<ReadingsFrame> decode(byte[] record) throws IOException {
+        DataInputStream data = new DataInputStream(new ByteArrayInputStream(record));
+        int count = data.readInt();
+        List<ReadingsFrame> frames = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            frames.add(ReadingsFrameCodec.decode(data));
+        }
+        return frames;
+    }
+
+    /**
+     * Records appended and not yet replayed (approximation since start).
+     *
+     * @return
+     *      number of pending records
+     */
+    public long getPendingRecords() {
+        return Math.max(0, appendedRecords.sum() - drainedRecords.sum());
+    }
+
+    /**
+     * Records moved to the dead-letter file since start.
+     *
+     * @return
+     *      number of dead-lettered records
+     */
+    public long getDeadLetterRecords() {
+        return deadLetterRecords.sum();
+    }
+
+    /**
+     * Number of live segments.
+     *
+     * @return
+     *      live segments
+     */
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.datastax.astra.dao;
+
+import static org.junit.Assert.assertEquals;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.datastax.astra.dao.BatchSizer.Batch;
+import com.datastax.oss.driver.api.core.cql.BoundStatement;
+
+/**
+ * Batches are cut on the byte budget, the budget follows failures and latencies (AIMD).
+ */
+public class BatchSizerTest {
+
+    /** Estimated size of a statement with a single value of 72 bytes. */
+    private static final int STATEMENT_BYTES = 24 + 4 + 72;
+
+    @Test
+    public void should_estimate_size_from_values() {
+        assertEquals(STATEMENT_BYTES, BatchSizer.estimateSize(statement(72)));
+        BoundStatement withNull = mock(BoundStatement.class);
+        when(withNull.getValues()).thenReturn(Collections.singletonList(null));
+        assertEquals(24 + 4, BatchSizer.estimateSize(withNull));
+    }
+
+    @Test
+    public void should_split_on_byte_budget() {
+        BatchSizer sizer = new BatchSizer(100, 100, 3 * STATEMENT_BYTES, 0);
+        List<Batch> batches = sizer.split(statements(7));
+        assertEquals(3, batches.size());
+        assertEquals(3, batches.get(0).getStatements().size());
+        assertEquals(3 * STATEMENT_BYTES, batches.get(0).getBytes());
+        assertEquals(3, batches.get(1).getStatements().size());
+        assertEquals(1, batches.get(2).getStatements().size());
+    }
+
+    @Test
+    public void should_split_on_statement_count() {
+        List<Batch> batches = BatchSizer.ofStatements(4).split(statements(10));
+        assertEquals(3, batches.size());
+        assertEquals(4, batches.get(0).getStatements().size());
+        assertEquals(4, batches.get(1).getStatements().size());
+        assertEquals(2, batches.get(2).getStatements().size());
+    }
+
+    @Test
+    public void should_keep_statement_larger_than_budget_alone() {
+        BatchSizer sizer = new BatchSizer(100, 10, 50, 0);
+        List<Batch> batches = sizer.split(statements(2));
+        assertEquals(2, batches.size());
+        assertEquals(1, batches.get(0).getStatements().size());
+        assertEquals(1, batches.get(1).getStatements().size());
+    }
+
+    @Test
+    public void should_halve_budget_on_failure_down_to_min() {
+        BatchSizer sizer = new BatchSizer(100, 1000, 8000, 0);
+        sizer.onFailure(new Batch(statements(2), 8000));
+        assertEquals(4000, sizer.getBudgetBytes());
+        // Based on the failed batch when smaller than the budget
+        sizer.onFailure(new Batch(statements(2), 3000));
+        assertEquals(1500, sizer.getBudgetBytes());
+        sizer.onFailure(new Batch(statements(2), 1500));
+        assertEquals(1000, sizer.getBudgetBytes());
+    }
+
+    @Test
+    public void should_not_shrink_on_single_statement_failure() {
+        BatchSizer sizer = new BatchSizer(100, 1000, 8000, 0);
+        sizer.onFailure(new Batch(statements(1), 8000));
+        assertEquals(8000, sizer.getBudgetBytes());
+    }
+
+    @Test
+    public void should_reduce_budget_above_target_latency() {
+        BatchSizer sizer = new BatchSizer(100, 1000, 8000, 50);
+        sizer.onSuccess(new Batch(statements(2), 8000), TimeUnit.MILLISECONDS.toNanos(80));
+        assertEquals(7000, sizer.getBudgetBytes());
+    }
+
+    @Test
+    public void should_probe_additively_when_full_batches_are_fast() {
+        BatchSizer sizer = new BatchSizer(100, 1000, 8000, 50);
+        sizer.onFailure(new Batch(statements(2), 4000));
+        assertEquals(2000, sizer.getBudgetBytes());
+        sizer.onSuccess(new Batch(statements(2), 2000), TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(2000 + 64, sizer.getBudgetBytes());
+        // Batches well under the budget do not grow it
+        sizer.onSuccess(new Batch(statements(2), 500), TimeUnit.MILLISECONDS.toNanos(5));
+        assertEquals(2000 + 64, sizer.getBudgetBytes());
+        for (int i = 0; i < 1000; i++) {
+            sizer.onSuccess(new Batch(statements(2), sizer.getBudgetBytes()), 0);
+        }
+        assertEquals(8000, sizer.getBudgetBytes());
+        assertEquals(1002, sizer.getBatchBytes().getCount());
+    }
+
+    private static List<BoundStatement> statements(int count) {
+        List<BoundStatement> statements = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            statements.add(statement(72));
+        }
+        return statements;
+    }
+
+    private static BoundStatement statement(int valueBytes) {
+        BoundStatement statement = mock(BoundStatement.class);
+        when(statement.getValues()).thenReturn(Collections.singletonList(ByteBuffer.allocate(valueBytes)));
+        return statement;
+    }
+
+}
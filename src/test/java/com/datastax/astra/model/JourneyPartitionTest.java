@@ -0,0 +1,51 @@
+package com.datastax.astra.model;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+
+/**
+ * Readings posted under a url are bound to its partition.
+ */
+public class JourneyPartitionTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private final JourneyPartition partition = new JourneyPartition("gemini3", JOURNEY_ID);
+
+    @Test
+    public void should_set_missing_key_columns() {
+        SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+        partition.bind(read);
+        assertEquals("gemini3", read.getSpacecraft_name());
+        assertEquals(JOURNEY_ID, read.getJourney_id());
+    }
+
+    @Test
+    public void should_accept_readings_of_the_partition() {
+        SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+        read.setSpacecraft_name("gemini3");
+        read.setJourney_id(JOURNEY_ID);
+        partition.bind(read);
+        assertEquals(partition, JourneyPartition.of(read));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_readings_of_another_spacecraft() {
+        SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+        read.setSpacecraft_name("apollo11");
+        partition.bind(read);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_readings_of_another_journey() {
+        SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+        read.setJourney_id(UUID.randomUUID());
+        partition.bind(read);
+    }
+
+}
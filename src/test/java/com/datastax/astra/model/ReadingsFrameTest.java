@@ -0,0 +1,66 @@
+package com.datastax.astra.model;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.datastax.astra.entity.AbstractInstrumentReading;
+import com.datastax.astra.entity.LocationUdt;
+import com.datastax.astra.entity.SpacecraftLocationOverTime;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+
+/**
+ * Entity readings are packed per partition and unit, readings that cannot be written are rejected.
+ */
+public class ReadingsFrameTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    @Test
+    public void should_pack_readings_per_partition_and_unit() {
+        List<ReadingsFrame> frames = ReadingsFrame.fromReadings(Instrument.SPEED, new AbstractInstrumentReading[] {
+                speed(1000L, 1.5, "km/h"), speed(2000L, 2.5, "mph"), speed(3000L, 3.5, "km/h") });
+        assertEquals(2, frames.size());
+        assertEquals("km/h", frames.get(0).getUnit());
+        assertArrayEquals(new long[] { 1000L, 3000L }, frames.get(0).getReadingTimes());
+        assertArrayEquals(new double[] { 1.5, 3.5 }, frames.get(0).getValues(), 0d);
+        assertEquals("mph", frames.get(1).getUnit());
+    }
+
+    @Test
+    public void should_pack_location_coordinates() {
+        SpacecraftLocationOverTime read = new SpacecraftLocationOverTime();
+        read.setSpacecraft_name("gemini3");
+        read.setJourney_id(JOURNEY_ID);
+        read.setReading_time(Instant.ofEpochMilli(1000L));
+        read.setLocation(new LocationUdt(1, 2, 3));
+        ReadingsFrame frame = ReadingsFrame.fromReadings(Instrument.LOCATION, new AbstractInstrumentReading[] { read }).get(0);
+        assertArrayEquals(new double[] { 1, 2, 3 }, frame.getValues(), 0d);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_reading_without_reading_time() {
+        ReadingsFrame.validate(Instrument.SPEED, new AbstractInstrumentReading[] { speed(1000L, 1.5, null), speed(null, 2.5, null) });
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_reading_without_value() {
+        ReadingsFrame.validate(Instrument.SPEED, new AbstractInstrumentReading[] { speed(1000L, null, "km/h") });
+    }
+
+    private static SpacecraftSpeedOverTime speed(Long readingTime, Double value, String unit) {
+        SpacecraftSpeedOverTime read = new SpacecraftSpeedOverTime();
+        read.setSpacecraft_name("gemini3");
+        read.setJourney_id(JOURNEY_ID);
+        read.setReading_time(null == readingTime ? null : Instant.ofEpochMilli(readingTime));
+        read.setSpeed(value);
+        read.setSpeed_unit(unit);
+        return read;
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Rings keep the latest readings ordered by reading_time, readers never see torn readings.
+ */
+public class HotTailTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    @Test
+    public void should_return_latest_readings_first() {
+        HotTail hotTail = new HotTail(4, 60_000);
+        hotTail.add(frame(1, 2, 3));
+        hotTail.add(frame(4, 5, 6));
+        assertArrayEquals(new long[] { 6, 5, 4, 3 }, latest(hotTail, 4).getReadingTimes());
+        assertArrayEquals(new double[] { 6, 5 }, latest(hotTail, 2).getValues(), 0d);
+    }
+
+    @Test
+    public void should_not_serve_more_readings_than_kept() {
+        HotTail hotTail = new HotTail(4, 60_000);
+        hotTail.add(frame(1, 2));
+        assertFalse(hotTail.latest(Instrument.SPEED, "gemini3", JOURNEY_ID, 3).isPresent());
+        assertFalse(hotTail.latest(Instrument.SPEED, "gemini3", JOURNEY_ID, 5).isPresent());
+        assertFalse(hotTail.latest(Instrument.PRESSURE, "gemini3", JOURNEY_ID, 1).isPresent());
+    }
+
+    @Test
+    public void should_order_readings_written_out_of_order() {
+        HotTail hotTail = new HotTail(4, 60_000);
+        hotTail.add(frame(30, 10));
+        hotTail.add(frame(20));
+        hotTail.add(frame(50, 40));
+        assertArrayEquals(new long[] { 50, 40, 30, 20 }, latest(hotTail, 4).getReadingTimes());
+        // Older than all readings kept by a full ring
+        hotTail.add(frame(5));
+        assertArrayEquals(new long[] { 50, 40, 30, 20 }, latest(hotTail, 4).getReadingTimes());
+        // Inserted, the oldest reading is dropped
+        hotTail.add(frame(35));
+        assertArrayEquals(new long[] { 50, 40, 35, 30 }, latest(hotTail, 4).getReadingTimes());
+        assertArrayEquals(new double[] { 50, 40, 35, 30 }, latest(hotTail, 4).getValues(), 0d);
+    }
+
+    @Test
+    public void should_overwrite_reading_written_again() {
+        HotTail hotTail = new HotTail(4, 60_000);
+        hotTail.add(frame(1, 2, 3));
+        hotTail.add(new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h",
+                new long[] { 2 }, new double[] { 42 }));
+        ReadingsFrame latest = latest(hotTail, 3);
+        assertArrayEquals(new long[] { 3, 2, 1 }, latest.getReadingTimes());
+        assertArrayEquals(new double[] { 3, 42, 1 }, latest.getValues(), 0d);
+    }
+
+    @Test
+    public void should_keep_location_coordinates_together() {
+        HotTail hotTail = new HotTail(2, 60_000);
+        hotTail.add(new ReadingsFrame(Instrument.LOCATION, "gemini3", JOURNEY_ID, null,
+                new long[] { 2, 1, 3 }, new double[] { 2, 2.1, 2.2, 1, 1.1, 1.2, 3, 3.1, 3.2 }));
+        ReadingsFrame latest = hotTail.latest(Instrument.LOCATION, "gemini3", JOURNEY_ID, 2).get();
+        assertArrayEquals(new long[] { 3, 2 }, latest.getReadingTimes());
+        assertArrayEquals(new double[] { 3, 3.1, 3.2, 2, 2.1, 2.2 }, latest.getValues(), 0d);
+    }
+
+    @Test
+    public void should_evict_idle_and_inactive_partitions() {
+        HotTail hotTail = new HotTail(4, 60_000);
+        hotTail.add(frame(1));
+        hotTail.add(new ReadingsFrame(Instrument.SPEED, "apollo11", JOURNEY_ID, "km/h",
+                new long[] { 1 }, new double[] { 1 }));
+        long now = System.currentTimeMillis();
+        assertEquals(1, hotTail.evict(now, (spacecraftName, journeyId) -> "apollo11".equals(spacecraftName)));
+        assertEquals(1, hotTail.getPartitions());
+        assertEquals(1, hotTail.evict(now + 60_000, (spacecraftName, journeyId) -> false));
+        assertEquals(0, hotTail.getPartitions());
+    }
+
+    @Test
+    public void should_never_return_torn_or_unordered_readings_under_concurrent_writes() throws Exception {
+        HotTail hotTail = new HotTail(64, 60_000);
+        hotTail.add(frame(0));
+        AtomicBoolean running  = new AtomicBoolean(true);
+        AtomicLong    served   = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            // Values are the reading times, so a reading mixing two slots is detected
+            Future<?> appender = executor.submit(() -> {
+                for (long time = 1000; time < 200_000; time += 2) {
+                    hotTail.add(frame(time));
+                }
+            });
+            Future<?> backfiller = executor.submit(() -> {
+                for (long time = 199_900; time > 1000 && running.get(); time -= 20) {
+                    hotTail.add(frame(time / 100 * 100 + 1));
+                }
+            });
+            Runnable reader = () -> {
+                while (running.get()) {
+                    Optional<ReadingsFrame> latest = hotTail.latest(Instrument.SPEED, "gemini3", JOURNEY_ID, 32);
+                    if (latest.isPresent()) {
+                        long[] times    = latest.get().getReadingTimes();
+                        double[] values = latest.get().getValues();
+                        for (int r = 0; r < times.length; r++) {
+                            assertEquals((double) times[r], values[r], 0d);
+                            assertTrue(r == 0 || times[r - 1] > times[r]);
+                        }
+                        served.incrementAndGet();
+                    }
+                }
+            };
+            Future<?> reader1 = executor.submit(reader);
+            Future<?> reader2 = executor.submit(reader);
+            appender.get(30, TimeUnit.SECONDS);
+            running.set(false);
+            backfiller.get(30, TimeUnit.SECONDS);
+            reader1.get(30, TimeUnit.SECONDS);
+            reader2.get(30, TimeUnit.SECONDS);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(served.get() > 0);
+        ReadingsFrame latest = latest(hotTail, 64);
+        assertEquals(199_998L, latest.getReadingTimes()[0]);
+    }
+
+    private static ReadingsFrame latest(HotTail hotTail, int count) {
+        return hotTail.latest(Instrument.SPEED, "gemini3", JOURNEY_ID, count).get();
+    }
+
+    private static ReadingsFrame frame(long... readingTimes) {
+        double[] values = new double[readingTimes.length];
+        for (int r = 0; r < readingTimes.length; r++) {
+            values[r] = readingTimes[r];
+        }
+        return new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h", readingTimes, values);
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+/**
+ * Readings in flight are bounded, permits come back when writes complete.
+ */
+public class InFlightLimiterTest {
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_invalid_limit() {
+        new InFlightLimiter(0, 0);
+    }
+
+    @Test
+    public void should_count_readings_in_flight_until_released() {
+        InFlightLimiter limiter = new InFlightLimiter(100, 0);
+        int first  = limiter.acquire(60);
+        int second = limiter.acquire(40);
+        assertEquals(100, limiter.getInFlight());
+        assertRejected(limiter, 1);
+        limiter.release(first);
+        assertEquals(40, limiter.getInFlight());
+        limiter.release(second);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void should_take_one_permit_for_empty_requests() {
+        InFlightLimiter limiter = new InFlightLimiter(10, 0);
+        assertEquals(1, limiter.acquire(0));
+        assertEquals(1, limiter.getInFlight());
+    }
+
+    @Test
+    public void should_cap_requests_larger_than_the_limit() {
+        InFlightLimiter limiter = new InFlightLimiter(10, 0);
+        int acquired = limiter.acquire(1000);
+        assertEquals(10, acquired);
+        assertRejected(limiter, 1);
+        limiter.release(acquired);
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    public void should_not_take_permits_of_rejected_requests() {
+        InFlightLimiter limiter = new InFlightLimiter(10, 0);
+        limiter.acquire(5);
+        assertRejected(limiter, 6);
+        assertEquals(5, limiter.getInFlight());
+        limiter.acquire(5);
+    }
+
+    @Test
+    public void should_wait_for_permits_released_in_time() throws Exception {
+        InFlightLimiter limiter = new InFlightLimiter(10, 5_000);
+        int acquired = limiter.acquire(10);
+        CompletableFuture<Integer> waiting = CompletableFuture.supplyAsync(() -> limiter.acquire(4));
+        Thread.sleep(50);
+        assertFalse(waiting.isDone());
+        limiter.release(acquired);
+        assertEquals(4, waiting.get(5, TimeUnit.SECONDS).intValue());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    public void should_reject_after_timeout() {
+        InFlightLimiter limiter = new InFlightLimiter(10, 20);
+        limiter.acquire(10);
+        long top = System.currentTimeMillis();
+        assertRejected(limiter, 1);
+        assertTrue(System.currentTimeMillis() - top >= 20);
+    }
+
+    private static void assertRejected(InFlightLimiter limiter, int readings) {
+        try {
+            limiter.acquire(readings);
+            fail("Expecting " + readings + " reading(s) to be rejected");
+        } catch (IngestOverloadedException e) {
+            assertTrue(e.getMessage().contains("/" + limiter.getMaxInFlight()));
+        }
+    }
+
+}
@@ -0,0 +1,143 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.junit.Test;
+
+/**
+ * Entries are loaded once, refreshed ahead of expiry and evicted least recently read first.
+ */
+public class ReadThroughCacheTest {
+
+    /** Loads per key, values are the load number. */
+    private final Map<String, AtomicInteger> loads = new ConcurrentHashMap<>();
+
+    private final Function<String, String> loader = key ->
+            key + "#" + loads.computeIfAbsent(key, k -> new AtomicInteger()).incrementAndGet();
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_refresh_after_expiry() {
+        new ReadThroughCache<>("journeys", loader, 10, 1000, 2000, Runnable::run);
+    }
+
+    @Test
+    public void should_load_once_then_hit() {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", loader, 10, 60_000, 60_000, Runnable::run);
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        Map<String, Object> stats = cache.getStats();
+        assertEquals(1, stats.get("entries"));
+        assertEquals(2L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    public void should_share_a_load_between_concurrent_callers() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", key -> {
+            loading.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return loader.apply(key);
+        }, 10, 60_000, 60_000, Runnable::run);
+        CompletableFuture<String> first = CompletableFuture.supplyAsync(() -> cache.get("gemini3"));
+        loading.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> second = CompletableFuture.supplyAsync(() -> cache.get("gemini3"));
+        Thread.sleep(50);
+        release.countDown();
+        assertEquals("gemini3#1", first.get(5, TimeUnit.SECONDS));
+        assertEquals("gemini3#1", second.get(5, TimeUnit.SECONDS));
+        assertEquals(1, loads.get("gemini3").get());
+    }
+
+    @Test
+    public void should_not_cache_failures() {
+        AtomicInteger calls = new AtomicInteger();
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", key -> {
+            if (calls.incrementAndGet() == 1) {
+                throw new IllegalStateException("Astra is down");
+            }
+            return loader.apply(key);
+        }, 10, 60_000, 60_000, Runnable::run);
+        try {
+            cache.get("gemini3");
+            fail("Load failed");
+        } catch (IllegalStateException e) {
+            assertEquals("Astra is down", e.getMessage());
+        }
+        assertEquals("gemini3#1", cache.get("gemini3"));
+    }
+
+    @Test
+    public void should_serve_current_value_while_refreshing_ahead() {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", loader, 10, 60_000, 0, Runnable::run);
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        // Refreshed in background by this read, which still gets the current value
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("gemini3#2", cache.get("gemini3"));
+        assertEquals(2L, cache.getStats().get("refreshes"));
+    }
+
+    @Test
+    public void should_keep_current_value_when_refresh_fails() {
+        AtomicInteger calls = new AtomicInteger();
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", key -> {
+            if (calls.incrementAndGet() > 1) {
+                throw new IllegalStateException("Astra is down");
+            }
+            return loader.apply(key);
+        }, 10, 60_000, 0, Runnable::run);
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("gemini3#1", cache.get("gemini3"));
+    }
+
+    @Test
+    public void should_load_again_once_expired() throws InterruptedException {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", loader, 10, 20, 20, Runnable::run);
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        Thread.sleep(40);
+        assertEquals("gemini3#2", cache.get("gemini3"));
+        assertEquals(2L, cache.getStats().get("misses"));
+    }
+
+    @Test
+    public void should_evict_least_recently_read() throws InterruptedException {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", loader, 2, 60_000, 60_000, Runnable::run);
+        cache.get("gemini3");
+        Thread.sleep(5);
+        cache.get("apollo11");
+        Thread.sleep(5);
+        cache.get("gemini3");
+        Thread.sleep(5);
+        cache.get("soyuz");
+        assertEquals(1L, cache.getStats().get("evictions"));
+        assertEquals("gemini3#1", cache.get("gemini3"));
+        assertEquals("apollo11#2", cache.get("apollo11"));
+    }
+
+    @Test
+    public void should_load_again_once_invalidated() {
+        ReadThroughCache<String, String> cache = new ReadThroughCache<>("journeys", loader, 10, 60_000, 60_000, Runnable::run);
+        cache.get("gemini3");
+        cache.invalidate("gemini3");
+        assertEquals("gemini3#2", cache.get("gemini3"));
+        cache.invalidateAll();
+        assertEquals(0, cache.getStats().get("entries"));
+    }
+
+}
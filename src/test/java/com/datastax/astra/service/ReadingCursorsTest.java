@@ -0,0 +1,103 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Cursors are signed for one partition and instrument, and stable across instances sharing the secret.
+ */
+public class ReadingCursorsTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private static final Instant LAST_READING = Instant.ofEpochMilli(1_600_000_123_456L);
+
+    @Test
+    public void should_decode_own_cursors() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        assertEquals(24, cursor.length());
+        assertEquals(LAST_READING, cursors.decode(Instrument.SPEED, "gemini3", JOURNEY_ID, cursor));
+    }
+
+    @Test
+    public void should_issue_same_cursor_with_same_secret() {
+        assertEquals(cursors("s3cr3t").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING),
+                     cursors("s3cr3t").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING));
+        assertNotEquals(cursors("s3cr3t").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING),
+                        cursors("other").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_cursor_signed_with_another_secret() {
+        String cursor = cursors("other").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        cursors("s3cr3t").decode(Instrument.SPEED, "gemini3", JOURNEY_ID, cursor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_cursor_of_another_spacecraft() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        cursors.decode(Instrument.SPEED, "apollo11", JOURNEY_ID, cursor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_cursor_of_another_journey() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        cursors.decode(Instrument.SPEED, "gemini3", UUID.randomUUID(), cursor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_cursor_of_another_instrument() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        cursors.decode(Instrument.PRESSURE, "gemini3", JOURNEY_ID, cursor);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_tampered_reading_time() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        byte[] bytes = Base64.getUrlDecoder().decode(
+                cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING));
+        bytes[9]++;
+        String tampered = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+        cursors.decode(Instrument.SPEED, "gemini3", JOURNEY_ID, tampered);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_malformed_cursor() {
+        cursors("s3cr3t").decode(Instrument.SPEED, "gemini3", JOURNEY_ID, "not a cursor!");
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_truncated_cursor() {
+        ReadingCursors cursors = cursors("s3cr3t");
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        cursors.decode(Instrument.SPEED, "gemini3", JOURNEY_ID, cursor.substring(0, 20));
+    }
+
+    @Test
+    public void should_use_random_secret_when_not_configured() {
+        ReadingCursors cursors = new ReadingCursors(new ReadProperties());
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING);
+        assertEquals(LAST_READING, cursors.decode(Instrument.SPEED, "gemini3", JOURNEY_ID, cursor));
+        assertNotEquals(cursor, cursors("").encode(Instrument.SPEED, "gemini3", JOURNEY_ID, LAST_READING));
+    }
+
+    private static ReadingCursors cursors(String secret) {
+        ReadProperties readProperties = new ReadProperties();
+        readProperties.setCursorSecret(secret);
+        return new ReadingCursors(readProperties);
+    }
+
+}
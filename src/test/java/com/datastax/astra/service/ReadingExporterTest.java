@@ -0,0 +1,114 @@
+package com.datastax.astra.service;
+
+import static com.datastax.astra.service.SpeedRows.page;
+import static com.datastax.astra.service.SpeedRows.row;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.dao.SpacecraftInstrumentsDao;
+import com.datastax.astra.model.ExportFormat;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+
+/**
+ * Exports write every page straight from the rows, the next page is fetched before the current one is written.
+ */
+public class ReadingExporterTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private final AstraService astraService = mock(AstraService.class);
+
+    private final SpacecraftInstrumentsDao dao = mock(SpacecraftInstrumentsDao.class);
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+    @Test
+    public void should_export_every_page_as_ndjson() throws Exception {
+        AsyncResultSet last  = page(Collections.singletonList(row("gemini3", JOURNEY_ID, 1000, 27000.5, "km/h")), null, null);
+        AsyncResultSet first = page(Arrays.asList(
+                row("gemini3", JOURNEY_ID, 3000, 27002d, "km/h"),
+                row("gemini3", JOURNEY_ID, 2000, null, "km/h")), null, CompletableFuture.completedFuture(last));
+        firstPage(first);
+        assertEquals(3, exporter().export(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, ExportFormat.NDJSON, out));
+        String[] lines = out.toString(StandardCharsets.UTF_8.name()).split("\n");
+        assertEquals(3, lines.length);
+        assertEquals("{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+                + "\",\"reading_time\":\"1970-01-01T00:00:03Z\",\"speed\":27002.0,\"speed_unit\":\"km/h\"}", lines[0]);
+        assertEquals("{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+                + "\",\"reading_time\":\"1970-01-01T00:00:02Z\",\"speed\":null,\"speed_unit\":\"km/h\"}", lines[1]);
+        assertEquals("{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+                + "\",\"reading_time\":\"1970-01-01T00:00:01Z\",\"speed\":27000.5,\"speed_unit\":\"km/h\"}", lines[2]);
+        // Next page requested before the rows of this one are written
+        InOrder order = inOrder(first);
+        order.verify(first).fetchNextPage();
+        order.verify(first).currentPage();
+    }
+
+    @Test
+    public void should_export_csv_with_header_and_escaping() throws Exception {
+        firstPage(page(Arrays.asList(
+                row("gemini3", JOURNEY_ID, 2000, 27001d, "km,h"),
+                row("gemini3", JOURNEY_ID, 1000, null, null)), null, null));
+        assertEquals(2, exporter().export(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, ExportFormat.CSV, out));
+        assertEquals("spacecraft_name,journey_id,reading_time,speed,speed_unit\n"
+                + "gemini3," + JOURNEY_ID + ",1970-01-01T00:00:02Z,27001.0,\"km,h\"\n"
+                + "gemini3," + JOURNEY_ID + ",1970-01-01T00:00:01Z,,\n", out.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void should_write_header_of_empty_csv_exports() throws Exception {
+        firstPage(page(Collections.emptyList(), null, null));
+        assertEquals(0, exporter().export(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, ExportFormat.CSV, out));
+        assertEquals("spacecraft_name,journey_id,reading_time,speed,speed_unit\n", out.toString(StandardCharsets.UTF_8.name()));
+    }
+
+    @Test
+    public void should_stop_when_a_page_cannot_be_read() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Astra is down");
+        CompletableFuture<AsyncResultSet> failed = new CompletableFuture<>();
+        failed.completeExceptionally(failure);
+        firstPage(page(Collections.singletonList(row("gemini3", JOURNEY_ID, 1000, 27000d, "km/h")), null, failed));
+        try {
+            exporter().export(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, ExportFormat.NDJSON, out);
+            fail("Second page failed");
+        } catch (IllegalStateException e) {
+            assertSame(failure, e);
+        }
+        // First page already sent
+        assertEquals(1, out.toString(StandardCharsets.UTF_8.name()).split("\n").length);
+    }
+
+    private void firstPage(AsyncResultSet page) {
+        when(astraService.getSpaceCraftInstrumentsDao()).thenReturn(dao);
+        when(dao.exportReadingRowsAsync(eq(Instrument.SPEED), eq("gemini3"), eq(JOURNEY_ID), any(), eq(Optional.of(2)), eq(Optional.empty())))
+                .thenReturn(CompletableFuture.completedFuture(page));
+    }
+
+    private ReadingExporter exporter() {
+        ReadProperties properties = new ReadProperties();
+        properties.setExportPageSize(2);
+        return new ReadingExporter(astraService, Jackson2ObjectMapperBuilder.json().build(), properties);
+    }
+
+}
@@ -0,0 +1,191 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Subscribers get frames in order, a slow one loses its oldest frames and is told how many.
+ */
+public class ReadingHubTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private ReadingHub hub;
+
+    @After
+    public void closeHub() {
+        if (null != hub) {
+            hub.close();
+        }
+    }
+
+    @Test
+    public void should_send_frames_of_the_topic_as_json() throws Exception {
+        hub = hub(10);
+        RecordingSink sink = new RecordingSink();
+        hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, sink);
+        hub.publish(frame(Instrument.SPEED, "gemini3", 1000));
+        // Other instrument and other spacecraft, not sent
+        hub.publish(frame(Instrument.TEMPERATURE, "gemini3", 1000));
+        hub.publish(frame(Instrument.SPEED, "apollo11", 1000));
+        assertEquals("[{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+                + "\",\"reading_time\":\"1970-01-01T00:00:01Z\",\"speed\":1000.0,\"speed_unit\":\"km/h\"}]", sink.next());
+        Thread.sleep(50);
+        assertTrue(sink.messages.isEmpty());
+        assertEquals(1L, hub.getStats().get("published"));
+    }
+
+    @Test
+    public void should_serialize_a_frame_once_for_all_subscribers() throws Exception {
+        hub = hub(10);
+        RecordingSink first  = new RecordingSink();
+        RecordingSink second = new RecordingSink();
+        hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, first);
+        hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, second);
+        hub.publish(frame(Instrument.SPEED, "gemini3", 1000));
+        assertSame(first.bytes.poll(5, TimeUnit.SECONDS), second.bytes.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void should_drop_oldest_frames_of_slow_subscribers_and_tell_them() throws Exception {
+        hub = hub(2);
+        RecordingSink slow = new RecordingSink();
+        slow.blocked = new CountDownLatch(1);
+        hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, slow);
+        hub.publish(frame(Instrument.SPEED, "gemini3", 1000));
+        // First frame taken by the dispatcher, the subscriber does not read it
+        assertTrue(slow.sending.await(5, TimeUnit.SECONDS));
+        for (long time = 2000; time <= 5000; time += 1000) {
+            hub.publish(frame(Instrument.SPEED, "gemini3", time));
+        }
+        // 2 and 3 dropped, 4 and 5 queued
+        assertEquals(2L, hub.getStats().get("dropped"));
+        slow.blocked.countDown();
+        assertTrue(slow.next().contains("1970-01-01T00:00:01Z"));
+        assertEquals("dropped 2", slow.next());
+        assertTrue(slow.next().contains("1970-01-01T00:00:04Z"));
+        assertTrue(slow.next().contains("1970-01-01T00:00:05Z"));
+        // Dropped count is reported once
+        hub.publish(frame(Instrument.SPEED, "gemini3", 6000));
+        assertTrue(slow.next().contains("1970-01-01T00:00:06Z"));
+        // Counted once the sink returns
+        long timeout = System.currentTimeMillis() + 5000;
+        while (!Long.valueOf(4L).equals(hub.getStats().get("sent")) && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertEquals(4L, hub.getStats().get("sent"));
+        assertEquals(2L, hub.getStats().get("dropped"));
+    }
+
+    @Test
+    public void should_close_subscriptions_whose_subscriber_is_gone() throws Exception {
+        hub = hub(10);
+        RecordingSink gone = new RecordingSink();
+        gone.failure = new IOException("Broken pipe");
+        hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, gone);
+        assertTrue(hub.hasSubscribers());
+        hub.publish(frame(Instrument.SPEED, "gemini3", 1000));
+        long timeout = System.currentTimeMillis() + 5000;
+        while (hub.hasSubscribers() && System.currentTimeMillis() < timeout) {
+            Thread.sleep(10);
+        }
+        assertFalse(hub.hasSubscribers());
+        assertEquals(0, hub.getStats().get("topics"));
+    }
+
+    @Test
+    public void should_complete_open_subscriptions_on_close() throws Exception {
+        hub = hub(10);
+        RecordingSink sink = new RecordingSink();
+        ReadingHub.Subscription subscription = hub.subscribe(Instrument.SPEED, "gemini3", JOURNEY_ID, sink);
+        hub.close();
+        assertEquals("complete", sink.next());
+        assertFalse(hub.hasSubscribers());
+        // Idempotent
+        subscription.close();
+        assertEquals(0, hub.getStats().get("subscribers"));
+    }
+
+    private static ReadingHub hub(int queueCapacity) {
+        ReadProperties properties = new ReadProperties();
+        properties.getLive().setQueueCapacity(queueCapacity);
+        properties.getLive().setDispatchThreads(2);
+        return new ReadingHub(properties, Jackson2ObjectMapperBuilder.json().build());
+    }
+
+    private static ReadingsFrame frame(Instrument instrument, String spacecraftName, long readingTime) {
+        return new ReadingsFrame(instrument, spacecraftName, JOURNEY_ID, "km/h",
+                new long[] { readingTime }, new double[] { readingTime });
+    }
+
+    /**
+     * Keep messages in order of reception.
+     */
+    private static final class RecordingSink implements ReadingHub.Sink {
+
+        private final LinkedBlockingQueue<String> messages = new LinkedBlockingQueue<>();
+
+        private final LinkedBlockingQueue<byte[]> bytes = new LinkedBlockingQueue<>();
+
+        /** Released when a first message is being sent. */
+        private final CountDownLatch sending = new CountDownLatch(1);
+
+        /** Sends wait for it when set. */
+        private volatile CountDownLatch blocked;
+
+        /** Sends fail when set. */
+        private volatile IOException failure;
+
+        @Override
+        public void send(byte[] readings) throws IOException {
+            sending.countDown();
+            if (null != failure) {
+                throw failure;
+            }
+            if (null != blocked) {
+                try {
+                    blocked.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            bytes.add(readings);
+            messages.add(new String(readings, StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public void dropped(long frames) {
+            messages.add("dropped " + frames);
+        }
+
+        @Override
+        public void complete() {
+            messages.add("complete");
+        }
+
+        private String next() throws InterruptedException {
+            String message = messages.poll(5, TimeUnit.SECONDS);
+            assertNotNull("No message", message);
+            return message;
+        }
+    }
+
+}
@@ -0,0 +1,127 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.model.ReadingRange;
+
+/**
+ * Pages are served from memory until their partition is written, a page read during a write is not kept.
+ */
+public class ReadingPageCacheTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private static final String PARTITION = ReadingPageCache.partition("spacecraft_speed_over_time", "gemini3", JOURNEY_ID);
+
+    /** Reads of Astra, pages are the read number. */
+    private final AtomicInteger reads = new AtomicInteger();
+
+    private final Supplier<byte[]> reader = () -> json("[" + reads.incrementAndGet() + "]");
+
+    @Test
+    public void should_serve_pages_from_memory() {
+        ReadingPageCache cache = cache(1024, 1024);
+        String key = key(Optional.of(10), Optional.empty());
+        assertArrayEquals(json("[1]"), cache.get(PARTITION, key, reader));
+        assertArrayEquals(json("[1]"), cache.get(PARTITION, key, reader));
+        // Other paging state, other page
+        assertArrayEquals(json("[2]"), cache.get(PARTITION, key(Optional.of(10), Optional.of("abc")), reader));
+        assertEquals(2, reads.get());
+        assertEquals(1L, cache.getStats().get("hits"));
+    }
+
+    @Test
+    public void should_drop_pages_of_written_partitions() {
+        ReadingPageCache cache = cache(1024, 1024);
+        String key = key(Optional.of(10), Optional.empty());
+        String otherPartition = ReadingPageCache.partition("spacecraft_speed_over_time", "apollo11", JOURNEY_ID);
+        cache.get(PARTITION, key, reader);
+        cache.get(otherPartition, otherPartition + "page", reader);
+        cache.invalidate(PARTITION);
+        assertEquals(1, cache.getStats().get("entries"));
+        assertArrayEquals(json("[3]"), cache.get(PARTITION, key, reader));
+        assertArrayEquals(json("[2]"), cache.get(otherPartition, otherPartition + "page", reader));
+    }
+
+    @Test
+    public void should_not_cache_page_read_while_partition_is_written() throws Exception {
+        ReadingPageCache cache = cache(1024, 1024);
+        String key = key(Optional.of(10), Optional.empty());
+        CountDownLatch reading = new CountDownLatch(1);
+        CountDownLatch written = new CountDownLatch(1);
+        CompletableFuture<byte[]> stale = CompletableFuture.supplyAsync(() -> cache.get(PARTITION, key, () -> {
+            reading.countDown();
+            try {
+                written.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            // Read before the write landed
+            return json("[stale]");
+        }));
+        assertTrue(reading.await(5, TimeUnit.SECONDS));
+        cache.invalidate(PARTITION);
+        written.countDown();
+        assertArrayEquals(json("[stale]"), stale.get(5, TimeUnit.SECONDS));
+        // Not cached, next read goes to Astra
+        assertArrayEquals(json("[1]"), cache.get(PARTITION, key, reader));
+        assertArrayEquals(json("[1]"), cache.get(PARTITION, key, reader));
+    }
+
+    @Test
+    public void should_evict_least_recently_read_above_budget() {
+        ReadingPageCache cache = cache(6, 6);
+        String first  = key(Optional.of(1), Optional.empty());
+        String second = key(Optional.of(2), Optional.empty());
+        String third  = key(Optional.of(3), Optional.empty());
+        cache.get(PARTITION, first, reader);
+        cache.get(PARTITION, second, reader);
+        cache.get(PARTITION, first, reader);
+        cache.get(PARTITION, third, reader);
+        assertEquals(1L, cache.getStats().get("evictions"));
+        assertEquals(6L, cache.getStats().get("bytes"));
+        assertArrayEquals(json("[1]"), cache.get(PARTITION, first, reader));
+        assertArrayEquals(json("[4]"), cache.get(PARTITION, second, reader));
+    }
+
+    @Test
+    public void should_not_cache_pages_above_max_page_bytes() {
+        ReadingPageCache cache = cache(1024, 2);
+        String key = key(Optional.of(10), Optional.empty());
+        cache.get(PARTITION, key, reader);
+        cache.get(PARTITION, key, reader);
+        assertEquals(2, reads.get());
+        assertEquals(0, cache.getStats().get("entries"));
+    }
+
+    private static ReadingPageCache cache(long maxBytes, long maxPageBytes) {
+        ReadProperties properties = new ReadProperties();
+        properties.getPageCache().setEnabled(true);
+        properties.getPageCache().setMaxBytes(maxBytes);
+        properties.getPageCache().setMaxPageBytes(maxPageBytes);
+        return new ReadingPageCache(properties);
+    }
+
+    private static String key(Optional<Integer> pageSize, Optional<String> pageState) {
+        return ReadingPageCache.key("spacecraft_speed_over_time", "gemini3", JOURNEY_ID, ReadingRange.ALL, pageSize, pageState);
+    }
+
+    private static byte[] json(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+}
@@ -0,0 +1,145 @@
+package com.datastax.astra.service;
+
+import static com.datastax.astra.service.SpeedRows.bytes;
+import static com.datastax.astra.service.SpeedRows.page;
+import static com.datastax.astra.service.SpeedRows.row;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.config.ReadProperties;
+import com.datastax.astra.dao.SpacecraftInstrumentsDao;
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingRange;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Pages are written as a serialized PagedResultWrapper, seek pages carry the cursor of the next one.
+ */
+public class ReadingPageWriterTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private static final String READING_3 = "{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+            + "\",\"reading_time\":\"1970-01-01T00:00:03Z\",\"speed\":27002.0,\"speed_unit\":\"km/h\"}";
+
+    private static final String READING_2 = "{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + JOURNEY_ID
+            + "\",\"reading_time\":\"1970-01-01T00:00:02Z\",\"speed\":null,\"speed_unit\":\"km/h\"}";
+
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+    private final AstraService astraService = mock(AstraService.class);
+
+    private final SpacecraftInstrumentsDao dao = mock(SpacecraftInstrumentsDao.class);
+
+    private final ReadingCursors cursors = new ReadingCursors(new ReadProperties());
+
+    private final ReadingPageWriter writer = new ReadingPageWriter(astraService, objectMapper, cursors);
+
+    @Test
+    public void should_write_page_with_driver_paging_state() {
+        ByteBuffer pagingState = bytes(0x00, 0x1f, 0xab);
+        AsyncResultSet page = page(Arrays.asList(
+                row("gemini3", JOURNEY_ID, 3000, 27002d, "km/h"),
+                row("gemini3", JOURNEY_ID, 2000, null, "km/h")), pagingState, new CompletableFuture<>());
+        assertEquals("{\"pageState\":\"0x001fab\",\"pageSize\":2,\"data\":[" + READING_3 + "," + READING_2 + "]}",
+                json(writer.writePage(Instrument.SPEED, page, 2)));
+        // Paging state left untouched for the driver
+        assertEquals(0, pagingState.position());
+    }
+
+    @Test
+    public void should_write_last_page_without_paging_state() {
+        AsyncResultSet page = page(Collections.emptyList(), null, null);
+        assertEquals("{\"pageState\":null,\"pageSize\":10,\"data\":[]}", json(writer.writePage(Instrument.SPEED, page, 10)));
+    }
+
+    @Test
+    public void should_read_pages_with_requested_paging() {
+        AsyncResultSet page = page(Collections.singletonList(row("gemini3", JOURNEY_ID, 3000, 27002d, "km/h")), null, null);
+        when(astraService.getSpaceCraftInstrumentsDao()).thenReturn(dao);
+        when(dao.getReadingRowsAsync(any(), any(), any(), any(), any(), any())).thenReturn(CompletableFuture.completedFuture(page));
+        assertEquals("{\"pageState\":null,\"pageSize\":5,\"data\":[" + READING_3 + "]}", json(writer.readPage(
+                Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, Optional.of(5), Optional.of("0x01"))));
+        verify(dao).getReadingRowsAsync(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, Optional.of(5), Optional.of("0x01"));
+    }
+
+    @Test
+    public void should_write_frames_as_a_single_page() {
+        ReadingsFrame frame = new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h",
+                new long[] { 3000 }, new double[] { 27002d });
+        assertEquals("{\"pageState\":null,\"pageSize\":1,\"data\":[" + READING_3 + "]}", json(writer.writeFrame(frame)));
+    }
+
+    @Test
+    public void should_seek_before_the_cursor_within_the_range() {
+        Instant from = Instant.ofEpochMilli(1000);
+        Instant to   = Instant.ofEpochMilli(9000);
+        ReadingRange range = new ReadingRange(from, to, 100);
+        // First page: the requested window, page size as limit
+        ReadingRange first = writer.seekRange(Instrument.SPEED, "gemini3", JOURNEY_ID, range, 2, Optional.empty()).get();
+        assertEquals(from, first.getFrom());
+        assertEquals(to, first.getTo());
+        assertEquals(2, first.getLimit().intValue());
+        String cursor = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, Instant.ofEpochMilli(5000));
+        ReadingRange next = writer.seekRange(Instrument.SPEED, "gemini3", JOURNEY_ID, range, 2, Optional.of(cursor)).get();
+        assertEquals(Instant.ofEpochMilli(5000), next.getTo());
+        // Cursor at the start of the range, nothing left
+        String done = cursors.encode(Instrument.SPEED, "gemini3", JOURNEY_ID, from);
+        assertFalse(writer.seekRange(Instrument.SPEED, "gemini3", JOURNEY_ID, range, 2, Optional.of(done)).isPresent());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_invalid_seek_page_size() {
+        writer.seekRange(Instrument.SPEED, "gemini3", JOURNEY_ID, ReadingRange.ALL, 0, Optional.empty());
+    }
+
+    @Test
+    public void should_write_cursor_of_full_seek_pages_only() throws Exception {
+        AsyncResultSet fullPage = page(Arrays.asList(
+                row("gemini3", JOURNEY_ID, 3000, 27002d, "km/h"),
+                row("gemini3", JOURNEY_ID, 2000, null, "km/h")), null, null);
+        AsyncResultSet partialPage = page(Collections.singletonList(row("gemini3", JOURNEY_ID, 3000, 27002d, "km/h")), null, null);
+        when(astraService.getSpaceCraftInstrumentsDao()).thenReturn(dao);
+        when(dao.getReadingRowsAsync(eq(Instrument.SPEED), eq("gemini3"), eq(JOURNEY_ID), any(), eq(Optional.of(2)), eq(Optional.empty())))
+                .thenReturn(CompletableFuture.completedFuture(fullPage));
+        when(dao.getReadingRowsAsync(eq(Instrument.SPEED), eq("gemini3"), eq(JOURNEY_ID), any(), eq(Optional.of(3)), eq(Optional.empty())))
+                .thenReturn(CompletableFuture.completedFuture(partialPage));
+        Optional<ReadingRange> full = Optional.of(new ReadingRange(null, null, 2));
+        JsonNode page = objectMapper.readTree(writer.readSeekPage(Instrument.SPEED, "gemini3", JOURNEY_ID, full));
+        assertEquals(2, page.get("pageSize").asInt());
+        assertEquals(2, page.get("data").size());
+        assertEquals(Instant.ofEpochMilli(2000),
+                cursors.decode(Instrument.SPEED, "gemini3", JOURNEY_ID, page.get("cursor").asText()));
+        Optional<ReadingRange> partial = Optional.of(new ReadingRange(null, null, 3));
+        assertTrue(objectMapper.readTree(writer.readSeekPage(Instrument.SPEED, "gemini3", JOURNEY_ID, partial)).get("cursor").isNull());
+        // Nothing left to read
+        assertEquals("{\"pageSize\":0,\"data\":[],\"cursor\":null}",
+                json(writer.readSeekPage(Instrument.SPEED, "gemini3", JOURNEY_ID, Optional.empty())));
+    }
+
+    private static String json(byte[] bytes) {
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+}
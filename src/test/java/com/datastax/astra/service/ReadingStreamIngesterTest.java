@@ -0,0 +1,159 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.datastax.astra.config.IngestProperties;
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Streams are written chunk by chunk, a bounded number of chunks in flight.
+ */
+public class ReadingStreamIngesterTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private final AstraService astraService = mock(AstraService.class);
+
+    private final SpacecraftRateLimiter rateLimiter = mock(SpacecraftRateLimiter.class);
+
+    /** Chunks received by the write path. */
+    private final List<SpacecraftSpeedOverTime[]> chunks = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void should_write_readings_by_chunks() throws Exception {
+        acknowledgeWrites();
+        assertEquals(7, ingester(3, 2).ingest(Instrument.SPEED, "gemini3", JOURNEY_ID, stream(7)));
+        assertEquals(3, chunks.size());
+        assertEquals(3, chunks.get(0).length);
+        assertEquals(1, chunks.get(2).length);
+        // Partition key taken from the path
+        assertEquals("gemini3", chunks.get(2)[0].getSpacecraft_name());
+        assertEquals(JOURNEY_ID, chunks.get(2)[0].getJourney_id());
+        verify(rateLimiter, times(2)).throttle("gemini3", 3);
+        verify(rateLimiter).throttle("gemini3", 1);
+    }
+
+    @Test
+    public void should_not_write_empty_streams() throws Exception {
+        assertEquals(0, ingester(3, 2).ingest(Instrument.SPEED, "gemini3", JOURNEY_ID, stream(0)));
+        verify(astraService, never()).insertSpeedReading(any());
+    }
+
+    @Test
+    public void should_reject_readings_of_another_journey() throws Exception {
+        acknowledgeWrites();
+        String body = "{\"spacecraft_name\":\"gemini3\",\"journey_id\":\"" + UUID.randomUUID()
+                + "\",\"reading_time\":\"2021-01-01T00:00:00Z\",\"speed\":1.0}";
+        try {
+            ingester(3, 2).ingest(Instrument.SPEED, "gemini3", JOURNEY_ID,
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            fail("Reading of another journey");
+        } catch (IllegalArgumentException e) {
+            assertTrue(chunks.isEmpty());
+        }
+    }
+
+    @Test
+    public void should_report_invalid_lines() throws Exception {
+        acknowledgeWrites();
+        String body = line(0) + "{\"reading_time\":";
+        try {
+            ingester(3, 2).ingest(Instrument.SPEED, "gemini3", JOURNEY_ID,
+                    new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)));
+            fail("Truncated line");
+        } catch (IllegalArgumentException e) {
+            assertTrue(e.getMessage(), e.getMessage().startsWith("Invalid reading after 1 line(s)"));
+        }
+    }
+
+    @Test
+    public void should_stop_reading_while_chunks_are_in_flight() throws Exception {
+        CompletableFuture<Boolean> first = new CompletableFuture<>();
+        when(astraService.insertSpeedReading(any())).thenAnswer(invocation -> {
+            chunks.add(invocation.getArgument(0));
+            return (chunks.size() == 1) ? first : CompletableFuture.completedFuture(true);
+        });
+        ReadingStreamIngester ingester = ingester(2, 1);
+        CompletableFuture<Long> ingest = CompletableFuture.supplyAsync(() -> {
+            try {
+                return ingester.ingest(Instrument.SPEED, "gemini3", JOURNEY_ID, stream(6));
+            } catch (Exception e) {
+                throw new CompletionException(e);
+            }
+        });
+        Thread.sleep(100);
+        assertFalse(ingest.isDone());
+        assertEquals(1, chunks.size());
+        first.complete(true);
+        assertEquals(6, ingest.get(5, TimeUnit.SECONDS).longValue());
+        assertEquals(3, chunks.size());
+    }
+
+    @Test
+    public void should_stop_on_failed_chunk() throws Exception {
+        IllegalStateException failure = new IllegalStateException("Astra is down");
+        CompletableFuture<Boolean> failed = new CompletableFuture<>();
+        failed.completeExceptionally(failure);
+        when(astraService.insertSpeedReading(any())).thenReturn(failed);
+        try {
+            ingester(2, 1).ingest(Instrument.SPEED, "gemini3", JOURNEY_ID, stream(6));
+            fail("Chunk failed");
+        } catch (CompletionException e) {
+            assertSame(failure, e.getCause());
+        }
+        // Second chunk not sent once the first one failed
+        verify(astraService, times(1)).insertSpeedReading(any());
+    }
+
+    private void acknowledgeWrites() {
+        when(astraService.insertSpeedReading(any())).thenAnswer(invocation -> {
+            chunks.add(invocation.getArgument(0));
+            return CompletableFuture.completedFuture(true);
+        });
+    }
+
+    private ReadingStreamIngester ingester(int chunkSize, int chunksInFlight) {
+        IngestProperties properties = new IngestProperties();
+        properties.setStreamChunkSize(chunkSize);
+        properties.setStreamChunksInFlight(chunksInFlight);
+        return new ReadingStreamIngester(astraService, Jackson2ObjectMapperBuilder.json().build(),
+                properties, rateLimiter);
+    }
+
+    private static InputStream stream(int readings) {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < readings; i++) {
+            body.append(line(i));
+        }
+        return new ByteArrayInputStream(body.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String line(int i) {
+        return "{\"reading_time\":\"2021-01-01T00:00:0" + i + "Z\",\"speed\":" + (27_000 + i) + ",\"speed_unit\":\"km/h\"}\n";
+    }
+
+}
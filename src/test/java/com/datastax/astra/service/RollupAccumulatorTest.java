@@ -0,0 +1,183 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.Test;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.JourneyPartition;
+import com.datastax.astra.model.ReadingRollup;
+import com.datastax.astra.model.ReadingsFrame;
+import com.datastax.astra.model.RollupResolution;
+
+/**
+ * Rollups are recomputed from the rows below them, readings written twice count once.
+ */
+public class RollupAccumulatorTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private static final JourneyPartition PARTITION = new JourneyPartition("gemini3", JOURNEY_ID);
+
+    private static final long HOUR = 3_600_000L;
+
+    /** Raw speed readings of the partition, an upsert overwrites the same reading_time. */
+    private final NavigableMap<Long, Double> readings = new TreeMap<>();
+
+    /** Rollup rows per table, a single row per bucket. */
+    private final Map<RollupResolution, NavigableMap<Long, ReadingRollup>> rows = new EnumMap<>(RollupResolution.class);
+
+    /** Writes fail while set. */
+    private boolean failing;
+
+    private final RollupAccumulator rollups = new RollupAccumulator(this::aggregate, (resolution, written) -> {
+        CompletableFuture<Boolean> write = new CompletableFuture<>();
+        if (failing) {
+            write.completeExceptionally(new IllegalStateException("Astra is down"));
+        } else {
+            written.forEach(rollup -> rows.get(resolution).put(rollup.getBucketStart(), rollup));
+            write.complete(true);
+        }
+        return write;
+    }, 1000);
+
+    public RollupAccumulatorTest() {
+        for (RollupResolution resolution : RollupResolution.values()) {
+            rows.put(resolution, new TreeMap<>());
+        }
+    }
+
+    @Test
+    public void should_count_readings_written_twice_once() {
+        write(HOUR, 10d, HOUR + 1000, 20d);
+        rollups.flush();
+        // Write-ahead log record replayed, then a client retry
+        write(HOUR, 10d, HOUR + 1000, 20d);
+        rollups.flush();
+        write(HOUR, 10d, HOUR + 1000, 20d);
+        rollups.flush();
+        ReadingRollup minute = rows.get(RollupResolution.MINUTE).get(HOUR);
+        assertEquals(2, minute.getCount());
+        assertEquals(30d, minute.getSum(), 0);
+        assertEquals(1, rows.get(RollupResolution.MINUTE).size());
+        assertEquals(2, rows.get(RollupResolution.HOUR).get(HOUR).getCount());
+    }
+
+    @Test
+    public void should_aggregate_hours_from_minutes() {
+        write(HOUR, 10d);
+        rollups.flush();
+        write(HOUR + 120_000, 40d, HOUR + 125_000, -5d);
+        rollups.flush();
+        assertEquals(2, rows.get(RollupResolution.MINUTE).size());
+        ReadingRollup hour = rows.get(RollupResolution.HOUR).get(HOUR);
+        assertEquals(3, hour.getCount());
+        assertEquals(-5d, hour.getMin(), 0);
+        assertEquals(40d, hour.getMax(), 0);
+        assertEquals(45d, hour.getSum(), 0);
+        assertEquals("km/h", hour.getUnit());
+    }
+
+    @Test
+    public void should_retry_failed_buckets_and_report_them_pending() {
+        write(HOUR, 10d, 2 * HOUR, 20d);
+        failing = true;
+        rollups.flush();
+        assertTrue(rows.get(RollupResolution.MINUTE).isEmpty());
+        assertEquals(2, rollups.getFailedMinutes());
+        assertEquals(Arrays.asList(2 * HOUR, HOUR), rollups.pending(PARTITION, Instrument.SPEED, RollupResolution.HOUR));
+        failing = false;
+        rollups.flush();
+        assertEquals(0, rollups.getFailedMinutes());
+        assertEquals(2, rows.get(RollupResolution.HOUR).size());
+        assertEquals(Collections.emptyList(), rollups.pending(PARTITION, Instrument.SPEED, RollupResolution.MINUTE));
+    }
+
+    @Test
+    public void should_report_buckets_written_to_since_last_flush() {
+        write(HOUR + 61_000, 10d, HOUR + 62_000, 11d, HOUR + 5_000, 12d);
+        assertEquals(Arrays.asList(HOUR + 60_000, HOUR),
+                rollups.pending(PARTITION, Instrument.SPEED, RollupResolution.MINUTE));
+        assertEquals(Collections.singletonList(HOUR),
+                rollups.pending(PARTITION, Instrument.SPEED, RollupResolution.HOUR));
+        assertEquals(Collections.emptyList(),
+                rollups.pending(PARTITION, Instrument.TEMPERATURE, RollupResolution.MINUTE));
+        rollups.flush();
+        assertEquals(Collections.emptyList(),
+                rollups.pending(PARTITION, Instrument.SPEED, RollupResolution.MINUTE));
+    }
+
+    @Test
+    public void should_release_idle_partitions_and_ignore_non_scalar_instruments() {
+        rollups.add(new ReadingsFrame(Instrument.LOCATION, "gemini3", JOURNEY_ID, "km",
+                new long[] { HOUR }, new double[] { 1, 2, 3 }));
+        assertEquals(0, rollups.getPartitions());
+        write(HOUR, 10d);
+        assertEquals(1, rollups.getPartitions());
+        rollups.flush();
+        assertEquals(1, rollups.getPartitions());
+        // No reading during a whole interval
+        rollups.flush();
+        assertEquals(0, rollups.getPartitions());
+        write(HOUR + 1, 20d);
+        rollups.flush();
+        assertEquals(2, rows.get(RollupResolution.MINUTE).get(HOUR).getCount());
+    }
+
+    @Test
+    public void should_not_write_rows_of_empty_buckets() {
+        assertNull(aggregate(PARTITION, Instrument.SPEED, RollupResolution.MINUTE, HOUR));
+        rollups.flush();
+        assertTrue(rows.get(RollupResolution.MINUTE).isEmpty());
+    }
+
+    /**
+     * Write readings (time, value pairs) then mark them, as the service does once acknowledged.
+     */
+    private void write(double... timeValues) {
+        long[] times    = new long[timeValues.length / 2];
+        double[] values = new double[times.length];
+        for (int i = 0; i < times.length; i++) {
+            times[i]  = (long) timeValues[2 * i];
+            values[i] = timeValues[2 * i + 1];
+            readings.put(times[i], values[i]);
+        }
+        rollups.add(new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h", times, values));
+    }
+
+    private ReadingRollup aggregate(JourneyPartition partition, Instrument instrument,
+            RollupResolution resolution, long bucketStart) {
+        long end = bucketStart + resolution.getSeconds() * 1000;
+        long count = 0;
+        double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY, sum = 0;
+        if (RollupResolution.MINUTE == resolution) {
+            for (double value : readings.subMap(bucketStart, end).values()) {
+                count++;
+                min  = Math.min(min, value);
+                max  = Math.max(max, value);
+                sum += value;
+            }
+        } else {
+            for (ReadingRollup minute : rows.get(RollupResolution.MINUTE).subMap(bucketStart, end).values()) {
+                count += minute.getCount();
+                min    = Math.min(min, minute.getMin());
+                max    = Math.max(max, minute.getMax());
+                sum   += minute.getSum();
+            }
+        }
+        return (count == 0) ? null : new ReadingRollup(partition.getSpacecraftName(), partition.getJourneyId(),
+                instrument, "km/h", bucketStart, count, min, max, sum);
+    }
+
+}
@@ -0,0 +1,59 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.junit.Test;
+
+/**
+ * Built-in aggregators merge range states and return null without readings.
+ */
+public class ScanAggregatorsTest {
+
+    private final Map<String, Supplier<ScanAggregator>> builtIns = ScanAggregators.builtIns();
+
+    @Test
+    public void should_return_null_without_readings_except_count() {
+        assertEquals(0L, builtIns.get("count").get().result());
+        for (String name : new String[] { "min", "max", "sum", "avg" }) {
+            ScanAggregator empty = builtIns.get(name).get();
+            empty.merge(builtIns.get(name).get());
+            assertNull(name, empty.result());
+        }
+    }
+
+    @Test
+    public void should_merge_range_states() {
+        assertEquals(5L,   aggregate("count"));
+        assertEquals(-2d,  aggregate("min"));
+        assertEquals(7d,   aggregate("max"));
+        assertEquals(10d,  aggregate("sum"));
+        assertEquals(2d,   aggregate("avg"));
+    }
+
+    @Test
+    public void should_keep_zero_sum_of_readings() {
+        ScanAggregator sum = builtIns.get("sum").get();
+        sum.add(0, 2);
+        sum.add(1, -2);
+        assertEquals(0d, sum.result());
+    }
+
+    private Object aggregate(String name) {
+        ScanAggregator left  = builtIns.get(name).get();
+        ScanAggregator right = builtIns.get(name).get();
+        left.add(0, 1);
+        left.add(1, 7);
+        right.add(2, -2);
+        right.add(3, 4);
+        right.add(4, 0);
+        left.merge(right);
+        // An empty range does not change the result
+        left.merge(builtIns.get(name).get());
+        return left.result();
+    }
+
+}
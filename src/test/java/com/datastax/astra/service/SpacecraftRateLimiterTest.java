@@ -0,0 +1,141 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.datastax.astra.config.IngestProperties;
+import com.datastax.astra.config.IngestProperties.LimitSettings;
+import com.datastax.astra.metrics.IngestMetrics;
+
+/**
+ * GCRA buckets: bursts pass at once, the sustained rate is enforced afterwards.
+ */
+public class SpacecraftRateLimiterTest {
+
+    @Test
+    public void should_not_limit_when_disabled() {
+        IngestProperties properties = properties(1, 1);
+        properties.getRateLimit().setEnabled(false);
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties, new IngestMetrics());
+        for (int i = 0; i < 100; i++) {
+            limiter.acquire("gemini3", 1000);
+        }
+    }
+
+    @Test
+    public void should_accept_burst_then_reject() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(10, 100), new IngestMetrics());
+        limiter.acquire("gemini3", 60);
+        limiter.acquire("gemini3", 40);
+        try {
+            limiter.acquire("gemini3", 1);
+            fail("Bucket is empty");
+        } catch (IngestRateLimitedException e) {
+            assertEquals(1, e.getRetryAfterSeconds());
+        }
+    }
+
+    @Test
+    public void should_not_take_tokens_of_rejected_requests() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(1, 10), new IngestMetrics());
+        limiter.acquire("gemini3", 5);
+        for (int i = 0; i < 10; i++) {
+            assertRejected(limiter, "gemini3", 10);
+        }
+        // Rejections did not push the bucket further, what is left can still be taken
+        limiter.acquire("gemini3", 5);
+    }
+
+    @Test
+    public void should_refill_at_the_sustained_rate() throws InterruptedException {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(1000, 10), new IngestMetrics());
+        limiter.acquire("gemini3", 10);
+        assertRejected(limiter, "gemini3", 10);
+        Thread.sleep(30);
+        limiter.acquire("gemini3", 10);
+    }
+
+    @Test
+    public void should_reject_requests_above_burst_without_taking_tokens() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(10, 100), new IngestMetrics());
+        try {
+            limiter.acquire("gemini3", 5000);
+            fail("Request above the burst");
+        } catch (IngestTooLargeException e) {
+            // Never accepted, split by the client
+        }
+        limiter.acquire("gemini3", 100);
+    }
+
+    @Test
+    public void should_charge_stream_chunks_above_burst_in_full() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(100, 10), new IngestMetrics());
+        long top = System.nanoTime();
+        limiter.throttle("gemini3", 20);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top);
+        // 10 readings above the burst at 100 per second
+        assertTrue("Waited " + waitedMillis + " millis", waitedMillis >= 80);
+        assertRejected(limiter, "gemini3", 1);
+    }
+
+    @Test
+    public void should_apply_dedicated_limits() {
+        IngestProperties properties = properties(1, 1000);
+        LimitSettings dedicated = new LimitSettings();
+        dedicated.setReadingsPerSecond(1);
+        dedicated.setBurst(5);
+        properties.getRateLimit().getSpacecrafts().put("apollo11", dedicated);
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties, new IngestMetrics());
+        limiter.acquire("apollo11", 5);
+        assertRejected(limiter, "apollo11", 1);
+        // Default bucket is not affected
+        limiter.acquire("gemini3", 1000);
+    }
+
+    @Test
+    public void should_report_wait_in_seconds_rounded_up() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(2, 10), new IngestMetrics());
+        limiter.acquire("gemini3", 10);
+        try {
+            limiter.acquire("gemini3", 7);
+            fail("Bucket is empty");
+        } catch (IngestRateLimitedException e) {
+            // 7 readings at 2 per second
+            assertEquals(4, e.getRetryAfterSeconds());
+        }
+    }
+
+    @Test
+    public void should_slow_down_streams_instead_of_rejecting() {
+        SpacecraftRateLimiter limiter = new SpacecraftRateLimiter(properties(100, 10), new IngestMetrics());
+        limiter.throttle("gemini3", 10);
+        long top = System.nanoTime();
+        limiter.throttle("gemini3", 10);
+        long waitedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - top);
+        // 10 readings at 100 per second
+        assertTrue("Waited " + waitedMillis + " millis", waitedMillis >= 80);
+    }
+
+    private static void assertRejected(SpacecraftRateLimiter limiter, String spacecraftName, int readings) {
+        try {
+            limiter.acquire(spacecraftName, readings);
+            fail("Expecting " + spacecraftName + " to be rate limited");
+        } catch (IngestRateLimitedException e) {
+            assertTrue(e.getRetryAfterSeconds() >= 1);
+        }
+    }
+
+    private static IngestProperties properties(long readingsPerSecond, long burst) {
+        IngestProperties properties = new IngestProperties();
+        properties.getRateLimit().setEnabled(true);
+        properties.getRateLimit().setReadingsPerSecond(readingsPerSecond);
+        properties.getRateLimit().setBurst(burst);
+        return properties;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.datastax.astra.service;
+
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_JOURNEY_ID;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_READING_TIME;
+import static com.datastax.astra.entity.AbstractInstrumentReading.COLUMN_SPACECRAFT_NAME;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.nio.ByteBuffer;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletionStage;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.oss.driver.api.core.ProtocolVersion;
+import com.datastax.oss.driver.api.core.cql.AsyncResultSet;
+import com.datastax.oss.driver.api.core.cql.ColumnDefinitions;
+import com.datastax.oss.driver.api.core.cql.ExecutionInfo;
+import com.datastax.oss.driver.api.core.cql.Row;
+import com.datastax.oss.driver.api.core.detach.AttachmentPoint;
+import com.datastax.oss.driver.api.core.type.codec.TypeCodecs;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinition;
+import com.datastax.oss.driver.internal.core.cql.DefaultColumnDefinitions;
+import com.datastax.oss.driver.internal.core.cql.DefaultRow;
+import com.datastax.oss.protocol.internal.ProtocolConstants;
+import com.datastax.oss.protocol.internal.response.result.ColumnSpec;
+import com.datastax.oss.protocol.internal.response.result.RawType;
+
+/**
+ * Rows and pages of the speed table as returned by the driver, built without a session.
+ */
+final class SpeedRows {
+
+    /** Columns in table order. */
+    static final ColumnDefinitions COLUMNS = DefaultColumnDefinitions.valueOf(Arrays.asList(
+            new DefaultColumnDefinition(spec(COLUMN_SPACECRAFT_NAME, 0, ProtocolConstants.DataType.VARCHAR), AttachmentPoint.NONE),
+            new DefaultColumnDefinition(spec(COLUMN_JOURNEY_ID, 1, ProtocolConstants.DataType.TIMEUUID), AttachmentPoint.NONE),
+            new DefaultColumnDefinition(spec(COLUMN_READING_TIME, 2, ProtocolConstants.DataType.TIMESTAMP), AttachmentPoint.NONE),
+            new DefaultColumnDefinition(spec(SpacecraftSpeedOverTime.COLUMN_SPEED, 3, ProtocolConstants.DataType.DOUBLE), AttachmentPoint.NONE),
+            new DefaultColumnDefinition(spec(SpacecraftSpeedOverTime.COLUMN_SPEED_UNIT, 4, ProtocolConstants.DataType.VARCHAR), AttachmentPoint.NONE)));
+
+    private SpeedRows() {}
+
+    /**
+     * A speed reading, null values are not set.
+     */
+    static Row row(String spacecraftName, UUID journeyId, long readingTime, Double speed, String unit) {
+        ProtocolVersion version = ProtocolVersion.DEFAULT;
+        return new DefaultRow(COLUMNS, Arrays.asList(
+                TypeCodecs.TEXT.encode(spacecraftName, version),
+                TypeCodecs.TIMEUUID.encode(journeyId, version),
+                TypeCodecs.TIMESTAMP.encode(Instant.ofEpochMilli(readingTime), version),
+                TypeCodecs.DOUBLE.encode(speed, version),
+                TypeCodecs.TEXT.encode(unit, version)), AttachmentPoint.NONE);
+    }
+
+    /**
+     * Page of rows, the next page is returned by the driver when fetched.
+     */
+    static AsyncResultSet page(List<Row> rows, ByteBuffer pagingState, CompletionStage<AsyncResultSet> next) {
+        AsyncResultSet page = mock(AsyncResultSet.class);
+        ExecutionInfo executionInfo = mock(ExecutionInfo.class);
+        when(executionInfo.getPagingState()).thenReturn(pagingState);
+        when(page.getExecutionInfo()).thenReturn(executionInfo);
+        when(page.getColumnDefinitions()).thenReturn(COLUMNS);
+        when(page.currentPage()).thenReturn(new ArrayList<>(rows));
+        when(page.remaining()).thenReturn(rows.size());
+        when(page.hasMorePages()).thenReturn(null != next);
+        when(page.fetchNextPage()).thenReturn(next);
+        return page;
+    }
+
+    private static ColumnSpec spec(String name, int index, int type) {
+        return new ColumnSpec("astra", SpacecraftSpeedOverTime.TABLE_NAME, name, index, RawType.PRIMITIVES.get(type));
+    }
+
+    /**
+     * Paging state of the driver.
+     */
+    static ByteBuffer bytes(int... values) {
+        ByteBuffer buffer = ByteBuffer.allocate(values.length);
+        for (int value : values) {
+            buffer.put((byte) value);
+        }
+        buffer.flip();
+        return buffer;
+    }
+
+}
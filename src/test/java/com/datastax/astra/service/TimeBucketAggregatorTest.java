@@ -0,0 +1,103 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.Test;
+
+import com.datastax.astra.model.ReadingBucket;
+
+/**
+ * Readings are folded into aligned buckets, empty buckets are skipped.
+ */
+public class TimeBucketAggregatorTest {
+
+    @Test
+    public void should_fold_readings_into_aligned_buckets() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(1000, 10);
+        aggregator.add(1200, 4);
+        aggregator.add(1500, 2);
+        aggregator.add(1999, 6);
+        aggregator.add(2000, -1);
+        List<ReadingBucket> buckets = aggregator.finish();
+        assertEquals(2, buckets.size());
+        assertBucket(buckets.get(0), 1000, 3, 2, 6, 4);
+        assertBucket(buckets.get(1), 2000, 1, -1, -1, -1);
+        assertEquals(Instant.ofEpochMilli(2000), buckets.get(0).getEnd());
+        assertEquals(4, aggregator.getReadings());
+    }
+
+    @Test
+    public void should_skip_empty_buckets() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(1000, 10);
+        aggregator.add(0, 1);
+        aggregator.add(5000, 1);
+        List<ReadingBucket> buckets = aggregator.finish();
+        assertEquals(2, buckets.size());
+        assertEquals(Instant.ofEpochMilli(5000), buckets.get(1).getStart());
+    }
+
+    @Test
+    public void should_fold_descending_readings() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(1000, 10);
+        aggregator.add(2500, 10);
+        aggregator.add(2100, 20);
+        aggregator.add(1900, 30);
+        List<ReadingBucket> buckets = aggregator.finish();
+        assertBucket(buckets.get(0), 2000, 2, 10, 20, 15);
+        assertBucket(buckets.get(1), 1000, 1, 30, 30, 30);
+    }
+
+    @Test
+    public void should_align_negative_times() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(1000, 10);
+        aggregator.add(-1, 1);
+        aggregator.add(0, 1);
+        List<ReadingBucket> buckets = aggregator.finish();
+        assertEquals(2, buckets.size());
+        assertEquals(Instant.ofEpochMilli(-1000), buckets.get(0).getStart());
+    }
+
+    @Test
+    public void should_merge_partial_aggregates() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(3_600_000, 10);
+        aggregator.add(0, 10, 1, 5, 30);
+        aggregator.add(60_000, 5, -2, 3, 5);
+        aggregator.add(3_600_000, 2, 7, 9, 16);
+        List<ReadingBucket> buckets = aggregator.finish();
+        assertBucket(buckets.get(0), 0, 15, -2, 5, 35d / 15);
+        assertBucket(buckets.get(1), 3_600_000, 2, 7, 9, 8);
+        assertEquals(17, aggregator.getReadings());
+    }
+
+    @Test
+    public void should_return_no_bucket_without_readings() {
+        assertTrue(new TimeBucketAggregator(1000, 10).finish().isEmpty());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_too_many_buckets() {
+        TimeBucketAggregator aggregator = new TimeBucketAggregator(1000, 2);
+        aggregator.add(0, 1);
+        aggregator.add(1000, 1);
+        aggregator.add(2000, 1);
+        aggregator.finish();
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_empty_bucket_duration() {
+        new TimeBucketAggregator(0, 10);
+    }
+
+    private static void assertBucket(ReadingBucket bucket, long start, long count, double min, double max, double avg) {
+        assertEquals(Instant.ofEpochMilli(start), bucket.getStart());
+        assertEquals(count, bucket.getCount());
+        assertEquals(min, bucket.getMin(), 0d);
+        assertEquals(max, bucket.getMax(), 0d);
+        assertEquals(avg, bucket.getAvg(), 1e-9);
+    }
+
+}
@@ -0,0 +1,164 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Readings are written once per flush, on size or on time, and buffers are released when empty.
+ */
+public class WriteCoalescerTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    private final ScheduledExecutorService scheduler = Executors.newScheduledThreadPool(2);
+
+    /** Flushes received by the writer. */
+    private final Queue<SpacecraftSpeedOverTime[]> flushes = new ConcurrentLinkedQueue<>();
+
+    @After
+    public void stopScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    @Test
+    public void should_flush_full_buffers_without_waiting() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = coalescer(3, 60_000);
+        CompletableFuture<Boolean> first  = coalescer.add(readings("gemini3", 0, 2));
+        assertFalse(first.isDone());
+        CompletableFuture<Boolean> second = coalescer.add(readings("gemini3", 2, 2));
+        // First 3 readings written together, the last one waits
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        assertFalse(second.isDone());
+        assertEquals(1, flushes.size());
+        assertEquals(3, flushes.peek().length);
+        assertEquals(1, coalescer.getBufferCount());
+    }
+
+    @Test
+    public void should_flush_on_time() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = coalescer(100, 20);
+        CompletableFuture<Boolean> ack = coalescer.add(readings("gemini3", 0, 5));
+        assertTrue(ack.get(1, TimeUnit.SECONDS));
+        assertEquals(1, flushes.size());
+        assertEquals(5, flushes.peek().length);
+        assertEquals(0, coalescer.getBufferCount());
+    }
+
+    @Test
+    public void should_flush_per_partition() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = coalescer(2, 60_000);
+        List<SpacecraftSpeedOverTime> mixed = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            mixed.add(readings("gemini3", i, 1)[0]);
+            mixed.add(readings("apollo11", i, 1)[0]);
+        }
+        assertTrue(coalescer.add(mixed.toArray(new SpacecraftSpeedOverTime[0])).get(1, TimeUnit.SECONDS));
+        assertEquals(2, flushes.size());
+        for (SpacecraftSpeedOverTime[] flush : flushes) {
+            assertEquals(flush[0].getSpacecraft_name(), flush[1].getSpacecraft_name());
+        }
+    }
+
+    @Test
+    public void should_release_buffers_left_empty_by_size_flushes() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = coalescer(5, 60_000);
+        for (int i = 0; i < 10; i++) {
+            UUID journeyId = UUID.randomUUID();
+            SpacecraftSpeedOverTime[] readings = readings("gemini3", 0, 10);
+            for (SpacecraftSpeedOverTime read : readings) {
+                read.setJourney_id(journeyId);
+            }
+            assertTrue(coalescer.add(readings).get(1, TimeUnit.SECONDS));
+        }
+        assertEquals(20, flushes.size());
+        assertEquals(0, coalescer.getBufferCount());
+    }
+
+    @Test
+    public void should_fail_readings_of_failed_flush() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = new WriteCoalescer<>(Instrument.SPEED, readings -> {
+            CompletableFuture<Boolean> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new IllegalStateException("Astra is down"));
+            return failed;
+        }, SpacecraftSpeedOverTime[]::new, 2, 60_000, scheduler, new IngestMetrics());
+        CompletableFuture<Boolean> ack = coalescer.add(readings("gemini3", 0, 2));
+        assertTrue(ack.handle((applied, ex) -> null != ex).get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void should_write_every_reading_once_under_concurrent_appends_and_shutdown() throws Exception {
+        WriteCoalescer<SpacecraftSpeedOverTime> coalescer = coalescer(7, 1);
+        int threads = 4;
+        int requests = 500;
+        AtomicLong next = new AtomicLong();
+        Queue<CompletableFuture<Boolean>> acks = new ConcurrentLinkedQueue<>();
+        CountDownLatch done = new CountDownLatch(threads);
+        for (int t = 0; t < threads; t++) {
+            new Thread(() -> {
+                for (int r = 0; r < requests; r++) {
+                    int size = 1 + r % 5;
+                    acks.add(coalescer.add(readings("gemini3", next.getAndAdd(size), size)));
+                }
+                done.countDown();
+            }).start();
+        }
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        coalescer.flushAll().get(5, TimeUnit.SECONDS);
+        for (CompletableFuture<Boolean> ack : acks) {
+            assertTrue(ack.get(1, TimeUnit.SECONDS));
+        }
+        boolean[] written = new boolean[(int) next.get()];
+        for (SpacecraftSpeedOverTime[] flush : flushes) {
+            for (SpacecraftSpeedOverTime read : flush) {
+                int i = (int) read.getReading_time().toEpochMilli();
+                assertFalse("Reading " + i + " written twice", written[i]);
+                written[i] = true;
+            }
+        }
+        for (int i = 0; i < written.length; i++) {
+            assertTrue("Reading " + i + " not written", written[i]);
+        }
+        assertEquals(0, coalescer.getBufferCount());
+    }
+
+    private WriteCoalescer<SpacecraftSpeedOverTime> coalescer(int maxRows, long maxDelayMillis) {
+        return new WriteCoalescer<>(Instrument.SPEED, readings -> {
+            flushes.add(readings);
+            return CompletableFuture.completedFuture(true);
+        }, SpacecraftSpeedOverTime[]::new, maxRows, maxDelayMillis, scheduler, new IngestMetrics());
+    }
+
+    private static SpacecraftSpeedOverTime[] readings(String spacecraftName, long firstTime, int count) {
+        SpacecraftSpeedOverTime[] readings = new SpacecraftSpeedOverTime[count];
+        for (int i = 0; i < count; i++) {
+            readings[i] = new SpacecraftSpeedOverTime();
+            readings[i].setSpacecraft_name(spacecraftName);
+            readings[i].setJourney_id(JOURNEY_ID);
+            readings[i].setReading_time(Instant.ofEpochMilli(firstTime + i));
+            readings[i].setSpeed(1.0);
+        }
+        return readings;
+    }
+
+}
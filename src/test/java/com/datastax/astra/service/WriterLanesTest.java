@@ -0,0 +1,263 @@
+package com.datastax.astra.service;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Test;
+
+import com.datastax.astra.entity.SpacecraftSpeedOverTime;
+import com.datastax.astra.metrics.IngestMetrics;
+import com.datastax.astra.model.Instrument;
+
+/**
+ * Lanes keep the order of a partition, requests are fully queued or rejected, nothing hangs on close.
+ */
+public class WriterLanesTest {
+
+    /** Calls of the writer, completed by the tests. */
+    private final LinkedBlockingQueue<Write> writes = new LinkedBlockingQueue<>();
+
+    /** Every call of the writer, guarded by this. */
+    private final List<Write> written = new ArrayList<>();
+
+    /** Writes are acknowledged at once when set, guarded by this. */
+    private boolean closing;
+
+    /** Lanes to close after each test. */
+    private final Queue<WriterLanes<SpacecraftSpeedOverTime>> opened = new ConcurrentLinkedQueue<>();
+
+    @After
+    public void closeLanes() {
+        synchronized (this) {
+            closing = true;
+            written.forEach(write -> write.ack.complete(true));
+        }
+        opened.forEach(WriterLanes::close);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_invalid_settings() {
+        lanes(0, 10, 10);
+    }
+
+    @Test
+    public void should_write_partitions_in_arrival_order_and_group_while_busy() throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(1, 100, 10);
+        CompletableFuture<Boolean> first  = lanes.add(readings("gemini3", 0, 2));
+        Write busy = next();
+        CompletableFuture<Boolean> second = lanes.add(readings("gemini3", 2, 2));
+        CompletableFuture<Boolean> third  = lanes.add(readings("gemini3", 4, 2));
+        busy.ack.complete(true);
+        assertTrue(first.get(1, TimeUnit.SECONDS));
+        // Queued while the lane was busy, written together
+        Write grouped = next();
+        assertEquals(4, grouped.readings.length);
+        for (int i = 0; i < 4; i++) {
+            assertEquals(Instant.ofEpochMilli(2 + i), grouped.readings[i].getReading_time());
+        }
+        grouped.ack.complete(true);
+        assertTrue(second.get(1, TimeUnit.SECONDS));
+        assertTrue(third.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void should_not_group_above_max_rows() throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(1, 3, 10);
+        lanes.add(readings("gemini3", 0, 1));
+        Write busy = next();
+        lanes.add(readings("gemini3", 1, 2));
+        lanes.add(readings("gemini3", 3, 2));
+        busy.ack.complete(true);
+        Write second = next();
+        assertEquals(2, second.readings.length);
+        second.ack.complete(true);
+        assertEquals(2, next().readings.length);
+    }
+
+    @Test
+    public void should_reject_whole_request_when_a_lane_is_full() throws Exception {
+        // Two spacecrafts on different lanes
+        String other = otherLane(2);
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(2, 100, 1);
+        lanes.add(readings("gemini3", 0, 1));
+        Write busy = next();
+        lanes.add(readings("gemini3", 1, 1));
+        SpacecraftSpeedOverTime[] both = concat(readings(other, 0, 1), readings("gemini3", 2, 1));
+        try {
+            lanes.add(both);
+            fail("Lane of gemini3 is full");
+        } catch (IngestOverloadedException e) {
+            assertEquals(1, lanes.getQueued());
+        }
+        // Slot reserved on the other lane has been given back
+        CompletableFuture<Boolean> accepted = lanes.add(readings(other, 1, 1));
+        Write otherWrite = next();
+        assertEquals(other, otherWrite.readings[0].getSpacecraft_name());
+        otherWrite.ack.complete(true);
+        assertTrue(accepted.get(1, TimeUnit.SECONDS));
+        busy.ack.complete(true);
+    }
+
+    @Test
+    public void should_fail_every_request_of_a_failed_write() throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(1, 100, 10);
+        lanes.add(readings("gemini3", 0, 1));
+        Write busy = next();
+        CompletableFuture<Boolean> second = lanes.add(readings("gemini3", 1, 1));
+        CompletableFuture<Boolean> third  = lanes.add(readings("gemini3", 2, 1));
+        busy.ack.complete(true);
+        IllegalStateException failure = new IllegalStateException("Astra is down");
+        next().ack.completeExceptionally(failure);
+        assertSame(failure, cause(second));
+        assertSame(failure, cause(third));
+    }
+
+    @Test
+    public void should_write_queued_readings_on_close() throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(1, 1, 10);
+        lanes.add(readings("gemini3", 0, 1));
+        Write busy = next();
+        CompletableFuture<Boolean> queued = lanes.add(readings("gemini3", 1, 1));
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(lanes::close);
+        busy.ack.complete(true);
+        next().ack.complete(true);
+        closing.get(5, TimeUnit.SECONDS);
+        assertTrue(queued.get(1, TimeUnit.SECONDS));
+        try {
+            lanes.add(readings("gemini3", 2, 1));
+            fail("Lanes are closed");
+        } catch (IngestOverloadedException e) {
+            assertEquals(0, lanes.getQueued());
+        }
+    }
+
+    @Test
+    public void should_fail_readings_left_in_stopped_lanes_on_close() throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(1, 1, 10);
+        CompletableFuture<Boolean> inFlight = lanes.add(readings("gemini3", 0, 1));
+        Write busy = next();
+        CompletableFuture<Boolean> queued = lanes.add(readings("gemini3", 1, 1));
+        // Lane interrupted while waiting for Astra, the queued request is never taken
+        busy.thread.interrupt();
+        assertTrue(cause(inFlight) instanceof IngestOverloadedException);
+        assertFalse(queued.isDone());
+        lanes.close();
+        assertTrue(cause(queued) instanceof IngestOverloadedException);
+        assertEquals(0, lanes.getQueued());
+    }
+
+    private WriterLanes<SpacecraftSpeedOverTime> lanes(int laneCount, int maxRows, int queueCapacity) {
+        Function<SpacecraftSpeedOverTime[], CompletionStage<Boolean>> writer = readings -> {
+            Write write = new Write(readings);
+            synchronized (this) {
+                if (closing) {
+                    write.ack.complete(true);
+                }
+                written.add(write);
+            }
+            writes.add(write);
+            return write.ack;
+        };
+        WriterLanes<SpacecraftSpeedOverTime> lanes = new WriterLanes<>(Instrument.SPEED, writer,
+                SpacecraftSpeedOverTime[]::new, laneCount, maxRows, queueCapacity, new IngestMetrics());
+        opened.add(lanes);
+        return lanes;
+    }
+
+    /**
+     * Spacecraft whose partition does not go to the lane of gemini3, found by probing lanes of the same count.
+     */
+    private String otherLane(int laneCount) throws Exception {
+        WriterLanes<SpacecraftSpeedOverTime> lanes = lanes(laneCount, 100, 10);
+        for (int i = 0; ; i++) {
+            String name = "apollo" + i;
+            lanes.add(concat(readings("gemini3", 0, 1), readings(name, 0, 1)));
+            Write first  = next();
+            Write second = writes.poll(100, TimeUnit.MILLISECONDS);
+            first.ack.complete(true);
+            if (null != second) {
+                second.ack.complete(true);
+                return name;
+            }
+            if (first.readings.length == 1) {
+                // Same lane, second partition taken after the first one
+                next().ack.complete(true);
+            }
+        }
+    }
+
+    private Write next() throws InterruptedException {
+        Write write = writes.poll(5, TimeUnit.SECONDS);
+        if (null == write) {
+            fail("No write");
+        }
+        return write;
+    }
+
+    private static Throwable cause(CompletableFuture<Boolean> ack) throws Exception {
+        try {
+            ack.get(5, TimeUnit.SECONDS);
+            fail("Expecting a failure");
+            return null;
+        } catch (ExecutionException e) {
+            return e.getCause();
+        }
+    }
+
+    private static SpacecraftSpeedOverTime[] readings(String spacecraftName, int from, int count) {
+        SpacecraftSpeedOverTime[] readings = new SpacecraftSpeedOverTime[count];
+        for (int i = 0; i < count; i++) {
+            readings[i] = new SpacecraftSpeedOverTime();
+            readings[i].setSpacecraft_name(spacecraftName);
+            readings[i].setJourney_id(UUID.nameUUIDFromBytes(spacecraftName.getBytes()));
+            readings[i].setReading_time(Instant.ofEpochMilli(from + i));
+            readings[i].setSpeed(27_000d);
+        }
+        return readings;
+    }
+
+    private static SpacecraftSpeedOverTime[] concat(SpacecraftSpeedOverTime[] a, SpacecraftSpeedOverTime[] b) {
+        List<SpacecraftSpeedOverTime> all = new ArrayList<>();
+        for (SpacecraftSpeedOverTime read : a) {
+            all.add(read);
+        }
+        for (SpacecraftSpeedOverTime read : b) {
+            all.add(read);
+        }
+        return all.toArray(new SpacecraftSpeedOverTime[all.size()]);
+    }
+
+    /**
+     * Call of the writer by a lane.
+     */
+    private static final class Write {
+
+        private final SpacecraftSpeedOverTime[] readings;
+
+        private final CompletableFuture<Boolean> ack = new CompletableFuture<>();
+
+        private final Thread thread = Thread.currentThread();
+
+        private Write(SpacecraftSpeedOverTime[] readings) {
+            this.readings = readings;
+        }
+    }
+
+}
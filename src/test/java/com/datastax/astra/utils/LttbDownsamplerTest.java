@@ -0,0 +1,83 @@
+package com.datastax.astra.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import com.datastax.astra.model.ReadingSeries;
+
+/**
+ * Downsampled series keep their bounds and their peaks.
+ */
+public class LttbDownsamplerTest {
+
+    @Test
+    public void should_keep_all_points_under_threshold() {
+        assertArrayEquals(new int[] { 0, 1, 2, 3 }, LttbDownsampler.downsample(flat(4), 10));
+        assertArrayEquals(new int[0], LttbDownsampler.downsample(flat(0), 3));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_threshold_under_three() {
+        LttbDownsampler.downsample(flat(10), 2);
+    }
+
+    @Test
+    public void should_keep_threshold_points_in_order_with_bounds() {
+        ReadingSeries series = new ReadingSeries(1000);
+        for (int i = 0; i < 1000; i++) {
+            series.add(1_600_000_000_000L + i * 1000L, Math.sin(i / 20d));
+        }
+        int[] sampled = LttbDownsampler.downsample(series, 50);
+        assertEquals(50, sampled.length);
+        assertEquals(0, sampled[0]);
+        assertEquals(999, sampled[49]);
+        for (int i = 1; i < sampled.length; i++) {
+            assertTrue(sampled[i] > sampled[i - 1]);
+        }
+    }
+
+    @Test
+    public void should_keep_spikes() {
+        ReadingSeries series = new ReadingSeries(100);
+        for (int i = 0; i < 100; i++) {
+            series.add(i * 1000L, i == 37 ? 500 : i == 71 ? -500 : 1);
+        }
+        int[] sampled = LttbDownsampler.downsample(series, 10);
+        assertTrue(contains(sampled, 37));
+        assertTrue(contains(sampled, 71));
+    }
+
+    @Test
+    public void should_downsample_descending_series() {
+        ReadingSeries series = new ReadingSeries(100);
+        for (int i = 0; i < 100; i++) {
+            series.add((100 - i) * 1000L, i == 50 ? 100 : 0);
+        }
+        int[] sampled = LttbDownsampler.downsample(series, 5);
+        assertEquals(5, sampled.length);
+        assertEquals(0, sampled[0]);
+        assertEquals(99, sampled[4]);
+        assertTrue(contains(sampled, 50));
+    }
+
+    private static boolean contains(int[] indices, int index) {
+        for (int i : indices) {
+            if (i == index) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static ReadingSeries flat(int size) {
+        ReadingSeries series = new ReadingSeries(Math.max(1, size));
+        for (int i = 0; i < size; i++) {
+            series.add(i * 1000L, 1);
+        }
+        return series;
+    }
+
+}
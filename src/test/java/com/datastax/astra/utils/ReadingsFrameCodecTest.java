@@ -0,0 +1,107 @@
+package com.datastax.astra.utils;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.UUID;
+
+import org.junit.Test;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Binary frames are read back as written.
+ */
+public class ReadingsFrameCodecTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    @Test
+    public void should_round_trip_scalar_frame() throws IOException {
+        ReadingsFrame frame = new ReadingsFrame(Instrument.TEMPERATURE, "gemini3", JOURNEY_ID, "celsius",
+                new long[] { 1000L, 2000L, 3000L }, new double[] { 21.5, -3.25, Double.MAX_VALUE });
+        assertFrameEquals(frame, ReadingsFrameCodec.decode(new ByteArrayInputStream(encode(frame))));
+    }
+
+    @Test
+    public void should_round_trip_location_frame_without_unit() throws IOException {
+        ReadingsFrame frame = new ReadingsFrame(Instrument.LOCATION, "apollo11", JOURNEY_ID, null,
+                new long[] { 1000L, 2000L }, new double[] { 1, 2, 3, 4.5, 5.5, 6.5 });
+        ReadingsFrame decoded = ReadingsFrameCodec.decode(new ByteArrayInputStream(encode(frame)));
+        assertFrameEquals(frame, decoded);
+        assertNull(decoded.getUnit());
+    }
+
+    @Test
+    public void should_round_trip_empty_frame() throws IOException {
+        ReadingsFrame frame = new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h", new long[0], new double[0]);
+        assertEquals(0, ReadingsFrameCodec.decode(new ByteArrayInputStream(encode(frame))).size());
+    }
+
+    @Test
+    public void should_decode_consecutive_frames_from_the_same_stream() throws IOException {
+        ReadingsFrame first  = new ReadingsFrame(Instrument.PRESSURE, "gemini3", JOURNEY_ID, "bar",
+                new long[] { 1L }, new double[] { 1.5 });
+        ReadingsFrame second = new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, "km/h",
+                new long[] { 2L, 3L }, new double[] { 2.5, 3.5 });
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReadingsFrameCodec.encode(first, out);
+        ReadingsFrameCodec.encode(second, out);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        assertFrameEquals(first, ReadingsFrameCodec.decode(in));
+        assertFrameEquals(second, ReadingsFrameCodec.decode(in));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_unknown_magic() throws IOException {
+        byte[] bytes = encode(new ReadingsFrame(Instrument.SPEED, "gemini3", JOURNEY_ID, null, new long[] { 1L }, new double[] { 1 }));
+        bytes[0] = 'X';
+        ReadingsFrameCodec.decode(new ByteArrayInputStream(bytes));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void should_reject_too_many_readings() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        DataOutputStream data = new DataOutputStream(out);
+        data.writeInt(ReadingsFrameCodec.MAGIC);
+        data.writeByte(Instrument.SPEED.ordinal());
+        data.writeUTF("gemini3");
+        data.writeLong(JOURNEY_ID.getMostSignificantBits());
+        data.writeLong(JOURNEY_ID.getLeastSignificantBits());
+        data.writeUTF("");
+        data.writeInt(ReadingsFrameCodec.MAX_READINGS + 1);
+        ReadingsFrameCodec.decode(new ByteArrayInputStream(out.toByteArray()));
+    }
+
+    @Test(expected = EOFException.class)
+    public void should_fail_on_truncated_frame() throws IOException {
+        byte[] bytes = encode(new ReadingsFrame(Instrument.TEMPERATURE, "gemini3", JOURNEY_ID, "celsius",
+                new long[] { 1L, 2L }, new double[] { 1, 2 }));
+        ReadingsFrameCodec.decode(new ByteArrayInputStream(Arrays.copyOf(bytes, bytes.length - 3)));
+    }
+
+    private static byte[] encode(ReadingsFrame frame) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ReadingsFrameCodec.encode(frame, out);
+        return out.toByteArray();
+    }
+
+    private static void assertFrameEquals(ReadingsFrame expected, ReadingsFrame actual) {
+        assertEquals(expected.getInstrument(), actual.getInstrument());
+        assertEquals(expected.getSpacecraftName(), actual.getSpacecraftName());
+        assertEquals(expected.getJourneyId(), actual.getJourneyId());
+        assertEquals(expected.getUnit(), actual.getUnit());
+        assertArrayEquals(expected.getReadingTimes(), actual.getReadingTimes());
+        assertArrayEquals(expected.getValues(), actual.getValues(), 0d);
+    }
+
+}
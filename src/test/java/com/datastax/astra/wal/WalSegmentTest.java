@@ -0,0 +1,95 @@
+package com.datastax.astra.wal;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ * Records of a segment are found again after a restart, up to the first torn or corrupted one.
+ */
+public class WalSegmentTest {
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    @Test
+    public void should_read_records_after_reopen() throws IOException {
+        WalSegment segment = WalSegment.create(folder.getRoot().toPath(), 7, 4096);
+        int second = append(segment, "first");
+        append(segment, "second");
+        segment.force();
+
+        WalSegment reopened = WalSegment.open(segment.getPath());
+        assertEquals(7, reopened.getId());
+        assertEquals(segment.getCommitted(), reopened.getCommitted());
+        assertArrayEquals(bytes("first"), reopened.read(WalSegment.HEADER_SIZE, reopened.getCommitted()));
+        assertArrayEquals(bytes("second"), reopened.read(second, reopened.getCommitted()));
+    }
+
+    @Test
+    public void should_stop_at_record_with_bad_crc() throws IOException {
+        WalSegment segment = WalSegment.create(folder.getRoot().toPath(), 1, 4096);
+        int second = append(segment, "first");
+        int third  = append(segment, "second");
+        append(segment, "third");
+        segment.force();
+        // One bit flipped in the payload of the second record
+        corrupt(segment.getPath(), second + WalSegment.RECORD_HEADER_SIZE);
+
+        WalSegment reopened = WalSegment.open(segment.getPath());
+        assertEquals(second, reopened.getCommitted());
+        assertNull(reopened.read(second, third));
+    }
+
+    @Test
+    public void should_stop_at_torn_record() throws IOException {
+        WalSegment segment = WalSegment.create(folder.getRoot().toPath(), 1, 4096);
+        int second = append(segment, "first");
+        append(segment, "second");
+        segment.force();
+        // Crash while appending: the length is written but the payload is not
+        try (FileChannel channel = FileChannel.open(segment.getPath(), StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(6), second + WalSegment.RECORD_HEADER_SIZE);
+        }
+
+        WalSegment reopened = WalSegment.open(segment.getPath());
+        assertEquals(second, reopened.getCommitted());
+    }
+
+    @Test
+    public void should_refuse_record_above_capacity() throws IOException {
+        WalSegment segment = WalSegment.create(folder.getRoot().toPath(), 1, 64);
+        assertFalse(segment.append(new byte[segment.maxPayloadSize() + 1]));
+        assertEquals(WalSegment.HEADER_SIZE, segment.getCommitted());
+    }
+
+    private static int append(WalSegment segment, String payload) {
+        segment.append(bytes(payload));
+        return segment.getCommitted();
+    }
+
+    private static byte[] bytes(String payload) {
+        return payload.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static void corrupt(Path file, int offset) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            ByteBuffer current = ByteBuffer.allocate(1);
+            channel.read(current, offset);
+            channel.write(ByteBuffer.wrap(new byte[] { (byte) (current.get(0) ^ 1) }), offset);
+        }
+    }
+
+}
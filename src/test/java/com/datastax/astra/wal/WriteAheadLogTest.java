@@ -0,0 +1,191 @@
+package com.datastax.astra.wal;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import com.datastax.astra.model.Instrument;
+import com.datastax.astra.model.ReadingsFrame;
+
+/**
+ * Readings logged are replayed in order, once written, after a restart, and records that keep failing
+ * do not stall the log.
+ */
+public class WriteAheadLogTest {
+
+    private static final UUID JOURNEY_ID = UUID.fromString("abb7c000-c310-11ac-8080-808080808080");
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    /** Frames received by the sink, by reading_time of their first reading. */
+    private final List<Long> written = new CopyOnWriteArrayList<>();
+
+    private final List<WriteAheadLog> opened = new ArrayList<>();
+
+    @After
+    public void closeLogs() {
+        opened.forEach(WriteAheadLog::close);
+    }
+
+    @Test
+    public void should_replay_records_in_order() throws Exception {
+        WriteAheadLog wal = open(3, this::record);
+        for (long time = 1; time <= 100; time++) {
+            assertTrue(wal.append(Collections.singletonList(frame(time))));
+        }
+        wal.start();
+        await(() -> written.size() == 100);
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + 1, written.get(i).longValue());
+        }
+        await(() -> wal.getPendingRecords() == 0);
+    }
+
+    @Test
+    public void should_replay_records_not_checkpointed_after_restart() throws Exception {
+        WriteAheadLog crashed = open(3, this::record);
+        crashed.append(Collections.singletonList(frame(1)));
+        crashed.append(Collections.singletonList(frame(2)));
+        crashed.close();
+        // Drainer never started, nothing has been written
+        assertTrue(written.isEmpty());
+
+        WriteAheadLog restarted = open(3, this::record);
+        restarted.start();
+        await(() -> written.size() == 2);
+        assertEquals(1L, written.get(0).longValue());
+        assertEquals(2L, written.get(1).longValue());
+    }
+
+    @Test
+    public void should_not_replay_checkpointed_records_after_restart() throws Exception {
+        WriteAheadLog first = open(3, this::record);
+        first.start();
+        first.append(Collections.singletonList(frame(1)));
+        await(() -> written.size() == 1);
+        await(() -> first.getPendingRecords() == 0);
+        first.close();
+
+        WriteAheadLog restarted = open(3, this::record);
+        restarted.append(Collections.singletonList(frame(2)));
+        restarted.start();
+        await(() -> written.size() == 2);
+        Thread.sleep(100);
+        assertEquals(2, written.size());
+        assertEquals(2L, written.get(1).longValue());
+    }
+
+    @Test
+    public void should_skip_torn_record_after_crash() throws Exception {
+        WriteAheadLog crashed = open(3, this::record);
+        crashed.append(Collections.singletonList(frame(1)));
+        crashed.append(Collections.singletonList(frame(2)));
+        crashed.close();
+        // Tail of the last record lost in the crash
+        Path segment = folder.getRoot().toPath().resolve(WalSegment.fileName(0));
+        WalSegment reopened = WalSegment.open(segment);
+        int last = reopened.getCommitted() - 4;
+        try (FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.write(ByteBuffer.allocate(4), last);
+        }
+
+        WriteAheadLog restarted = open(3, this::record);
+        restarted.start();
+        await(() -> written.size() == 1);
+        Thread.sleep(100);
+        assertEquals(1, written.size());
+        assertEquals(1L, written.get(0).longValue());
+    }
+
+    @Test
+    public void should_dead_letter_record_failing_after_max_attempts() throws Exception {
+        WriteAheadLog wal = open(3, frame -> frame.getReadingTimes()[0] == 2
+                ? failed(new IllegalArgumentException("rejected")) : record(frame));
+        wal.append(Collections.singletonList(frame(1)));
+        wal.append(Collections.singletonList(frame(2)));
+        wal.append(Collections.singletonList(frame(3)));
+        wal.start();
+        await(() -> wal.getDeadLetterRecords() == 1);
+        await(() -> written.size() == 2);
+        await(() -> wal.getPendingRecords() == 0);
+        // Frames of the group written once, although the group has been replayed several times
+        assertEquals(2, written.size());
+        assertTrue(written.contains(1L));
+        assertTrue(written.contains(3L));
+
+        try (DataInputStream deadLetter = new DataInputStream(
+                Files.newInputStream(folder.getRoot().toPath().resolve("dead-letter")))) {
+            byte[] record = new byte[deadLetter.readInt()];
+            deadLetter.readFully(record);
+            assertEquals(-1, deadLetter.read());
+        }
+    }
+
+    @Test
+    public void should_retry_until_sink_recovers() throws Exception {
+        AtomicInteger calls = new AtomicInteger();
+        WriteAheadLog wal = open(100, frame -> calls.incrementAndGet() <= 3
+                ? failed(new IllegalStateException("Astra unavailable")) : record(frame));
+        wal.append(Collections.singletonList(frame(1)));
+        wal.start();
+        await(() -> written.size() == 1);
+        assertEquals(0, wal.getDeadLetterRecords());
+    }
+
+    private WriteAheadLog open(int maxReplayAttempts, Function<ReadingsFrame, CompletionStage<Boolean>> sink) throws IOException {
+        WriteAheadLog wal = new WriteAheadLog(folder.getRoot().toPath(), 64 * 1024, 8, 2, false,
+                4, 5, 10, maxReplayAttempts, sink);
+        opened.add(wal);
+        return wal;
+    }
+
+    private CompletionStage<Boolean> record(ReadingsFrame frame) {
+        written.add(frame.getReadingTimes()[0]);
+        return CompletableFuture.completedFuture(true);
+    }
+
+    private static CompletionStage<Boolean> failed(Exception e) {
+        CompletableFuture<Boolean> failure = new CompletableFuture<>();
+        failure.completeExceptionally(e);
+        return failure;
+    }
+
+    private static ReadingsFrame frame(long readingTime) {
+        return new ReadingsFrame(Instrument.TEMPERATURE, "gemini3", JOURNEY_ID, "celsius",
+                new long[] { readingTime }, new double[] { readingTime / 10d });
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("Condition not met in time");
+            }
+            Thread.sleep(5);
+        }
+    }
+
+}